@@ -0,0 +1,118 @@
+package com.example.benchmarks.conversion;
+
+import com.example.benchmarks.support.CatalogPayloads;
+import com.example.benchmarks.support.FeignStubs;
+import com.example.businessservice.client.CategoryClient;
+import com.example.businessservice.dto.CategoryDTO;
+import com.example.businessservice.service.CategoryService;
+import com.example.businessservice.service.impl.CategoryServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la conversión de respuestas de categorías en el business-service.
+ *
+ * Mide {@code convertToCategoryDTO} sobre una categoría individual (a través de
+ * {@link CategoryService#getCategoryById(Long)}) y sobre listas (a través de
+ * {@link CategoryService#getAllCategories()}), frente a las alternativas basadas en Jackson.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CategoryConversionBenchmark {
+
+    private static final TypeReference<List<CategoryDTO>> CATEGORY_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "100", "10000", "100000"})
+    int size;
+
+    private byte[] json;
+    private List<Object> decoded;
+    private Map<?, ?> single;
+    private CategoryService listCategoryService;
+    private CategoryService singleCategoryService;
+    private CategoryService wireCategoryService;
+
+    @Setup
+    public void setUp() {
+        json = CatalogPayloads.categoriesJson(size);
+        decoded = CatalogPayloads.decode(json);
+        single = (Map<?, ?>) decoded.get(0);
+        listCategoryService = new CategoryServiceImpl(FeignStubs.returning(CategoryClient.class, decoded));
+        singleCategoryService = new CategoryServiceImpl(FeignStubs.returning(CategoryClient.class, single));
+        wireCategoryService = new CategoryServiceImpl(FeignStubs.returning(CategoryClient.class,
+                () -> ResponseEntity.ok(CatalogPayloads.decode(json))));
+    }
+
+    // ==================== Categoría individual ====================
+
+    /**
+     * Conversor actual sobre una única categoría (independiente de {@code size}).
+     */
+    @Benchmark
+    public CategoryDTO currentSingleConverter() {
+        return singleCategoryService.getCategoryById(1L);
+    }
+
+    /**
+     * Alternativa: ObjectMapper.convertValue sobre una única categoría.
+     */
+    @Benchmark
+    public CategoryDTO jacksonConvertValueSingle() {
+        return CatalogPayloads.mapper().convertValue(single, CategoryDTO.class);
+    }
+
+    // ==================== Listas ====================
+
+    /**
+     * Conversor actual sobre la lista de mapas que entrega Feign.
+     */
+    @Benchmark
+    public List<CategoryDTO> currentConverter() {
+        return listCategoryService.getAllCategories();
+    }
+
+    /**
+     * Alternativa: ObjectMapper.convertValue sobre la misma lista de mapas.
+     */
+    @Benchmark
+    public List<CategoryDTO> jacksonConvertValue() {
+        return CatalogPayloads.mapper().convertValue(decoded, CATEGORY_LIST);
+    }
+
+    /**
+     * Camino actual completo: decodificación a mapas y conversión a DTO.
+     */
+    @Benchmark
+    public List<CategoryDTO> decodeToMapsThenConvert() {
+        return wireCategoryService.getAllCategories();
+    }
+
+    /**
+     * Alternativa: decodificación directa de los bytes a DTO, sin mapas intermedios.
+     */
+    @Benchmark
+    public List<CategoryDTO> decodeDirectToDto() throws IOException {
+        return CatalogPayloads.mapper().readValue(json, CATEGORY_LIST);
+    }
+}
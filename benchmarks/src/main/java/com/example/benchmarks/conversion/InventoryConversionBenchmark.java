@@ -0,0 +1,100 @@
+package com.example.benchmarks.conversion;
+
+import com.example.benchmarks.support.CatalogPayloads;
+import com.example.benchmarks.support.FeignStubs;
+import com.example.businessservice.client.InventoryClient;
+import com.example.businessservice.dto.InventoryDTO;
+import com.example.businessservice.service.InventoryService;
+import com.example.businessservice.service.impl.InventoryServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la conversión de respuestas de inventario en el business-service.
+ *
+ * Compara el conversor actual ({@code convertToInventoryDTOList}, alcanzado a través de
+ * {@link InventoryService#getAllInventoryItems()}) con alternativas basadas en Jackson, tanto
+ * partiendo de los mapas ya decodificados como desde los bytes de la respuesta.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class InventoryConversionBenchmark {
+
+    private static final TypeReference<List<InventoryDTO>> INVENTORY_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "100", "10000", "100000"})
+    int size;
+
+    @Param({"true", "false"})
+    boolean withCategory;
+
+    private byte[] json;
+    private List<Object> decoded;
+    private InventoryService decodedInventoryService;
+    private InventoryService wireInventoryService;
+
+    @Setup
+    public void setUp() {
+        json = CatalogPayloads.inventoryJson(size, withCategory);
+        decoded = CatalogPayloads.decode(json);
+        decodedInventoryService = new InventoryServiceImpl(FeignStubs.returning(InventoryClient.class, decoded));
+        wireInventoryService = new InventoryServiceImpl(FeignStubs.returning(InventoryClient.class,
+                () -> ResponseEntity.ok(CatalogPayloads.decode(json))));
+    }
+
+    // ==================== Desde mapas decodificados ====================
+
+    /**
+     * Conversor actual sobre la lista de mapas que entrega Feign.
+     */
+    @Benchmark
+    public List<InventoryDTO> currentConverter() {
+        return decodedInventoryService.getAllInventoryItems();
+    }
+
+    /**
+     * Alternativa: ObjectMapper.convertValue sobre la misma lista de mapas.
+     */
+    @Benchmark
+    public List<InventoryDTO> jacksonConvertValue() {
+        return CatalogPayloads.mapper().convertValue(decoded, INVENTORY_LIST);
+    }
+
+    // ==================== Desde los bytes de la respuesta ====================
+
+    /**
+     * Camino actual completo: decodificación a mapas y conversión a DTO.
+     */
+    @Benchmark
+    public List<InventoryDTO> decodeToMapsThenConvert() {
+        return wireInventoryService.getAllInventoryItems();
+    }
+
+    /**
+     * Alternativa: decodificación directa de los bytes a DTO, sin mapas intermedios.
+     */
+    @Benchmark
+    public List<InventoryDTO> decodeDirectToDto() throws IOException {
+        return CatalogPayloads.mapper().readValue(json, INVENTORY_LIST);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.benchmarks.conversion;
+
+import com.example.benchmarks.support.CatalogPayloads;
+import com.example.benchmarks.support.FeignStubs;
+import com.example.businessservice.client.ProductClient;
+import com.example.businessservice.dto.ProductDTO;
+import com.example.businessservice.service.ProductService;
+import com.example.businessservice.service.impl.ProductServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la conversión de respuestas de productos en el business-service.
+ *
+ * Compara el conversor actual ({@code convertToProductDTOList}, alcanzado a través de
+ * {@link ProductService#getAllProducts()}) con alternativas basadas en Jackson, tanto
+ * partiendo de los mapas ya decodificados como desde los bytes de la respuesta.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ProductConversionBenchmark {
+
+    private static final TypeReference<List<ProductDTO>> PRODUCT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "100", "10000", "100000"})
+    int size;
+
+    @Param({"true", "false"})
+    boolean withCategory;
+
+    private byte[] json;
+    private List<Object> decoded;
+    private ProductService decodedProductService;
+    private ProductService wireProductService;
+
+    @Setup
+    public void setUp() {
+        json = CatalogPayloads.productsJson(size, withCategory);
+        decoded = CatalogPayloads.decode(json);
+        decodedProductService = new ProductServiceImpl(FeignStubs.returning(ProductClient.class, decoded));
+        wireProductService = new ProductServiceImpl(FeignStubs.returning(ProductClient.class,
+                () -> ResponseEntity.ok(CatalogPayloads.decode(json))));
+    }
+
+    // ==================== Desde mapas decodificados ====================
+
+    /**
+     * Conversor actual sobre la lista de mapas que entrega Feign.
+     */
+    @Benchmark
+    public List<ProductDTO> currentConverter() {
+        return decodedProductService.getAllProducts();
+    }
+
+    /**
+     * Alternativa: ObjectMapper.convertValue sobre la misma lista de mapas.
+     */
+    @Benchmark
+    public List<ProductDTO> jacksonConvertValue() {
+        return CatalogPayloads.mapper().convertValue(decoded, PRODUCT_LIST);
+    }
+
+    // ==================== Desde los bytes de la respuesta ====================
+
+    /**
+     * Camino actual completo: decodificación a mapas y conversión a DTO.
+     */
+    @Benchmark
+    public List<ProductDTO> decodeToMapsThenConvert() {
+        return wireProductService.getAllProducts();
+    }
+
+    /**
+     * Alternativa: decodificación directa de los bytes a DTO, sin mapas intermedios.
+     */
+    @Benchmark
+    public List<ProductDTO> decodeDirectToDto() throws IOException {
+        return CatalogPayloads.mapper().readValue(json, PRODUCT_LIST);
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.benchmarks.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resume una grabación JFR de data-service/business-service (perfil jfr/microservices.jfc)
+ * en un desglose de latencia por endpoint.
+ *
+ * Cada evento {@code com.example.HttpRequest} se descompone con los eventos del mismo hilo
+ * contenidos en su intervalo:
+ * <ul>
+ *   <li>web: tiempo fuera de los métodos de servicio (filtros, serialización, controlador)</li>
+ *   <li>service: tiempo propio de los métodos de servicio de primer nivel</li>
+ *   <li>feign: llamadas al data-service</li>
+ *   <li>sql: sentencias JDBC</li>
+ * </ul>
+ * Además lista las llamadas Feign y las sentencias SQL con mayor tiempo total.
+ *
+ * Uso: {@code RecordingSummary recording.jfr [--top=10]}
+ */
+public final class RecordingSummary {
+
+    private static final String HTTP_REQUEST = "com.example.HttpRequest";
+    private static final String SERVICE_METHOD = "com.example.ServiceMethod";
+    private static final String FEIGN_CALL = "com.example.FeignCall";
+    private static final String SQL_STATEMENT = "com.example.SqlStatement";
+
+    private RecordingSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: RecordingSummary <recording.jfr> [--top=N]");
+            System.exit(2);
+        }
+        int top = 10;
+        for (String arg : Arrays.copyOfRange(args, 1, args.length)) {
+            if (arg.startsWith("--top=")) {
+                top = Integer.parseInt(arg.substring("--top=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        summarize(Path.of(args[0]), top, System.out);
+    }
+
+    /**
+     * Lee la grabación y escribe el desglose por endpoint y las listas de llamadas Feign y
+     * sentencias SQL con mayor tiempo total.
+     *
+     * @param path la grabación JFR
+     * @param top número de llamadas Feign y sentencias SQL listadas
+     * @param out destino del informe
+     * @throws IOException si no se puede leer la grabación
+     */
+    static void summarize(Path path, int top, PrintStream out) throws IOException {
+        Map<Long, List<RecordedEvent>> eventsByThread = new HashMap<>();
+        try (RecordingFile recording = new RecordingFile(path)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (type.startsWith("com.example.") && event.getThread() != null) {
+                    eventsByThread.computeIfAbsent(event.getThread().getId(), id -> new ArrayList<>()).add(event);
+                }
+            }
+        }
+
+        Map<String, EndpointBreakdown> endpoints = new LinkedHashMap<>();
+        Map<String, Aggregate> feignCalls = new HashMap<>();
+        Map<String, Aggregate> statements = new HashMap<>();
+        for (List<RecordedEvent> events : eventsByThread.values()) {
+            events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+            for (RecordedEvent event : events) {
+                switch (event.getEventType().getName()) {
+                    case HTTP_REQUEST -> breakdown(event, events, endpoints);
+                    case FEIGN_CALL -> feignCalls.computeIfAbsent(
+                                    event.getString("client") + "." + event.getString("method"), key -> new Aggregate())
+                            .add(nanos(event), event.getLong("responseBytes"));
+                    case SQL_STATEMENT -> statements.computeIfAbsent(event.getString("sql"), key -> new Aggregate())
+                            .add(nanos(event), 0);
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        print(endpoints, feignCalls, statements, top, out);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Atribuye a una petición los eventos de su hilo contenidos en su intervalo. Solo los
+     * métodos de servicio de primer nivel cuentan, para no duplicar llamadas anidadas.
+     */
+    private static void breakdown(RecordedEvent request, List<RecordedEvent> threadEvents,
+                                  Map<String, EndpointBreakdown> endpoints) {
+        Instant start = request.getStartTime();
+        Instant end = request.getEndTime();
+        long service = 0;
+        long feign = 0;
+        long sql = 0;
+        Instant serviceEnd = Instant.MIN;
+        for (RecordedEvent event : threadEvents) {
+            if (event.getStartTime().isBefore(start) || event.getEndTime().isAfter(end) || event == request) {
+                continue;
+            }
+            switch (event.getEventType().getName()) {
+                case SERVICE_METHOD -> {
+                    if (!event.getStartTime().isBefore(serviceEnd)) {
+                        service += nanos(event);
+                        serviceEnd = event.getEndTime();
+                    }
+                }
+                case FEIGN_CALL -> feign += nanos(event);
+                case SQL_STATEMENT -> sql += nanos(event);
+                default -> {
+                }
+            }
+        }
+        long total = nanos(request);
+        String key = request.getString("service") + " " + request.getString("method") + " " + request.getString("endpoint");
+        endpoints.computeIfAbsent(key, k -> new EndpointBreakdown())
+                .add(total, Math.max(total - service, 0), Math.max(service - feign - sql, 0), feign, sql,
+                        request.getInt("status") >= 400);
+    }
+
+    private static long nanos(RecordedEvent event) {
+        return event.getDuration().toNanos();
+    }
+
+    private static void print(Map<String, EndpointBreakdown> endpoints, Map<String, Aggregate> feignCalls,
+                              Map<String, Aggregate> statements, int top, PrintStream out) {
+        out.printf("%n%-60s %8s %7s %9s %9s %9s | %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+                "p50 ms", "p99 ms", "max ms", "web ms", "svc ms", "feign ms", "sql ms");
+        endpoints.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, EndpointBreakdown> entry) -> entry.getValue().totalNanos())
+                        .reversed())
+                .forEach(entry -> {
+                    EndpointBreakdown value = entry.getValue();
+                    out.printf("%-60s %8d %7d %9.2f %9.2f %9.2f | %9.2f %9.2f %9.2f %9.2f%n",
+                            abbreviate(entry.getKey(), 60), value.count(), value.errors,
+                            value.percentileMs(50), value.percentileMs(99), value.percentileMs(100),
+                            value.meanMs(value.web), value.meanMs(value.service),
+                            value.meanMs(value.feign), value.meanMs(value.sql));
+                });
+        out.println("(web/svc/feign/sql are mean milliseconds per request)");
+
+        out.printf("%nTop %d Feign calls by total time%n%-60s %8s %10s %10s %12s%n", top,
+                "client.method", "calls", "total ms", "mean ms", "mean bytes");
+        topByTime(feignCalls, top).forEach(entry -> out.printf("%-60s %8d %10.1f %10.2f %12.0f%n",
+                abbreviate(entry.getKey(), 60), entry.getValue().count, entry.getValue().totalNanos / 1e6,
+                entry.getValue().meanMs(), entry.getValue().meanBytes()));
+
+        out.printf("%nTop %d SQL statements by total time%n%8s %10s %10s  %s%n", top,
+                "calls", "total ms", "mean ms", "sql");
+        topByTime(statements, top).forEach(entry -> out.printf("%8d %10.1f %10.2f  %s%n",
+                entry.getValue().count, entry.getValue().totalNanos / 1e6, entry.getValue().meanMs(),
+                abbreviate(entry.getKey(), 120)));
+    }
+
+    private static List<Map.Entry<String, Aggregate>> topByTime(Map<String, Aggregate> values, int top) {
+        return values.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Aggregate> entry) -> entry.getValue().totalNanos)
+                        .reversed())
+                .limit(top)
+                .toList();
+    }
+
+    private static String abbreviate(String text, int max) {
+        return text.length() <= max ? text : text.substring(0, max - 3) + "...";
+    }
+
+    /**
+     * Duraciones de un endpoint y su descomposición acumulada.
+     */
+    private static final class EndpointBreakdown {
+        private final List<Long> totals = new ArrayList<>();
+        private long web;
+        private long service;
+        private long feign;
+        private long sql;
+        private long errors;
+
+        private void add(long total, long webNanos, long serviceNanos, long feignNanos, long sqlNanos, boolean error) {
+            totals.add(total);
+            web += webNanos;
+            service += serviceNanos;
+            feign += feignNanos;
+            sql += sqlNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        private int count() {
+            return totals.size();
+        }
+
+        private long totalNanos() {
+            return totals.stream().mapToLong(Long::longValue).sum();
+        }
+
+        private double meanMs(long nanos) {
+            return totals.isEmpty() ? 0 : nanos / 1e6 / totals.size();
+        }
+
+        private double percentileMs(double percentile) {
+            long[] sorted = totals.stream().mapToLong(Long::longValue).sorted().toArray();
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+
+    /**
+     * Número de ejecuciones, tiempo total y bytes de una llamada Feign o sentencia SQL.
+     */
+    private static final class Aggregate {
+        private long count;
+        private long totalNanos;
+        private long totalBytes;
+
+        private void add(long nanos, long bytes) {
+            count++;
+            totalNanos += nanos;
+            totalBytes += bytes;
+        }
+
+        private double meanMs() {
+            return count == 0 ? 0 : totalNanos / 1e6 / count;
+        }
+
+        private double meanBytes() {
+            return count == 0 ? 0 : (double) totalBytes / count;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.benchmarks.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Mezcla ponderada de endpoints del business-service que ejercita la prueba de carga.
+ */
+public final class EndpointMix {
+
+    /**
+     * Un endpoint con nombre y la forma de construir cada petición.
+     *
+     * @param name nombre estable del endpoint (clave en el informe)
+     * @param requestFactory construye la petición a partir de la URL base y el generador aleatorio
+     */
+    record Endpoint(String name, BiFunction<String, SplittableRandom, HttpRequest.Builder> requestFactory) {
+    }
+
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    /**
+     * Crea la mezcla a partir de la configuración.
+     *
+     * @param config configuración de la prueba
+     * @param baseUrl URL base del business-service
+     */
+    public EndpointMix(LoadTestConfig config, String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = config.requestTimeout();
+        Map<String, Endpoint> catalog = catalog(config);
+        cumulativeWeights = new int[config.mix().size()];
+        int sum = 0;
+        for (Map.Entry<String, Integer> entry : config.mix().entrySet()) {
+            Endpoint endpoint = catalog.get(entry.getKey());
+            if (endpoint == null) {
+                throw new IllegalArgumentException("Unknown endpoint '" + entry.getKey() + "', expected one of " + catalog.keySet());
+            }
+            sum += entry.getValue();
+            cumulativeWeights[endpoints.size()] = sum;
+            endpoints.add(endpoint);
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Endpoint mix must have a positive total weight");
+        }
+        totalWeight = sum;
+    }
+
+    /**
+     * Nombres de los endpoints de la mezcla, en orden.
+     *
+     * @return los nombres
+     */
+    public List<String> names() {
+        return endpoints.stream().map(Endpoint::name).toList();
+    }
+
+    /**
+     * Elige un endpoint según los pesos.
+     *
+     * @param random generador aleatorio del planificador
+     * @return el endpoint elegido
+     */
+    Endpoint pick(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    /**
+     * Construye la petición HTTP de un endpoint.
+     *
+     * @param endpoint el endpoint
+     * @param random generador aleatorio para los IDs
+     * @return la petición lista para enviar
+     */
+    HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        return endpoint.requestFactory().apply(baseUrl, random).timeout(requestTimeout).build();
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static Map<String, Endpoint> catalog(LoadTestConfig config) {
+        int products = config.productIds();
+        int categories = config.categoryIds();
+        int inventory = config.inventoryIds();
+        return Map.of(
+                "products", get("products", random -> "/api/products"),
+                "product", get("product", random -> "/api/products/" + id(random, products)),
+                "productsByCategory", get("productsByCategory", random -> "/api/products/category/" + id(random, categories)),
+                "inventory", get("inventory", random -> "/api/inventory"),
+                "inventoryByProduct", get("inventoryByProduct", random -> "/api/inventory/product/" + id(random, products)),
+                "categories", get("categories", random -> "/api/categories"),
+                "category", get("category", random -> "/api/categories/" + id(random, categories)),
+                "inventoryQuantity", new Endpoint("inventoryQuantity", (base, random) -> HttpRequest.newBuilder(
+                        URI.create(base + "/api/inventory/" + id(random, inventory) + "/quantity/" + random.nextInt(0, 500)))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody())));
+    }
+
+    private static Endpoint get(String name, Function<SplittableRandom, String> path) {
+        return new Endpoint(name, (base, random) -> HttpRequest.newBuilder(URI.create(base + path.apply(random))).GET());
+    }
+
+    private static int id(SplittableRandom random, int max) {
+        return random.nextInt(1, max + 1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.benchmarks.loadtest;
+
+import com.example.businessservice.BusinessServiceApplication;
+import com.example.dataservice.DataServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arranca data-service y business-service en la misma JVM, cada uno en un puerto aleatorio.
+ *
+ * Ambos módulos publican un application.properties con el mismo nombre en el classpath, así
+ * que ninguno de los dos se lee: la configuración de cada servicio se pasa explícitamente
+ * (equivalente al perfil dev, sin show-sql) para que las mediciones sean reproducibles.
+ */
+public final class InProcessSystem implements AutoCloseable {
+
+    private final ConfigurableApplicationContext dataService;
+    private final ConfigurableApplicationContext businessService;
+
+    private InProcessSystem(ConfigurableApplicationContext dataService, ConfigurableApplicationContext businessService) {
+        this.dataService = dataService;
+        this.businessService = businessService;
+    }
+
+    /**
+     * Arranca data-service sobre H2 en memoria y business-service apuntando a él.
+     *
+     * @param extraDataServiceArgs propiedades adicionales del data-service (--clave=valor)
+     * @param extraBusinessServiceArgs propiedades adicionales del business-service (--clave=valor)
+     * @return el sistema arrancado
+     */
+    public static InProcessSystem start(List<String> extraDataServiceArgs, List<String> extraBusinessServiceArgs) {
+        List<String> dataArgs = new ArrayList<>(List.of(
+                "--spring.config.name=loadtest-data-service",
+                "--spring.main.banner-mode=off",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=always",
+                "--spring.sql.init.data-locations=classpath:data-h2.sql",
+                "--spring.jpa.defer-datasource-initialization=true",
+                "--logging.level.root=WARN"));
+        dataArgs.addAll(extraDataServiceArgs);
+        ConfigurableApplicationContext dataService = new SpringApplicationBuilder(DataServiceApplication.class)
+                .logStartupInfo(false)
+                .run(dataArgs.toArray(String[]::new));
+
+        int dataServicePort = ((WebServerApplicationContext) dataService).getWebServer().getPort();
+        List<String> businessArgs = new ArrayList<>(List.of(
+                "--spring.config.name=loadtest-business-service",
+                "--spring.main.banner-mode=off",
+                "--server.port=0",
+                "--data-service.url=http://localhost:" + dataServicePort,
+                "--feign.client.config.default.connectTimeout=5000",
+                "--feign.client.config.default.readTimeout=5000",
+                "--feign.okhttp.enabled=true",
+                "--feign.client.config.default.retryer=com.example.businessservice.config.IdempotentRetryer",
+                // El business-service no usa base de datos aunque H2 y JPA estén en el classpath
+                "--spring.autoconfigure.exclude="
+                        + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+                "--logging.level.root=WARN"));
+        businessArgs.addAll(extraBusinessServiceArgs);
+        try {
+            ConfigurableApplicationContext businessService = new SpringApplicationBuilder(BusinessServiceApplication.class)
+                    .logStartupInfo(false)
+                    .run(businessArgs.toArray(String[]::new));
+            return new InProcessSystem(dataService, businessService);
+        } catch (RuntimeException e) {
+            dataService.close();
+            throw e;
+        }
+    }
+
+    /**
+     * URL base del business-service, p. ej. {@code http://localhost:54321}.
+     *
+     * @return la URL base
+     */
+    public String businessServiceUrl() {
+        return "http://localhost:" + ((WebServerApplicationContext) businessService).getWebServer().getPort();
+    }
+
+    /**
+     * URL base del data-service.
+     *
+     * @return la URL base
+     */
+    public String dataServiceUrl() {
+        return "http://localhost:" + ((WebServerApplicationContext) dataService).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        businessService.close();
+        dataService.close();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.benchmarks.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuración de una ejecución de la prueba de carga, leída de argumentos {@code --clave=valor}.
+ *
+ * <ul>
+ *   <li>{@code --rate}: peticiones por segundo (llegadas en bucle abierto), por defecto 100</li>
+ *   <li>{@code --warmup}: segundos de calentamiento no medidos, por defecto 10</li>
+ *   <li>{@code --duration}: segundos medidos, por defecto 60</li>
+ *   <li>{@code --timeout-ms}: timeout por petición, por defecto 5000</li>
+ *   <li>{@code --mix}: pesos por endpoint, p. ej. {@code products=4,product=4,categories=1}</li>
+ *   <li>{@code --product-ids}, {@code --category-ids}, {@code --inventory-ids}: rango de IDs existentes</li>
+ *   <li>{@code --label}: etiqueta de la ejecución (p. ej. el commit), por defecto "local"</li>
+ *   <li>{@code --output}: fichero JSON del informe, por defecto target/loadtest/report.json</li>
+ * </ul>
+ */
+public record LoadTestConfig(
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Duration requestTimeout,
+        Map<String, Integer> mix,
+        int productIds,
+        int categoryIds,
+        int inventoryIds,
+        long seed,
+        String label,
+        Path output) {
+
+    static final String DEFAULT_MIX =
+            "products=3,product=4,productsByCategory=2,inventory=2,inventoryByProduct=2,categories=1,category=1";
+
+    /**
+     * Construye la configuración a partir de los argumentos de línea de comandos.
+     *
+     * @param args argumentos {@code --clave=valor}
+     * @return la configuración con los valores por defecto aplicados
+     */
+    public static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("timeout-ms", "5000"))),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(values.getOrDefault("product-ids", "10")),
+                Integer.parseInt(values.getOrDefault("category-ids", "4")),
+                Integer.parseInt(values.getOrDefault("inventory-ids", "6")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.getOrDefault("label", "local"),
+                Path.of(values.getOrDefault("output", "target/loadtest/report.json")));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
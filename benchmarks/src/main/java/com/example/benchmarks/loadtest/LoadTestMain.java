@@ -0,0 +1,41 @@
+package com.example.benchmarks.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Punto de entrada de la prueba de carga de extremo a extremo.
+ *
+ * Arranca data-service y business-service en esta JVM, lanza la mezcla de tráfico configurada
+ * contra el business-service, imprime la tabla de percentiles y escribe el informe JSON.
+ *
+ * Ejecución (desde la raíz del proyecto):
+ * <pre>
+ * ./mvnw -Pbenchmarks -pl benchmarks -am verify -Djmh.skip=true -Dloadtest.skip=false \
+ *     -Dloadtest.args="--rate=200 --duration=60 --label=$(git rev-parse --short HEAD)"
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        try (InProcessSystem system = InProcessSystem.start(List.of(), List.of())) {
+            System.out.printf("data-service: %s, business-service: %s%n", system.dataServiceUrl(), system.businessServiceUrl());
+            System.out.printf("Running %.0f req/s for %ds (+%ds warmup), mix %s%n",
+                    config.rate(), config.duration().toSeconds(), config.warmup().toSeconds(), config.mix());
+
+            EndpointMix mix = new EndpointMix(config, system.businessServiceUrl());
+            LoadTestReport report = new LoadTestReport(mix.names());
+            OpenLoopDriver driver = new OpenLoopDriver(config, mix, report);
+            driver.run();
+
+            Map<String, Object> summary = report.summarize(config, driver.getMeasuredSeconds(), driver.getDropped());
+            LoadTestReport.printTable(summary, System.out);
+            LoadTestReport.writeJson(config, summary);
+            System.out.printf("Report written to %s%n", config.output().toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula latencias y errores por endpoint durante la prueba de carga y genera el informe.
+ *
+ * Las latencias se miden desde el instante planificado de cada petición (no desde su envío),
+ * de modo que los retrasos del propio generador cuentan como latencia y no se produce
+ * omisión coordinada. El informe JSON tiene una estructura estable para poder compararlo
+ * entre commits.
+ */
+public final class LoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    /**
+     * Crea el informe con un acumulador por endpoint.
+     *
+     * @param endpointNames nombres de los endpoints de la mezcla
+     */
+    public LoadTestReport(List<String> endpointNames) {
+        for (String name : endpointNames) {
+            stats.put(name, new EndpointStats());
+        }
+    }
+
+    /**
+     * Registra una respuesta recibida.
+     *
+     * @param endpoint nombre del endpoint
+     * @param latencyNanos latencia desde el instante planificado
+     * @param status código de estado HTTP
+     */
+    void recordResponse(String endpoint, long latencyNanos, int status) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        endpointStats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 400) {
+            endpointStats.errors.computeIfAbsent("HTTP " + status, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Registra una petición fallida sin respuesta (timeout, conexión rechazada...).
+     *
+     * @param endpoint nombre del endpoint
+     * @param latencyNanos tiempo transcurrido hasta el fallo desde el instante planificado
+     * @param error la excepción
+     */
+    void recordFailure(String endpoint, long latencyNanos, Throwable error) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        endpointStats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        endpointStats.errors.computeIfAbsent(error.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Genera el resumen de la ejecución.
+     *
+     * @param config configuración de la prueba
+     * @param measuredSeconds duración real de la ventana medida
+     * @param dropped peticiones no enviadas porque el generador no llegó a tiempo
+     * @return el resumen serializable
+     */
+    public Map<String, Object> summarize(LoadTestConfig config, double measuredSeconds, long dropped) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("label", config.label());
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("javaVersion", System.getProperty("java.version"));
+
+        Map<String, Object> configSummary = new LinkedHashMap<>();
+        configSummary.put("rate", config.rate());
+        configSummary.put("warmupSeconds", config.warmup().toSeconds());
+        configSummary.put("durationSeconds", config.duration().toSeconds());
+        configSummary.put("timeoutMs", config.requestTimeout().toMillis());
+        configSummary.put("mix", config.mix());
+        summary.put("config", configSummary);
+
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().latency.getIntervalHistogram();
+            total.add(histogram);
+            Map<String, Long> errors = new TreeMap<>();
+            entry.getValue().errors.forEach((type, count) -> errors.put(type, count.sum()));
+            long errorCount = errors.values().stream().mapToLong(Long::longValue).sum();
+            totalErrors += errorCount;
+            endpoints.put(entry.getKey(), describe(histogram, errorCount, errors, measuredSeconds));
+        }
+        summary.put("endpoints", endpoints);
+        Map<String, Object> totalSummary = describe(total, totalErrors, Map.of(), measuredSeconds);
+        totalSummary.remove("errorsByType");
+        totalSummary.put("dropped", dropped);
+        summary.put("total", totalSummary);
+        return summary;
+    }
+
+    /**
+     * Escribe el resumen como JSON en el fichero configurado.
+     *
+     * @param config configuración de la prueba
+     * @param summary el resumen generado
+     * @throws IOException si no se puede escribir el fichero
+     */
+    public static void writeJson(LoadTestConfig config, Map<String, Object> summary) throws IOException {
+        if (config.output().getParent() != null) {
+            Files.createDirectories(config.output().getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.output().toFile(), summary);
+    }
+
+    /**
+     * Imprime el resumen como tabla de texto.
+     *
+     * @param summary el resumen generado
+     * @param out flujo de salida
+     */
+    @SuppressWarnings("unchecked")
+    public static void printTable(Map<String, Object> summary, PrintStream out) {
+        out.printf("%n%-20s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) summary.get("endpoints"));
+        rows.put("TOTAL", summary.get("total"));
+        for (Map.Entry<String, Object> row : rows.entrySet()) {
+            Map<String, Object> values = (Map<String, Object>) row.getValue();
+            Map<String, Double> latency = (Map<String, Double>) values.get("latencyMs");
+            out.printf("%-20s %10d %10.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.getKey(), (Long) values.get("count"), (Double) values.get("throughput"), (Long) values.get("errors"),
+                    latency.get("p50"), latency.get("p90"), latency.get("p99"), latency.get("p999"), latency.get("max"));
+        }
+        out.printf("dropped (generator behind schedule): %d%n", (Long) ((Map<String, Object>) summary.get("total")).get("dropped"));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static Map<String, Object> describe(Histogram histogram, long errorCount, Map<String, Long> errors,
+                                                double measuredSeconds) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getTotalCount());
+        values.put("throughput", measuredSeconds > 0 ? histogram.getTotalCount() / measuredSeconds : 0.0);
+        values.put("errors", errorCount);
+        values.put("errorsByType", errors);
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("mean", histogram.getTotalCount() == 0 ? 0.0 : histogram.getMean() / 1000.0);
+        latency.put("p50", histogram.getValueAtPercentile(50) / 1000.0);
+        latency.put("p90", histogram.getValueAtPercentile(90) / 1000.0);
+        latency.put("p99", histogram.getValueAtPercentile(99) / 1000.0);
+        latency.put("p999", histogram.getValueAtPercentile(99.9) / 1000.0);
+        latency.put("max", histogram.getMaxValue() / 1000.0);
+        values.put("latencyMs", latency);
+        return values;
+    }
+
+    /**
+     * Acumuladores de un endpoint. El Recorder admite escrituras concurrentes sin bloqueo.
+     */
+    private static final class EndpointStats {
+        private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    }
+}
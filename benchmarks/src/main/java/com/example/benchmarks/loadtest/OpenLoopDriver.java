@@ -0,0 +1,110 @@
+package com.example.benchmarks.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga en bucle abierto: las peticiones se lanzan a intervalos fijos según la
+ * tasa configurada, cada una en su propio hilo virtual, sin esperar a que terminen las
+ * anteriores. Así la tasa de llegada no depende de la latencia del sistema bajo prueba.
+ */
+public final class OpenLoopDriver {
+
+    private final LoadTestConfig config;
+    private final EndpointMix mix;
+    private final LoadTestReport report;
+
+    private long dropped;
+    private double measuredSeconds;
+
+    /**
+     * Crea el generador.
+     *
+     * @param config configuración de la prueba
+     * @param mix mezcla de endpoints
+     * @param report informe donde se registran los resultados
+     */
+    public OpenLoopDriver(LoadTestConfig config, EndpointMix mix, LoadTestReport report) {
+        this.config = config;
+        this.mix = mix;
+        this.report = report;
+    }
+
+    /**
+     * Ejecuta el calentamiento y la ventana medida, y espera a que terminen las peticiones en curso.
+     *
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    public void run() throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        long warmupNanos = config.warmup().toNanos();
+        long totalNanos = warmupNanos + config.duration().toNanos();
+        // Si el planificador se retrasa más que esto, la petición se descarta y se contabiliza
+        long maxLagNanos = Math.max(intervalNanos * 100, TimeUnit.MILLISECONDS.toNanos(100));
+        SplittableRandom random = new SplittableRandom(config.seed());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(config.requestTimeout())
+                    .build();
+
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long offset = i * intervalNanos;
+                if (offset >= totalNanos) {
+                    break;
+                }
+                long intended = start + offset;
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean measured = offset >= warmupNanos;
+                if (System.nanoTime() - intended > maxLagNanos) {
+                    if (measured) {
+                        dropped++;
+                    }
+                    continue;
+                }
+                EndpointMix.Endpoint endpoint = mix.pick(random);
+                HttpRequest request = mix.request(endpoint, random);
+                executor.submit(() -> send(client, endpoint.name(), request, intended, measured));
+            }
+            measuredSeconds = config.duration().toNanos() / 1e9;
+            executor.shutdown();
+            executor.awaitTermination(config.requestTimeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public double getMeasuredSeconds() {
+        return measuredSeconds;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private void send(HttpClient client, String endpoint, HttpRequest request, long intended, boolean measured) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (measured) {
+                report.recordResponse(endpoint, System.nanoTime() - intended, response.statusCode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (measured) {
+                report.recordFailure(endpoint, System.nanoTime() - intended, e);
+            }
+        }
+    }
+}
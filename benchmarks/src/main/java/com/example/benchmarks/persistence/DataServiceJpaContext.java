@@ -0,0 +1,48 @@
+package com.example.benchmarks.persistence;
+
+import com.example.dataservice.entity.Product;
+import com.example.dataservice.repository.ProductRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Contexto JPA mínimo del data-service para los benchmarks de persistencia.
+ *
+ * Arranca solo las entidades y los repositorios (sin capa web ni servicios) sobre una
+ * base H2 en memoria propia. No lee el application.properties de ningún servicio: el
+ * esquema lo crea Hibernate y los datos los carga cada benchmark con
+ * {@link com.example.dataservice.seed.SyntheticCatalogGenerator}.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = Product.class)
+@EnableJpaRepositories(basePackageClasses = ProductRepository.class)
+public class DataServiceJpaContext {
+
+    /**
+     * Arranca el contexto sobre una base H2 en memoria con el nombre indicado.
+     *
+     * @param databaseName nombre de la base en memoria (una por ejecución)
+     * @return el contexto arrancado
+     */
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(DataServiceJpaContext.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.config.name=jmh-persistence",
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.sql.init.mode=never",
+                        "--logging.level.root=WARN");
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.benchmarks.persistence;
+
+import com.example.dataservice.entity.Category;
+import com.example.dataservice.entity.Inventory;
+import com.example.dataservice.entity.Product;
+import com.example.dataservice.repository.CategoryRepository;
+import com.example.dataservice.repository.InventoryRepository;
+import com.example.dataservice.repository.ProductRepository;
+import com.example.dataservice.seed.CatalogGeneratorProperties;
+import com.example.dataservice.seed.JdbcBatchRowSink;
+import com.example.dataservice.seed.SyntheticCatalogGenerator;
+import com.example.dataservice.seed.SyntheticCatalogGenerator.IdOffsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las consultas derivadas de los repositorios del data-service.
+ *
+ * Cada ejecución arranca el contexto JPA mínimo sobre una H2 en memoria, carga con
+ * {@link SyntheticCatalogGenerator} (el mismo generador del perfil large-catalog) un catálogo
+ * de {@code productCount} productos con un registro de inventario cada uno y mide el tiempo
+ * medio por consulta. Las
+ * consultas "hot" apuntan a la categoría/ubicación más poblada del sesgo; las puntuales
+ * eligen un ID aleatorio en cada invocación.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class RepositoryQueryBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int productCount;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private InventoryRepository inventoryRepository;
+    private CategoryRepository categoryRepository;
+    private int categoryCount;
+
+    @Setup
+    public void setUp() {
+        context = DataServiceJpaContext.start("jmh_repository_" + productCount);
+        CatalogGeneratorProperties properties = new CatalogGeneratorProperties();
+        properties.setProducts(productCount);
+        properties.setMaxLocationsPerProduct(1);
+        properties.setUncategorizedRatio(0);
+        categoryCount = properties.effectiveCategories();
+        load(context.getBean(JdbcTemplate.class), properties);
+        productRepository = context.getBean(ProductRepository.class);
+        inventoryRepository = context.getBean(InventoryRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // ==================== ProductRepository ====================
+
+    @Benchmark
+    public Optional<Product> productFindById() {
+        return productRepository.findById(randomId(productCount));
+    }
+
+    @Benchmark
+    public List<Product> productFindByNameContainingIgnoreCase() {
+        return productRepository.findByNameContainingIgnoreCase("kettle");
+    }
+
+    @Benchmark
+    public List<Product> productFindByPriceBetween() {
+        return productRepository.findByPriceBetween(new BigDecimal("100.00"), new BigDecimal("105.00"));
+    }
+
+    @Benchmark
+    public List<Product> productFindByCategoryIdHot() {
+        return productRepository.findByCategoryId(1L);
+    }
+
+    @Benchmark
+    public List<Product> productFindByCategoryIdCold() {
+        return productRepository.findByCategoryId((long) categoryCount);
+    }
+
+    @Benchmark
+    public List<Product> productFindByCategoryName() {
+        return productRepository.findByCategoryName(SyntheticCatalogGenerator.categoryName(categoryCount / 2));
+    }
+
+    // ==================== InventoryRepository ====================
+
+    @Benchmark
+    public List<Inventory> inventoryFindByProductId() {
+        return inventoryRepository.findByProductId(randomId(productCount));
+    }
+
+    @Benchmark
+    public List<Inventory> inventoryFindByQuantityLessThan() {
+        return inventoryRepository.findByQuantityLessThan(10);
+    }
+
+    @Benchmark
+    public List<Inventory> inventoryFindByLocationIgnoreCase() {
+        return inventoryRepository.findByLocationIgnoreCase(SyntheticCatalogGenerator.locationName(10));
+    }
+
+    @Benchmark
+    public List<Inventory> inventoryFindByProductCategoryIdHot() {
+        return inventoryRepository.findByProductCategoryId(1L);
+    }
+
+    @Benchmark
+    public List<Inventory> inventoryFindByProductNameContaining() {
+        return inventoryRepository.findByProductNameContaining("guitar 1");
+    }
+
+    // ==================== CategoryRepository ====================
+
+    @Benchmark
+    public Optional<Category> categoryFindByNameIgnoreCase() {
+        return categoryRepository.findByNameIgnoreCase(SyntheticCatalogGenerator.categoryName(randomId(categoryCount)));
+    }
+
+    @Benchmark
+    public List<Category> categoryFindByNameContainingIgnoreCase() {
+        return categoryRepository.findByNameContainingIgnoreCase("category 7");
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Inserta el catálogo generado con batches JDBC y actualiza las estadísticas del optimizador.
+     */
+    private static void load(JdbcTemplate jdbcTemplate, CatalogGeneratorProperties properties) {
+        JdbcBatchRowSink categories = new JdbcBatchRowSink(jdbcTemplate, "categories",
+                SyntheticCatalogGenerator.CATEGORY_COLUMNS, properties.getBatchSize());
+        JdbcBatchRowSink products = new JdbcBatchRowSink(jdbcTemplate, "products",
+                SyntheticCatalogGenerator.PRODUCT_COLUMNS, properties.getBatchSize());
+        JdbcBatchRowSink inventory = new JdbcBatchRowSink(jdbcTemplate, "inventories",
+                SyntheticCatalogGenerator.INVENTORY_COLUMNS, properties.getBatchSize());
+        new SyntheticCatalogGenerator(properties).generate(IdOffsets.NONE, categories, products, inventory);
+        categories.flush();
+        products.flush();
+        inventory.flush();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static long randomId(int max) {
+        return ThreadLocalRandom.current().nextLong(1, max + 1L);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.benchmarks.regression;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Convierte los resultados de JMH ({@code -rf json}) y el informe de la prueba de carga
+ * en una lista de {@link PerfMetric}.
+ *
+ * <ul>
+ *   <li>JMH en modo {@code thrpt}: una métrica de throughput con el score.</li>
+ *   <li>JMH en modo {@code avgt}/{@code ss}: una métrica de latencia con el score.</li>
+ *   <li>JMH en modo {@code sample}: una métrica de latencia con el percentil 99.</li>
+ *   <li>Prueba de carga: throughput y p99 de cada endpoint y del total.</li>
+ * </ul>
+ */
+final class BenchmarkResults {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkResults() {
+    }
+
+    /**
+     * Lee un fichero de resultados de JMH.
+     *
+     * @param file el fichero JSON generado con {@code -rf json}
+     * @return las métricas, una por benchmark y combinación de parámetros
+     * @throws IOException si no se puede leer el fichero
+     */
+    static List<PerfMetric> fromJmh(Path file) throws IOException {
+        List<PerfMetric> metrics = new ArrayList<>();
+        for (JsonNode result : MAPPER.readTree(file.toFile())) {
+            String key = "jmh:" + result.path("benchmark").asText() + params(result.path("params"));
+            JsonNode primary = result.path("primaryMetric");
+            String unit = primary.path("scoreUnit").asText();
+            switch (result.path("mode").asText()) {
+                case "thrpt" -> metrics.add(new PerfMetric(key, PerfMetric.Kind.THROUGHPUT,
+                        primary.path("score").asDouble(), unit));
+                case "sample" -> metrics.add(new PerfMetric(key + ":p99", PerfMetric.Kind.LATENCY,
+                        primary.path("scorePercentiles").path("99.0").asDouble(), unit));
+                default -> metrics.add(new PerfMetric(key, PerfMetric.Kind.LATENCY,
+                        primary.path("score").asDouble(), unit));
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Lee el informe JSON de la prueba de carga.
+     *
+     * @param file el informe generado por LoadTestMain
+     * @return throughput y p99 por endpoint y del total
+     * @throws IOException si no se puede leer el fichero
+     */
+    static List<PerfMetric> fromLoadTest(Path file) throws IOException {
+        JsonNode report = MAPPER.readTree(file.toFile());
+        List<PerfMetric> metrics = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> endpoints = report.path("endpoints").fields();
+        while (endpoints.hasNext()) {
+            Map.Entry<String, JsonNode> endpoint = endpoints.next();
+            addLoadTestMetrics(metrics, endpoint.getKey(), endpoint.getValue());
+        }
+        addLoadTestMetrics(metrics, "TOTAL", report.path("total"));
+        return metrics;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static void addLoadTestMetrics(List<PerfMetric> metrics, String name, JsonNode values) {
+        metrics.add(new PerfMetric("loadtest:" + name + ":throughput", PerfMetric.Kind.THROUGHPUT,
+                values.path("throughput").asDouble(), "req/s"));
+        metrics.add(new PerfMetric("loadtest:" + name + ":p99", PerfMetric.Kind.LATENCY,
+                values.path("latencyMs").path("p99").asDouble(), "ms"));
+    }
+
+    /**
+     * Representa los parámetros del benchmark en orden alfabético, p. ej. {@code [size=100,withCategory=true]}.
+     */
+    private static String params(JsonNode params) {
+        if (params.isMissingNode() || params.isEmpty()) {
+            return "";
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        params.fields().forEachRemaining(entry -> sorted.put(entry.getKey(), entry.getValue().asText()));
+        StringBuilder builder = new StringBuilder("[");
+        sorted.forEach((name, value) -> builder.append(builder.length() > 1 ? "," : "").append(name).append('=').append(value));
+        return builder.append(']').toString();
+    }
+}
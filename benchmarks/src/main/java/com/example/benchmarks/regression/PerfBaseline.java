@@ -0,0 +1,57 @@
+package com.example.benchmarks.regression;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Línea base de rendimiento versionada en el repositorio.
+ *
+ * Se registra en la máquina de referencia con {@code -Dperf.update-baseline=true} y se
+ * compara en cada ejecución del perfil {@code perf-gate}. Los valores solo son comparables
+ * entre ejecuciones en el mismo hardware y con la misma JVM.
+ *
+ * @param recordedAt instante de registro
+ * @param label etiqueta de la ejecución (p. ej. el commit)
+ * @param javaVersion versión de la JVM usada
+ * @param metrics métricas registradas
+ */
+public record PerfBaseline(String recordedAt, String label, String javaVersion, List<PerfMetric> metrics) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Lee la línea base; si el fichero no existe se trata como vacía.
+     *
+     * @param file el fichero JSON de la línea base
+     * @return la línea base
+     * @throws IOException si el fichero existe pero no se puede leer
+     */
+    static PerfBaseline read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new PerfBaseline(null, null, null, List.of());
+        }
+        return MAPPER.readValue(file.toFile(), PerfBaseline.class);
+    }
+
+    /**
+     * Escribe una nueva línea base con las métricas indicadas.
+     *
+     * @param file el fichero JSON de la línea base
+     * @param label etiqueta de la ejecución
+     * @param metrics métricas medidas
+     * @throws IOException si no se puede escribir el fichero
+     */
+    static void write(Path file, String label, List<PerfMetric> metrics) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(),
+                new PerfBaseline(Instant.now().toString(), label, System.getProperty("java.version"), metrics));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.benchmarks.regression;
+
+/**
+ * Métrica normalizada de una ejecución de benchmarks, comparable con la línea base.
+ *
+ * @param key identificador estable (p. ej. {@code jmh:...ProductConversionBenchmark.currentConverter[size=100]}
+ *            o {@code loadtest:product:p99})
+ * @param kind si la métrica mejora al subir (throughput) o al bajar (latencia)
+ * @param value valor medido
+ * @param unit unidad del valor
+ */
+public record PerfMetric(String key, Kind kind, double value, String unit) {
+
+    /**
+     * Tipo de métrica; determina el sentido de la regresión y la tolerancia aplicada.
+     */
+    public enum Kind {
+
+        /** Operaciones o peticiones por unidad de tiempo: regresión si baja. */
+        THROUGHPUT,
+
+        /** Tiempo por operación o percentil de latencia: regresión si sube. */
+        LATENCY
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.benchmarks.regression;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara los resultados de una ejecución de benchmarks con la línea base versionada
+ * e imprime la tabla de diferencias. Termina con código 1 si alguna métrica empeora más
+ * que su tolerancia, lo que hace fallar el build del perfil {@code perf-gate}.
+ *
+ * <ul>
+ *   <li>Throughput: regresión si baja más de {@code --throughput-tolerance} (fracción, por defecto 0.10).</li>
+ *   <li>Latencia (p99 y tiempo medio de JMH): regresión si sube más de {@code --p99-tolerance} (por defecto 0.25).</li>
+ *   <li>Métricas nuevas (sin línea base): se informan sin fallar.</li>
+ *   <li>Métricas de la línea base que ya no se miden: fallan, porque indican un benchmark roto o renombrado.</li>
+ *   <li>Línea base vacía: falla, para que el control no pase sin comparar nada; se registra con update-baseline.</li>
+ * </ul>
+ *
+ * Opciones {@code --clave=valor}: baseline, jmh, loadtest, throughput-tolerance, p99-tolerance,
+ * update-baseline (escribe la línea base con los resultados actuales en lugar de comparar) y label.
+ */
+public final class RegressionGate {
+
+    private RegressionGate() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        Path baselineFile = Path.of(required(options, "baseline"));
+        double throughputTolerance = Double.parseDouble(options.getOrDefault("throughput-tolerance", "0.10"));
+        double latencyTolerance = Double.parseDouble(options.getOrDefault("p99-tolerance", "0.25"));
+
+        List<PerfMetric> current = new ArrayList<>();
+        if (options.containsKey("jmh")) {
+            current.addAll(BenchmarkResults.fromJmh(existing(options.get("jmh"))));
+        }
+        if (options.containsKey("loadtest")) {
+            current.addAll(BenchmarkResults.fromLoadTest(existing(options.get("loadtest"))));
+        }
+
+        if (Boolean.parseBoolean(options.getOrDefault("update-baseline", "false"))) {
+            PerfBaseline.write(baselineFile, options.getOrDefault("label", "local"), current);
+            System.out.printf("Baseline with %d metrics written to %s%n", current.size(), baselineFile.toAbsolutePath());
+            return;
+        }
+
+        PerfBaseline baseline = PerfBaseline.read(baselineFile);
+        List<Comparison> comparisons = compare(baseline.metrics(), current, throughputTolerance, latencyTolerance);
+        printTable(baseline, comparisons, System.out);
+
+        long failures = comparisons.stream().filter(Comparison::failed).count();
+        if (baseline.metrics().isEmpty()) {
+            System.out.printf("Performance gate FAILED: no baseline recorded in %s; record one on the reference machine "
+                    + "with -Dperf.update-baseline=true%n", baselineFile.toAbsolutePath());
+            System.exit(1);
+        } else if (failures > 0) {
+            System.out.printf("Performance gate FAILED: %d of %d metrics regressed beyond tolerance "
+                    + "(throughput -%.0f%%, latency +%.0f%%)%n",
+                    failures, comparisons.size(), throughputTolerance * 100, latencyTolerance * 100);
+            System.exit(1);
+        } else {
+            System.out.printf("Performance gate passed: %d metrics within tolerance%n", comparisons.size());
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Empareja las métricas por clave en el orden de la línea base, seguidas de las nuevas.
+     */
+    private static List<Comparison> compare(List<PerfMetric> baseline, List<PerfMetric> current,
+                                            double throughputTolerance, double latencyTolerance) {
+        Map<String, PerfMetric> currentByKey = new LinkedHashMap<>();
+        current.forEach(metric -> currentByKey.put(metric.key(), metric));
+
+        List<Comparison> comparisons = new ArrayList<>();
+        for (PerfMetric reference : baseline) {
+            PerfMetric measured = currentByKey.remove(reference.key());
+            double tolerance = reference.kind() == PerfMetric.Kind.THROUGHPUT ? throughputTolerance : latencyTolerance;
+            comparisons.add(new Comparison(reference.key(), reference.kind(), reference, measured, tolerance));
+        }
+        for (PerfMetric added : currentByKey.values()) {
+            double tolerance = added.kind() == PerfMetric.Kind.THROUGHPUT ? throughputTolerance : latencyTolerance;
+            comparisons.add(new Comparison(added.key(), added.kind(), null, added, tolerance));
+        }
+        return comparisons;
+    }
+
+    private static void printTable(PerfBaseline baseline, List<Comparison> comparisons, PrintStream out) {
+        out.printf("%nBaseline: %s (%s, Java %s)%n", baseline.label(), baseline.recordedAt(), baseline.javaVersion());
+        out.printf("%-90s %-10s %14s %14s %9s %7s  %s%n",
+                "metric", "kind", "baseline", "current", "change", "limit", "status");
+        for (Comparison comparison : comparisons) {
+            out.printf("%-90s %-10s %14s %14s %9s %6.0f%%  %s%n",
+                    abbreviate(comparison.key()), comparison.kind(),
+                    format(comparison.baseline()), format(comparison.current()),
+                    comparison.baseline() == null || comparison.current() == null
+                            ? "-" : String.format("%+.1f%%", comparison.change() * 100),
+                    comparison.tolerance() * 100, comparison.status());
+        }
+    }
+
+    private static String format(PerfMetric metric) {
+        return metric == null ? "-" : String.format("%.3f %s", metric.value(), metric.unit());
+    }
+
+    private static String abbreviate(String key) {
+        String shortKey = key.replace("com.example.benchmarks.", "");
+        return shortKey.length() <= 90 ? shortKey : shortKey.substring(0, 87) + "...";
+    }
+
+    private static Path existing(String file) {
+        Path path = Path.of(file);
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException("Results file not found: " + path.toAbsolutePath());
+        }
+        return path;
+    }
+
+    private static String required(Map<String, String> options, String key) {
+        String value = options.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + key);
+        }
+        return value;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Resultado de comparar una métrica con su línea base.
+     */
+    private record Comparison(String key, PerfMetric.Kind kind, PerfMetric baseline, PerfMetric current,
+                              double tolerance) {
+
+        /**
+         * Variación relativa respecto a la línea base (positiva = el valor subió).
+         */
+        double change() {
+            return baseline.value() == 0 ? 0 : (current.value() - baseline.value()) / baseline.value();
+        }
+
+        boolean failed() {
+            if (baseline == null) {
+                return false;
+            }
+            if (current == null) {
+                return true;
+            }
+            return kind == PerfMetric.Kind.THROUGHPUT ? change() < -tolerance : change() > tolerance;
+        }
+
+        String status() {
+            if (baseline == null) {
+                return "NEW";
+            }
+            if (current == null) {
+                return "MISSING";
+            }
+            return failed() ? "REGRESSION" : "ok";
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.benchmarks.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de respuestas sintéticas del data-service.
+ *
+ * Produce el JSON que serializa el data-service para productos, categorías e inventario
+ * y lo decodifica con la misma configuración de Jackson que usa Spring, de modo que el
+ * business-service reciba los mismos tipos que en producción (LinkedHashMap, Integer,
+ * Double...). La semilla es fija para que las ejecuciones sean comparables.
+ */
+public final class CatalogPayloads {
+
+    /** Número de categorías distintas referenciadas por los productos. */
+    public static final int CATEGORY_COUNT = 50;
+
+    private static final String[] LOCATIONS = {"Warehouse A", "Warehouse B", "Warehouse C", "Store 1", "Store 2"};
+    private static final TypeReference<List<Object>> OBJECT_LIST = new TypeReference<>() {
+    };
+
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private CatalogPayloads() {
+    }
+
+    /**
+     * Devuelve el ObjectMapper configurado como el de Spring Boot.
+     *
+     * @return el ObjectMapper compartido
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Genera el JSON de una lista de productos.
+     *
+     * @param size número de productos
+     * @param withCategory si cada producto incluye su categoría anidada
+     * @return el cuerpo JSON en bytes
+     */
+    public static byte[] productsJson(int size, boolean withCategory) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Map<String, Object>> products = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            products.add(product(i, withCategory, random));
+        }
+        return write(products);
+    }
+
+    /**
+     * Genera el JSON de una lista de registros de inventario, cada uno con su producto anidado.
+     *
+     * @param size número de registros
+     * @param withCategory si el producto anidado incluye su categoría
+     * @return el cuerpo JSON en bytes
+     */
+    public static byte[] inventoryJson(int size, boolean withCategory) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Map<String, Object>> items = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", (long) i);
+            item.put("product", product(i, withCategory, random));
+            item.put("quantity", random.nextInt(0, 500));
+            item.put("location", LOCATIONS[random.nextInt(LOCATIONS.length)]);
+            items.add(item);
+        }
+        return write(items);
+    }
+
+    /**
+     * Genera el JSON de una lista de categorías.
+     *
+     * @param size número de categorías
+     * @return el cuerpo JSON en bytes
+     */
+    public static byte[] categoriesJson(int size) {
+        List<Map<String, Object>> categories = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            categories.add(category(i));
+        }
+        return write(categories);
+    }
+
+    /**
+     * Decodifica un cuerpo JSON como lo hace Feign para {@code ResponseEntity<List<Object>>}.
+     *
+     * @param json el cuerpo JSON
+     * @return la lista de mapas decodificada
+     */
+    public static List<Object> decode(byte[] json) {
+        try {
+            return MAPPER.readValue(json, OBJECT_LIST);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot decode benchmark payload", e);
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static Map<String, Object> product(long id, boolean withCategory, SplittableRandom random) {
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("id", id);
+        product.put("name", "Product " + id);
+        product.put("description", "Synthetic product number " + id + " used for conversion benchmarks");
+        product.put("price", BigDecimal.valueOf(random.nextDouble(1, 2000)).setScale(2, RoundingMode.HALF_UP));
+        // Distribución sesgada: la mayoría de productos caen en pocas categorías
+        long categoryId = 1 + (long) (CATEGORY_COUNT * Math.pow(random.nextDouble(), 3));
+        product.put("category", withCategory ? category(categoryId) : null);
+        return product;
+    }
+
+    private static Map<String, Object> category(long id) {
+        Map<String, Object> category = new LinkedHashMap<>();
+        category.put("id", id);
+        category.put("name", "Category " + id);
+        category.put("description", "Synthetic category number " + id);
+        return category;
+    }
+
+    private static byte[] write(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode benchmark payload", e);
+        }
+    }
+}
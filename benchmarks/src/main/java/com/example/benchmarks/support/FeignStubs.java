@@ -0,0 +1,54 @@
+package com.example.benchmarks.support;
+
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Sustitutos en memoria de los clientes Feign del business-service.
+ * Cualquier método del cliente responde 200 con el cuerpo indicado, de modo que
+ * los benchmarks midan solo la conversión y no la red.
+ */
+public final class FeignStubs {
+
+    private FeignStubs() {
+    }
+
+    /**
+     * Crea un cliente cuyo único comportamiento es devolver siempre el mismo cuerpo.
+     *
+     * @param clientType la interfaz del cliente Feign
+     * @param body el cuerpo de la respuesta (tal como lo decodifica Jackson)
+     * @param <T> el tipo del cliente
+     * @return el cliente sustituto
+     */
+    public static <T> T returning(Class<T> clientType, Object body) {
+        ResponseEntity<Object> response = ResponseEntity.ok(body);
+        return returning(clientType, () -> response);
+    }
+
+    /**
+     * Crea un cliente que construye la respuesta en cada llamada, por ejemplo para
+     * incluir la decodificación del JSON en la medición.
+     *
+     * @param clientType la interfaz del cliente Feign
+     * @param responses proveedor de la respuesta de cada llamada
+     * @param <T> el tipo del cliente
+     * @return el cliente sustituto
+     */
+    public static <T> T returning(Class<T> clientType, Supplier<ResponseEntity<?>> responses) {
+        Object proxy = Proxy.newProxyInstance(clientType.getClassLoader(), new Class<?>[]{clientType},
+                (instance, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(instance);
+                            case "equals" -> instance == args[0];
+                            default -> clientType.getSimpleName() + "Stub";
+                        };
+                    }
+                    return responses.get();
+                });
+        return clientType.cast(proxy);
+    }
+}
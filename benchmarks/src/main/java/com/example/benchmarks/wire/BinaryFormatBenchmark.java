@@ -0,0 +1,109 @@
+package com.example.benchmarks.wire;
+
+import com.example.benchmarks.support.CatalogPayloads;
+import com.example.businessservice.dto.InventoryDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de JSON frente a Smile para los listados de inventario entre los servicios.
+ *
+ * Mide la serialización en el data-service ({@link #encode()}), el análisis en el
+ * business-service tal como lo hace Feign hacia mapas ({@link #decodeToMaps()}) y directamente
+ * a DTO ({@link #decodeToDto()}). El contador auxiliar {@code wireBytes} da el tamaño de la
+ * respuesta sin comprimir. Ambos formatos usan la configuración de Jackson de Spring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+
+    private static final TypeReference<List<Object>> OBJECT_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<InventoryDTO>> INVENTORY_LIST = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    @Param({"json", "smile"})
+    String format;
+
+    private ObjectMapper mapper;
+    private List<Object> items;
+    private byte[] body;
+
+    /**
+     * Tamaño de la respuesta. Se asigna (no se acumula) en cada operación, así que JMH lo
+     * informa tal cual al final de cada iteración.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = format.equals("smile")
+                ? CatalogPayloads.mapper().copyWith(new SmileFactory())
+                : CatalogPayloads.mapper();
+        items = CatalogPayloads.decode(CatalogPayloads.inventoryJson(size, true));
+        body = mapper.writeValueAsBytes(items);
+    }
+
+    /**
+     * Data-service: serialización del listado.
+     */
+    @Benchmark
+    public byte[] encode(WireSize wireSize) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(items);
+        wireSize.wireBytes = encoded.length;
+        return encoded;
+    }
+
+    /**
+     * Business-service: análisis a la lista de mapas que entrega Feign ({@code List<Object>}).
+     */
+    @Benchmark
+    public List<Object> decodeToMaps(WireSize wireSize) throws IOException {
+        wireSize.wireBytes = body.length;
+        return mapper.readValue(body, OBJECT_LIST);
+    }
+
+    /**
+     * Business-service: análisis directo a DTO, sin mapas intermedios.
+     */
+    @Benchmark
+    public List<InventoryDTO> decodeToDto(WireSize wireSize) throws IOException {
+        wireSize.wireBytes = body.length;
+        return mapper.readValue(body, INVENTORY_LIST);
+    }
+}
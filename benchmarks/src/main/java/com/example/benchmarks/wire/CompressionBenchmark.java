@@ -0,0 +1,122 @@
+package com.example.benchmarks.wire;
+
+import com.example.benchmarks.support.CatalogPayloads;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmarks del coste de comprimir con gzip los listados de inventario entre los servicios.
+ *
+ * Para cada tamaño de listado y codificación mide la CPU del data-service al comprimir la
+ * respuesta ({@link #compress()}) y la del business-service al descomprimirla y decodificarla
+ * como hace Feign ({@link #decompressAndDecode()}). El contador auxiliar {@code wireBytes} da
+ * el tamaño en la red de la respuesta. {@code gzip-6} es el nivel que usa Tomcat
+ * ({@code server.compression.*}); {@code gzip-1} muestra si un nivel más rápido compensa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+    private static final TypeReference<List<Object>> OBJECT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    @Param({"identity", "gzip-1", "gzip-6"})
+    String encoding;
+
+    private byte[] json;
+    private byte[] wire;
+
+    /**
+     * Tamaño de la respuesta en la red. Se asigna (no se acumula) en cada operación, así que
+     * JMH lo informa tal cual al final de cada iteración.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        json = CatalogPayloads.inventoryJson(size, true);
+        wire = encode(json, encoding);
+    }
+
+    /**
+     * Data-service: compresión del cuerpo JSON ya serializado.
+     */
+    @Benchmark
+    public byte[] compress(WireSize wireSize) throws IOException {
+        byte[] encoded = encode(json, encoding);
+        wireSize.wireBytes = encoded.length;
+        return encoded;
+    }
+
+    /**
+     * Business-service: descompresión y decodificación a la lista de mapas que recibe Feign.
+     */
+    @Benchmark
+    public List<Object> decompressAndDecode(WireSize wireSize) throws IOException {
+        wireSize.wireBytes = wire.length;
+        try (InputStream body = decode(wire, encoding)) {
+            return CatalogPayloads.mapper().readValue(body, OBJECT_LIST);
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static byte[] encode(byte[] body, String encoding) throws IOException {
+        if (encoding.equals("identity")) {
+            return body.clone();
+        }
+        int level = Integer.parseInt(encoding.substring("gzip-".length()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static InputStream decode(byte[] body, String encoding) throws IOException {
+        InputStream in = new ByteArrayInputStream(body);
+        return encoding.equals("identity") ? in : new GZIPInputStream(in);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.benchmarks.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para RecordingSummary.
+ *
+ * Graba en esta JVM eventos con los mismos nombres y campos que los de los servicios, con
+ * duraciones conocidas (pausas), y comprueba el desglose por endpoint que se imprime.
+ */
+class RecordingSummaryTest {
+
+    private static final String ENDPOINT = "business-service GET /api/products/{id}";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Las peticiones se agrupan por servicio, método y endpoint; los eventos de servicio, Feign y SQL
+     * de su intervalo se descuentan del tiempo web y se listan en los rankings.
+     */
+    @Test
+    void summarize_shouldBreakDownRequestsPerEndpoint() throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HttpRequest.class);
+            recording.enable(ServiceMethod.class);
+            recording.enable(FeignCall.class);
+            recording.enable(SqlStatement.class);
+            recording.start();
+            request(200, false);
+            request(500, true);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordingSummary.summarize(file, 10, new PrintStream(out, true, StandardCharsets.UTF_8));
+        String report = out.toString(StandardCharsets.UTF_8);
+
+        String row = report.lines().filter(line -> line.startsWith(ENDPOINT)).findFirst().orElseThrow();
+        // requests errors p50 p99 max | web svc feign sql (decimales con coma según la configuración regional)
+        String[] columns = row.substring(60).trim().replace(',', '.').split("\\s+");
+        assertEquals("2", columns[0]);
+        assertEquals("1", columns[1]);
+        assertTrue(Double.parseDouble(columns[6]) >= 10, row);
+        assertTrue(Double.parseDouble(columns[8]) >= 5, row);
+        assertTrue(Double.parseDouble(columns[9]) >= 10, row);
+        assertTrue(report.contains("ProductClient.getProductById"), report);
+        assertTrue(report.contains("select p1_0.id from products p1_0 where p1_0.id=?"), report);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Petición de unos 30 ms: 10 ms web, y un método de servicio con 10 ms de SQL y, si se pide,
+     * 10 ms de llamada Feign.
+     */
+    private static void request(int status, boolean withFeignCall) throws InterruptedException {
+        HttpRequest request = new HttpRequest();
+        request.begin();
+        Thread.sleep(5);
+
+        ServiceMethod service = new ServiceMethod();
+        service.begin();
+        SqlStatement statement = new SqlStatement();
+        statement.begin();
+        Thread.sleep(10);
+        statement.sql = "select p1_0.id from products p1_0 where p1_0.id=?";
+        statement.commit();
+        if (withFeignCall) {
+            FeignCall call = new FeignCall();
+            call.begin();
+            Thread.sleep(10);
+            call.client = "ProductClient";
+            call.method = "getProductById";
+            call.responseBytes = 128;
+            call.commit();
+        }
+        service.serviceClass = "ProductServiceImpl";
+        service.method = "getProductById";
+        service.commit();
+
+        Thread.sleep(5);
+        request.service = "business-service";
+        request.method = "GET";
+        request.endpoint = "/api/products/{id}";
+        request.status = status;
+        request.commit();
+    }
+
+    @Name("com.example.HttpRequest")
+    static class HttpRequest extends Event {
+        String service;
+        String method;
+        String endpoint;
+        int status;
+    }
+
+    @Name("com.example.ServiceMethod")
+    static class ServiceMethod extends Event {
+        String serviceClass;
+        String method;
+        boolean failed;
+    }
+
+    @Name("com.example.FeignCall")
+    static class FeignCall extends Event {
+        String client;
+        String method;
+        long responseBytes;
+    }
+
+    @Name("com.example.SqlStatement")
+    static class SqlStatement extends Event {
+        String sql;
+    }
+}
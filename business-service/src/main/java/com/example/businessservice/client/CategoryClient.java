@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Cliente Feign para comunicarse con los endpoints de categorías en el servicio de datos.
@@ -62,7 +63,7 @@ public interface CategoryClient {
     @PostMapping
     ResponseEntity<Object> createCategory(@RequestBody Object category);
 
-    // ==================== Métodos PUT ====================
+    // ==================== Métodos PUT/PATCH ====================
 
     /**
      * Actualiza una categoría existente.
@@ -74,6 +75,16 @@ public interface CategoryClient {
     @PutMapping("/{id}")
     ResponseEntity<Object> updateCategory(@PathVariable("id") Long id, @RequestBody Object category);
 
+    /**
+     * Aplica un JSON Merge Patch a la categoría: solo se modifican los campos presentes.
+     *
+     * @param id el ID de la categoría
+     * @param patch los campos a modificar
+     * @return ResponseEntity que contiene la categoría actualizada
+     */
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    ResponseEntity<Object> patchCategory(@PathVariable("id") Long id, @RequestBody Map<String, Object> patch);
+
     // ==================== Métodos DELETE ====================
 
     /**
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Cliente Feign para comunicarse con los endpoints de inventario en el servicio de datos.
@@ -118,7 +119,7 @@ public interface InventoryClient {
     @PostMapping
     ResponseEntity<Object> createInventoryItem(@RequestBody Object inventory);
 
-    // ==================== Métodos PUT ====================
+    // ==================== Métodos PUT/PATCH ====================
 
     /**
      * Actualiza un registro de inventario existente.
@@ -142,6 +143,16 @@ public interface InventoryClient {
             @PathVariable("id") Long id,
             @PathVariable("quantity") Integer quantity);
 
+    /**
+     * Aplica un JSON Merge Patch al registro de inventario: solo se modifican los campos presentes.
+     *
+     * @param id el ID del registro de inventario
+     * @param patch los campos a modificar
+     * @return ResponseEntity que contiene el registro de inventario actualizado
+     */
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    ResponseEntity<Object> patchInventoryItem(@PathVariable("id") Long id, @RequestBody Map<String, Object> patch);
+
     // ==================== Métodos DELETE ====================
 
     /**
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Cliente Feign para comunicarse con los endpoints de productos en el servicio de datos.
@@ -102,7 +103,7 @@ public interface ProductClient {
     @PostMapping
     ResponseEntity<Object> createProduct(@RequestBody Object product);
 
-    // ==================== Métodos PUT ====================
+    // ==================== Métodos PUT/PATCH ====================
 
     /**
      * Actualiza un producto existente.
@@ -114,6 +115,16 @@ public interface ProductClient {
     @PutMapping("/{id}")
     ResponseEntity<Object> updateProduct(@PathVariable("id") Long id, @RequestBody Object product);
 
+    /**
+     * Aplica un JSON Merge Patch al producto: solo se modifican los campos presentes.
+     *
+     * @param id el ID del producto
+     * @param patch los campos a modificar
+     * @return ResponseEntity que contiene el producto actualizado
+     */
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    ResponseEntity<Object> patchProduct(@PathVariable("id") Long id, @RequestBody Map<String, Object> patch);
+
     /**
      * Asigna una categoría a un producto.
      *
@@ -126,6 +137,32 @@ public interface ProductClient {
             @PathVariable("productId") Long productId,
             @PathVariable("categoryId") Long categoryId);
 
+    /**
+     * Ajusta el precio de todos los productos de una categoría.
+     *
+     * @param categoryId el ID de la categoría
+     * @param percentage el porcentaje de ajuste, o null
+     * @param amount el importe fijo a sumar, o null
+     * @return ResponseEntity que contiene el número de productos actualizados
+     */
+    @PutMapping("/category/{categoryId}/price")
+    ResponseEntity<Object> adjustPricesByCategory(
+            @PathVariable("categoryId") Long categoryId,
+            @RequestParam(value = "percentage", required = false) BigDecimal percentage,
+            @RequestParam(value = "amount", required = false) BigDecimal amount);
+
+    /**
+     * Mueve todos los productos de una categoría a otra.
+     *
+     * @param sourceCategoryId el ID de la categoría de origen
+     * @param targetCategoryId el ID de la categoría de destino
+     * @return ResponseEntity que contiene el número de productos actualizados
+     */
+    @PutMapping("/category/{sourceCategoryId}/move/{targetCategoryId}")
+    ResponseEntity<Object> moveProductsToCategory(
+            @PathVariable("sourceCategoryId") Long sourceCategoryId,
+            @PathVariable("targetCategoryId") Long targetCategoryId);
+
     // ==================== Métodos DELETE ====================
 
     /**
@@ -145,4 +182,13 @@ public interface ProductClient {
      */
     @DeleteMapping("/{productId}/category")
     ResponseEntity<Object> removeCategoryFromProduct(@PathVariable("productId") Long productId);
+
+    /**
+     * Remueve la categoría de todos los productos que la tienen asignada.
+     *
+     * @param categoryId el ID de la categoría
+     * @return ResponseEntity que contiene el número de productos actualizados
+     */
+    @DeleteMapping("/category/{categoryId}/assignments")
+    ResponseEntity<Object> removeCategoryFromProducts(@PathVariable("categoryId") Long categoryId);
 }
@@ -0,0 +1,30 @@
+package com.example.businessservice.client;
+
+import com.example.businessservice.routing.LoadBalancingFeignClient;
+import com.example.common.diagnostics.TraceSpan;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
+
+/**
+ * Cliente Feign para obtener los spans que el servicio de datos registró para una traza.
+ */
+@FeignClient(name = "trace-service", url = "${data-service.url}/actuator/traces")
+public interface TraceClient {
+
+    /**
+     * Obtiene los spans de una traza registrados por una instancia del servicio de datos.
+     * Cada instancia guarda solo sus propios spans, así que se consulta una a una.
+     *
+     * @param instance la URL base de la instancia
+     * @param traceId el ID de la traza
+     * @return ResponseEntity que contiene los spans ordenados por inicio
+     */
+    @GetMapping("/{traceId}")
+    ResponseEntity<List<TraceSpan>> getTrace(@RequestHeader(LoadBalancingFeignClient.INSTANCE_HEADER) String instance,
+                                             @PathVariable("traceId") String traceId);
+}
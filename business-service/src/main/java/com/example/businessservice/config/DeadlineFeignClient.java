@@ -0,0 +1,66 @@
+package com.example.businessservice.config;
+
+import com.example.businessservice.exception.DeadlineExceededException;
+import com.example.common.deadline.Deadline;
+import com.example.common.deadline.DeadlineMetrics;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente Feign que aplica el plazo de la petición en curso ({@link Deadline}):
+ *
+ * <ul>
+ *   <li>Si el plazo ya venció, no realiza la llamada y lanza {@link DeadlineExceededException}
+ *       (que Feign no reintenta).</li>
+ *   <li>Si no, limita los timeouts de conexión y lectura al tiempo restante y lo envía al
+ *       data-service en la cabecera {@link Deadline#HEADER}.</li>
+ * </ul>
+ *
+ * Sin plazo (p. ej. llamadas desde hilos de fondo) delega sin cambios.
+ */
+public class DeadlineFeignClient implements Client {
+
+    private final Client delegate;
+    private final DeadlineMetrics metrics;
+
+    /**
+     * Crea el cliente.
+     *
+     * @param delegate el cliente que realiza la llamada
+     * @param metrics contador de plazos vencidos
+     */
+    public DeadlineFeignClient(Client delegate, DeadlineMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return delegate.execute(request, options);
+        }
+        long remaining = deadline.remainingMillis();
+        if (remaining <= 0) {
+            metrics.expired("client");
+            throw new DeadlineExceededException("Request deadline expired before calling " + request.url());
+        }
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(Deadline.HEADER, List.of(String.valueOf(remaining)));
+        Request withDeadline = Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+        Request.Options bounded = new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+        return delegate.execute(withDeadline, bounded);
+    }
+}
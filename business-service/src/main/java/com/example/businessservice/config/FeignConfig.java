@@ -2,24 +2,53 @@ package com.example.businessservice.config;
 
 import com.example.businessservice.exception.BadRequestException;
 import com.example.businessservice.exception.DataServiceException;
+import com.example.businessservice.exception.DeadlineExceededException;
 import com.example.businessservice.exception.ResourceNotFoundException;
 import com.example.businessservice.exception.ServiceUnavailableException;
+import com.example.businessservice.routing.DataServiceInstancePool;
+import com.example.businessservice.routing.LoadBalancingFeignClient;
+import com.example.businessservice.routing.ShardingFeignClient;
+import com.example.common.deadline.DeadlineMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.Client;
 import feign.Response;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Clase de configuración para los clientes Feign.
  * Define el decodificador de errores personalizado que traduce las excepciones
- * de Feign en excepciones específicas de la aplicación.
+ * de Feign en excepciones específicas de la aplicación, y el cliente HTTP OkHttp
+ * instrumentado con métricas por método, la política de reintentos y el estado del pool de conexiones.
  */
 @Configuration
 public class FeignConfig {
@@ -37,12 +66,182 @@ public class FeignConfig {
         return new CustomErrorDecoder();
     }
 
+    /**
+     * Crea el cliente OkHttp compartido por todos los clientes Feign, con un pool de conexiones
+     * propio para poder exponer sus métricas. Los timeouts de conexión y lectura los aplica
+     * Feign en cada petición según la configuración de los clientes.
+     *
+     * Las respuestas comprimidas con gzip se descomprimen de forma transparente, los cuerpos de
+     * petición grandes se comprimen ({@link GzipRequestInterceptor}) y se mide el tamaño de las
+     * respuestas en la red ({@link WireSizeInterceptor}).
+     *
+     * @param maxIdleConnections máximo de conexiones ociosas conservadas en el pool
+     * @param keepAliveSeconds tiempo que se conserva una conexión ociosa
+     * @param registry el registro de métricas
+     * @param requestCompressionEnabled si se comprimen los cuerpos de petición
+     * @param requestCompressionMinSize tamaño mínimo (bytes) de un cuerpo para comprimirlo
+     * @return el cliente OkHttp
+     */
+    @Bean
+    public OkHttpClient feignOkHttpClient(@Value("${feign.okhttp.pool.max-idle-connections:20}") int maxIdleConnections,
+                                          @Value("${feign.okhttp.pool.keep-alive-seconds:300}") long keepAliveSeconds,
+                                          MeterRegistry registry,
+                                          @Value("${feign.okhttp.compression.request-enabled:true}") boolean requestCompressionEnabled,
+                                          @Value("${feign.okhttp.compression.request-min-size:2048}") long requestCompressionMinSize) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                .addNetworkInterceptor(new WireSizeInterceptor(registry));
+        if (requestCompressionEnabled) {
+            builder.addInterceptor(new GzipRequestInterceptor(requestCompressionMinSize));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Crea el cliente HTTP de Feign: OkHttp envuelto en {@link MeteredFeignClient} para registrar
+     * latencia, códigos de estado y tamaño de respuesta por método de cliente.
+     *
+     * Dentro de una traza abre además un span por intento y propaga la cabecera {@code traceparent}.
+     * Por encima, {@link LoadBalancingFeignClient} reparte cada intento entre las instancias del
+     * data-service (en modo particionado, {@link ShardingFeignClient} elige antes el shard o reparte
+     * la petición entre todos), {@link HedgingFeignClient} lanza peticiones de respaldo para las lecturas
+     * idempotentes configuradas y {@link DeadlineFeignClient} ajusta los timeouts al plazo
+     * restante de la petición. {@link RetryBudgetFeignClient}, el más externo, recarga el
+     * presupuesto de reintentos con cada llamada correcta.
+     *
+     * @param okHttpClient el cliente OkHttp compartido
+     * @param registry el registro de métricas
+     * @param tracer proveedor del tracer (ausente si las trazas están desactivadas)
+     * @param propagator proveedor del propagador del contexto de traza
+     * @param deadlineMetrics contador de plazos vencidos
+     * @param retryBudget el presupuesto de reintentos
+     * @param instancePool instancias del data-service
+     * @param objectMapper para combinar las respuestas de varios shards
+     * @param hedgingEnabled si se lanzan peticiones de respaldo
+     * @param hedgingMethods métodos elegibles ({@code Cliente.metodo})
+     * @param hedgingPercentile percentil de latencia tras el que se lanza el respaldo
+     * @param hedgingMinDelayMs espera mínima antes del respaldo
+     * @param hedgingBudgetRatio fracción máxima de peticiones elegibles con respaldo
+     * @return el cliente Feign instrumentado
+     */
+    @Bean
+    public Client feignClient(OkHttpClient okHttpClient, MeterRegistry registry,
+                              ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator,
+                              DeadlineMetrics deadlineMetrics, RetryBudget retryBudget,
+                              DataServiceInstancePool instancePool,
+                              ObjectMapper objectMapper,
+                              @Value("${feign.hedging.enabled:false}") boolean hedgingEnabled,
+                              @Value("${feign.hedging.methods:}") Set<String> hedgingMethods,
+                              @Value("${feign.hedging.percentile:0.95}") double hedgingPercentile,
+                              @Value("${feign.hedging.min-delay-ms:5}") long hedgingMinDelayMs,
+                              @Value("${feign.hedging.budget-ratio:0.05}") double hedgingBudgetRatio) {
+        Tracer activeTracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        Client client = new MeteredFeignClient(new feign.okhttp.OkHttpClient(okHttpClient), registry,
+                activeTracer, propagator.getIfAvailable(() -> Propagator.NOOP));
+        client = new LoadBalancingFeignClient(client, instancePool);
+        // Un hilo virtual por intento o por shard: pasan casi todo el tiempo bloqueados en E/S
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        if (instancePool.isSharded()) {
+            client = new ShardingFeignClient(client, instancePool, executor, activeTracer, objectMapper, registry);
+        }
+        if (hedgingEnabled && !hedgingMethods.isEmpty()) {
+            // Cada intento pasa por el balanceador, así que el respaldo suele ir a otra instancia
+            client = new HedgingFeignClient(client, executor, registry,
+                    activeTracer, hedgingMethods, hedgingPercentile, hedgingMinDelayMs, hedgingBudgetRatio);
+        }
+        return new RetryBudgetFeignClient(new DeadlineFeignClient(client, deadlineMetrics), retryBudget);
+    }
+
+    /**
+     * Añade una clave de idempotencia a los POST, para que las altas se puedan reintentar sin
+     * duplicarse.
+     *
+     * @return el interceptor de peticiones
+     */
+    @Bean
+    public IdempotencyKeyInterceptor idempotencyKeyInterceptor() {
+        return new IdempotencyKeyInterceptor();
+    }
+
+    /**
+     * Pide las respuestas del data-service en Smile en lugar de JSON.
+     *
+     * @return el interceptor de peticiones
+     */
+    @Bean
+    @ConditionalOnProperty(name = "feign.smile.enabled", havingValue = "true", matchIfMissing = true)
+    public SmileAcceptInterceptor smileAcceptInterceptor() {
+        return new SmileAcceptInterceptor();
+    }
+
+    /**
+     * Crea el conversor de Smile con la misma configuración de Jackson que el de JSON; lo usa el
+     * decodificador de Feign para las respuestas en Smile.
+     *
+     * @param builder el constructor de ObjectMapper configurado por Spring Boot
+     * @return el conversor de mensajes Smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Crea el presupuesto de reintentos compartido por todos los clientes Feign.
+     *
+     * @param registry el registro de métricas
+     * @param ratio reintentos permitidos por cada llamada correcta
+     * @param capacity máximo de reintentos acumulados
+     * @return el presupuesto de reintentos
+     */
+    @Bean
+    public RetryBudget feignRetryBudget(MeterRegistry registry,
+                                        @Value("${feign.retry.budget.ratio:0.1}") double ratio,
+                                        @Value("${feign.retry.budget.capacity:10}") double capacity) {
+        RetryBudget budget = new RetryBudget(ratio, capacity);
+        Gauge.builder("feign.client.retries.budget", budget, RetryBudget::available).register(registry);
+        return budget;
+    }
+
+    /**
+     * Crea el retryer de los clientes Feign: reintenta solo llamadas idempotentes (o con clave de
+     * idempotencia), con backoff de jitter decorrelacionado y dentro del presupuesto de reintentos.
+     *
+     * @param budget el presupuesto de reintentos
+     * @param registry el registro de métricas
+     * @param deadlineMetrics contador de plazos vencidos
+     * @param maxAttempts intentos máximos por llamada
+     * @param baseBackoffMs espera mínima entre intentos
+     * @param maxBackoffMs espera máxima entre intentos
+     * @return el retryer
+     */
+    @Bean
+    public IdempotentRetryer feignRetryer(RetryBudget budget, MeterRegistry registry, DeadlineMetrics deadlineMetrics,
+                                          @Value("${feign.retry.max-attempts:3}") int maxAttempts,
+                                          @Value("${feign.retry.base-backoff-ms:50}") long baseBackoffMs,
+                                          @Value("${feign.retry.max-backoff-ms:1000}") long maxBackoffMs) {
+        return new IdempotentRetryer(budget, registry, deadlineMetrics, maxAttempts, baseBackoffMs, maxBackoffMs);
+    }
+
+    /**
+     * Publica las conexiones activas y ociosas del pool de OkHttp ({@code okhttp.pool.*}).
+     *
+     * @param okHttpClient el cliente OkHttp compartido
+     * @return el binder de métricas del pool
+     */
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(OkHttpClient okHttpClient) {
+        return new OkHttpConnectionPoolMetrics(okHttpClient.connectionPool(), Tags.of("client", "data-service"));
+    }
+
     /**
      * Decodificador de errores personalizado que traduce las excepciones de Feign
      * en excepciones específicas de la aplicación según el código de estado HTTP.
      */
     public static class CustomErrorDecoder implements ErrorDecoder {
 
+        private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
         private final ErrorDecoder defaultErrorDecoder = new Default();
 
         /**
@@ -70,6 +269,10 @@ public class FeignConfig {
                     return new BadRequestException(
                             "Solicitud inválida al servicio de datos: " + responseBody, 
                             new Exception(responseBody));
+                case GATEWAY_TIMEOUT:
+                    // El data-service agotó el plazo propagado: se responde 504, no 503
+                    return new DeadlineExceededException(
+                            "Plazo de la petición vencido en el servicio de datos: " + requestUrl);
                 case SERVICE_UNAVAILABLE:
                     return new ServiceUnavailableException(
                             "Servicio de datos no disponible: " + requestUrl, 
@@ -90,8 +293,8 @@ public class FeignConfig {
         }
 
         /**
-         * Obtiene el cuerpo de la respuesta como una cadena de texto.
-         * Maneja errores de lectura de forma segura.
+         * Obtiene el cuerpo de la respuesta como una cadena de texto (los cuerpos en Smile se
+         * convierten a JSON). Maneja errores de lectura de forma segura.
          *
          * @param response la respuesta HTTP
          * @return el cuerpo de la respuesta como cadena, o un mensaje de error si no se puede leer
@@ -99,6 +302,10 @@ public class FeignConfig {
         private String getResponseBody(Response response) {
             try (InputStream bodyIs = response.body().asInputStream()) {
                 byte[] bodyBytes = bodyIs.readAllBytes();
+                Collection<String> contentType = response.headers().getOrDefault("Content-Type", List.of());
+                if (contentType.stream().anyMatch(type -> type.startsWith(SmileAcceptInterceptor.SMILE))) {
+                    return SMILE_MAPPER.readTree(bodyBytes).toString();
+                }
                 return new String(bodyBytes, StandardCharsets.UTF_8);
             } catch (IOException e) {
                 log.error("Error al leer el cuerpo de la respuesta", e);
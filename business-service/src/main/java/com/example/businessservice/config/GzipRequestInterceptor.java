@@ -0,0 +1,52 @@
+package com.example.businessservice.config;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * Interceptor de OkHttp que comprime con gzip los cuerpos de petición a partir de un tamaño
+ * mínimo ({@code Content-Encoding: gzip}); el data-service los descomprime en un filtro.
+ *
+ * Las respuestas no necesitan nada: OkHttp pide {@code Accept-Encoding: gzip} y las
+ * descomprime de forma transparente cuando la petición no fija esa cabecera.
+ */
+public class GzipRequestInterceptor implements Interceptor {
+
+    private final long minSize;
+
+    /**
+     * Crea el interceptor.
+     *
+     * @param minSize tamaño mínimo (bytes) del cuerpo para comprimirlo
+     */
+    public GzipRequestInterceptor(long minSize) {
+        this.minSize = minSize;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        RequestBody body = request.body();
+        if (body == null || request.header("Content-Encoding") != null || body.contentLength() < minSize) {
+            return chain.proceed(request);
+        }
+        Buffer compressed = new Buffer();
+        try (BufferedSink gzip = Okio.buffer(new GzipSink(compressed))) {
+            body.writeTo(gzip);
+        }
+        RequestBody gzipped = RequestBody.create(compressed.readByteString(), body.contentType());
+        return chain.proceed(request.newBuilder()
+                .header("Content-Encoding", "gzip")
+                .removeHeader("Content-Length")
+                .method(request.method(), gzipped)
+                .build());
+    }
+}
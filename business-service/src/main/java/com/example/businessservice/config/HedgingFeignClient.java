@@ -0,0 +1,239 @@
+package com.example.businessservice.config;
+
+import com.example.businessservice.config.MeteredFeignClient.FeignMethod;
+import com.example.common.deadline.Deadline;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cliente Feign que envía peticiones de respaldo (hedging) para las lecturas idempotentes
+ * configuradas: si la petición original no ha respondido tras el percentil configurado de la
+ * latencia reciente del método, se lanza una segunda petición idéntica (por otra conexión del
+ * pool) y se devuelve la primera respuesta que llegue; la otra se cierra al terminar.
+ *
+ * Las peticiones de respaldo consumen un presupuesto: cada petición elegible aporta
+ * {@code budgetRatio} fichas y cada respaldo gasta una, lo que limita la carga adicional a esa
+ * fracción del tráfico. Métricas:
+ *
+ * <ul>
+ *   <li>{@code feign.client.hedges}: respaldos lanzados por cliente, método y resultado
+ *       ({@code won} si respondió antes que la original, {@code lost} si no).</li>
+ *   <li>{@code feign.client.hedges.skipped}: respaldos no lanzados por falta de presupuesto.</li>
+ * </ul>
+ *
+ * Ambos intentos se ejecutan en hilos virtuales que heredan el plazo ({@link Deadline}) y el
+ * span en curso del llamante.
+ */
+public class HedgingFeignClient implements Client {
+
+    /** Muestras de latencia que se conservan por método. */
+    private static final int WINDOW_SIZE = 1024;
+
+    /** Máximo de fichas acumuladas, para limitar ráfagas de respaldos tras un periodo tranquilo. */
+    private static final long MAX_TOKENS_MILLIS = 10_000;
+
+    private final Client delegate;
+    private final ExecutorService executor;
+    private final MeterRegistry registry;
+    private final Tracer tracer;
+    private final Set<String> methods;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long budgetRatioMillis;
+    private final AtomicLong tokensMillis = new AtomicLong();
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el cliente.
+     *
+     * @param delegate el cliente que realiza cada intento
+     * @param executor ejecutor de los intentos (hilos virtuales)
+     * @param registry el registro de métricas
+     * @param tracer el tracer ({@link Tracer#NOOP} si las trazas están desactivadas)
+     * @param methods métodos elegibles, como {@code Cliente.metodo} (p. ej. {@code ProductClient.getProductById})
+     * @param percentile percentil de la latencia reciente tras el que se lanza el respaldo (p. ej. 0.95)
+     * @param minDelayMs espera mínima antes del respaldo
+     * @param budgetRatio fracción máxima de peticiones elegibles que pueden lanzar respaldo
+     */
+    public HedgingFeignClient(Client delegate, ExecutorService executor, MeterRegistry registry, Tracer tracer,
+                              Set<String> methods, double percentile, long minDelayMs, double budgetRatio) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.registry = registry;
+        this.tracer = tracer;
+        this.methods = methods;
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.budgetRatioMillis = Math.round(budgetRatio * 1000);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        FeignMethod method = FeignMethod.of(request);
+        String key = method.client() + "." + method.method();
+        if (!methods.contains(key) || !"GET".equals(request.httpMethod().name())) {
+            return delegate.execute(request, options);
+        }
+        LatencyWindow window = windows.computeIfAbsent(key, k -> new LatencyWindow());
+        tokensMillis.getAndUpdate(tokens -> Math.min(MAX_TOKENS_MILLIS, tokens + budgetRatioMillis));
+
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        CompletableFuture<Response> primary = submit(request, options, window);
+        primary.whenComplete((response, error) -> settle(winner, pending, response, error, false, method));
+        long delay = Math.max(minDelayNanos, window.percentileNanos(percentile));
+        try {
+            return await(primary, delay);
+        } catch (TimeoutException e) {
+            // La original tarda más que el percentil: se intenta el respaldo
+        }
+
+        if (!tryAcquireToken()) {
+            Counter.builder("feign.client.hedges.skipped")
+                    .tags("client", method.client(), "method", method.method(), "reason", "budget")
+                    .register(registry)
+                    .increment();
+            return await(winner, Long.MAX_VALUE);
+        }
+        pending.incrementAndGet();
+        submit(request, options, window)
+                .whenComplete((response, error) -> settle(winner, pending, response, error, true, method));
+        return await(winner, Long.MAX_VALUE);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private CompletableFuture<Response> submit(Request request, Request.Options options, LatencyWindow window) {
+        Deadline deadline = Deadline.current();
+        Span span = tracer.currentSpan();
+        return CompletableFuture.supplyAsync(() -> {
+            Deadline previous = Deadline.set(deadline);
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                long start = System.nanoTime();
+                Response response = delegate.execute(request, options);
+                window.record(System.nanoTime() - start);
+                return response;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                Deadline.set(previous);
+            }
+        }, executor);
+    }
+
+    /**
+     * Entrega la primera respuesta correcta; las que llegan después se cierran. Si todos los
+     * intentos fallan se propaga el error del último en terminar.
+     */
+    private void settle(CompletableFuture<Response> winner, AtomicInteger pending, Response response, Throwable error,
+                        boolean hedge, FeignMethod method) {
+        int remaining = pending.decrementAndGet();
+        if (error == null) {
+            boolean won = winner.complete(response);
+            if (!won) {
+                response.close();
+            }
+            if (hedge) {
+                Counter.builder("feign.client.hedges")
+                        .tags("client", method.client(), "method", method.method(), "outcome", won ? "won" : "lost")
+                        .register(registry)
+                        .increment();
+            }
+        } else if (remaining == 0) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private boolean tryAcquireToken() {
+        long tokens;
+        do {
+            tokens = tokensMillis.get();
+            if (tokens < 1000) {
+                return false;
+            }
+        } while (!tokensMillis.compareAndSet(tokens, tokens - 1000));
+        return true;
+    }
+
+    private static Response await(CompletableFuture<Response> future, long timeoutNanos)
+            throws IOException, TimeoutException {
+        try {
+            return timeoutNanos == Long.MAX_VALUE ? future.get() : future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data service");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    // ==================== Clases internas ====================
+
+    /**
+     * Ventana circular con las últimas latencias de un método. El percentil se recalcula
+     * cada {@code WINDOW_SIZE / 8} muestras y se sirve desde caché entre medias.
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+        private int sinceRefresh;
+        private volatile double cachedPercentile = -1;
+        private volatile long cachedNanos;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW_SIZE;
+            count = Math.min(count + 1, WINDOW_SIZE);
+            sinceRefresh++;
+        }
+
+        long percentileNanos(double percentile) {
+            if (cachedPercentile != percentile || sinceRefresh >= WINDOW_SIZE / 8) {
+                refresh(percentile);
+            }
+            return cachedNanos;
+        }
+
+        private synchronized void refresh(double percentile) {
+            if (count == 0) {
+                // Sin muestras: no se lanza respaldo hasta la primera ventana de latencias del método
+                cachedNanos = Long.MAX_VALUE / 2;
+            } else {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                cachedNanos = sorted[(int) Math.max(0, Math.min(count - 1, Math.ceil(percentile * count) - 1))];
+            }
+            cachedPercentile = percentile;
+            sinceRefresh = 0;
+        }
+    }
+}
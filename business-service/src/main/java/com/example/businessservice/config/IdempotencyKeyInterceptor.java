@@ -0,0 +1,40 @@
+package com.example.businessservice.config;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+/**
+ * Añade la cabecera {@link IdempotentRetryer#IDEMPOTENCY_KEY_HEADER} a los POST hacia el
+ * data-service, que con ella repite la respuesta original en lugar de crear el recurso dos veces.
+ *
+ * Se reenvía la clave recibida del cliente del business-service, de modo que sus reintentos
+ * tampoco dupliquen altas; si no la trae, se genera una por petición entrante. Feign aplica el
+ * interceptor en cada intento, así que la clave se guarda en la petición para que todos los
+ * reintentos usen la misma (y {@link IdempotentRetryer} los permita).
+ */
+public class IdempotencyKeyInterceptor implements RequestInterceptor {
+
+    private static final String ATTRIBUTE = IdempotencyKeyInterceptor.class.getName() + ".key";
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (!"POST".equals(template.method()) || template.headers().containsKey(IdempotentRetryer.IDEMPOTENCY_KEY_HEADER)) {
+            return;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        Object key = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (key == null) {
+            String received = attributes.getRequest().getHeader(IdempotentRetryer.IDEMPOTENCY_KEY_HEADER);
+            key = received != null && !received.isBlank() ? received.strip() : UUID.randomUUID().toString();
+            attributes.setAttribute(ATTRIBUTE, key, RequestAttributes.SCOPE_REQUEST);
+        }
+        template.header(IdempotentRetryer.IDEMPOTENCY_KEY_HEADER, key.toString());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.businessservice.config;
+
+import com.example.common.deadline.Deadline;
+import com.example.common.deadline.DeadlineMetrics;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link Retryer} de los clientes Feign que solo reintenta cuando es seguro y útil:
+ *
+ * <ul>
+ *   <li>Solo métodos idempotentes (GET, HEAD, OPTIONS, PUT, DELETE), o POST y PATCH que llevan
+ *       la cabecera {@link #IDEMPOTENCY_KEY_HEADER}, para no duplicar altas.</li>
+ *   <li>Cada reintento gasta una ficha del {@link RetryBudget} compartido, que se recarga con
+ *       las llamadas correctas.</li>
+ *   <li>No se reintenta si el plazo de la petición ({@link Deadline}) ya venció o vencería
+ *       durante la espera.</li>
+ *   <li>La espera sigue un backoff exponencial con "jitter decorrelacionado":
+ *       {@code min(máximo, aleatorio(base, espera anterior * 3))}.</li>
+ * </ul>
+ *
+ * Métricas por cliente y método: {@code feign.client.retries},
+ * {@code feign.client.retries.exhausted}, {@code feign.client.retries.rejected} (por
+ * {@code reason}: {@code non_idempotent}, {@code budget} o {@code deadline}) y
+ * {@code feign.client.retries.backoff}.
+ *
+ * Feign clona el retryer en cada invocación, por lo que cada clon tiene su propio estado de
+ * intentos y comparte el presupuesto y las métricas.
+ */
+public class IdempotentRetryer implements Retryer {
+
+    /** Cabecera con la que una petición no idempotente declara que se puede repetir. */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS,
+            Request.HttpMethod.PUT, Request.HttpMethod.DELETE);
+
+    private final RetryBudget budget;
+    private final MeterRegistry registry;
+    private final DeadlineMetrics deadlineMetrics;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private int attempt = 1;
+    private long previousBackoffMs;
+
+    /**
+     * Crea el retryer.
+     *
+     * @param budget el presupuesto de reintentos compartido
+     * @param registry el registro de métricas
+     * @param deadlineMetrics contador de plazos vencidos
+     * @param maxAttempts intentos máximos por llamada (incluido el primero)
+     * @param baseBackoffMs espera mínima entre intentos
+     * @param maxBackoffMs espera máxima entre intentos
+     */
+    public IdempotentRetryer(RetryBudget budget, MeterRegistry registry, DeadlineMetrics deadlineMetrics,
+                             int maxAttempts, long baseBackoffMs, long maxBackoffMs) {
+        this.budget = budget;
+        this.registry = registry;
+        this.deadlineMetrics = deadlineMetrics;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.previousBackoffMs = baseBackoffMs;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        MeteredFeignClient.FeignMethod method = e.request() == null
+                ? new MeteredFeignClient.FeignMethod("unknown", "unknown")
+                : MeteredFeignClient.FeignMethod.of(e.request());
+        if (!isRetryable(e.request())) {
+            reject(method, "non_idempotent");
+            throw e;
+        }
+        if (attempt >= maxAttempts) {
+            Counter.builder("feign.client.retries.exhausted")
+                    .tags("client", method.client(), "method", method.method())
+                    .register(registry)
+                    .increment();
+            throw e;
+        }
+        long backoffMs = nextBackoffMs();
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.remainingMillis() <= backoffMs) {
+            deadlineMetrics.expired("retry");
+            reject(method, "deadline");
+            throw e;
+        }
+        if (!budget.tryAcquire()) {
+            reject(method, "budget");
+            throw e;
+        }
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        attempt++;
+        previousBackoffMs = backoffMs;
+        Counter.builder("feign.client.retries")
+                .tags("client", method.client(), "method", method.method())
+                .register(registry)
+                .increment();
+        DistributionSummary.builder("feign.client.retries.backoff")
+                .baseUnit("milliseconds")
+                .tags("client", method.client(), "method", method.method())
+                .register(registry)
+                .record(backoffMs);
+    }
+
+    @Override
+    public Retryer clone() {
+        return new IdempotentRetryer(budget, registry, deadlineMetrics, maxAttempts, baseBackoffMs, maxBackoffMs);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static boolean isRetryable(Request request) {
+        if (request == null) {
+            return false;
+        }
+        if (IDEMPOTENT_METHODS.contains(request.httpMethod())) {
+            return true;
+        }
+        for (Map.Entry<String, Collection<String>> header : request.headers().entrySet()) {
+            if (header.getKey().equalsIgnoreCase(IDEMPOTENCY_KEY_HEADER) && !header.getValue().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long nextBackoffMs() {
+        long upper = Math.max(baseBackoffMs + 1, previousBackoffMs * 3);
+        return Math.min(maxBackoffMs, ThreadLocalRandom.current().nextLong(baseBackoffMs, upper));
+    }
+
+    private void reject(MeteredFeignClient.FeignMethod method, String reason) {
+        Counter.builder("feign.client.retries.rejected")
+                .tags("client", method.client(), "method", method.method(), "reason", reason)
+                .register(registry)
+                .increment();
+    }
+}
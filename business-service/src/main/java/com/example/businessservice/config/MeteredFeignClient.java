@@ -0,0 +1,252 @@
+package com.example.businessservice.config;
+
+import com.example.businessservice.diagnostics.FeignCallEvent;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente Feign que delega en otro cliente y registra métricas por método del cliente Feign.
+ *
+ * <ul>
+ *   <li>{@code feign.client.requests}: timer (con histograma) por cliente, método y estado HTTP.</li>
+ *   <li>{@code feign.client.responses}: contador por cliente, método y estado HTTP
+ *       ({@code IO_ERROR} si no hubo respuesta).</li>
+ *   <li>{@code feign.client.response.size}: distribución del tamaño del cuerpo de la respuesta en bytes.</li>
+ * </ul>
+ *
+ * El tiempo medido es el de cada intento HTTP individual; los reintentos se cuentan
+ * aparte en {@link IdempotentRetryer}. Con una grabación JFR activa emite además un
+ * {@link FeignCallEvent} por intento.
+ *
+ * Dentro de una traza, cada intento abre un span {@code CLIENT} hijo del span en curso y
+ * propaga su contexto al data-service en la cabecera W3C {@code traceparent}.
+ */
+public class MeteredFeignClient implements Client {
+
+    private final Client delegate;
+    private final MeterRegistry registry;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    /**
+     * Crea el cliente instrumentado.
+     *
+     * @param delegate el cliente HTTP real
+     * @param registry el registro de métricas
+     * @param tracer el tracer ({@link Tracer#NOOP} si las trazas están desactivadas)
+     * @param propagator el propagador del contexto de traza ({@link Propagator#NOOP} si están desactivadas)
+     */
+    public MeteredFeignClient(Client delegate, MeterRegistry registry, Tracer tracer, Propagator propagator) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        FeignMethod method = FeignMethod.of(request);
+        Span span = startSpan(method, request);
+        if (span != null) {
+            request = propagate(span, request);
+        }
+        FeignCallEvent event = new FeignCallEvent();
+        if (event.isEnabled()) {
+            event.client = method.client();
+            event.method = method.method();
+            event.requestBytes = request.body() == null ? 0 : request.body().length;
+            event.begin();
+        }
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException e) {
+            record(method, "IO_ERROR", System.nanoTime() - start);
+            if (span != null) {
+                span.error(e);
+                span.end();
+            }
+            event.status = -1;
+            commit(event, 0);
+            throw e;
+        }
+        record(method, String.valueOf(response.status()), System.nanoTime() - start);
+        if (span != null) {
+            span.tag("http.status_code", response.status());
+            span.end();
+        }
+        event.status = response.status();
+        return measureBody(method, response, event);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Abre el span del intento si hay una traza en curso; fuera de una petición no se traza.
+     */
+    private Span startSpan(FeignMethod method, Request request) {
+        Span parent = tracer.currentSpan();
+        if (parent == null || parent.isNoop()) {
+            return null;
+        }
+        return tracer.spanBuilder()
+                .setParent(parent.context())
+                .name(method.client() + "." + method.method())
+                .kind(Span.Kind.CLIENT)
+                .remoteServiceName("data-service")
+                .tag("component", "client")
+                .tag("http.method", request.httpMethod().name())
+                .tag("http.url", request.url())
+                .start();
+    }
+
+    /**
+     * Copia la petición añadiendo las cabeceras de propagación ({@code traceparent}) del span.
+     */
+    private Request propagate(Span span, Request request) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        propagator.inject(span.context(), headers, (carrier, key, value) -> carrier.put(key, List.of(value)));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+
+    private void record(FeignMethod method, String status, long elapsedNanos) {
+        Timer.builder("feign.client.requests")
+                .description("Latency of each HTTP attempt made by a Feign client method")
+                .tags("client", method.client(), "method", method.method(), "status", status)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("feign.client.responses")
+                .tags("client", method.client(), "method", method.method(), "status", status)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Registra el tamaño del cuerpo: directamente si la respuesta informa su longitud o,
+     * si no (respuestas chunked), contando los bytes a medida que el decodificador los lee.
+     */
+    private Response measureBody(FeignMethod method, Response response, FeignCallEvent event) throws IOException {
+        DistributionSummary size = DistributionSummary.builder("feign.client.response.size")
+                .baseUnit("bytes")
+                .tags("client", method.client(), "method", method.method())
+                .publishPercentileHistogram()
+                .register(registry);
+        if (response.body() == null) {
+            size.record(0);
+            commit(event, 0);
+            return response;
+        }
+        Integer length = response.body().length();
+        if (length != null && length >= 0) {
+            size.record(length);
+            commit(event, length);
+            return response;
+        }
+        return response.toBuilder()
+                .body(new CountingInputStream(response.body().asInputStream(), size, event), null)
+                .build();
+    }
+
+    /**
+     * Cierra y emite el evento JFR si se inició (el cliente solo se asigna al iniciarlo).
+     */
+    private static void commit(FeignCallEvent event, long responseBytes) {
+        if (event.client != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.responseBytes = responseBytes;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Cliente y método Feign de una petición, a partir de la clave de configuración
+     * del método (p. ej. {@code ProductClient#getProductById(Long)}).
+     */
+    record FeignMethod(String client, String method) {
+
+        static FeignMethod of(Request request) {
+            if (request.requestTemplate() == null || request.requestTemplate().methodMetadata() == null) {
+                return new FeignMethod("unknown", "unknown");
+            }
+            String configKey = request.requestTemplate().methodMetadata().configKey();
+            int hash = configKey.indexOf('#');
+            int paren = configKey.indexOf('(', hash);
+            return new FeignMethod(configKey.substring(0, hash), configKey.substring(hash + 1, paren));
+        }
+    }
+
+    /**
+     * Flujo que cuenta los bytes leídos y registra el total una sola vez, al llegar al final o al cerrarse.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final DistributionSummary size;
+        private final FeignCallEvent event;
+        private long count;
+        private boolean recorded;
+
+        private CountingInputStream(InputStream in, DistributionSummary size, FeignCallEvent event) {
+            super(in);
+            this.size = size;
+            this.event = event;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            } else {
+                recordOnce();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            } else if (read < 0) {
+                recordOnce();
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            recordOnce();
+            super.close();
+        }
+
+        private void recordOnce() {
+            if (!recorded) {
+                recorded = true;
+                size.record(count);
+                commit(event, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.businessservice.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Clase de configuración de métricas Micrometer.
+ *
+ * Habilita {@code @Timed} en controladores y servicios (métricas {@code app.controller} y
+ * {@code app.service}, con etiquetas {@code class} y {@code method}). Las métricas de JVM, GC,
+ * hilos, Tomcat y {@code http.server.requests} las registra Actuator automáticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspecto que mide los métodos de las clases anotadas con {@code @Timed}.
+     *
+     * @param registry el registro de métricas
+     * @return el aspecto de temporización
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
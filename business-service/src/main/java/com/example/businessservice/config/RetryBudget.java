@@ -0,0 +1,62 @@
+package com.example.businessservice.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presupuesto de reintentos compartido por todos los clientes Feign: un cubo de fichas en el
+ * que cada llamada correcta deposita {@code ratio} fichas y cada reintento gasta una.
+ *
+ * Así los reintentos nunca superan esa fracción del tráfico que el data-service está sirviendo
+ * bien: cuando se degrada dejan de llegar depósitos y los reintentos se cortan en lugar de
+ * multiplicar la carga. El cubo empieza lleno y su capacidad limita las ráfagas.
+ */
+public class RetryBudget {
+
+    private final long ratioMillis;
+    private final long capacityMillis;
+    private final AtomicLong tokensMillis;
+
+    /**
+     * Crea el presupuesto.
+     *
+     * @param ratio fichas depositadas por cada llamada correcta (reintentos por llamada correcta)
+     * @param capacity máximo de fichas acumuladas
+     */
+    public RetryBudget(double ratio, double capacity) {
+        this.ratioMillis = Math.round(ratio * 1000);
+        this.capacityMillis = Math.round(capacity * 1000);
+        this.tokensMillis = new AtomicLong(capacityMillis);
+    }
+
+    /**
+     * Registra una llamada correcta.
+     */
+    public void deposit() {
+        tokensMillis.getAndUpdate(tokens -> Math.min(capacityMillis, tokens + ratioMillis));
+    }
+
+    /**
+     * Intenta gastar una ficha para un reintento.
+     *
+     * @return true si hay presupuesto
+     */
+    public boolean tryAcquire() {
+        long tokens;
+        do {
+            tokens = tokensMillis.get();
+            if (tokens < 1000) {
+                return false;
+            }
+        } while (!tokensMillis.compareAndSet(tokens, tokens - 1000));
+        return true;
+    }
+
+    /**
+     * Fichas disponibles.
+     *
+     * @return el número de reintentos que se pueden hacer ahora
+     */
+    public double available() {
+        return tokensMillis.get() / 1000.0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.businessservice.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Cliente Feign que alimenta el {@link RetryBudget} con cada llamada correcta (cualquier
+ * respuesta que no sea 5xx: el data-service la ha atendido).
+ */
+public class RetryBudgetFeignClient implements Client {
+
+    private final Client delegate;
+    private final RetryBudget budget;
+
+    /**
+     * Crea el cliente.
+     *
+     * @param delegate el cliente que realiza la llamada
+     * @param budget el presupuesto de reintentos
+     */
+    public RetryBudgetFeignClient(Client delegate, RetryBudget budget) {
+        this.delegate = delegate;
+        this.budget = budget;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Response response = delegate.execute(request, options);
+        if (response.status() < 500) {
+            budget.deposit();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.businessservice.config;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * Pide al data-service las respuestas en Smile ({@code application/x-jackson-smile}), un JSON
+ * binario que Jackson analiza más deprisa y que ocupa menos, con JSON como alternativa para los
+ * endpoints que solo lo producen (p. ej. Actuator).
+ *
+ * El decodificador de Feign elige el conversor por el {@code Content-Type} de la respuesta, así
+ * que las respuestas en JSON se siguen leyendo igual. Los cuerpos de petición se envían en JSON:
+ * son objetos sueltos y Feign los codifica antes de aplicar los interceptores.
+ */
+public class SmileAcceptInterceptor implements RequestInterceptor {
+
+    /** Tipo MIME de Smile. */
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private static final String ACCEPT = SMILE + ", application/json;q=0.9";
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (!template.headers().containsKey("Accept")) {
+            template.header("Accept", ACCEPT);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.businessservice.config;
+
+import io.micrometer.observation.ObservationPredicate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Clase de configuración de las trazas distribuidas.
+ *
+ * Spring Boot crea el span de servidor de cada petición HTTP (extrayendo la cabecera W3C
+ * {@code traceparent} si existe) y lo exporta al almacén local de spans. Aquí solo se
+ * excluyen las peticiones a Actuator, para que consultar las trazas no genere trazas nuevas.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Descarta las observaciones (span y métrica {@code http.server.requests}) de {@code /actuator/**}.
+     *
+     * @return el predicado de observaciones
+     */
+    @Bean
+    public ObservationPredicate actuatorObservationFilter() {
+        return (name, context) -> !(context instanceof ServerRequestObservationContext serverContext
+                && serverContext.getCarrier().getRequestURI().startsWith("/actuator"));
+    }
+}
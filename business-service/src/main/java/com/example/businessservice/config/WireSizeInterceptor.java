@@ -0,0 +1,79 @@
+package com.example.businessservice.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * Interceptor de red de OkHttp que mide los bytes de cada respuesta tal como llegan por la red,
+ * antes de descomprimirlos ({@code okhttp.response.wire.size}, por {@code encoding}).
+ *
+ * Comparado con {@code feign.client.response.size} (bytes ya descomprimidos) muestra cuánto
+ * ahorra la compresión.
+ */
+public class WireSizeInterceptor implements Interceptor {
+
+    private final MeterRegistry registry;
+
+    /**
+     * Crea el interceptor.
+     *
+     * @param registry el registro de métricas
+     */
+    public WireSizeInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        String encoding = response.header("Content-Encoding", "identity");
+        DistributionSummary summary = DistributionSummary.builder("okhttp.response.wire.size")
+                .baseUnit("bytes")
+                .tag("encoding", encoding)
+                .register(registry);
+        BufferedSource counting = Okio.buffer(new ForwardingSource(body.source()) {
+            private long bytes;
+            private boolean recorded;
+
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read == -1) {
+                    record();
+                } else {
+                    bytes += read;
+                }
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                record();
+                super.close();
+            }
+
+            private void record() {
+                if (!recorded) {
+                    recorded = true;
+                    summary.record(bytes);
+                }
+            }
+        });
+        return response.newBuilder()
+                .body(ResponseBody.create(counting, body.contentType(), body.contentLength()))
+                .build();
+    }
+}
@@ -2,18 +2,22 @@ package com.example.businessservice.controller;
 
 import com.example.businessservice.dto.CategoryDTO;
 import com.example.businessservice.service.CategoryService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de categorías en el servicio de negocio.
  */
 @RestController
+@Timed(value = "app.controller", histogram = true)
 @RequestMapping("/api/categories")
 public class CategoryController {
 
@@ -127,6 +131,24 @@ public class CategoryController {
         }
     }
 
+    /**
+     * PATCH /api/categories/{id} : Aplica un JSON Merge Patch a una categoría.
+     *
+     * @param id el ID del recurso a modificar
+     * @param patch los campos a modificar
+     * @return ResponseEntity con estado 200 (OK) y la categoría actualizada en el cuerpo,
+     *         o con estado 404 (Not Found) si la categoría no se encuentra
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CategoryDTO> patchCategory(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        CategoryDTO patchedCategory = categoryService.patchCategory(id, patch);
+        if (patchedCategory != null) {
+            return new ResponseEntity<>(patchedCategory, HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     // ==================== Métodos DELETE ====================
 
     /**
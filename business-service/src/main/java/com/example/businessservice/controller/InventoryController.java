@@ -2,18 +2,22 @@ package com.example.businessservice.controller;
 
 import com.example.businessservice.dto.InventoryDTO;
 import com.example.businessservice.service.InventoryService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de registros de inventario en el servicio de negocio.
  */
 @RestController
+@Timed(value = "app.controller", histogram = true)
 @RequestMapping("/api/inventory")
 public class InventoryController {
 
@@ -213,6 +217,24 @@ public class InventoryController {
         }
     }
 
+    /**
+     * PATCH /api/inventory/{id} : Aplica un JSON Merge Patch a un registro de inventario.
+     *
+     * @param id el ID del recurso a modificar
+     * @param patch los campos a modificar
+     * @return ResponseEntity con estado 200 (OK) y el registro de inventario actualizado en el cuerpo,
+     *         o con estado 404 (Not Found) si el registro de inventario no se encuentra
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<InventoryDTO> patchInventoryItem(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        InventoryDTO patchedInventory = inventoryService.patchInventoryItem(id, patch);
+        if (patchedInventory != null) {
+            return new ResponseEntity<>(patchedInventory, HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     // ==================== Métodos DELETE ====================
 
     /**
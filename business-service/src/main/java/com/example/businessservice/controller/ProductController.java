@@ -1,20 +1,25 @@
 package com.example.businessservice.controller;
 
+import com.example.businessservice.dto.BulkUpdateResponse;
 import com.example.businessservice.dto.ProductDTO;
 import com.example.businessservice.service.ProductService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de productos en el servicio de negocio.
  */
 @RestController
+@Timed(value = "app.controller", histogram = true)
 @RequestMapping("/api/products")
 public class ProductController {
 
@@ -173,6 +178,24 @@ public class ProductController {
         }
     }
 
+    /**
+     * PATCH /api/products/{id} : Aplica un JSON Merge Patch a un producto.
+     *
+     * @param id el ID del recurso a modificar
+     * @param patch los campos a modificar
+     * @return ResponseEntity con estado 200 (OK) y el producto actualizado en el cuerpo,
+     *         o con estado 404 (Not Found) si el producto no se encuentra
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProductDTO> patchProduct(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        ProductDTO patchedProduct = productService.patchProduct(id, patch);
+        if (patchedProduct != null) {
+            return new ResponseEntity<>(patchedProduct, HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     /**
      * PUT /api/products/{productId}/category/{categoryId} : Asigna una categoría a un producto.
      *
@@ -192,6 +215,54 @@ public class ProductController {
         }
     }
 
+    /**
+     * PUT /api/products/category/{categoryId}/price : Ajusta el precio de todos los productos de una categoría.
+     *
+     * @param categoryId el ID de la categoría
+     * @param percentage el porcentaje de ajuste (opcional, excluyente con amount)
+     * @param amount el importe fijo a sumar (opcional, excluyente con percentage)
+     * @return ResponseEntity con estado 200 (OK) y el número de productos actualizados en el cuerpo,
+     *         o con estado 400 (Bad Request) si no se indica exactamente un ajuste o algún precio quedaría
+     *         en cero o negativo, o con estado 404 (Not Found) si la categoría no se encuentra,
+     *         o con estado 500 (Internal Server Error) si ocurre un error
+     */
+    @PutMapping("/category/{categoryId}/price")
+    public ResponseEntity<BulkUpdateResponse> adjustPricesByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) BigDecimal percentage,
+            @RequestParam(required = false) BigDecimal amount) {
+        if ((percentage == null) == (amount == null)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        BulkUpdateResponse result = productService.adjustPricesByCategory(categoryId, percentage, amount);
+        if (result != null) {
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * PUT /api/products/category/{sourceCategoryId}/move/{targetCategoryId} : Mueve todos los productos
+     * de una categoría a otra.
+     *
+     * @param sourceCategoryId el ID de la categoría de origen
+     * @param targetCategoryId el ID de la categoría de destino
+     * @return ResponseEntity con estado 200 (OK) y el número de productos actualizados en el cuerpo,
+     *         o con estado 404 (Not Found) si alguna de las categorías no se encuentra,
+     *         o con estado 500 (Internal Server Error) si ocurre un error
+     */
+    @PutMapping("/category/{sourceCategoryId}/move/{targetCategoryId}")
+    public ResponseEntity<BulkUpdateResponse> moveProductsToCategory(
+            @PathVariable Long sourceCategoryId, @PathVariable Long targetCategoryId) {
+        BulkUpdateResponse result = productService.moveProductsToCategory(sourceCategoryId, targetCategoryId);
+        if (result != null) {
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     // ==================== Métodos DELETE ====================
 
     /**
@@ -222,4 +293,23 @@ public class ProductController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
+
+    /**
+     * DELETE /api/products/category/{categoryId}/assignments : Remueve la categoría de todos los productos
+     * que la tienen asignada.
+     *
+     * @param categoryId el ID de la categoría
+     * @return ResponseEntity con estado 200 (OK) y el número de productos actualizados en el cuerpo,
+     *         o con estado 404 (Not Found) si la categoría no se encuentra,
+     *         o con estado 500 (Internal Server Error) si ocurre un error
+     */
+    @DeleteMapping("/category/{categoryId}/assignments")
+    public ResponseEntity<BulkUpdateResponse> removeCategoryFromProducts(@PathVariable Long categoryId) {
+        BulkUpdateResponse result = productService.removeCategoryFromProducts(categoryId);
+        if (result != null) {
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
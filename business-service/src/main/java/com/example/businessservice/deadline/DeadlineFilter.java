@@ -0,0 +1,77 @@
+package com.example.businessservice.deadline;
+
+import com.example.common.deadline.Deadline;
+import com.example.common.deadline.DeadlineMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro que asigna a cada petición un plazo según el presupuesto de su endpoint
+ * ({@link DeadlineProperties}). Si el llamante envía la cabecera {@link Deadline#HEADER}
+ * se usa el menor de los dos; si ya llega vencida se responde 504 sin procesarla.
+ *
+ * Los clientes Feign acortan sus timeouts al tiempo restante y lo propagan al data-service.
+ * Las peticiones a {@code /actuator} no tienen plazo.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@EnableConfigurationProperties(DeadlineProperties.class)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+    private final DeadlineMetrics metrics;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param properties presupuestos por endpoint
+     * @param metrics contador de plazos vencidos
+     */
+    public DeadlineFilter(DeadlineProperties properties, DeadlineMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long budget = properties.budgetFor(request.getRequestURI());
+        String inbound = request.getHeader(Deadline.HEADER);
+        if (inbound != null) {
+            try {
+                budget = Math.min(budget, Long.parseLong(inbound.trim()));
+            } catch (NumberFormatException e) {
+                // Cabecera mal formada: se aplica solo el presupuesto del endpoint
+            }
+            if (budget <= 0) {
+                metrics.expired("arrival");
+                response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Request deadline expired before processing");
+                return;
+            }
+        }
+        Deadline deadline = Deadline.afterMillis(budget);
+        Deadline previous = Deadline.set(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.set(previous);
+            if (deadline.isExpired()) {
+                metrics.expired("request");
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.businessservice.deadline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Presupuestos de tiempo por endpoint ({@code deadline.*}).
+ *
+ * Cada petición recibe el presupuesto del primer patrón de {@code deadline.endpoints} que
+ * coincide con su ruta (en orden de declaración) o, si ninguno coincide, el presupuesto por
+ * defecto. Ejemplo: {@code deadline.endpoints.[/api/products/*]=1000}.
+ */
+@ConfigurationProperties("deadline")
+public class DeadlineProperties {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    /** Si se asigna y propaga un plazo a cada petición. */
+    private boolean enabled = true;
+
+    /** Presupuesto en milisegundos de las rutas sin patrón propio. */
+    private long defaultBudgetMs = 5000;
+
+    /** Presupuesto en milisegundos por patrón de ruta (estilo Ant). */
+    private Map<String, Long> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Obtiene el presupuesto de una ruta.
+     *
+     * @param path la ruta de la petición
+     * @return el presupuesto en milisegundos
+     */
+    public long budgetFor(String path) {
+        for (Map.Entry<String, Long> entry : endpoints.entrySet()) {
+            if (PATH_MATCHER.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return defaultBudgetMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getDefaultBudgetMs() {
+        return defaultBudgetMs;
+    }
+
+    public void setDefaultBudgetMs(long defaultBudgetMs) {
+        this.defaultBudgetMs = defaultBudgetMs;
+    }
+
+    public Map<String, Long> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Long> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.businessservice.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una llamada HTTP de un cliente Feign al data-service. La duración incluye
+ * la lectura del cuerpo de la respuesta cuando su tamaño no se conoce de antemano.
+ */
+@Name("com.example.FeignCall")
+@Label("Feign Call")
+@Description("HTTP attempt made by a Feign client method")
+@Category({"Microservices", "Feign"})
+@StackTrace(false)
+public class FeignCallEvent extends jdk.jfr.Event {
+
+    @Label("Client")
+    public String client;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Status")
+    @Description("HTTP status, or -1 if no response was received")
+    public int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long responseBytes;
+}
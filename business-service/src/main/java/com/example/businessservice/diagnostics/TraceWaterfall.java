@@ -0,0 +1,107 @@
+package com.example.businessservice.diagnostics;
+
+import com.example.common.diagnostics.TraceSpan;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Representación en texto de una traza como diagrama de cascada: un span por línea,
+ * sangrado según su profundidad y con una barra proporcional a su posición y duración.
+ *
+ * <pre>
+ *   offset ms   dur ms  service           span
+ *        0.00    23.41  business-service  http get /api/inventory/product/{productId}  |##############################|
+ *        0.35    22.80  business-service    InventoryController.getInventoryByProductId  | #############################|
+ * </pre>
+ */
+public final class TraceWaterfall {
+
+    private static final int BAR_WIDTH = 40;
+
+    private TraceWaterfall() {
+    }
+
+    /**
+     * Dibuja los spans de una traza, que pueden proceder de varios servicios.
+     *
+     * @param traceId el ID de la traza
+     * @param spans los spans (en cualquier orden; los duplicados por ID se ignoran)
+     * @return el diagrama en texto
+     */
+    public static String render(String traceId, List<TraceSpan> spans) {
+        if (spans.isEmpty()) {
+            return "Trace " + traceId + " not found\n";
+        }
+        Map<String, TraceSpan> byId = new HashMap<>();
+        for (TraceSpan span : spans) {
+            byId.putIfAbsent(span.spanId(), span);
+        }
+        Map<String, List<TraceSpan>> children = new HashMap<>();
+        List<TraceSpan> roots = new ArrayList<>();
+        for (TraceSpan span : byId.values()) {
+            if (span.parentSpanId() != null && byId.containsKey(span.parentSpanId())) {
+                children.computeIfAbsent(span.parentSpanId(), id -> new ArrayList<>()).add(span);
+            } else {
+                roots.add(span);
+            }
+        }
+        long start = byId.values().stream().mapToLong(TraceSpan::startEpochNanos).min().orElse(0);
+        long end = byId.values().stream().mapToLong(TraceSpan::endEpochNanos).max().orElse(start);
+        long total = Math.max(end - start, 1);
+
+        List<String[]> rows = new ArrayList<>();
+        roots.sort(Comparator.comparingLong(TraceSpan::startEpochNanos));
+        Set<String> visited = new HashSet<>();
+        for (TraceSpan root : roots) {
+            addRows(root, 0, children, visited, start, total, rows);
+        }
+
+        int serviceWidth = "service".length();
+        int nameWidth = "span".length();
+        for (String[] row : rows) {
+            serviceWidth = Math.max(serviceWidth, row[2].length());
+            nameWidth = Math.max(nameWidth, row[3].length());
+        }
+        String format = "%10s %8s  %-" + serviceWidth + "s  %-" + nameWidth + "s  %s%n";
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Trace %s  %.2f ms  %d spans%n%n", traceId, total / 1_000_000.0, byId.size()));
+        out.append(String.format(Locale.ROOT, format, "offset ms", "dur ms", "service", "span", ""));
+        for (String[] row : rows) {
+            out.append(String.format(Locale.ROOT, format, (Object[]) row));
+        }
+        return out.toString();
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static void addRows(TraceSpan span, int depth, Map<String, List<TraceSpan>> children, Set<String> visited,
+                                long traceStart, long total, List<String[]> rows) {
+        if (!visited.add(span.spanId())) {
+            return;
+        }
+        long offset = span.startEpochNanos() - traceStart;
+        int from = (int) Math.min(offset * BAR_WIDTH / total, BAR_WIDTH - 1);
+        int length = (int) ((span.endEpochNanos() - span.startEpochNanos()) * BAR_WIDTH / total);
+        length = Math.max(1, Math.min(length, BAR_WIDTH - from));
+        String bar = "|" + " ".repeat(from) + (span.error() ? "!" : "#").repeat(length)
+                + " ".repeat(BAR_WIDTH - from - length) + "|";
+        rows.add(new String[]{
+                String.format(Locale.ROOT, "%.2f", offset / 1_000_000.0),
+                String.format(Locale.ROOT, "%.2f", span.durationMs()),
+                span.service() != null ? span.service() : "?",
+                "  ".repeat(depth) + span.name(),
+                bar});
+        List<TraceSpan> spanChildren = children.getOrDefault(span.spanId(), new ArrayList<>());
+        spanChildren.sort(Comparator.comparingLong(TraceSpan::startEpochNanos));
+        for (TraceSpan child : spanChildren) {
+            addRows(child, depth + 1, children, visited, traceStart, total, rows);
+        }
+    }
+}
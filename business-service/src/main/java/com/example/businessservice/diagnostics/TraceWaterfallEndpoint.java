@@ -0,0 +1,72 @@
+package com.example.businessservice.diagnostics;
+
+import com.example.businessservice.client.TraceClient;
+import com.example.businessservice.routing.DataServiceInstance;
+import com.example.businessservice.routing.DataServiceInstancePool;
+import com.example.common.diagnostics.InMemorySpanStore;
+import com.example.common.diagnostics.TraceSpan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Endpoint de Actuator {@code /actuator/tracewaterfall/{traceId}} que combina los spans de
+ * una traza registrados en este servicio con los de cada instancia del servicio de datos y los muestra como
+ * diagrama de cascada en texto plano.
+ */
+@Component
+@Endpoint(id = "tracewaterfall")
+public class TraceWaterfallEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(TraceWaterfallEndpoint.class);
+
+    private final InMemorySpanStore spanStore;
+    private final TraceClient traceClient;
+    private final DataServiceInstancePool instancePool;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param spanStore almacén local de spans
+     * @param traceClient cliente para obtener los spans del servicio de datos
+     * @param instancePool instancias del servicio de datos
+     */
+    public TraceWaterfallEndpoint(InMemorySpanStore spanStore, TraceClient traceClient,
+                                  DataServiceInstancePool instancePool) {
+        this.spanStore = spanStore;
+        this.traceClient = traceClient;
+        this.instancePool = instancePool;
+    }
+
+    /**
+     * Dibuja la traza completa (business-service y data-service).
+     *
+     * @param traceId el ID de la traza
+     * @return el diagrama de cascada
+     */
+    @ReadOperation(produces = "text/plain")
+    public String waterfall(@Selector String traceId) {
+        List<TraceSpan> spans = new ArrayList<>(spanStore.getTrace(traceId));
+        StringBuilder note = new StringBuilder();
+        for (DataServiceInstance instance : instancePool.getInstances()) {
+            try {
+                List<TraceSpan> remote = traceClient.getTrace(instance.getBaseUrl(), traceId).getBody();
+                if (remote != null) {
+                    spans.addAll(remote);
+                }
+            } catch (RuntimeException e) {
+                log.warn("No se pudieron obtener los spans de {} para la traza {}: {}",
+                        instance.getBaseUrl(), traceId, e.getMessage());
+                note.append("\n(data-service spans unavailable from ").append(instance.getBaseUrl())
+                        .append(": ").append(e.getMessage()).append(")\n");
+            }
+        }
+        return TraceWaterfall.render(traceId, spans) + note;
+    }
+}
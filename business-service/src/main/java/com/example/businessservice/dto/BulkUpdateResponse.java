@@ -0,0 +1,44 @@
+package com.example.businessservice.dto;
+
+/**
+ * Objeto de transferencia de datos con el resultado de una operación masiva
+ * ejecutada en el servicio de datos.
+ */
+public class BulkUpdateResponse {
+
+    private int updated;
+
+    /**
+     * Constructor por defecto sin argumentos.
+     */
+    public BulkUpdateResponse() {
+    }
+
+    /**
+     * Constructor con el número de registros modificados.
+     *
+     * @param updated número de registros modificados
+     */
+    public BulkUpdateResponse(int updated) {
+        this.updated = updated;
+    }
+
+    // ==================== Getters y Setters ====================
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    // ==================== Métodos heredados ====================
+
+    @Override
+    public String toString() {
+        return "BulkUpdateResponse{" +
+                "updated=" + updated +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.businessservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a call to the data service is skipped because the request deadline has expired.
+ */
+public class DeadlineExceededException extends DataServiceException {
+
+    /**
+     * Constructs a new DeadlineExceededException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public DeadlineExceededException(String message) {
+        super(message, HttpStatus.GATEWAY_TIMEOUT);
+    }
+}
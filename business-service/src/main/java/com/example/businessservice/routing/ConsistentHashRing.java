@@ -0,0 +1,115 @@
+package com.example.businessservice.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Anillo de hash consistente con nodos virtuales.
+ *
+ * Cada nodo ocupa {@code virtualNodes} posiciones del anillo, derivadas solo de su nombre; una
+ * clave pertenece al primer nodo en sentido horario desde su hash. Al añadir o quitar un nodo
+ * solo cambian de dueño las claves de los tramos que ese nodo gana o pierde (en torno a
+ * 1/N del total), y los nodos virtuales reparten esos tramos entre todos los demás.
+ *
+ * Es inmutable: un cambio de miembros construye un anillo nuevo.
+ */
+public final class ConsistentHashRing {
+
+    private static final double RING_SIZE = Math.pow(2, 64);
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> nodes;
+    private final int virtualNodes;
+
+    /**
+     * Construye el anillo.
+     *
+     * @param nodes nombres de los nodos (por ejemplo, la URL base de cada shard)
+     * @param virtualNodes posiciones por nodo
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        this.nodes = List.copyOf(nodes);
+        this.virtualNodes = Math.max(1, virtualNodes);
+        for (String node : this.nodes) {
+            for (int i = 0; i < this.virtualNodes; i++) {
+                // En caso de colisión se queda el primero, igual en todas las instancias
+                ring.putIfAbsent(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * Nodo dueño de una clave.
+     *
+     * @param key la clave (por ejemplo, el ID del producto)
+     * @return el nodo, o {@code null} si el anillo está vacío
+     */
+    public String owner(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    /**
+     * Fracción del espacio de claves que corresponde a cada nodo.
+     *
+     * @return la fracción por nodo, en el orden de los nodos
+     */
+    public Map<String, Double> ownership() {
+        Map<String, Double> shares = new LinkedHashMap<>();
+        nodes.forEach(node -> shares.put(node, 0.0));
+        if (ring.isEmpty()) {
+            return shares;
+        }
+        long previous = ring.lastKey();
+        for (Map.Entry<Long, String> point : ring.entrySet()) {
+            // Tramo (previous, point] recorrido en sentido horario, como entero sin signo
+            long range = point.getKey() - previous;
+            double size = range == 0 && ring.size() == 1 ? RING_SIZE : unsigned(range);
+            shares.merge(point.getValue(), size / RING_SIZE, Double::sum);
+            previous = point.getKey();
+        }
+        return shares;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Primeros 64 bits del MD5: estable entre JVMs y bien repartido incluso para claves
+     * consecutivas como los IDs numéricos.
+     */
+    static long hash(String value) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+        long hash = 0;
+        for (int i = 0; i < 8; i++) {
+            hash = (hash << 8) | (digest[i] & 0xff);
+        }
+        return hash;
+    }
+
+    private static double unsigned(long value) {
+        return value >= 0 ? value : (value >>> 1) * 2.0 + (value & 1);
+    }
+}
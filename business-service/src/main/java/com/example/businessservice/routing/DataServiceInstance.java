@@ -0,0 +1,169 @@
+package com.example.businessservice.routing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de una instancia del data-service: peticiones en curso, latencia media móvil
+ * (EWMA con pico), fallos consecutivos y expulsión temporal.
+ */
+public class DataServiceInstance {
+
+    private final String baseUrl;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong ejections = new AtomicLong();
+    private volatile long ejectedUntilNanos = System.nanoTime();
+    private volatile boolean healthy = true;
+    private double ewmaNanos;
+    private long ewmaUpdatedNanos = System.nanoTime();
+
+    /**
+     * Crea la instancia.
+     *
+     * @param baseUrl URL base (sin barra final)
+     */
+    public DataServiceInstance(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Indica si la instancia puede recibir tráfico: no está expulsada y la última
+     * comprobación de salud fue correcta.
+     *
+     * @return true si está disponible
+     */
+    public boolean isAvailable() {
+        return healthy && System.nanoTime() - ejectedUntilNanos >= 0;
+    }
+
+    /**
+     * Latencia media móvil actual.
+     *
+     * @return la latencia en nanosegundos
+     */
+    public synchronized double getEwmaNanos() {
+        return ewmaNanos;
+    }
+
+    /**
+     * Coste estimado de enviar una petición más a la instancia (menor es mejor).
+     *
+     * @param strategy la estrategia de selección
+     * @return el coste
+     */
+    public double cost(DataServiceProperties.Strategy strategy) {
+        int inFlight = outstanding.get();
+        return strategy == DataServiceProperties.Strategy.LEAST_OUTSTANDING
+                ? inFlight
+                : (getEwmaNanos() + 1) * (inFlight + 1);
+    }
+
+    /**
+     * Marca el inicio de una petición.
+     */
+    public void start() {
+        outstanding.incrementAndGet();
+        requests.incrementAndGet();
+    }
+
+    /**
+     * Marca el fin de una petición y actualiza la latencia y los fallos consecutivos.
+     *
+     * @param latencyNanos duración de la petición
+     * @param failed si falló por E/S o respondió 5xx
+     * @param ejection configuración de expulsión
+     * @param decayNanos constante de tiempo de la media móvil
+     */
+    public void finish(long latencyNanos, boolean failed, DataServiceProperties.Ejection ejection, long decayNanos) {
+        outstanding.decrementAndGet();
+        updateEwma(latencyNanos, decayNanos);
+        if (!failed) {
+            consecutiveFailures.set(0);
+            return;
+        }
+        failures.incrementAndGet();
+        if (consecutiveFailures.incrementAndGet() >= ejection.getConsecutiveFailures()) {
+            consecutiveFailures.set(0);
+            eject(ejection.getDurationMs());
+        }
+    }
+
+    /**
+     * Expulsa la instancia durante el tiempo indicado.
+     *
+     * @param durationMs duración de la expulsión
+     */
+    public void eject(long durationMs) {
+        ejectedUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        ejections.incrementAndGet();
+    }
+
+    public void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getEjections() {
+        return ejections.get();
+    }
+
+    /**
+     * Resumen para el endpoint de Actuator.
+     *
+     * @return el estado de la instancia
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("url", baseUrl);
+        snapshot.put("available", isAvailable());
+        snapshot.put("healthy", healthy);
+        snapshot.put("outstanding", outstanding.get());
+        snapshot.put("ewmaLatencyMs", getEwmaNanos() / 1_000_000.0);
+        snapshot.put("requests", requests.get());
+        snapshot.put("failures", failures.get());
+        snapshot.put("ejections", ejections.get());
+        return snapshot;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * EWMA con pico: una latencia mayor que la media la sustituye de inmediato (reacción rápida
+     * a una instancia que se degrada) y las menores la hacen decaer según el tiempo transcurrido.
+     */
+    private synchronized void updateEwma(long latencyNanos, long decayNanos) {
+        long now = System.nanoTime();
+        if (latencyNanos > ewmaNanos) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(double) (now - ewmaUpdatedNanos) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+        }
+        ewmaUpdatedNanos = now;
+    }
+}
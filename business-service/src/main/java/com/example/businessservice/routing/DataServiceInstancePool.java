@@ -0,0 +1,320 @@
+package com.example.businessservice.routing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conjunto de instancias del data-service entre las que se reparten las llamadas Feign.
+ *
+ * La selección usa "potencia de dos opciones": se eligen dos instancias disponibles al azar y
+ * se queda la de menor coste según la estrategia configurada (peticiones en curso o EWMA de
+ * latencia). Una instancia se expulsa temporalmente tras varios fallos consecutivos y deja de
+ * recibir tráfico mientras su comprobación de salud falle; si ninguna está disponible se usan
+ * todas, para no rechazar tráfico por una comprobación demasiado estricta.
+ *
+ * Un hilo de fondo relee el fichero de instancias y comprueba la salud de cada una en cada
+ * intervalo. Métricas por instancia (etiqueta {@code instance}):
+ * {@code data-service.instance.outstanding}, {@code data-service.instance.latency.ewma},
+ * {@code data-service.instance.available}, {@code data-service.instance.requests},
+ * {@code data-service.instance.failures} y {@code data-service.instance.ejections}.
+ */
+@Component
+@EnableConfigurationProperties(DataServiceProperties.class)
+public class DataServiceInstancePool implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(DataServiceInstancePool.class);
+
+    private final DataServiceProperties properties;
+    private final OkHttpClient healthClient;
+    private final MeterRegistry registry;
+    private final Map<String, DataServiceInstance> byUrl = new ConcurrentHashMap<>();
+    private final Map<String, List<Meter>> meters = new ConcurrentHashMap<>();
+    private volatile List<DataServiceInstance> instances = List.of();
+    private volatile ConsistentHashRing shardRing;
+    private volatile long instancesFileModified = -1;
+    private volatile List<String> fileInstances = List.of();
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param properties configuración de las instancias
+     * @param okHttpClient cliente OkHttp compartido (para las comprobaciones de salud)
+     * @param registry el registro de métricas
+     */
+    public DataServiceInstancePool(DataServiceProperties properties, OkHttpClient okHttpClient, MeterRegistry registry) {
+        this.properties = properties;
+        this.healthClient = okHttpClient.newBuilder()
+                .callTimeout(properties.getHealthCheck().getTimeoutMs(), TimeUnit.MILLISECONDS)
+                .build();
+        this.registry = registry;
+        refreshInstances();
+    }
+
+    /**
+     * URL lógica que usan los clientes Feign, sin barra final.
+     *
+     * @return la URL lógica
+     */
+    public String getLogicalUrl() {
+        return normalize(properties.getUrl());
+    }
+
+    /**
+     * Instancias actuales, en el orden configurado.
+     *
+     * @return las instancias
+     */
+    public List<DataServiceInstance> getInstances() {
+        return instances;
+    }
+
+    /**
+     * Indica si cada instancia es un shard con su parte del catálogo.
+     *
+     * @return true si el modo de particionado está activo
+     */
+    public boolean isSharded() {
+        return properties.getSharding().isEnabled();
+    }
+
+    /**
+     * Anillo de hash consistente de las instancias actuales (shards).
+     *
+     * @return el anillo
+     */
+    public ConsistentHashRing getShardRing() {
+        return shardRing;
+    }
+
+    /**
+     * Busca una instancia por su URL base.
+     *
+     * @param baseUrl la URL base (con o sin barra final)
+     * @return la instancia, o {@code null} si no forma parte del conjunto
+     */
+    public DataServiceInstance find(String baseUrl) {
+        return byUrl.get(normalize(baseUrl));
+    }
+
+    /**
+     * Elige la instancia para la siguiente llamada.
+     *
+     * @return la instancia elegida
+     */
+    public DataServiceInstance choose() {
+        List<DataServiceInstance> current = instances;
+        List<DataServiceInstance> available = new ArrayList<>(current.size());
+        for (DataServiceInstance instance : current) {
+            if (instance.isAvailable()) {
+                available.add(instance);
+            }
+        }
+        List<DataServiceInstance> candidates = available.isEmpty() ? current : available;
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        DataServiceInstance a = candidates.get(first);
+        DataServiceInstance b = candidates.get(second);
+        DataServiceProperties.Strategy strategy = properties.getLoadBalancer().getStrategy();
+        return a.cost(strategy) <= b.cost(strategy) ? a : b;
+    }
+
+    /**
+     * Registra el resultado de una llamada a una instancia.
+     *
+     * @param instance la instancia
+     * @param latencyNanos duración de la llamada
+     * @param failed si falló por E/S o respondió 5xx
+     */
+    public void recordResult(DataServiceInstance instance, long latencyNanos, boolean failed) {
+        instance.finish(latencyNanos, failed, properties.getEjection(),
+                TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getLoadBalancer().getEwmaDecayMs())));
+    }
+
+    /**
+     * Estrategia de selección configurada.
+     *
+     * @return la estrategia
+     */
+    public DataServiceProperties.Strategy getStrategy() {
+        return properties.getLoadBalancer().getStrategy();
+    }
+
+    // ==================== Ciclo de vida ====================
+
+    @Override
+    public void start() {
+        running = true;
+        long interval = properties.getHealthCheck().getIntervalMs();
+        if (interval > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "data-service-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::refreshAndCheck, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private void refreshAndCheck() {
+        try {
+            refreshInstances();
+            for (DataServiceInstance instance : instances) {
+                checkHealth(instance);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Error refreshing data-service instances", e);
+        }
+    }
+
+    private void checkHealth(DataServiceInstance instance) {
+        okhttp3.Request request = new okhttp3.Request.Builder()
+                .url(instance.getBaseUrl() + properties.getHealthCheck().getPath())
+                .get()
+                .build();
+        boolean healthy;
+        try (Response response = healthClient.newCall(request).execute()) {
+            healthy = response.isSuccessful();
+        } catch (IOException e) {
+            healthy = false;
+        }
+        if (instance.isHealthy() != healthy) {
+            log.info("data-service instance {} is now {}", instance.getBaseUrl(), healthy ? "healthy" : "unhealthy");
+        }
+        instance.setHealthy(healthy);
+    }
+
+    /**
+     * Recalcula la lista de instancias (propiedades + fichero) conservando el estado de las
+     * que siguen presentes y dando de baja las métricas de las retiradas.
+     */
+    private synchronized void refreshInstances() {
+        Set<String> urls = new LinkedHashSet<>();
+        for (String url : properties.getInstances()) {
+            if (url != null && !url.isBlank()) {
+                urls.add(normalize(url));
+            }
+        }
+        urls.addAll(readInstancesFile());
+        if (urls.isEmpty() && properties.getUrl() != null) {
+            urls.add(getLogicalUrl());
+        }
+        List<DataServiceInstance> updated = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            updated.add(byUrl.computeIfAbsent(url, this::register));
+        }
+        for (String url : List.copyOf(byUrl.keySet())) {
+            if (!urls.contains(url)) {
+                byUrl.remove(url);
+                meters.getOrDefault(url, List.of()).forEach(registry::remove);
+                meters.remove(url);
+                log.info("data-service instance {} removed", url);
+            }
+        }
+        if (shardRing == null || !shardRing.getNodes().equals(List.copyOf(urls))) {
+            shardRing = new ConsistentHashRing(urls, properties.getSharding().getVirtualNodes());
+            if (isSharded()) {
+                log.info("data-service shard ring: {}", shardRing.ownership());
+            }
+        }
+        instances = List.copyOf(updated);
+    }
+
+    private List<String> readInstancesFile() {
+        String file = properties.getInstancesFile();
+        if (file == null || file.isBlank()) {
+            return List.of();
+        }
+        Path path = Path.of(file);
+        try {
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (modified != instancesFileModified) {
+                List<String> urls = new ArrayList<>();
+                for (String line : Files.readAllLines(path)) {
+                    String url = line.strip();
+                    if (!url.isEmpty() && !url.startsWith("#")) {
+                        urls.add(normalize(url));
+                    }
+                }
+                fileInstances = List.copyOf(urls);
+                instancesFileModified = modified;
+            }
+        } catch (IOException e) {
+            log.warn("Cannot read data-service instances file {}: {}", file, e.getMessage());
+        }
+        return fileInstances;
+    }
+
+    private DataServiceInstance register(String url) {
+        DataServiceInstance instance = new DataServiceInstance(url);
+        meters.put(url, List.of(
+                Gauge.builder("data-service.instance.outstanding", instance, DataServiceInstance::getOutstanding)
+                        .tag("instance", url).register(registry),
+                Gauge.builder("data-service.instance.latency.ewma", instance, i -> i.getEwmaNanos() / 1_000_000.0)
+                        .tag("instance", url).baseUnit("milliseconds").register(registry),
+                Gauge.builder("data-service.instance.available", instance, i -> i.isAvailable() ? 1 : 0)
+                        .tag("instance", url).register(registry),
+                FunctionCounter.builder("data-service.instance.requests", instance, DataServiceInstance::getRequests)
+                        .tag("instance", url).register(registry),
+                FunctionCounter.builder("data-service.instance.failures", instance, DataServiceInstance::getFailures)
+                        .tag("instance", url).register(registry),
+                FunctionCounter.builder("data-service.instance.ejections", instance, DataServiceInstance::getEjections)
+                        .tag("instance", url).register(registry)));
+        log.info("data-service instance {} added", url);
+        return instance;
+    }
+
+    private static String normalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.strip();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
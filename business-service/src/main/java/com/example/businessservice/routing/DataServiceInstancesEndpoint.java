@@ -0,0 +1,52 @@
+package com.example.businessservice.routing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/dataservice} con el estado de cada instancia del
+ * data-service: disponibilidad, peticiones en curso, latencia media y expulsiones. En modo
+ * particionado incluye la fracción de claves que corresponde a cada shard.
+ */
+@Component
+@Endpoint(id = "dataservice")
+public class DataServiceInstancesEndpoint {
+
+    private final DataServiceInstancePool pool;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param pool las instancias del data-service
+     */
+    public DataServiceInstancesEndpoint(DataServiceInstancePool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Obtiene el estado de las instancias.
+     *
+     * @return la estrategia y el estado de cada instancia
+     */
+    @ReadOperation
+    public Map<String, Object> instances() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("logicalUrl", pool.getLogicalUrl());
+        result.put("strategy", pool.getStrategy());
+        List<Map<String, Object>> instances = pool.getInstances().stream().map(DataServiceInstance::snapshot).toList();
+        result.put("instances", instances);
+        if (pool.isSharded()) {
+            ConsistentHashRing ring = pool.getShardRing();
+            Map<String, Object> sharding = new LinkedHashMap<>();
+            sharding.put("virtualNodes", ring.getVirtualNodes());
+            sharding.put("ownership", ring.ownership());
+            result.put("sharding", sharding);
+        }
+        return result;
+    }
+}
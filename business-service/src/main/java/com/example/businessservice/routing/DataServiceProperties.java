@@ -0,0 +1,208 @@
+package com.example.businessservice.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las instancias del data-service ({@code data-service.*}).
+ *
+ * {@code data-service.url} es la URL lógica que usan los clientes Feign; las peticiones se
+ * reparten entre las instancias de {@code data-service.instances} y/o las del fichero
+ * {@code data-service.instances-file} (una URL por línea, se relee al cambiar). Sin instancias
+ * configuradas se usa {@code data-service.url} como única instancia.
+ */
+@ConfigurationProperties("data-service")
+public class DataServiceProperties {
+
+    /** URL lógica del data-service usada por los clientes Feign. */
+    private String url;
+
+    /** URLs base de las instancias. */
+    private List<String> instances = new ArrayList<>();
+
+    /** Fichero opcional con una URL de instancia por línea (líneas vacías y # se ignoran). */
+    private String instancesFile;
+
+    private final LoadBalancer loadBalancer = new LoadBalancer();
+
+    private final Ejection ejection = new Ejection();
+
+    private final HealthCheck healthCheck = new HealthCheck();
+
+    private final Sharding sharding = new Sharding();
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public List<String> getInstances() {
+        return instances;
+    }
+
+    public void setInstances(List<String> instances) {
+        this.instances = instances;
+    }
+
+    public String getInstancesFile() {
+        return instancesFile;
+    }
+
+    public void setInstancesFile(String instancesFile) {
+        this.instancesFile = instancesFile;
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public Ejection getEjection() {
+        return ejection;
+    }
+
+    public HealthCheck getHealthCheck() {
+        return healthCheck;
+    }
+
+    public Sharding getSharding() {
+        return sharding;
+    }
+
+    /**
+     * Estrategia de selección de instancia.
+     */
+    public enum Strategy {
+        /** La instancia con menos peticiones en curso. */
+        LEAST_OUTSTANDING,
+        /** La instancia con menor latencia media móvil (EWMA) ponderada por peticiones en curso. */
+        EWMA
+    }
+
+    /**
+     * {@code data-service.load-balancer.*}
+     */
+    public static class LoadBalancer {
+
+        /** Estrategia de selección entre dos instancias sanas elegidas al azar. */
+        private Strategy strategy = Strategy.EWMA;
+
+        /** Constante de tiempo (ms) con la que decae la latencia media móvil. */
+        private long ewmaDecayMs = 10_000;
+
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        public void setStrategy(Strategy strategy) {
+            this.strategy = strategy;
+        }
+
+        public long getEwmaDecayMs() {
+            return ewmaDecayMs;
+        }
+
+        public void setEwmaDecayMs(long ewmaDecayMs) {
+            this.ewmaDecayMs = ewmaDecayMs;
+        }
+    }
+
+    /**
+     * {@code data-service.ejection.*}
+     */
+    public static class Ejection {
+
+        /** Fallos consecutivos (E/S o 5xx) tras los que se expulsa una instancia. */
+        private int consecutiveFailures = 3;
+
+        /** Tiempo (ms) que una instancia expulsada deja de recibir tráfico. */
+        private long durationMs = 30_000;
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        public void setConsecutiveFailures(int consecutiveFailures) {
+            this.consecutiveFailures = consecutiveFailures;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        public void setDurationMs(long durationMs) {
+            this.durationMs = durationMs;
+        }
+    }
+
+    /**
+     * {@code data-service.health-check.*}
+     */
+    public static class HealthCheck {
+
+        /** Intervalo (ms) entre comprobaciones activas; 0 las desactiva. */
+        private long intervalMs = 5_000;
+
+        /** Ruta de salud consultada en cada instancia. */
+        private String path = "/actuator/health";
+
+        /** Timeout (ms) de cada comprobación. */
+        private long timeoutMs = 1_000;
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+    }
+
+    /**
+     * {@code data-service.sharding.*}
+     */
+    public static class Sharding {
+
+        /** Si cada instancia es un shard con su parte del catálogo en lugar de una réplica. */
+        private boolean enabled = false;
+
+        /** Nodos virtuales por shard en el anillo de hash consistente. */
+        private int virtualNodes = 160;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+    }
+}
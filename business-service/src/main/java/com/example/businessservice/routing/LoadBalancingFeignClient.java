@@ -0,0 +1,87 @@
+package com.example.businessservice.routing;
+
+import com.example.common.deadline.Deadline;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cliente Feign que reparte las llamadas al data-service entre sus instancias: sustituye la
+ * URL lógica ({@code data-service.url}) por la de la instancia elegida en
+ * {@link DataServiceInstancePool} y le notifica la latencia y el resultado de cada llamada.
+ *
+ * Las peticiones a otras URLs se delegan sin cambios. Una petición con la cabecera
+ * {@link #INSTANCE_HEADER} se dirige a esa instancia concreta en lugar de a la elegida por el
+ * balanceador (la cabecera no se envía).
+ *
+ * Solo los 5xx cuentan como fallo de la instancia. Un 504 a una petición con plazo
+ * ({@link Deadline#HEADER}) indica que se agotó el plazo del llamante, no que la instancia falle,
+ * y un 429 de la cola de escrituras es un rechazo deliberado por carga; ninguno la acerca a la expulsión.
+ */
+public class LoadBalancingFeignClient implements Client {
+
+    /** Cabecera con la URL base de la instancia a la que se fija la petición. */
+    public static final String INSTANCE_HEADER = "X-Data-Service-Instance";
+
+    private final Client delegate;
+    private final DataServiceInstancePool pool;
+
+    /**
+     * Crea el cliente.
+     *
+     * @param delegate el cliente que realiza la llamada
+     * @param pool las instancias del data-service
+     */
+    public LoadBalancingFeignClient(Client delegate, DataServiceInstancePool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String logicalUrl = pool.getLogicalUrl();
+        if (logicalUrl == null || !request.url().startsWith(logicalUrl)) {
+            return delegate.execute(request, options);
+        }
+        Map<String, Collection<String>> headers = request.headers();
+        DataServiceInstance instance;
+        Collection<String> pinned = headers.get(INSTANCE_HEADER);
+        if (pinned != null && !pinned.isEmpty()) {
+            instance = pool.find(pinned.iterator().next());
+            if (instance == null) {
+                throw new IOException("Unknown data-service instance: " + pinned.iterator().next());
+            }
+            headers = new LinkedHashMap<>(headers);
+            headers.remove(INSTANCE_HEADER);
+        } else {
+            instance = pool.choose();
+        }
+        Request routed = Request.create(request.httpMethod(),
+                instance.getBaseUrl() + request.url().substring(logicalUrl.length()),
+                headers, request.body(), request.charset(), request.requestTemplate());
+        instance.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Response response = delegate.execute(routed, options);
+            failed = response.status() >= 500 && !isDeadlineExpired(routed, response);
+            return response;
+        } finally {
+            pool.recordResult(instance, System.nanoTime() - start, failed);
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Indica si la respuesta es el 504 con que el data-service rechaza una petición cuyo plazo venció.
+     */
+    private static boolean isDeadlineExpired(Request request, Response response) {
+        return response.status() == 504 && request.headers().containsKey(Deadline.HEADER);
+    }
+}
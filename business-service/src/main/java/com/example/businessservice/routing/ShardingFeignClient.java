@@ -0,0 +1,465 @@
+package com.example.businessservice.routing;
+
+import com.example.businessservice.config.IdempotentRetryer;
+import com.example.businessservice.exception.DataServiceException;
+import com.example.common.deadline.Deadline;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cliente Feign para un data-service particionado: cada instancia es un shard que guarda una
+ * parte de los productos y su inventario, repartidos por ID con un {@link ConsistentHashRing}.
+ *
+ * Los IDs son globales: en cada alta el cliente asigna el ID ({@link #ASSIGNED_ID_HEADER}) antes
+ * de insertar, de modo que el shard dueño de ese ID según el anillo sea el que guarda la fila. El
+ * inventario recibe un ID cuyo dueño es el shard de su producto, así que un ID de producto o de
+ * inventario identifica una única fila y su shard. El ID se deriva de la clave de idempotencia,
+ * para que los reintentos de un alta vayan al mismo shard con el mismo ID.
+ *
+ * <ul>
+ *   <li>Las llamadas por ID (producto y sus subrecursos, inventario por su ID o por producto) van
+ *       al shard dueño. Si responde 404, una lectura se prueba en el resto de shards; una escritura
+ *       se envía solo al shard que tenga el recurso, localizado con una lectura, por si tras un cambio
+ *       de miembros sus datos aún no se han movido.</li>
+ *   <li>El alta de inventario va al shard que guarda su producto.</li>
+ *   <li>El resto de lecturas de productos e inventario (listados, búsquedas) se envían en paralelo a
+ *       todos los shards y se combinan: las listas se concatenan ordenadas por ID, los contadores se
+ *       suman y en otro caso se devuelve la primera respuesta correcta.</li>
+ *   <li>Las escrituras masivas por categoría se aplican en todos los shards, porque los productos
+ *       de una categoría están repartidos; se suman los contadores y falla si falla algún shard.</li>
+ *   <li>Las categorías están replicadas en todos los shards: las lecturas van a cualquiera y las
+ *       escrituras a todos, con el mismo ID asignado en las altas.</li>
+ * </ul>
+ *
+ * Ninguna otra escritura se reparte entre shards: las que no se pueden dirigir a uno solo
+ * (p. ej. las cargas de inventario por lotes) se rechazan con 501.
+ *
+ * Cada petición se fija a su shard con la cabecera {@link LoadBalancingFeignClient#INSTANCE_HEADER}
+ * y la ejecuta el cliente de balanceo, que lleva las métricas por instancia. Métricas propias:
+ * {@code data-service.shard.requests} (por {@code route}) y {@code data-service.shard.fallbacks}.
+ */
+public class ShardingFeignClient implements Client {
+
+    /** Cabecera con el ID asignado a un alta, que el data-service usa en lugar del autoincremental. */
+    public static final String ASSIGNED_ID_HEADER = "X-Assigned-Id";
+
+    /** Los IDs asignados caben en 53 bits, para seguir siendo exactos como números de JavaScript. */
+    static final long MAX_ASSIGNED_ID = (1L << 53) - 1;
+
+    private static final Pattern PRODUCT_PATH = Pattern.compile("^/data/products/(\\d+)(/.*)?$");
+    private static final Pattern INVENTORY_PATH = Pattern.compile("^/data/inventory/(\\d+)(/.*)?$");
+    private static final Pattern PRODUCT_INVENTORY_PATH = Pattern.compile("^/data/inventory/product/(\\d+)$");
+    private static final Pattern CATEGORY_BULK_PATH =
+            Pattern.compile("^/data/products/category/\\d+/(price|move/\\d+|assignments)$");
+
+    private final Client delegate;
+    private final DataServiceInstancePool pool;
+    private final ExecutorService executor;
+    private final Tracer tracer;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final MeterRegistry registry;
+    private final LongSupplier randomIds;
+
+    /**
+     * Crea el cliente.
+     *
+     * @param delegate el cliente de balanceo que ejecuta cada petición fijada a un shard
+     * @param pool las instancias (shards) del data-service
+     * @param executor ejecutor de las peticiones en paralelo (hilos virtuales)
+     * @param tracer el tracer para continuar la traza en esas peticiones
+     * @param objectMapper para combinar las respuestas JSON (y, con su configuración, las Smile)
+     * @param registry el registro de métricas
+     */
+    public ShardingFeignClient(Client delegate, DataServiceInstancePool pool, ExecutorService executor,
+                               Tracer tracer, ObjectMapper objectMapper, MeterRegistry registry) {
+        this(delegate, pool, executor, tracer, objectMapper, registry,
+                () -> ThreadLocalRandom.current().nextLong(1, MAX_ASSIGNED_ID + 1));
+    }
+
+    /**
+     * Crea el cliente con la fuente de IDs para las altas sin clave de idempotencia.
+     */
+    ShardingFeignClient(Client delegate, DataServiceInstancePool pool, ExecutorService executor,
+                        Tracer tracer, ObjectMapper objectMapper, MeterRegistry registry, LongSupplier randomIds) {
+        this.delegate = delegate;
+        this.pool = pool;
+        this.executor = executor;
+        this.tracer = tracer;
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.registry = registry;
+        this.randomIds = randomIds;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String logicalUrl = pool.getLogicalUrl();
+        if (logicalUrl == null || !request.url().startsWith(logicalUrl)
+                || request.headers().containsKey(LoadBalancingFeignClient.INSTANCE_HEADER)) {
+            return delegate.execute(request, options);
+        }
+        ConsistentHashRing ring = pool.getShardRing();
+        String path = request.url().substring(logicalUrl.length());
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+
+        boolean read = request.httpMethod() == Request.HttpMethod.GET;
+        if (path.startsWith("/data/categories")) {
+            if (read) {
+                count("replicated");
+                return delegate.execute(request, options);
+            }
+            count("broadcast");
+            if (request.httpMethod() == Request.HttpMethod.POST) {
+                request = assign(request, assignId(request, ring, null));
+            }
+            return mergeWrites(scatter(request, options, ring.getNodes()));
+        }
+        Matcher matcher = PRODUCT_PATH.matcher(path);
+        if (matcher.matches()) {
+            count("keyed");
+            return executeKeyed(request, options, ring, matcher.group(1), "/data/products/" + matcher.group(1));
+        }
+        matcher = INVENTORY_PATH.matcher(path);
+        if (matcher.matches()) {
+            count("keyed");
+            return executeKeyed(request, options, ring, matcher.group(1), "/data/inventory/" + matcher.group(1));
+        }
+        matcher = PRODUCT_INVENTORY_PATH.matcher(path);
+        if (matcher.matches() && read) {
+            count("keyed");
+            return executeKeyed(request, options, ring, matcher.group(1), "/data/products/" + matcher.group(1));
+        }
+        if (!path.startsWith("/data/products") && !path.startsWith("/data/inventory")) {
+            return delegate.execute(request, options);
+        }
+        if (read) {
+            count("scatter");
+            return merge(scatter(request, options, ring.getNodes()));
+        }
+        if (request.httpMethod() == Request.HttpMethod.POST && path.equals("/data/products")) {
+            count("create");
+            long id = assignId(request, ring, null);
+            return delegate.execute(pin(assign(request, id), ring.owner(Long.toString(id))), options);
+        }
+        if (request.httpMethod() == Request.HttpMethod.POST && path.equals("/data/inventory")) {
+            count("create");
+            return createInventory(request, options, ring);
+        }
+        if (CATEGORY_BULK_PATH.matcher(path).matches()) {
+            count("broadcast");
+            return mergeWrites(scatter(request, options, ring.getNodes()));
+        }
+        throw new DataServiceException("Request cannot be routed to a single data-service shard: "
+                + request.httpMethod() + " " + path, HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private String productIdOf(byte[] body) {
+        try {
+            JsonNode inventory = objectMapper.readTree(body);
+            JsonNode id = inventory.path("product").path("id");
+            if (id.isMissingNode() || id.isNull()) {
+                id = inventory.path("productId");
+            }
+            return id.isNumber() || id.isTextual() ? id.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ejecuta una llamada por ID en el shard dueño. Si responde 404, una lectura se prueba en el resto
+     * de shards y una escritura se envía solo al shard que tenga el recurso ({@code resourcePath}).
+     */
+    private Response executeKeyed(Request request, Request.Options options, ConsistentHashRing ring, String key,
+                                  String resourcePath) throws IOException {
+        String owner = ring.owner(key);
+        if (owner == null) {
+            return delegate.execute(request, options);
+        }
+        Response response = delegate.execute(pin(request, owner), options);
+        if (response.status() != 404 || ring.getNodes().size() == 1) {
+            return response;
+        }
+        List<String> others = new ArrayList<>(ring.getNodes());
+        others.remove(owner);
+        if (request.httpMethod() == Request.HttpMethod.GET) {
+            response.close();
+            Response fallback = merge(scatter(request, options, others));
+            countFallback(fallback.status() / 100 == 2);
+            return fallback;
+        }
+        String holder = locate(request, options, others, resourcePath);
+        countFallback(holder != null);
+        if (holder == null) {
+            return response;
+        }
+        response.close();
+        return delegate.execute(pin(request, holder), options);
+    }
+
+    /**
+     * Alta de inventario en el shard del producto, con un ID que el anillo asigna a ese mismo shard.
+     * Si el dueño del producto no lo tiene (404), se busca el shard que lo guarda.
+     */
+    private Response createInventory(Request request, Request.Options options, ConsistentHashRing ring)
+            throws IOException {
+        String productId = request.body() != null ? productIdOf(request.body()) : null;
+        if (productId == null) {
+            // Sin producto el data-service rechaza el alta por validación, en cualquier shard
+            return delegate.execute(request, options);
+        }
+        String owner = ring.owner(productId);
+        Response response = delegate.execute(pin(assign(request, assignId(request, ring, owner)), owner), options);
+        if (response.status() != 404 || ring.getNodes().size() == 1) {
+            return response;
+        }
+        List<String> others = new ArrayList<>(ring.getNodes());
+        others.remove(owner);
+        String holder = locate(request, options, others, "/data/products/" + productId);
+        countFallback(holder != null);
+        if (holder == null) {
+            return response;
+        }
+        response.close();
+        return delegate.execute(pin(assign(request, assignId(request, ring, holder)), holder), options);
+    }
+
+    /**
+     * Busca con una lectura en paralelo el shard que guarda un recurso.
+     *
+     * @return el shard, o {@code null} si ninguno lo tiene
+     */
+    private String locate(Request request, Request.Options options, List<String> shards, String resourcePath)
+            throws IOException {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.keySet().removeIf(name -> name.regionMatches(true, 0, "Content-", 0, "Content-".length()));
+        Request lookup = Request.create(Request.HttpMethod.GET, pool.getLogicalUrl() + resourcePath, headers,
+                null, request.charset(), request.requestTemplate());
+        List<Response> responses = scatter(lookup, options, shards);
+        String holder = null;
+        for (int i = 0; i < responses.size(); i++) {
+            if (holder == null && responses.get(i).status() / 100 == 2) {
+                holder = shards.get(i);
+            }
+            responses.get(i).close();
+        }
+        return holder;
+    }
+
+    /**
+     * ID para un alta. Se deriva de la clave de idempotencia (un reintento obtiene el mismo ID y va
+     * al mismo shard) o, sin ella, es aleatorio; con {@code shard} se busca uno cuyo dueño sea ese shard.
+     */
+    private long assignId(Request request, ConsistentHashRing ring, String shard) {
+        Collection<String> keys = request.headers().get(IdempotentRetryer.IDEMPOTENCY_KEY_HEADER);
+        String seed = keys != null && !keys.isEmpty() ? keys.iterator().next() : null;
+        for (int attempt = 0; ; attempt++) {
+            long id = seed != null
+                    ? ConsistentHashRing.hash(seed + "#" + attempt) & MAX_ASSIGNED_ID
+                    : randomIds.getAsLong();
+            if (id > 0 && (shard == null || shard.equals(ring.owner(Long.toString(id))))) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Envía la petición a los shards indicados en paralelo y devuelve sus respuestas (con el
+     * cuerpo ya leído) en el mismo orden. Cada envío hereda el plazo y el span actuales.
+     */
+    private List<Response> scatter(Request request, Request.Options options, List<String> shards) throws IOException {
+        Deadline deadline = Deadline.current();
+        Span span = tracer.currentSpan();
+        List<CompletableFuture<Response>> futures = new ArrayList<>(shards.size());
+        for (String shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                Deadline previous = Deadline.set(deadline);
+                try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                    return buffered(delegate.execute(pin(request, shard), options));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    Deadline.set(previous);
+                }
+            }, executor));
+        }
+        List<Response> responses = new ArrayList<>(futures.size());
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            for (CompletableFuture<Response> future : futures) {
+                responses.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        }
+        return responses;
+    }
+
+    /**
+     * Combina las respuestas de varios shards. Un error 5xx de cualquiera hace fallar la
+     * petición, para no devolver resultados parciales como si fueran completos.
+     */
+    private Response merge(List<Response> responses) throws IOException {
+        List<Response> successful = new ArrayList<>();
+        for (Response response : responses) {
+            if (response.status() >= 500) {
+                return response;
+            }
+            if (response.status() / 100 == 2) {
+                successful.add(response);
+            }
+        }
+        if (successful.isEmpty()) {
+            return responses.get(0);
+        }
+        Response first = successful.get(0);
+        if (successful.size() == 1 || first.body() == null) {
+            return first;
+        }
+        JsonNode merged = mergeBodies(successful);
+        if (merged == null) {
+            return first;
+        }
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(first.headers());
+        headers.keySet().removeIf(name -> name.equalsIgnoreCase("Content-Length"));
+        return first.toBuilder()
+                .headers(headers)
+                .body(mapperFor(first).writeValueAsBytes(merged))
+                .build();
+    }
+
+    /**
+     * Combina las respuestas de una escritura aplicada en varios shards: si alguno no la aplicó
+     * se devuelve su respuesta, para no informar como completa una escritura parcial.
+     */
+    private Response mergeWrites(List<Response> responses) throws IOException {
+        for (Response response : responses) {
+            if (response.status() / 100 != 2) {
+                return response;
+            }
+        }
+        return merge(responses);
+    }
+
+    private JsonNode mergeBodies(List<Response> responses) throws IOException {
+        List<JsonNode> bodies = new ArrayList<>(responses.size());
+        for (Response response : responses) {
+            if (response.body() == null) {
+                return null;
+            }
+            try (InputStream body = response.body().asInputStream()) {
+                bodies.add(mapperFor(response).readTree(body));
+            }
+        }
+        if (bodies.stream().allMatch(JsonNode::isArray)) {
+            List<JsonNode> elements = new ArrayList<>();
+            bodies.forEach(body -> body.forEach(elements::add));
+            if (elements.stream().allMatch(element -> element.path("id").isNumber())) {
+                elements.sort(Comparator.comparingLong(element -> element.path("id").asLong()));
+            }
+            ArrayNode array = objectMapper.createArrayNode();
+            array.addAll(elements);
+            return array;
+        }
+        if (bodies.stream().allMatch(ShardingFeignClient::isCounters)) {
+            ObjectNode sum = objectMapper.createObjectNode();
+            for (JsonNode body : bodies) {
+                for (Iterator<Map.Entry<String, JsonNode>> it = body.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> field = it.next();
+                    sum.put(field.getKey(), sum.path(field.getKey()).asLong() + field.getValue().asLong());
+                }
+            }
+            return sum;
+        }
+        return null;
+    }
+
+    /** Objetos cuyos campos son todos enteros, como el resultado de una operación masiva. */
+    private static boolean isCounters(JsonNode body) {
+        if (!body.isObject() || body.isEmpty()) {
+            return false;
+        }
+        for (JsonNode value : body) {
+            if (!value.isIntegralNumber()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Las respuestas pueden venir en JSON o en Smile, según lo negociado con cada shard. */
+    private ObjectMapper mapperFor(Response response) {
+        Collection<String> contentType = response.headers().getOrDefault("Content-Type", List.of());
+        return contentType.stream().anyMatch(type -> type.startsWith("application/x-jackson-smile"))
+                ? smileMapper
+                : objectMapper;
+    }
+
+    private static Request assign(Request request, long id) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(ASSIGNED_ID_HEADER, List.of(Long.toString(id)));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+
+    private static Request pin(Request request, String shard) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(LoadBalancingFeignClient.INSTANCE_HEADER, List.of(shard));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+
+    private static Response buffered(Response response) throws IOException {
+        if (response.body() == null) {
+            return response;
+        }
+        try (InputStream body = response.body().asInputStream()) {
+            return response.toBuilder().body(body.readAllBytes()).build();
+        }
+    }
+
+    private void count(String route) {
+        registry.counter("data-service.shard.requests", "route", route).increment();
+    }
+
+    private void countFallback(boolean found) {
+        registry.counter("data-service.shard.fallbacks", "outcome", found ? "found" : "missing").increment();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.businessservice.service;
 import com.example.businessservice.dto.CategoryDTO;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing categories in the business service.
@@ -57,10 +58,20 @@ public interface CategoryService {
      */
     CategoryDTO updateCategory(Long id, CategoryDTO categoryDTO);
     
+    /**
+     * Partially update a category using JSON Merge Patch semantics.
+     * Only the fields present in the patch are sent to and written by the data service.
+     *
+     * @param id the category ID
+     * @param patch the fields to change; a null value clears the field
+     * @return the updated category
+     */
+    CategoryDTO patchCategory(Long id, Map<String, Object> patch);
+    
     /**
      * Delete a category by its ID.
      *
      * @param id the category ID
      */
     void deleteCategory(Long id);
-}
\ No newline at end of file
+}
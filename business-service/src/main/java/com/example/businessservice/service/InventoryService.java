@@ -3,6 +3,7 @@ package com.example.businessservice.service;
 import com.example.businessservice.dto.InventoryDTO;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing inventory items in the business service.
@@ -114,10 +115,20 @@ public interface InventoryService {
      */
     InventoryDTO updateInventoryQuantity(Long id, Integer quantity);
     
+    /**
+     * Partially update an inventory item using JSON Merge Patch semantics.
+     * Only the fields present in the patch are sent to and written by the data service.
+     *
+     * @param id the inventory item ID
+     * @param patch the fields to change (product, quantity, location)
+     * @return the updated inventory item
+     */
+    InventoryDTO patchInventoryItem(Long id, Map<String, Object> patch);
+    
     /**
      * Delete an inventory item by its ID.
      *
      * @param id the inventory item ID
      */
     void deleteInventoryItem(Long id);
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package com.example.businessservice.service;
 
+import com.example.businessservice.dto.BulkUpdateResponse;
 import com.example.businessservice.dto.ProductDTO;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing products in the business service.
@@ -91,6 +93,16 @@ public interface ProductService {
      */
     ProductDTO updateProduct(Long id, ProductDTO productDTO);
     
+    /**
+     * Partially update a product using JSON Merge Patch semantics.
+     * Only the fields present in the patch are sent to and written by the data service.
+     *
+     * @param id the product ID
+     * @param patch the fields to change; a null value clears the field
+     * @return the updated product
+     */
+    ProductDTO patchProduct(Long id, Map<String, Object> patch);
+    
     /**
      * Delete a product by its ID.
      *
@@ -114,4 +126,32 @@ public interface ProductService {
      * @return the updated product
      */
     ProductDTO removeCategoryFromProduct(Long productId);
-}
\ No newline at end of file
+    
+    /**
+     * Adjust the price of every product in a category in a single data-service call.
+     * Exactly one of percentage or amount must be provided.
+     *
+     * @param categoryId the category ID
+     * @param percentage the percentage adjustment, or null
+     * @param amount the absolute amount to add, or null
+     * @return the number of updated products
+     */
+    BulkUpdateResponse adjustPricesByCategory(Long categoryId, BigDecimal percentage, BigDecimal amount);
+    
+    /**
+     * Move every product from one category to another in a single data-service call.
+     *
+     * @param sourceCategoryId the source category ID
+     * @param targetCategoryId the target category ID
+     * @return the number of updated products
+     */
+    BulkUpdateResponse moveProductsToCategory(Long sourceCategoryId, Long targetCategoryId);
+    
+    /**
+     * Remove a category from every product that has it assigned in a single data-service call.
+     *
+     * @param categoryId the category ID
+     * @return the number of updated products
+     */
+    BulkUpdateResponse removeCategoryFromProducts(Long categoryId);
+}
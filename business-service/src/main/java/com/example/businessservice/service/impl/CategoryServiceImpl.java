@@ -3,8 +3,10 @@ package com.example.businessservice.service.impl;
 import com.example.businessservice.client.CategoryClient;
 import com.example.businessservice.dto.CategoryDTO;
 import com.example.businessservice.exception.DataServiceException;
+import com.example.businessservice.exception.DeadlineExceededException;
 import com.example.businessservice.exception.ResourceNotFoundException;
 import com.example.businessservice.service.CategoryService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +26,7 @@ import java.util.Map;
  * Utiliza el cliente Feign para comunicarse con el servicio de datos.
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class CategoryServiceImpl implements CategoryService {
 
     private static final Logger log = LoggerFactory.getLogger(CategoryServiceImpl.class);
@@ -53,6 +56,8 @@ public class CategoryServiceImpl implements CategoryService {
                 log.warn("Data service returned null body for getAllCategories");
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting all categories from data service", e);
             throw new DataServiceException("Failed to retrieve categories from data service", e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -76,7 +81,7 @@ public class CategoryServiceImpl implements CategoryService {
                 log.warn("Category with ID {} not found", id);
                 throw new ResourceNotFoundException("Category not found with ID: " + id);
             }
-        } catch (ResourceNotFoundException e) {
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error getting category with ID {} from data service", id, e);
@@ -101,7 +106,7 @@ public class CategoryServiceImpl implements CategoryService {
                 log.warn("Category with name '{}' not found", name);
                 throw new ResourceNotFoundException("Category not found with name: " + name);
             }
-        } catch (ResourceNotFoundException e) {
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error getting category with name '{}' from data service", name, e);
@@ -126,6 +131,8 @@ public class CategoryServiceImpl implements CategoryService {
                 log.warn("Data service returned null body for findCategoriesByNameContaining('{}')", name);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error searching categories by name '{}' from data service", name, e);
             throw new DataServiceException("Failed to search categories by name: " + name, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -150,6 +157,8 @@ public class CategoryServiceImpl implements CategoryService {
                 log.error("Data service returned null body after creating category");
                 throw new DataServiceException("Failed to create category: data service returned null", HttpStatus.INTERNAL_SERVER_ERROR);
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error creating category in data service", e);
             throw new DataServiceException("Failed to create category", e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -177,7 +186,7 @@ public class CategoryServiceImpl implements CategoryService {
                 log.warn("Category with ID {} not found for update", id);
                 throw new ResourceNotFoundException("Category not found with ID: " + id);
             }
-        } catch (ResourceNotFoundException e) {
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error updating category with ID {} in data service", id, e);
@@ -185,6 +194,34 @@ public class CategoryServiceImpl implements CategoryService {
         }
     }
 
+    @Override
+    public CategoryDTO patchCategory(Long id, Map<String, Object> patch) {
+        if (id == null) {
+            throw new IllegalArgumentException("Category ID cannot be null");
+        }
+        if (patch == null) {
+            throw new IllegalArgumentException("Patch cannot be null");
+        }
+
+        try {
+            log.debug("Patching category with ID {}: {}", id, patch);
+            ResponseEntity<Object> response = categoryClient.patchCategory(id, patch);
+            if (response.getBody() != null) {
+                CategoryDTO patchedCategory = convertToCategoryDTO(response.getBody());
+                log.info("Patched category with ID: {}", patchedCategory.getId());
+                return patchedCategory;
+            } else {
+                log.warn("Category with ID {} not found for patch", id);
+                throw new ResourceNotFoundException("Category not found with ID: " + id);
+            }
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error patching category with ID {} in data service", id, e);
+            throw new DataServiceException("Failed to patch category with ID: " + id, e, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Override
     public void deleteCategory(Long id) {
         if (id == null) {
@@ -195,6 +232,8 @@ public class CategoryServiceImpl implements CategoryService {
             log.debug("Deleting category with ID {}", id);
             categoryClient.deleteCategory(id);
             log.info("Deleted category with ID: {}", id);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error deleting category with ID {} from data service", id, e);
             throw new DataServiceException("Failed to delete category with ID: " + id, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -5,8 +5,10 @@ import com.example.businessservice.dto.CategoryDTO;
 import com.example.businessservice.dto.InventoryDTO;
 import com.example.businessservice.dto.ProductDTO;
 import com.example.businessservice.exception.DataServiceException;
+import com.example.businessservice.exception.DeadlineExceededException;
 import com.example.businessservice.exception.ResourceNotFoundException;
 import com.example.businessservice.service.InventoryService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +30,7 @@ import java.util.Map;
  * Utiliza el cliente Feign para comunicarse con el servicio de datos.
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class InventoryServiceImpl implements InventoryService {
 
     private static final Logger log = LoggerFactory.getLogger(InventoryServiceImpl.class);
@@ -57,6 +60,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for getAllInventoryItems");
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting all inventory items from data service", e);
             throw new DataServiceException("Failed to retrieve inventory items from data service", e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -80,7 +85,7 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Inventory item with ID {} not found", id);
                 throw new ResourceNotFoundException("Inventory item not found with ID: " + id);
             }
-        } catch (ResourceNotFoundException e) {
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error getting inventory item with ID {} from data service", id, e);
@@ -105,6 +110,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findInventoryItemsByProductId({})", productId);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding inventory items by product ID {} from data service", productId, e);
             throw new DataServiceException("Failed to find inventory items for product ID: " + productId, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -128,6 +135,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findInventoryItemsByLocation('{}')", location);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding inventory items by location '{}' from data service", location, e);
             throw new DataServiceException("Failed to find inventory items at location: " + location, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -151,6 +160,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findInventoryItemsByQuantityLessThan({})", quantity);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding inventory items by quantity less than {} from data service", quantity, e);
             throw new DataServiceException("Failed to find inventory items with quantity less than: " + quantity, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -174,6 +185,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findInventoryItemsByQuantityGreaterThan({})", quantity);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding inventory items by quantity greater than {} from data service", quantity, e);
             throw new DataServiceException("Failed to find inventory items with quantity greater than: " + quantity, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -200,6 +213,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findInventoryItemsByQuantityBetween({}, {})", minQuantity, maxQuantity);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding inventory items by quantity between {} and {} from data service", minQuantity, maxQuantity, e);
             throw new DataServiceException("Failed to find inventory items with quantity between " + minQuantity + " and " + maxQuantity, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -223,6 +238,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findInventoryItemsByProductName('{}')", productName);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding inventory items by product name '{}' from data service", productName, e);
             throw new DataServiceException("Failed to find inventory items for product name: " + productName, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -246,6 +263,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findInventoryItemsByProductCategory({})", categoryId);
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding inventory items by product category ID {} from data service", categoryId, e);
             throw new DataServiceException("Failed to find inventory items for product category ID: " + categoryId, e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -265,6 +284,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Data service returned null body for findOutOfStockItems()");
                 return Collections.emptyList();
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error finding out of stock inventory items from data service", e);
             throw new DataServiceException("Failed to find out of stock inventory items", e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -292,6 +313,8 @@ public class InventoryServiceImpl implements InventoryService {
                 log.error("Data service returned null body after creating inventory item");
                 throw new DataServiceException("Failed to create inventory item: data service returned null", HttpStatus.INTERNAL_SERVER_ERROR);
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error creating inventory item in data service", e);
             throw new DataServiceException("Failed to create inventory item", e, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -319,7 +342,7 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Inventory item with ID {} not found for update", id);
                 throw new ResourceNotFoundException("Inventory item not found with ID: " + id);
             }
-        } catch (ResourceNotFoundException e) {
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error updating inventory item with ID {} in data service", id, e);
@@ -350,7 +373,7 @@ public class InventoryServiceImpl implements InventoryService {
                 log.warn("Inventory item with ID {} not found for quantity update", id);
                 throw new ResourceNotFoundException("Inventory item not found with ID: " + id);
             }
-        } catch (ResourceNotFoundException e) {
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("Error updating quantity for inventory item with ID {} in data service", id, e);
@@ -358,6 +381,34 @@ public class InventoryServiceImpl implements InventoryService {
         }
     }
 
+    @Override
+    public InventoryDTO patchInventoryItem(Long id, Map<String, Object> patch) {
+        if (id == null) {
+            throw new IllegalArgumentException("Inventory item ID cannot be null");
+        }
+        if (patch == null) {
+            throw new IllegalArgumentException("Patch cannot be null");
+        }
+
+        try {
+            log.debug("Patching inventory item with ID {}: {}", id, patch);
+            ResponseEntity<Object> response = inventoryClient.patchInventoryItem(id, patch);
+            if (response.getBody() != null) {
+                InventoryDTO patchedInventory = convertToInventoryDTO(response.getBody());
+                log.info("Patched inventory item with ID: {}", patchedInventory.getId());
+                return patchedInventory;
+            } else {
+                log.warn("Inventory item with ID {} not found for patch", id);
+                throw new ResourceNotFoundException("Inventory item not found with ID: " + id);
+            }
+        } catch (ResourceNotFoundException | DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error patching inventory item with ID {} in data service", id, e);
+            throw new DataServiceException("Failed to patch inventory item with ID: " + id, e, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Override
     public void deleteInventoryItem(Long id) {
         if (id == null) {
@@ -368,6 +419,8 @@ public class InventoryServiceImpl implements InventoryService {
             log.debug("Deleting inventory item with ID {} from data service", id);
             inventoryClient.deleteInventoryItem(id);
             log.info("Deleted inventory item with ID: {}", id);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error deleting inventory item with ID {} from data service", id, e);
             throw new DataServiceException("Failed to delete inventory item with ID: " + id, e, HttpStatus.INTERNAL_SERVER_ERROR);
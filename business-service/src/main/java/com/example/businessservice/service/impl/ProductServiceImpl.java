@@ -1,9 +1,14 @@
 package com.example.businessservice.service.impl;
 
 import com.example.businessservice.client.ProductClient;
+import com.example.businessservice.dto.BulkUpdateResponse;
 import com.example.businessservice.dto.ProductDTO;
 import com.example.businessservice.dto.CategoryDTO;
+import com.example.businessservice.exception.BadRequestException;
+import com.example.businessservice.exception.DeadlineExceededException;
+import com.example.businessservice.exception.ResourceNotFoundException;
 import com.example.businessservice.service.ProductService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.ResponseEntity;
@@ -12,12 +17,14 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementación de la interfaz ProductService.
  * Utiliza el cliente Feign para comunicarse con el servicio de datos.
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class ProductServiceImpl implements ProductService {
 
     private final ProductClient productClient;
@@ -41,6 +48,8 @@ public class ProductServiceImpl implements ProductService {
                 // In a real implementation, you would use a mapper like ModelMapper or MapStruct
                 return convertToProductDTOList(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             // Log the exception
             System.err.println("Error getting all products: " + e.getMessage());
@@ -56,6 +65,8 @@ public class ProductServiceImpl implements ProductService {
                 // Convert the response body to ProductDTO
                 return convertToProductDTO(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             // Log the exception
             System.err.println("Error getting product by ID: " + e.getMessage());
@@ -70,6 +81,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTOList(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error finding products by name: " + e.getMessage());
         }
@@ -83,6 +96,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTOList(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error finding products by category ID: " + e.getMessage());
         }
@@ -96,6 +111,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTOList(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error finding products by category name: " + e.getMessage());
         }
@@ -109,6 +126,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTOList(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error finding products by max price: " + e.getMessage());
         }
@@ -122,6 +141,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTOList(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error finding products by min price: " + e.getMessage());
         }
@@ -135,6 +156,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTOList(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error finding products by price range: " + e.getMessage());
         }
@@ -150,6 +173,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTO(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error creating product: " + e.getMessage());
         }
@@ -164,16 +189,35 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTO(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error updating product: " + e.getMessage());
         }
         return null;
     }
 
+    @Override
+    public ProductDTO patchProduct(Long id, Map<String, Object> patch) {
+        try {
+            ResponseEntity<Object> response = productClient.patchProduct(id, patch);
+            if (response.getBody() != null) {
+                return convertToProductDTO(response.getBody());
+            }
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("Error patching product: " + e.getMessage());
+        }
+        return null;
+    }
+
     @Override
     public void deleteProduct(Long id) {
         try {
             productClient.deleteProduct(id);
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error deleting product: " + e.getMessage());
         }
@@ -186,6 +230,8 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTO(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error assigning category to product: " + e.getMessage());
         }
@@ -199,14 +245,74 @@ public class ProductServiceImpl implements ProductService {
             if (response.getBody() != null) {
                 return convertToProductDTO(response.getBody());
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Error removing category from product: " + e.getMessage());
         }
         return null;
     }
 
+    @Override
+    public BulkUpdateResponse adjustPricesByCategory(Long categoryId, BigDecimal percentage, BigDecimal amount) {
+        try {
+            ResponseEntity<Object> response = productClient.adjustPricesByCategory(categoryId, percentage, amount);
+            if (response.getBody() != null) {
+                return convertToBulkUpdateResponse(response.getBody());
+            }
+        } catch (DeadlineExceededException | BadRequestException | ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("Error adjusting prices by category: " + e.getMessage());
+        }
+        return null;
+    }
+
+    @Override
+    public BulkUpdateResponse moveProductsToCategory(Long sourceCategoryId, Long targetCategoryId) {
+        try {
+            ResponseEntity<Object> response = productClient.moveProductsToCategory(sourceCategoryId, targetCategoryId);
+            if (response.getBody() != null) {
+                return convertToBulkUpdateResponse(response.getBody());
+            }
+        } catch (DeadlineExceededException | BadRequestException | ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("Error moving products to category: " + e.getMessage());
+        }
+        return null;
+    }
+
+    @Override
+    public BulkUpdateResponse removeCategoryFromProducts(Long categoryId) {
+        try {
+            ResponseEntity<Object> response = productClient.removeCategoryFromProducts(categoryId);
+            if (response.getBody() != null) {
+                return convertToBulkUpdateResponse(response.getBody());
+            }
+        } catch (DeadlineExceededException | BadRequestException | ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("Error removing category from products: " + e.getMessage());
+        }
+        return null;
+    }
+
     // ==================== Métodos Privados de Conversión ====================
 
+    /**
+     * Convierte la respuesta de una operación masiva del servicio de datos a un BulkUpdateResponse.
+     *
+     * @param resultData el objeto de datos del resultado
+     * @return el BulkUpdateResponse convertido
+     */
+    private BulkUpdateResponse convertToBulkUpdateResponse(Object resultData) {
+        if (resultData instanceof java.util.Map<?, ?> map && map.get("updated") instanceof Number updated) {
+            return new BulkUpdateResponse(updated.intValue());
+        }
+        return new BulkUpdateResponse(0);
+    }
+
     /**
      * Convierte un objeto del servicio de datos a un ProductDTO.
      * En una implementación real, se utilizaría un mapper como ModelMapper o MapStruct.
@@ -375,4 +481,4 @@ public class ProductServiceImpl implements ProductService {
     private Object convertFromProductDTO(ProductDTO productDTO) {
         return productDTO;
     }
-}
\ No newline at end of file
+}
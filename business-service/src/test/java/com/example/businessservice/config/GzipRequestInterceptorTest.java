@@ -0,0 +1,115 @@
+package com.example.businessservice.config;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para GzipRequestInterceptor.
+ *
+ * La petición que saldría a la red se captura con un segundo interceptor que responde sin
+ * conectar, de modo que se comprueba exactamente lo que el interceptor envía.
+ */
+class GzipRequestInterceptorTest {
+
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static final long MIN_SIZE = 2048;
+
+    private final AtomicReference<Request> sent = new AtomicReference<>();
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new GzipRequestInterceptor(MIN_SIZE))
+            .addInterceptor(chain -> {
+                sent.set(chain.request());
+                return new Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(200)
+                        .message("OK")
+                        .body(ResponseBody.create("{}", JSON))
+                        .build();
+            })
+            .build();
+
+    /**
+     * Un cuerpo por debajo del umbral se envía tal cual.
+     */
+    @Test
+    void intercept_belowThreshold_shouldNotCompress() throws Exception {
+        String body = json(MIN_SIZE - 1);
+
+        post(body);
+
+        assertNull(sent.get().header("Content-Encoding"));
+        assertEquals(body, bodyOf(sent.get()).readUtf8());
+    }
+
+    /**
+     * Un cuerpo que alcanza el umbral se comprime y se descomprime al original.
+     */
+    @Test
+    void intercept_atThreshold_shouldCompress() throws Exception {
+        String body = json(MIN_SIZE);
+
+        post(body);
+
+        assertEquals("gzip", sent.get().header("Content-Encoding"));
+        Buffer compressed = bodyOf(sent.get());
+        assertTrue(compressed.size() < MIN_SIZE);
+        assertEquals(body, Okio.buffer(new GzipSource(compressed)).readUtf8());
+        assertEquals(JSON, sent.get().body().contentType());
+    }
+
+    /**
+     * Un cuerpo que ya trae Content-Encoding no se vuelve a comprimir.
+     */
+    @Test
+    void intercept_alreadyEncoded_shouldNotCompressAgain() throws Exception {
+        Request request = new Request.Builder()
+                .url("http://localhost:8081/data/products")
+                .header("Content-Encoding", "br")
+                .post(RequestBody.create(json(MIN_SIZE * 2), JSON))
+                .build();
+
+        client.newCall(request).execute().close();
+
+        assertEquals("br", sent.get().header("Content-Encoding"));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private void post(String body) throws IOException {
+        Request request = new Request.Builder()
+                .url("http://localhost:8081/data/products")
+                .post(RequestBody.create(body, JSON))
+                .build();
+        client.newCall(request).execute().close();
+    }
+
+    private static Buffer bodyOf(Request request) throws IOException {
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer;
+    }
+
+    /**
+     * JSON ASCII de exactamente {@code size} bytes.
+     */
+    private static String json(long size) {
+        String prefix = "{\"name\":\"";
+        String suffix = "\"}";
+        return prefix + "x".repeat((int) size - prefix.length() - suffix.length()) + suffix;
+    }
+}
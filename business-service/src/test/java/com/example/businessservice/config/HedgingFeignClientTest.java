@@ -0,0 +1,118 @@
+package com.example.businessservice.config;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para HedgingFeignClient.
+ *
+ * Utiliza un cliente Feign simulado que responde de inmediato salvo en la llamada indicada,
+ * que se retrasa para provocar la petición de respaldo.
+ */
+class HedgingFeignClientTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    /**
+     * Una respuesta lenta se adelanta con el respaldo, que se contabiliza como ganado.
+     */
+    @Test
+    void execute_slowPrimary_shouldReturnHedgedResponse() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client delegate = (request, options) -> {
+            int call = calls.incrementAndGet();
+            if (call == 201) {
+                sleep(1000);
+            }
+            return response(request, call);
+        };
+        HedgingFeignClient client = new HedgingFeignClient(delegate, executor, registry, Tracer.NOOP,
+                Set.of("ProductClient.getProductById"), 0.95, 5, 0.05);
+        for (int i = 0; i < 200; i++) {
+            client.execute(request("ProductClient#getProductById(Long)"), new Request.Options());
+        }
+
+        long start = System.nanoTime();
+        Response response = client.execute(request("ProductClient#getProductById(Long)"), new Request.Options());
+
+        assertEquals("202", response.headers().get("X-Call").iterator().next());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 900);
+        // El contador se incrementa en el hilo del respaldo justo después de entregar la respuesta
+        for (int attempt = 0; attempt < 50 && registry.find("feign.client.hedges").counter() == null; attempt++) {
+            sleep(10);
+        }
+        assertEquals(1.0, registry.get("feign.client.hedges").tag("outcome", "won").counter().count());
+    }
+
+    /**
+     * Los métodos no configurados nunca lanzan respaldo.
+     */
+    @Test
+    void execute_methodNotEligible_shouldNotHedge() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client delegate = (request, options) -> {
+            sleep(50);
+            return response(request, calls.incrementAndGet());
+        };
+        HedgingFeignClient client = new HedgingFeignClient(delegate, executor, registry, Tracer.NOOP,
+                Set.of("ProductClient.getProductById"), 0.5, 1, 1.0);
+
+        client.execute(request("CategoryClient#getAllCategories()"), new Request.Options());
+
+        assertEquals(1, calls.get());
+        assertTrue(registry.find("feign.client.hedges").counters().isEmpty());
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static Request request(String configKey) {
+        MethodMetadata metadata = new MethodMetadata();
+        metadata.configKey(configKey);
+        RequestTemplate template = new RequestTemplate();
+        template.methodMetadata(metadata);
+        return Request.create(Request.HttpMethod.GET, "http://localhost:8081/data/products/1", Map.of(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    private static Response response(Request request, int call) {
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.<String, Collection<String>>of("X-Call", List.of(String.valueOf(call))))
+                .body("{}", StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
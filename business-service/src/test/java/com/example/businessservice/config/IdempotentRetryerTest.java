@@ -0,0 +1,111 @@
+package com.example.businessservice.config;
+
+import com.example.common.deadline.Deadline;
+import com.example.common.deadline.DeadlineMetrics;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para IdempotentRetryer.
+ */
+class IdempotentRetryerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * Un GET se reintenta hasta agotar los intentos.
+     */
+    @Test
+    void continueOrPropagate_get_shouldRetryUntilMaxAttempts() {
+        IdempotentRetryer retryer = retryer(new RetryBudget(0.1, 10));
+        RetryableException e = failure(Request.HttpMethod.GET, Map.of());
+
+        retryer.continueOrPropagate(e);
+        retryer.continueOrPropagate(e);
+        assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(e));
+
+        assertEquals(2.0, registry.get("feign.client.retries").counter().count());
+        assertEquals(1.0, registry.get("feign.client.retries.exhausted").counter().count());
+    }
+
+    /**
+     * Un POST sin clave de idempotencia no se reintenta; con ella sí.
+     */
+    @Test
+    void continueOrPropagate_post_shouldRetryOnlyWithIdempotencyKey() {
+        IdempotentRetryer retryer = retryer(new RetryBudget(0.1, 10));
+
+        assertThrows(RetryableException.class,
+                () -> retryer.continueOrPropagate(failure(Request.HttpMethod.POST, Map.of())));
+        assertEquals(1.0, registry.get("feign.client.retries.rejected").tag("reason", "non_idempotent").counter().count());
+
+        retryer.continueOrPropagate(failure(Request.HttpMethod.POST,
+                Map.of(IdempotentRetryer.IDEMPOTENCY_KEY_HEADER, List.of("9f1c"))));
+        assertEquals(1.0, registry.get("feign.client.retries").counter().count());
+    }
+
+    /**
+     * Sin fichas en el presupuesto no se reintenta hasta que las llamadas correctas lo recargan.
+     */
+    @Test
+    void continueOrPropagate_emptyBudget_shouldNotRetry() {
+        RetryBudget budget = new RetryBudget(0.5, 1);
+        RetryableException e = failure(Request.HttpMethod.GET, Map.of());
+
+        retryer(budget).continueOrPropagate(e);
+        assertThrows(RetryableException.class, () -> retryer(budget).continueOrPropagate(e));
+        assertEquals(1.0, registry.get("feign.client.retries.rejected").tag("reason", "budget").counter().count());
+
+        budget.deposit();
+        budget.deposit();
+        retryer(budget).continueOrPropagate(e);
+        assertEquals(2.0, registry.get("feign.client.retries").counter().count());
+    }
+
+    /**
+     * Con el plazo de la petición vencido no se reintenta y se cuenta como plazo vencido en la fase de reintento.
+     */
+    @Test
+    void continueOrPropagate_expiredDeadline_shouldNotRetry() {
+        IdempotentRetryer retryer = retryer(new RetryBudget(0.1, 10));
+        Deadline previous = Deadline.set(Deadline.afterMillis(0));
+        try {
+            assertThrows(RetryableException.class,
+                    () -> retryer.continueOrPropagate(failure(Request.HttpMethod.GET, Map.of())));
+        } finally {
+            Deadline.set(previous);
+        }
+
+        assertEquals(1.0, registry.get("feign.client.retries.rejected").tag("reason", "deadline").counter().count());
+        assertEquals(1.0, registry.get("deadline.expired").tag("stage", "retry").counter().count());
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private IdempotentRetryer retryer(RetryBudget budget) {
+        return new IdempotentRetryer(budget, registry, new DeadlineMetrics(registry), 3, 1, 5);
+    }
+
+    private static RetryableException failure(Request.HttpMethod httpMethod, Map<String, Collection<String>> headers) {
+        RequestTemplate template = new RequestTemplate();
+        MethodMetadata metadata = new MethodMetadata();
+        metadata.configKey("ProductClient#createProduct(Object)");
+        template.methodMetadata(metadata);
+        Request request = Request.create(httpMethod, "http://localhost:8081/data/products", headers,
+                null, StandardCharsets.UTF_8, template);
+        return new RetryableException(-1, "Connection refused", httpMethod, new IOException("Connection refused"),
+                (Long) null, request);
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.businessservice.config;
+
+import com.example.common.diagnostics.InMemorySpanStore;
+import com.example.common.diagnostics.TraceSpan;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para las métricas y la propagación de trazas de MeteredFeignClient.
+ *
+ * Usa el puente de Micrometer Tracing sobre un SDK de OpenTelemetry real con propagación W3C
+ * y el almacén de spans en memoria como procesador, para comprobar la cabecera enviada y el span registrado.
+ * Las métricas se leen de un SimpleMeterRegistry.
+ */
+class MeteredFeignClientTest {
+
+    private final InMemorySpanStore store = new InMemorySpanStore(10);
+    private final OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(store).build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+    private final io.opentelemetry.api.trace.Tracer otelTracer = openTelemetry.getTracer("test");
+    private final Tracer tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+    });
+    private final Propagator propagator = new OtelPropagator(openTelemetry.getPropagators(), otelTracer);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        openTelemetry.close();
+    }
+
+    /**
+     * Dentro de una traza, la petición lleva el traceparent del span CLIENT, hijo del span en curso.
+     */
+    @Test
+    void execute_withinTrace_shouldInjectTraceparentOfClientSpan() throws Exception {
+        AtomicReference<Request> sent = new AtomicReference<>();
+        MeteredFeignClient client = new MeteredFeignClient(capturing(sent), registry, tracer, propagator);
+
+        Span parent = tracer.nextSpan().name("http get /api/products/{id}").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(parent)) {
+            client.execute(request("ProductClient#getProductById(Long)"), new Request.Options());
+        } finally {
+            parent.end();
+        }
+
+        // traceparent = versión-traceId-spanId-flags
+        String[] traceparent = sent.get().headers().get("traceparent").iterator().next().split("-");
+        assertEquals(parent.context().traceId(), traceparent[1]);
+        assertEquals("01", traceparent[3]);
+        TraceSpan clientSpan = store.getTrace(traceparent[1]).stream()
+                .filter(span -> span.kind().equals("CLIENT"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(traceparent[2], clientSpan.spanId());
+        assertEquals(parent.context().spanId(), clientSpan.parentSpanId());
+        assertEquals("ProductClient.getProductById", clientSpan.name());
+        assertEquals("200", clientSpan.attributes().get("http.status_code"));
+    }
+
+    /**
+     * Fuera de una traza no se abre span ni se añade la cabecera.
+     */
+    @Test
+    void execute_outsideTrace_shouldNotPropagate() throws Exception {
+        AtomicReference<Request> sent = new AtomicReference<>();
+        MeteredFeignClient client = new MeteredFeignClient(capturing(sent), registry, tracer, propagator);
+
+        client.execute(request("ProductClient#getProductById(Long)"), new Request.Options());
+
+        assertFalse(sent.get().headers().containsKey("traceparent"));
+        assertTrue(store.getRecentTraces(10).isEmpty());
+        assertEquals(1, registry.get("feign.client.requests").tag("method", "getProductById").timer().count());
+    }
+
+    /**
+     * El timer y el contador llevan las etiquetas de cliente, método y estado HTTP de la respuesta.
+     */
+    @Test
+    void execute_shouldTagMetersByClientMethodAndStatus() throws Exception {
+        MeteredFeignClient client = new MeteredFeignClient(responding(404, "{}"), registry, tracer, propagator);
+
+        client.execute(request("ProductClient#getProductById(Long)"), new Request.Options());
+
+        assertEquals(1, registry.get("feign.client.requests")
+                .tags("client", "ProductClient", "method", "getProductById", "status", "404").timer().count());
+        assertEquals(1, registry.get("feign.client.responses")
+                .tags("client", "ProductClient", "method", "getProductById", "status", "404").counter().count());
+        assertNull(registry.find("feign.client.requests").tag("status", "200").timer());
+    }
+
+    /**
+     * Un fallo de E/S sin respuesta se registra con estado IO_ERROR y se propaga.
+     */
+    @Test
+    void execute_ioError_shouldRecordIoErrorStatus() {
+        Client failing = (request, options) -> {
+            throw new IOException("Connection refused");
+        };
+        MeteredFeignClient client = new MeteredFeignClient(failing, registry, tracer, propagator);
+
+        assertThrows(IOException.class,
+                () -> client.execute(request("ProductClient#getAllProducts()"), new Request.Options()));
+
+        assertEquals(1, registry.get("feign.client.responses")
+                .tags("client", "ProductClient", "method", "getAllProducts", "status", "IO_ERROR").counter().count());
+    }
+
+    /**
+     * Sin longitud declarada (chunked), el tamaño se registra una sola vez con los bytes leídos.
+     */
+    @Test
+    void execute_chunkedBody_shouldRecordSizeOnceFullyRead() throws Exception {
+        byte[] body = "[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8);
+        Client chunked = (request, options) -> Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of())
+                .body(new ByteArrayInputStream(body), null)
+                .build();
+        MeteredFeignClient client = new MeteredFeignClient(chunked, registry, tracer, propagator);
+
+        Response response = client.execute(request("ProductClient#getAllProducts()"), new Request.Options());
+        DistributionSummary size = registry.get("feign.client.response.size")
+                .tags("client", "ProductClient", "method", "getAllProducts").summary();
+        assertEquals(0, size.count());
+        try (InputStream in = response.body().asInputStream()) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+
+        assertEquals(1, size.count());
+        assertEquals(body.length, size.totalAmount());
+    }
+
+    /**
+     * Contra un servidor HTTP real a través del cliente OkHttp de FeignConfig: se registra el tamaño
+     * de la respuesta y, al cerrarla, los indicadores del pool muestran la conexión ociosa.
+     */
+    @Test
+    void execute_overOkHttp_shouldRecordResponseSizeAndPoolGauges() throws Exception {
+        byte[] body = "{\"id\":1,\"name\":\"Smartphone\"}".getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/data/products/1", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            FeignConfig config = new FeignConfig();
+            OkHttpClient okHttpClient = config.feignOkHttpClient(20, 300, registry, false, 2048);
+            config.feignConnectionPoolMetrics(okHttpClient).bindTo(registry);
+            MeteredFeignClient client = new MeteredFeignClient(new feign.okhttp.OkHttpClient(okHttpClient),
+                    registry, tracer, propagator);
+
+            String url = "http://localhost:" + server.getAddress().getPort() + "/data/products/1";
+            try (Response response = client.execute(request("ProductClient#getProductById(Long)", url),
+                    new Request.Options())) {
+                assertEquals(200, response.status());
+                assertEquals(1.0, registry.get("okhttp.pool.connection.count")
+                        .tags("client", "data-service", "state", "active").gauge().value());
+                response.body().asInputStream().readAllBytes();
+            }
+
+            DistributionSummary size = registry.get("feign.client.response.size")
+                    .tags("client", "ProductClient", "method", "getProductById").summary();
+            assertEquals(1, size.count());
+            assertEquals(body.length, size.totalAmount());
+            assertEquals(1, registry.get("feign.client.requests")
+                    .tags("client", "ProductClient", "method", "getProductById", "status", "200").timer().count());
+            assertEquals(0.0, registry.get("okhttp.pool.connection.count")
+                    .tags("client", "data-service", "state", "active").gauge().value());
+            assertEquals(1.0, registry.get("okhttp.pool.connection.count")
+                    .tags("client", "data-service", "state", "idle").gauge().value());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static Client responding(int status, String body) {
+        return (request, options) -> Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private static Client capturing(AtomicReference<Request> sent) {
+        return (request, options) -> {
+            sent.set(request);
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Map.of())
+                    .body("{}", StandardCharsets.UTF_8)
+                    .build();
+        };
+    }
+
+    private static Request request(String configKey) {
+        return request(configKey, "http://localhost:8081/data/products/1");
+    }
+
+    private static Request request(String configKey, String url) {
+        MethodMetadata metadata = new MethodMetadata();
+        metadata.configKey(configKey);
+        RequestTemplate template = new RequestTemplate();
+        template.methodMetadata(metadata);
+        return Request.create(Request.HttpMethod.GET, url, Map.of(), null,
+                StandardCharsets.UTF_8, template);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.businessservice.diagnostics;
+
+import com.example.common.diagnostics.TraceSpan;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para TraceWaterfall.
+ *
+ * Verifica el sangrado por profundidad entre servicios, la posición de las barras y el
+ * tratamiento de spans duplicados o de trazas desconocidas.
+ */
+class TraceWaterfallTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    /**
+     * Los hijos se sangran bajo su padre aunque procedan de otro servicio, y la barra refleja offset y duración.
+     */
+    @Test
+    void render_shouldIndentChildrenAcrossServices() {
+        List<TraceSpan> spans = List.of(
+                span("c", "b", "data-service", "http get /data/products/{id}", 10_000_000, 30_000_000, false),
+                span("a", null, "business-service", "http get /api/products/{id}", 0, 40_000_000, false),
+                span("b", "a", "business-service", "ProductClient.getProductById", 5_000_000, 35_000_000, false));
+
+        String[] lines = TraceWaterfall.render(TRACE_ID, spans).split("\n");
+
+        assertTrue(lines[0].startsWith("Trace " + TRACE_ID + "  40.00 ms  3 spans"));
+        assertTrue(lines[3].contains("business-service  http get /api/products/{id}"));
+        assertTrue(lines[4].contains("  ProductClient.getProductById"));
+        assertTrue(lines[5].contains("data-service          http get /data/products/{id}"));
+        assertTrue(lines[3].endsWith("|" + "#".repeat(40) + "|"));
+        assertTrue(lines[5].endsWith("|" + " ".repeat(10) + "#".repeat(20) + " ".repeat(10) + "|"));
+    }
+
+    /**
+     * Un span repetido (p. ej. devuelto por dos instancias) se dibuja una sola vez; los errores se marcan con '!'.
+     */
+    @Test
+    void render_shouldIgnoreDuplicatesAndMarkErrors() {
+        TraceSpan root = span("a", null, "business-service", "root", 0, 10_000_000, true);
+
+        String rendered = TraceWaterfall.render(TRACE_ID, List.of(root, root));
+
+        assertTrue(rendered.contains("1 spans"));
+        assertTrue(rendered.contains("|" + "!".repeat(40) + "|"));
+    }
+
+    /**
+     * Sin spans se informa que la traza no existe.
+     */
+    @Test
+    void render_unknownTrace_shouldReportNotFound() {
+        assertEquals("Trace " + TRACE_ID + " not found\n", TraceWaterfall.render(TRACE_ID, List.of()));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static TraceSpan span(String id, String parentId, String service, String name,
+                                  long startNanos, long endNanos, boolean error) {
+        return new TraceSpan(TRACE_ID, id, parentId, service, name, "INTERNAL", startNanos, endNanos, error, Map.of());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.businessservice.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ConsistentHashRing.
+ */
+class ConsistentHashRingTest {
+
+    private static final List<String> SHARDS = List.of(
+            "http://localhost:8081", "http://localhost:8091", "http://localhost:8101");
+
+    /**
+     * Con nodos virtuales cada shard recibe una parte parecida de los IDs.
+     */
+    @Test
+    void owner_shouldSpreadIdsEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(SHARDS, 160);
+        Map<String, Double> ownership = ring.ownership();
+
+        assertEquals(1.0, ownership.values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+        for (String shard : SHARDS) {
+            assertEquals(1.0 / 3, ownership.get(shard), 0.08);
+            long owned = countOwned(ring, shard);
+            assertEquals(10_000 / 3.0, owned, 10_000 * 0.08);
+        }
+    }
+
+    /**
+     * Al añadir un shard solo cambian de dueño las claves que pasan a él.
+     */
+    @Test
+    void owner_addingShard_shouldOnlyMoveKeysToIt() {
+        ConsistentHashRing before = new ConsistentHashRing(SHARDS, 160);
+        String added = "http://localhost:8111";
+        ConsistentHashRing after = new ConsistentHashRing(
+                List.of(SHARDS.get(0), SHARDS.get(1), SHARDS.get(2), added), 160);
+
+        int moved = 0;
+        for (long id = 1; id <= 10_000; id++) {
+            String oldOwner = before.owner(Long.toString(id));
+            String newOwner = after.owner(Long.toString(id));
+            if (!oldOwner.equals(newOwner)) {
+                assertEquals(added, newOwner);
+                moved++;
+            }
+        }
+        assertEquals(10_000 / 4.0, moved, 10_000 * 0.08);
+    }
+
+    /**
+     * El reparto solo depende de los nombres de los shards, no de su orden.
+     */
+    @Test
+    void owner_shouldNotDependOnShardOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(SHARDS, 160);
+        ConsistentHashRing reversed = new ConsistentHashRing(SHARDS.reversed(), 160);
+
+        for (long id = 1; id <= 1_000; id++) {
+            assertEquals(ring.owner(Long.toString(id)), reversed.owner(Long.toString(id)));
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static long countOwned(ConsistentHashRing ring, String shard) {
+        long owned = 0;
+        for (long id = 1; id <= 10_000; id++) {
+            if (shard.equals(ring.owner(Long.toString(id)))) {
+                owned++;
+            }
+        }
+        return owned;
+    }
+}
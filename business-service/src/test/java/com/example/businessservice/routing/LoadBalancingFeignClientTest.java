@@ -0,0 +1,164 @@
+package com.example.businessservice.routing;
+
+import com.example.common.deadline.Deadline;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para LoadBalancingFeignClient y DataServiceInstancePool.
+ *
+ * Utiliza un cliente Feign simulado que registra la instancia de destino de cada llamada y
+ * responde con un estado de error (503 por defecto) para la instancia marcada como caída.
+ */
+class LoadBalancingFeignClientTest {
+
+    private static final String LOGICAL_URL = "http://data-service";
+    private static final String FIRST = "http://localhost:8081";
+    private static final String SECOND = "http://localhost:8091";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    /**
+     * La ruta de la URL lógica se conserva y las llamadas se reparten entre las instancias.
+     */
+    @Test
+    void execute_shouldRewriteUrlAndSpreadCalls() throws Exception {
+        DataServiceInstancePool pool = pool();
+        LoadBalancingFeignClient client = new LoadBalancingFeignClient(recordingClient(null), pool);
+
+        for (int i = 0; i < 100; i++) {
+            Response response = client.execute(request(LOGICAL_URL + "/api/products/1"), new Request.Options());
+            assertTrue(response.request().url().endsWith("/api/products/1"));
+        }
+
+        assertTrue(calls.get(FIRST).get() > 0);
+        assertTrue(calls.get(SECOND).get() > 0);
+        assertEquals(100, calls.get(FIRST).get() + calls.get(SECOND).get());
+        assertEquals(2, registry.find("data-service.instance.requests").functionCounters().size());
+    }
+
+    /**
+     * Tras varios 5xx consecutivos la instancia se expulsa y deja de recibir tráfico.
+     */
+    @Test
+    void execute_failingInstance_shouldBeEjected() throws Exception {
+        DataServiceInstancePool pool = pool();
+        LoadBalancingFeignClient client = new LoadBalancingFeignClient(recordingClient(SECOND), pool);
+
+        for (int i = 0; i < 50; i++) {
+            client.execute(request(LOGICAL_URL + "/api/products/1"), new Request.Options());
+        }
+        int failedCalls = calls.get(SECOND).get();
+        for (int i = 0; i < 50; i++) {
+            client.execute(request(LOGICAL_URL + "/api/products/1"), new Request.Options());
+        }
+
+        assertEquals(3, failedCalls);
+        assertEquals(failedCalls, calls.get(SECOND).get());
+        assertFalse(pool.find(SECOND).isAvailable());
+        assertEquals(1, pool.find(SECOND).getEjections());
+    }
+
+    /**
+     * Un 504 por plazo vencido es un fallo del llamante, no de la instancia: no la expulsa.
+     */
+    @Test
+    void execute_deadlineExpiredResponses_shouldNotEjectInstance() throws Exception {
+        DataServiceInstancePool pool = pool();
+        LoadBalancingFeignClient client = new LoadBalancingFeignClient(recordingClient(SECOND, 504), pool);
+        Request withDeadline = Request.create(Request.HttpMethod.GET, LOGICAL_URL + "/api/products/1",
+                Map.<String, Collection<String>>of(Deadline.HEADER, List.of("0")),
+                null, StandardCharsets.UTF_8, new RequestTemplate());
+
+        for (int i = 0; i < 50; i++) {
+            client.execute(withDeadline, new Request.Options());
+        }
+
+        assertTrue(calls.get(SECOND).get() > 3);
+        assertTrue(pool.find(SECOND).isAvailable());
+        assertEquals(0, pool.find(SECOND).getEjections());
+    }
+
+    /**
+     * Los 429 de la cola de escrituras son un rechazo por carga: la instancia sigue en servicio.
+     */
+    @Test
+    void execute_loadSheddingResponses_shouldNotEjectInstance() throws Exception {
+        DataServiceInstancePool pool = pool();
+        LoadBalancingFeignClient client = new LoadBalancingFeignClient(recordingClient(SECOND, 429), pool);
+
+        for (int i = 0; i < 50; i++) {
+            client.execute(request(LOGICAL_URL + "/api/inventory/1/quantity/5"), new Request.Options());
+        }
+
+        assertTrue(calls.get(SECOND).get() > 3);
+        assertTrue(pool.find(SECOND).isAvailable());
+        assertEquals(0, pool.find(SECOND).getEjections());
+    }
+
+    /**
+     * La cabecera de instancia fija el destino y no se reenvía.
+     */
+    @Test
+    void execute_pinnedInstance_shouldUseIt() throws Exception {
+        DataServiceInstancePool pool = pool();
+        LoadBalancingFeignClient client = new LoadBalancingFeignClient(recordingClient(null), pool);
+        Request pinned = Request.create(Request.HttpMethod.GET, LOGICAL_URL + "/actuator/traces/abc",
+                Map.<String, Collection<String>>of(LoadBalancingFeignClient.INSTANCE_HEADER, List.of(SECOND + "/")),
+                null, StandardCharsets.UTF_8, new RequestTemplate());
+
+        for (int i = 0; i < 10; i++) {
+            Response response = client.execute(pinned, new Request.Options());
+            assertFalse(response.request().headers().containsKey(LoadBalancingFeignClient.INSTANCE_HEADER));
+        }
+
+        assertEquals(10, calls.get(SECOND).get());
+        assertNull(calls.get(FIRST));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private DataServiceInstancePool pool() {
+        DataServiceProperties properties = new DataServiceProperties();
+        properties.setUrl(LOGICAL_URL + "/");
+        properties.setInstances(List.of(FIRST, SECOND + "/"));
+        properties.getLoadBalancer().setStrategy(DataServiceProperties.Strategy.LEAST_OUTSTANDING);
+        return new DataServiceInstancePool(properties, new OkHttpClient(), registry);
+    }
+
+    private Client recordingClient(String failingInstance) {
+        return recordingClient(failingInstance, 503);
+    }
+
+    private Client recordingClient(String failingInstance, int failureStatus) {
+        return (request, options) -> {
+            String instance = request.url().substring(0, request.url().indexOf('/', "http://".length()));
+            calls.computeIfAbsent(instance, key -> new AtomicInteger()).incrementAndGet();
+            return Response.builder()
+                    .status(instance.equals(failingInstance) ? failureStatus : 200)
+                    .request(request)
+                    .headers(Map.of())
+                    .body("{}", StandardCharsets.UTF_8)
+                    .build();
+        };
+    }
+
+    private static Request request(String url) {
+        return Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, new RequestTemplate());
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.businessservice.routing;
+
+import com.example.businessservice.config.IdempotentRetryer;
+import com.example.businessservice.exception.DataServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ShardingFeignClient.
+ *
+ * Utiliza un cliente Feign simulado en el que cada shard guarda un conjunto de recursos
+ * ({@code /data/products/{id}}, {@code /data/inventory/{id}}) y responde 404 a los que no tiene,
+ * y registra cada llamada con su shard y su ID asignado.
+ */
+class ShardingFeignClientTest {
+
+    private static final String LOGICAL_URL = "http://data-service";
+    private static final List<String> SHARDS = List.of(
+            "http://localhost:8081", "http://localhost:8091", "http://localhost:8101");
+    private static final Pattern RESOURCE = Pattern.compile("^(/data/(products|inventory)/\\d+)(/.*)?$");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Set<String>> holdings = new ConcurrentHashMap<>();
+    private final List<Call> calls = new CopyOnWriteArrayList<>();
+    private final DataServiceInstancePool pool = pool();
+    private final ConsistentHashRing ring = pool.getShardRing();
+    private final ShardingFeignClient client = new ShardingFeignClient(shards(), pool, executor, Tracer.NOOP,
+            new ObjectMapper(), registry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * El alta de un producto recibe un ID cuyo dueño es el shard al que se envía, y un reintento
+     * con la misma clave de idempotencia repite ID y shard.
+     */
+    @Test
+    void createProduct_shouldAssignIdOwnedByTargetShard() throws Exception {
+        client.execute(request(Request.HttpMethod.POST, "/data/products", "{\"name\":\"Phone\"}", "key-1"),
+                new Request.Options());
+        client.execute(request(Request.HttpMethod.POST, "/data/products", "{\"name\":\"Phone\"}", "key-1"),
+                new Request.Options());
+
+        assertEquals(2, calls.size());
+        Call first = calls.get(0);
+        assertNotNull(first.assignedId());
+        assertTrue(first.assignedId() > 0 && first.assignedId() <= ShardingFeignClient.MAX_ASSIGNED_ID);
+        assertEquals(ring.owner(first.assignedId().toString()), first.shard());
+        assertEquals(first, calls.get(1));
+    }
+
+    /**
+     * Sin clave de idempotencia el ID sale de la fuente aleatoria.
+     */
+    @Test
+    void createProduct_withoutIdempotencyKey_shouldUseRandomId() throws Exception {
+        ShardingFeignClient seeded = new ShardingFeignClient(shards(), pool, executor, Tracer.NOOP,
+                new ObjectMapper(), registry, () -> 1234L);
+
+        seeded.execute(request(Request.HttpMethod.POST, "/data/products", "{\"name\":\"Phone\"}", null),
+                new Request.Options());
+
+        assertEquals(1234L, calls.get(0).assignedId());
+        assertEquals(ring.owner("1234"), calls.get(0).shard());
+    }
+
+    /**
+     * El alta de inventario va al shard de su producto con un ID que el anillo asigna a ese shard.
+     */
+    @Test
+    void createInventory_shouldUseProductShard() throws Exception {
+        String owner = ring.owner("42");
+        hold(owner, "/data/products/42");
+
+        Response response = client.execute(request(Request.HttpMethod.POST, "/data/inventory",
+                "{\"product\":{\"id\":42},\"quantity\":5,\"location\":\"Warehouse A\"}", "key-2"), new Request.Options());
+
+        assertEquals(201, response.status());
+        assertEquals(1, calls.size());
+        assertEquals(owner, calls.get(0).shard());
+        assertEquals(owner, ring.owner(calls.get(0).assignedId().toString()));
+    }
+
+    /**
+     * Si el producto aún está en otro shard (cambio de miembros), el alta lo sigue allí y no se
+     * envía a ningún otro.
+     */
+    @Test
+    void createInventory_productOnAnotherShard_shouldFollowIt() throws Exception {
+        String owner = ring.owner("42");
+        String holder = other(owner);
+        hold(holder, "/data/products/42");
+
+        Response response = client.execute(request(Request.HttpMethod.POST, "/data/inventory",
+                "{\"product\":{\"id\":42},\"quantity\":5,\"location\":\"Warehouse A\"}", "key-3"), new Request.Options());
+
+        assertEquals(201, response.status());
+        List<Call> posts = calls(Request.HttpMethod.POST);
+        assertEquals(List.of(owner, holder), posts.stream().map(Call::shard).toList());
+        assertEquals(holder, ring.owner(posts.get(1).assignedId().toString()));
+    }
+
+    /**
+     * Una escritura sobre un ID que ningún shard tiene se envía solo al dueño: no se reparte.
+     */
+    @Test
+    void write_onMissingResource_shouldNotScatter() throws Exception {
+        Response response = client.execute(request(Request.HttpMethod.PUT, "/data/products/7", "{\"name\":\"X\"}", null),
+                new Request.Options());
+
+        assertEquals(404, response.status());
+        assertEquals(List.of(ring.owner("7")), calls(Request.HttpMethod.PUT).stream().map(Call::shard).toList());
+        assertEquals(2, calls(Request.HttpMethod.GET).size());
+    }
+
+    /**
+     * Una escritura sobre un recurso que sigue en otro shard se envía solo a ese shard.
+     */
+    @Test
+    void write_onMovedResource_shouldGoOnlyToHolder() throws Exception {
+        String owner = ring.owner("9");
+        String holder = other(owner);
+        hold(holder, "/data/inventory/9");
+
+        Response response = client.execute(request(Request.HttpMethod.DELETE, "/data/inventory/9", null, null),
+                new Request.Options());
+
+        assertEquals(200, response.status());
+        assertEquals(List.of(owner, holder), calls(Request.HttpMethod.DELETE).stream().map(Call::shard).toList());
+    }
+
+    /**
+     * El alta de una categoría replicada llega a todos los shards con el mismo ID.
+     */
+    @Test
+    void createCategory_shouldBroadcastSameAssignedId() throws Exception {
+        client.execute(request(Request.HttpMethod.POST, "/data/categories", "{\"name\":\"Toys\"}", "key-4"),
+                new Request.Options());
+
+        List<Call> posts = calls(Request.HttpMethod.POST);
+        assertEquals(Set.copyOf(SHARDS), Set.copyOf(posts.stream().map(Call::shard).toList()));
+        assertEquals(1, posts.stream().map(Call::assignedId).distinct().count());
+    }
+
+    /**
+     * Una escritura que no se puede dirigir a un único shard se rechaza sin enviarla.
+     */
+    @Test
+    void unroutableWrite_shouldBeRejected() {
+        DataServiceException ex = assertThrows(DataServiceException.class, () -> client.execute(
+                request(Request.HttpMethod.PUT, "/data/inventory/batch", "[]", null), new Request.Options()));
+
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, ex.getStatus());
+        assertTrue(calls.isEmpty());
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private record Call(Request.HttpMethod method, String shard, String path, Long assignedId) {
+    }
+
+    private DataServiceInstancePool pool() {
+        DataServiceProperties properties = new DataServiceProperties();
+        properties.setUrl(LOGICAL_URL + "/");
+        properties.setInstances(SHARDS);
+        properties.getSharding().setEnabled(true);
+        return new DataServiceInstancePool(properties, new OkHttpClient(), registry);
+    }
+
+    /**
+     * Shards simulados: cada petición llega fijada a un shard con la cabecera de instancia.
+     */
+    private Client shards() {
+        return (request, options) -> {
+            String shard = header(request, LoadBalancingFeignClient.INSTANCE_HEADER);
+            String path = request.url().substring(LOGICAL_URL.length());
+            String assigned = header(request, ShardingFeignClient.ASSIGNED_ID_HEADER);
+            calls.add(new Call(request.httpMethod(), shard, path, assigned != null ? Long.valueOf(assigned) : null));
+            Set<String> held = holdings.getOrDefault(shard, Set.of());
+            int status;
+            if (request.httpMethod() == Request.HttpMethod.POST) {
+                String body = new String(request.body(), StandardCharsets.UTF_8);
+                Matcher product = Pattern.compile("\"id\":(\\d+)").matcher(body);
+                boolean inventory = path.equals("/data/inventory");
+                status = !inventory || product.find() && held.contains("/data/products/" + product.group(1)) ? 201 : 404;
+            } else {
+                Matcher resource = RESOURCE.matcher(path);
+                status = !resource.matches() || held.contains(resource.group(1)) ? 200 : 404;
+            }
+            return Response.builder()
+                    .status(status)
+                    .request(request)
+                    .headers(Map.of())
+                    .body("{}", StandardCharsets.UTF_8)
+                    .build();
+        };
+    }
+
+    private void hold(String shard, String resource) {
+        holdings.computeIfAbsent(shard, key -> ConcurrentHashMap.newKeySet()).add(resource);
+    }
+
+    private List<Call> calls(Request.HttpMethod method) {
+        return calls.stream().filter(call -> call.method() == method).toList();
+    }
+
+    private static String other(String shard) {
+        return SHARDS.stream().filter(candidate -> !candidate.equals(shard)).findFirst().orElseThrow();
+    }
+
+    private static String header(Request request, String name) {
+        Collection<String> values = request.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    private static Request request(Request.HttpMethod method, String path, String body, String idempotencyKey) {
+        Map<String, Collection<String>> headers = idempotencyKey != null
+                ? Map.of(IdempotentRetryer.IDEMPOTENCY_KEY_HEADER, List.of(idempotencyKey))
+                : Map.of();
+        return Request.create(method, LOGICAL_URL + path, headers,
+                body != null ? body.getBytes(StandardCharsets.UTF_8) : null, StandardCharsets.UTF_8, new RequestTemplate());
+    }
+}
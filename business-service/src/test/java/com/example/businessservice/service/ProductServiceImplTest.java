@@ -1,9 +1,16 @@
 package com.example.businessservice.service;
 
 import com.example.businessservice.client.ProductClient;
+import com.example.businessservice.config.FeignConfig;
+import com.example.businessservice.dto.BulkUpdateResponse;
 import com.example.businessservice.dto.CategoryDTO;
 import com.example.businessservice.dto.ProductDTO;
+import com.example.businessservice.exception.BadRequestException;
+import com.example.businessservice.exception.DeadlineExceededException;
+import com.example.businessservice.exception.ResourceNotFoundException;
 import com.example.businessservice.service.impl.ProductServiceImpl;
+import feign.Request;
+import feign.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -13,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -146,4 +154,138 @@ public class ProductServiceImplTest {
         assertNotNull(dto.getCategory());
         assertEquals(1L, dto.getCategory().getId());
     }
+
+    // --------------------------------------------------------------------------
+    // Tests de operaciones masivas
+    // --------------------------------------------------------------------------
+
+    /**
+     * Test para el ajuste masivo de precios por categoría.
+     * Verifica que el servicio delegue en una única llamada al data-service
+     * y mapee el número de productos actualizados.
+     */
+    @Test
+    void adjustPricesByCategory_shouldMapUpdatedCount() {
+        // Arrange
+        Map<String, Object> result = new HashMap<>();
+        result.put("updated", 3);
+
+        when(productClient.adjustPricesByCategory(1L, new BigDecimal("10"), null))
+                .thenReturn(new ResponseEntity<>(result, HttpStatus.OK));
+
+        // Act
+        BulkUpdateResponse response = productService.adjustPricesByCategory(1L, new BigDecimal("10"), null);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(3, response.getUpdated());
+        verify(productClient, times(1)).adjustPricesByCategory(1L, new BigDecimal("10"), null);
+    }
+
+    /**
+     * Test para un ajuste que el data-service rechaza (400, algún precio quedaría en cero).
+     * Verifica que el BadRequestException del decodificador se propague en lugar de devolver null (500).
+     */
+    @Test
+    void adjustPricesByCategory_whenDataServiceRejects_shouldPropagateBadRequest() {
+        // Arrange
+        Exception decoded = decode("PUT", "http://localhost:8081/data/products/category/1/price", 400,
+                "{\"message\":\"Price would round to zero\"}");
+        when(productClient.adjustPricesByCategory(1L, new BigDecimal("-100"), null))
+                .thenThrow((BadRequestException) decoded);
+
+        // Act & Assert
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> productService.adjustPricesByCategory(1L, new BigDecimal("-100"), null));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    /**
+     * Test para mover productos a una categoría inexistente.
+     * Verifica que el ResourceNotFoundException del decodificador se propague (404).
+     */
+    @Test
+    void moveProductsToCategory_whenCategoryNotFound_shouldPropagateNotFound() {
+        // Arrange
+        Exception decoded = decode("PUT", "http://localhost:8081/data/products/category/1/move/999", 404,
+                "{\"message\":\"Category not found with id : '999'\"}");
+        when(productClient.moveProductsToCategory(1L, 999L)).thenThrow((ResourceNotFoundException) decoded);
+
+        // Act & Assert
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> productService.moveProductsToCategory(1L, 999L));
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
+    }
+
+    /**
+     * Test para un error 5xx del data-service al remover una categoría de sus productos.
+     * Verifica que se siga devolviendo null (el controlador responde 500), no un 404.
+     */
+    @Test
+    void removeCategoryFromProducts_whenDataServiceFails_shouldReturnNull() {
+        // Arrange
+        Exception decoded = decode("DELETE", "http://localhost:8081/data/products/category/1/assignments", 500,
+                "Internal Server Error");
+        when(productClient.removeCategoryFromProducts(1L)).thenThrow((RuntimeException) decoded);
+
+        // Act & Assert
+        assertNull(productService.removeCategoryFromProducts(1L));
+    }
+
+    // --------------------------------------------------------------------------
+    // Tests de plazos de petición
+    // --------------------------------------------------------------------------
+
+    /**
+     * Test para un plazo vencido antes de llamar al data-service.
+     * Verifica que la excepción se propague (504) en lugar de devolver null.
+     */
+    @Test
+    void getProductById_whenDeadlineExpired_shouldPropagate() {
+        // Arrange
+        when(productClient.getProductById(1L))
+                .thenThrow(new DeadlineExceededException("Request deadline expired before calling /data/products/1"));
+
+        // Act & Assert
+        DeadlineExceededException ex = assertThrows(DeadlineExceededException.class,
+                () -> productService.getProductById(1L));
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, ex.getStatus());
+    }
+
+    /**
+     * Test para un 504 del data-service (plazo agotado allí).
+     * Verifica que el decodificador lo traduzca a DeadlineExceededException y que el servicio
+     * lo propague en lugar de devolver una lista vacía.
+     */
+    @Test
+    void getAllProducts_whenDataServiceTimesOut_shouldPropagate() {
+        // Arrange
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8081/data/products", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        Response response = Response.builder()
+                .status(504)
+                .request(request)
+                .headers(Map.of())
+                .body("Request deadline expired before processing", StandardCharsets.UTF_8)
+                .build();
+        Exception decoded = new FeignConfig.CustomErrorDecoder().decode("ProductClient#getAllProducts()", response);
+        when(productClient.getAllProducts()).thenThrow((DeadlineExceededException) decoded);
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> productService.getAllProducts());
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static Exception decode(String method, String url, int status, String body) {
+        Request request = Request.create(Request.HttpMethod.valueOf(method), url, Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        Response response = Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+        return new FeignConfig.CustomErrorDecoder().decode("ProductClient#" + method, response);
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.common;
+
+import com.example.common.deadline.DeadlineMetrics;
+import com.example.common.diagnostics.HotKeyRegistry;
+import com.example.common.diagnostics.HotKeysEndpoint;
+import com.example.common.diagnostics.InMemorySpanStore;
+import com.example.common.diagnostics.JfrRequestFilter;
+import com.example.common.diagnostics.JfrServiceMethodAspect;
+import com.example.common.diagnostics.RequestCostEndpoint;
+import com.example.common.diagnostics.RequestCostFilter;
+import com.example.common.diagnostics.RequestCostRegistry;
+import com.example.common.diagnostics.TracesEndpoint;
+import com.example.common.diagnostics.TracingSpanAspect;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Autoconfiguración de la infraestructura compartida por el business-service y el data-service:
+ * coste por petición, eventos JFR, almacén local de trazas, claves calientes y métricas de plazos.
+ *
+ * Los servicios no escanean el paquete {@code com.example.common}, así que los componentes se
+ * registran aquí; la configuración propia de cada servicio (aspectos de claves calientes, filtros
+ * de plazo) sigue en cada uno.
+ */
+@AutoConfiguration
+@Import({
+        RequestCostRegistry.class,
+        RequestCostFilter.class,
+        RequestCostEndpoint.class,
+        JfrRequestFilter.class,
+        JfrServiceMethodAspect.class,
+        InMemorySpanStore.class,
+        TracesEndpoint.class,
+        TracingSpanAspect.class,
+        HotKeyRegistry.class,
+        HotKeysEndpoint.class,
+        DeadlineMetrics.class
+})
+public class CommonAutoConfiguration {
+}
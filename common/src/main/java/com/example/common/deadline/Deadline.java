@@ -0,0 +1,76 @@
+package com.example.common.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plazo límite de la petición en curso, asociado al hilo que la atiende.
+ *
+ * El plazo se propaga entre servicios como tiempo restante relativo en la cabecera
+ * {@link #HEADER} (en milisegundos), para no depender de que los relojes estén sincronizados.
+ */
+public final class Deadline {
+
+    /** Cabecera con los milisegundos que le quedan a la petición del llamante. */
+    public static final String HEADER = "X-Deadline-Remaining-Ms";
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Crea un plazo que vence dentro del tiempo indicado.
+     *
+     * @param millis milisegundos hasta el vencimiento
+     * @return el plazo
+     */
+    public static Deadline afterMillis(long millis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Obtiene el plazo de la petición en curso.
+     *
+     * @return el plazo, o null si la petición no tiene plazo
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Asocia un plazo al hilo actual.
+     *
+     * @param deadline el plazo (null para quitarlo)
+     * @return el plazo que había antes, para restaurarlo
+     */
+    public static Deadline set(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+        return previous;
+    }
+
+    /**
+     * Tiempo restante hasta el vencimiento.
+     *
+     * @return los milisegundos restantes (0 o negativo si ya venció)
+     */
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Indica si el plazo ya venció.
+     *
+     * @return true si no queda tiempo
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.common.deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cuenta el trabajo descartado o completado fuera de plazo ({@code deadline.expired}),
+ * etiquetado por la fase en que se detectó.
+ */
+@Component
+public class DeadlineMetrics {
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param registry el registro de métricas
+     */
+    public DeadlineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Registra un plazo vencido.
+     *
+     * @param stage la fase: {@code arrival} (vencido al llegar), {@code client} (llamada Feign
+     *              no realizada), {@code retry} (reintento no realizado), {@code service} (método
+     *              de servicio no ejecutado), {@code query} (sentencia SQL no ejecutada o cancelada
+     *              por timeout) o {@code request} (petición que terminó fuera de plazo)
+     */
+    public void expired(String stage) {
+        Counter.builder("deadline.expired")
+                .description("Work skipped or finished after the request deadline")
+                .tag("stage", stage)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.common.diagnostics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro de contadores de claves frecuentes ({@link HotKeyTracker}) por tipo de consulta
+ * ({@code product}, {@code category}, {@code inventory-by-product}).
+ *
+ * Sirve para dimensionar cachés y decidir qué precalentar: muestra qué IDs concentran
+ * las lecturas y qué fracción del total representan.
+ */
+@Component
+public class HotKeyRegistry {
+
+    private final boolean enabled;
+    private final int width;
+    private final int depth;
+    private final int topK;
+    private final long decayIntervalNanos;
+    private final Map<String, HotKeyTracker> trackers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor con la configuración de los contadores.
+     *
+     * @param enabled si se registran los accesos
+     * @param width contadores por fila del count-min sketch
+     * @param depth filas del count-min sketch
+     * @param topK claves más frecuentes que se conservan por tipo
+     * @param decayIntervalSeconds intervalo entre decaimientos a la mitad
+     */
+    public HotKeyRegistry(@Value("${hot-keys.enabled:true}") boolean enabled,
+                          @Value("${hot-keys.sketch-width:4096}") int width,
+                          @Value("${hot-keys.sketch-depth:4}") int depth,
+                          @Value("${hot-keys.top-k:100}") int topK,
+                          @Value("${hot-keys.decay-interval-seconds:60}") long decayIntervalSeconds) {
+        this.enabled = enabled;
+        this.width = width;
+        this.depth = depth;
+        this.topK = topK;
+        this.decayIntervalNanos = TimeUnit.SECONDS.toNanos(decayIntervalSeconds);
+    }
+
+    /**
+     * Registra un acceso a un ID.
+     *
+     * @param type el tipo de consulta
+     * @param id el ID consultado (se ignora si es null)
+     */
+    public void record(String type, Long id) {
+        if (enabled && id != null) {
+            trackers.computeIfAbsent(type, key -> new HotKeyTracker(width, depth, topK, decayIntervalNanos)).record(id);
+        }
+    }
+
+    /**
+     * Resume todos los tipos registrados.
+     *
+     * @param limit número máximo de claves por tipo
+     * @return el resumen por tipo
+     */
+    public Map<String, Object> snapshot(int limit) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", enabled);
+        Map<String, Object> byType = new TreeMap<>();
+        trackers.forEach((type, tracker) -> byType.put(type, tracker.snapshot(limit)));
+        snapshot.put("trackers", byType);
+        return snapshot;
+    }
+
+    /**
+     * Resume un tipo de consulta.
+     *
+     * @param type el tipo de consulta
+     * @param limit número máximo de claves
+     * @return el resumen, o null si el tipo no tiene accesos registrados
+     */
+    public Map<String, Object> snapshot(String type, int limit) {
+        HotKeyTracker tracker = trackers.get(type);
+        return tracker == null ? null : tracker.snapshot(limit);
+    }
+
+    /**
+     * Pone a cero todos los contadores.
+     */
+    public void reset() {
+        trackers.values().forEach(HotKeyTracker::reset);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.common.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contador aproximado de frecuencia de claves (IDs) con memoria acotada: un count-min sketch
+ * para estimar la frecuencia de cualquier clave y un conjunto de las {@code topK} claves más
+ * frecuentes.
+ *
+ * Los contadores decaen a la mitad en cada intervalo de decaimiento, de modo que las
+ * estimaciones reflejan la actividad reciente (una clave que deja de pedirse sale del top).
+ * El decaimiento se aplica de forma diferida en la primera llamada tras vencer el intervalo.
+ *
+ * El registro es lock-free salvo cuando una clave nueva entra en el top. Las estimaciones
+ * pueden exceder la frecuencia real en como mucho {@code e/width} veces el total con
+ * probabilidad {@code 1 - e^-depth}; nunca la subestiman (salvo por carreras con el decaimiento).
+ */
+public class HotKeyTracker {
+
+    private final int width;
+    private final int depth;
+    private final int topK;
+    private final long decayIntervalNanos;
+    private final AtomicLongArray counters;
+    private final long[] seeds;
+    private final AtomicLong total = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> candidates = new ConcurrentHashMap<>();
+    private final AtomicLong nextDecayNanos;
+    private volatile long admissionThreshold;
+
+    /**
+     * Crea el contador.
+     *
+     * @param width contadores por fila del sketch (se redondea a potencia de dos)
+     * @param depth número de filas (funciones hash) del sketch
+     * @param topK número de claves más frecuentes que se conservan
+     * @param decayIntervalNanos intervalo entre decaimientos a la mitad (0 o negativo para no decaer)
+     */
+    public HotKeyTracker(int width, int depth, int topK, long decayIntervalNanos) {
+        this.width = Integer.highestOneBit(Math.max(width, 16) - 1) << 1;
+        this.depth = Math.max(depth, 1);
+        this.topK = Math.max(topK, 1);
+        this.decayIntervalNanos = decayIntervalNanos;
+        this.counters = new AtomicLongArray(this.width * this.depth);
+        this.seeds = new long[this.depth];
+        for (int i = 0; i < this.depth; i++) {
+            seeds[i] = mix(0x9E3779B97F4A7C15L * (i + 1));
+        }
+        this.nextDecayNanos = new AtomicLong(System.nanoTime() + decayIntervalNanos);
+    }
+
+    /**
+     * Registra un acceso a la clave.
+     *
+     * @param key la clave
+     */
+    public void record(long key) {
+        decayIfDue();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+        }
+        total.incrementAndGet();
+        if (candidates.replace(key, estimate) == null
+                && (candidates.size() < topK || estimate > admissionThreshold)) {
+            admit(key, estimate);
+        }
+    }
+
+    /**
+     * Estima la frecuencia (decaída) de una clave.
+     *
+     * @param key la clave
+     * @return la frecuencia estimada
+     */
+    public long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Obtiene las claves más frecuentes con su frecuencia estimada y su fracción del total.
+     *
+     * @param limit número máximo de claves
+     * @return las claves, de la más a la menos frecuente
+     */
+    public List<HotKey> top(int limit) {
+        long totalCount = Math.max(total.get(), 1);
+        List<HotKey> hotKeys = new ArrayList<>();
+        for (Long key : candidates.keySet()) {
+            long estimate = estimate(key);
+            hotKeys.add(new HotKey(key, estimate, (double) estimate / totalCount));
+        }
+        hotKeys.sort(Comparator.comparingLong(HotKey::estimatedCount).reversed());
+        return hotKeys.size() > limit ? new ArrayList<>(hotKeys.subList(0, limit)) : hotKeys;
+    }
+
+    /**
+     * Resumen para el endpoint: total decaído, cota de error de las estimaciones y top de claves.
+     *
+     * @param limit número máximo de claves
+     * @return el resumen
+     */
+    public Map<String, Object> snapshot(int limit) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        long totalCount = total.get();
+        snapshot.put("total", totalCount);
+        snapshot.put("errorBound", (long) Math.ceil(Math.E / width * totalCount));
+        snapshot.put("tracked", candidates.size());
+        snapshot.put("top", top(limit));
+        return snapshot;
+    }
+
+    /**
+     * Pone a cero el sketch y el top.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+        total.set(0);
+        candidates.clear();
+        admissionThreshold = 0;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Incorpora una clave nueva al top, desplazando a la menos frecuente si está lleno.
+     */
+    private synchronized void admit(long key, long estimate) {
+        if (candidates.size() >= topK) {
+            Map.Entry<Long, Long> min = null;
+            for (Map.Entry<Long, Long> entry : candidates.entrySet()) {
+                if (min == null || entry.getValue() < min.getValue()) {
+                    min = entry;
+                }
+            }
+            if (min == null || estimate <= min.getValue()) {
+                return;
+            }
+            candidates.remove(min.getKey());
+        }
+        candidates.put(key, estimate);
+        if (candidates.size() >= topK) {
+            admissionThreshold = candidates.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+    }
+
+    /**
+     * Divide todos los contadores entre 2 por cada intervalo vencido. Solo un hilo lo aplica.
+     */
+    private void decayIfDue() {
+        if (decayIntervalNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long due = nextDecayNanos.get();
+        if (now - due < 0) {
+            return;
+        }
+        int halvings = (int) Math.min(63, 1 + (now - due) / decayIntervalNanos);
+        if (!nextDecayNanos.compareAndSet(due, due + (long) halvings * decayIntervalNanos)) {
+            return;
+        }
+        synchronized (this) {
+            for (int i = 0; i < counters.length(); i++) {
+                counters.getAndUpdate(i, value -> value >>> halvings);
+            }
+            total.getAndUpdate(value -> value >>> halvings);
+            candidates.replaceAll((key, value) -> value >>> halvings);
+            candidates.values().removeIf(value -> value == 0);
+            admissionThreshold = admissionThreshold >>> halvings;
+        }
+    }
+
+    private int index(int row, long key) {
+        return row * width + (int) (mix(key ^ seeds[row]) & (width - 1));
+    }
+
+    /**
+     * Finalizador de SplitMix64: dispersa IDs consecutivos por todo el rango.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Clave frecuente.
+     *
+     * @param key la clave (ID)
+     * @param estimatedCount frecuencia estimada (decaída)
+     * @param share fracción estimada del total de accesos
+     */
+    public record HotKey(long key, long estimatedCount, double share) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.common.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/hotkeys} con los IDs más consultados por tipo
+ * ({@code /actuator/hotkeys/product?limit=20}). {@code DELETE} pone los contadores a cero.
+ */
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final HotKeyRegistry hotKeyRegistry;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param hotKeyRegistry registro de claves frecuentes
+     */
+    public HotKeysEndpoint(HotKeyRegistry hotKeyRegistry) {
+        this.hotKeyRegistry = hotKeyRegistry;
+    }
+
+    /**
+     * Resume todos los tipos de consulta.
+     *
+     * @param limit número máximo de claves por tipo (por defecto 20)
+     * @return el resumen por tipo
+     */
+    @ReadOperation
+    public Map<String, Object> hotKeys(@Nullable Integer limit) {
+        return hotKeyRegistry.snapshot(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    /**
+     * Resume un tipo de consulta.
+     *
+     * @param type el tipo ({@code product}, {@code category} o {@code inventory-by-product})
+     * @param limit número máximo de claves (por defecto 20)
+     * @return el resumen, o 404 si el tipo no tiene accesos registrados
+     */
+    @ReadOperation
+    public Map<String, Object> hotKeysByType(@Selector String type, @Nullable Integer limit) {
+        return hotKeyRegistry.snapshot(type, limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    /**
+     * Pone a cero todos los contadores.
+     */
+    @DeleteOperation
+    public void reset() {
+        hotKeyRegistry.reset();
+    }
+}
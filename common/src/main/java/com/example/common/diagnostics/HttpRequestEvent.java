@@ -0,0 +1,31 @@
+package com.example.common.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una petición HTTP atendida por el servicio.
+ */
+@Name("com.example.HttpRequest")
+@Label("HTTP Request")
+@Description("HTTP request served by a controller")
+@Category({"Microservices", "HTTP"})
+@StackTrace(false)
+public class HttpRequestEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("HTTP Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Matched URI pattern, e.g. /api/products/{id}")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,127 @@
+package com.example.common.diagnostics;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exportador local de trazas: conserva en memoria los spans de las últimas
+ * {@code tracing.store.max-traces} trazas, sin necesidad de un backend externo.
+ *
+ * Se registra como {@link SpanProcessor}, por lo que Spring Boot lo añade al proveedor de
+ * trazas de OpenTelemetry y recibe cada span en cuanto termina (sin el retardo del
+ * exportador por lotes).
+ */
+@Component
+public class InMemorySpanStore implements SpanProcessor {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final int maxTraces;
+    private final LinkedHashMap<String, List<TraceSpan>> traces;
+
+    /**
+     * Constructor con la capacidad configurada.
+     *
+     * @param maxTraces número de trazas que se conservan (se descartan las más antiguas)
+     */
+    public InMemorySpanStore(@Value("${tracing.store.max-traces:500}") int maxTraces) {
+        this.maxTraces = maxTraces;
+        this.traces = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<TraceSpan>> eldest) {
+                return size() > InMemorySpanStore.this.maxTraces;
+            }
+        };
+    }
+
+    /**
+     * Obtiene los spans de una traza ordenados por inicio.
+     *
+     * @param traceId el ID de la traza
+     * @return los spans registrados por este servicio (vacío si no se conoce)
+     */
+    public synchronized List<TraceSpan> getTrace(String traceId) {
+        List<TraceSpan> spans = new ArrayList<>(traces.getOrDefault(traceId, List.of()));
+        spans.sort(Comparator.comparingLong(TraceSpan::startEpochNanos));
+        return spans;
+    }
+
+    /**
+     * Resume las trazas más recientes: ID, span raíz, duración y número de spans.
+     *
+     * @param limit número máximo de trazas
+     * @return las trazas, de la más reciente a la más antigua
+     */
+    public synchronized List<Map<String, Object>> getRecentTraces(int limit) {
+        List<Map<String, Object>> recent = new ArrayList<>();
+        List<String> traceIds = new ArrayList<>(traces.keySet());
+        for (int i = traceIds.size() - 1; i >= 0 && recent.size() < limit; i--) {
+            List<TraceSpan> spans = traces.get(traceIds.get(i));
+            TraceSpan root = spans.stream()
+                    .min(Comparator.comparingLong(TraceSpan::startEpochNanos))
+                    .orElseThrow();
+            long end = spans.stream().mapToLong(TraceSpan::endEpochNanos).max().orElse(root.endEpochNanos());
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("traceId", traceIds.get(i));
+            summary.put("root", root.name());
+            summary.put("durationMs", (end - root.startEpochNanos()) / 1_000_000.0);
+            summary.put("spans", spans.size());
+            summary.put("error", spans.stream().anyMatch(TraceSpan::error));
+            recent.add(summary);
+        }
+        return recent;
+    }
+
+    // ==================== SpanProcessor ====================
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanData data = span.toSpanData();
+        SpanContext parent = data.getParentSpanContext();
+        Map<String, String> attributes = new LinkedHashMap<>();
+        data.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        TraceSpan traceSpan = new TraceSpan(data.getTraceId(), data.getSpanId(),
+                parent.isValid() ? parent.getSpanId() : null,
+                data.getResource().getAttribute(SERVICE_NAME), data.getName(), data.getKind().name(),
+                data.getStartEpochNanos(), data.getEndEpochNanos(),
+                data.getStatus().getStatusCode() == StatusCode.ERROR || attributes.containsKey("error"),
+                attributes);
+        synchronized (this) {
+            traces.computeIfAbsent(data.getTraceId(), id -> new ArrayList<>()).add(traceSpan);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.common.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Filtro que emite un {@link HttpRequestEvent} por petición cuando la grabación JFR lo tiene activo.
+ * Sin grabación en curso el coste es una comprobación de un booleano.
+ */
+@Component
+public class JfrRequestFilter extends OncePerRequestFilter {
+
+    private final String serviceName;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param serviceName nombre de la aplicación, incluido en cada evento
+     */
+    public JfrRequestFilter(@Value("${spring.application.name:application}") String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (!event.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        event.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.service = serviceName;
+                event.method = request.getMethod();
+                event.endpoint = pattern != null ? pattern.toString() : request.getRequestURI();
+                event.status = response.getStatus();
+                event.commit();
+            }
+        }
+    }
+}
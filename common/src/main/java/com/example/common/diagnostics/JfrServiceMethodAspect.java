@@ -0,0 +1,39 @@
+package com.example.common.diagnostics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspecto que emite un {@link ServiceMethodEvent} por cada método ejecutado en las
+ * implementaciones de servicio ({@code com.example.*.service.impl}), cuando la grabación
+ * JFR lo tiene activo.
+ */
+@Aspect
+@Component
+public class JfrServiceMethodAspect {
+
+    @Around("within(com.example..service.impl.*ServiceImpl)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceMethodEvent event = new ServiceMethodEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.serviceClass = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+}
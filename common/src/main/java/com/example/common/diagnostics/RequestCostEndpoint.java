@@ -0,0 +1,48 @@
+package com.example.common.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/requestcost} con los endpoints que más memoria asignan
+ * y las peticiones individuales más costosas. Un DELETE reinicia los acumuladores.
+ */
+@Component
+@Endpoint(id = "requestcost")
+public class RequestCostEndpoint {
+
+    private final RequestCostRegistry registry;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param registry acumulador de costes por endpoint
+     */
+    public RequestCostEndpoint(RequestCostRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Obtiene los endpoints con mayor asignación total y las peticiones más costosas.
+     *
+     * @param top número máximo de endpoints (por defecto 10)
+     * @return el resumen
+     */
+    @ReadOperation
+    public Map<String, Object> requestCost(@Nullable Integer top) {
+        return registry.snapshot(top != null ? top : 10);
+    }
+
+    /**
+     * Reinicia los acumuladores.
+     */
+    @DeleteOperation
+    public void reset() {
+        registry.reset();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.common.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Filtro que mide los bytes asignados y el tiempo de CPU del hilo que atiende cada petición
+ * mediante {@link com.sun.management.ThreadMXBean} y los acumula por endpoint en
+ * {@link RequestCostRegistry}.
+ *
+ * Solo se mide el hilo del servlet: el trabajo delegado a otros hilos no se incluye. Las
+ * peticiones a {@code /actuator} no se contabilizan.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestCostFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCostFilter.class);
+
+    private final RequestCostRegistry registry;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final boolean allocationSupported;
+    private final boolean cpuSupported;
+    private final boolean enabled;
+
+    /**
+     * Constructor con inyección de dependencias. Activa la medición de asignaciones y CPU
+     * por hilo si la JVM la soporta.
+     *
+     * @param registry acumulador de costes por endpoint
+     * @param enabled si se mide el coste de las peticiones
+     */
+    public RequestCostFilter(RequestCostRegistry registry, @Value("${request-cost.enabled:true}") boolean enabled) {
+        this.registry = registry;
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.allocationSupported = enabled && threadMXBean.isThreadAllocatedMemorySupported();
+        this.cpuSupported = enabled && threadMXBean.isCurrentThreadCpuTimeSupported();
+        if (allocationSupported && !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        if (cpuSupported && !threadMXBean.isThreadCpuTimeEnabled()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+        this.enabled = allocationSupported || cpuSupported;
+        if (enabled && !this.enabled) {
+            log.warn("Per-request allocation and CPU accounting is not supported by this JVM");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long allocatedBefore = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+        long cpuBefore = cpuSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore : -1;
+            long cpu = cpuSupported ? threadMXBean.getCurrentThreadCpuTime() - cpuBefore : -1;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            registry.record(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN",
+                    request.getRequestURI(), response.getStatus(), allocated, cpu);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.common.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula por endpoint los bytes asignados y el tiempo de CPU de cada petición, y conserva
+ * las peticiones individuales más costosas en asignación.
+ *
+ * Las distribuciones se publican además en Micrometer como {@code http.server.requests.allocated}
+ * (bytes) y {@code http.server.requests.cpu} (nanosegundos), con histograma y percentiles 50/99
+ * (ventana deslizante de Micrometer), etiquetadas por método y endpoint.
+ */
+@Component
+public class RequestCostRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxHeaviestRequests;
+    private final Map<String, EndpointCost> endpoints = new ConcurrentHashMap<>();
+    private final PriorityQueue<RequestCost> heaviest =
+            new PriorityQueue<>(Comparator.comparingLong(RequestCost::allocatedBytes));
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param meterRegistry el registro de métricas
+     * @param maxHeaviestRequests número de peticiones individuales más costosas que se conservan
+     */
+    public RequestCostRegistry(MeterRegistry meterRegistry,
+                               @Value("${request-cost.top-requests:20}") int maxHeaviestRequests) {
+        this.meterRegistry = meterRegistry;
+        this.maxHeaviestRequests = maxHeaviestRequests;
+    }
+
+    /**
+     * Registra el coste de una petición.
+     *
+     * @param method método HTTP
+     * @param endpoint patrón de URI del endpoint
+     * @param uri URI concreta de la petición
+     * @param status código de estado de la respuesta
+     * @param allocatedBytes bytes asignados por el hilo durante la petición (-1 si no se mide)
+     * @param cpuNanos tiempo de CPU del hilo durante la petición (-1 si no se mide)
+     */
+    void record(String method, String endpoint, String uri, int status, long allocatedBytes, long cpuNanos) {
+        String key = method + " " + endpoint;
+        EndpointCost cost = endpoints.computeIfAbsent(key, k -> new EndpointCost(method, endpoint));
+        cost.record(allocatedBytes, cpuNanos);
+
+        // Con request-cost.top-requests=0 no se conservan peticiones individuales
+        if (allocatedBytes >= 0 && maxHeaviestRequests > 0) {
+            synchronized (heaviest) {
+                if (heaviest.size() < maxHeaviestRequests) {
+                    heaviest.add(new RequestCost(key, uri, status, allocatedBytes, cpuNanos, Instant.now()));
+                } else if (heaviest.peek().allocatedBytes() < allocatedBytes) {
+                    heaviest.poll();
+                    heaviest.add(new RequestCost(key, uri, status, allocatedBytes, cpuNanos, Instant.now()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene los endpoints con mayor asignación total y las peticiones individuales más costosas.
+     *
+     * @param top número máximo de endpoints a devolver
+     * @return el resumen
+     */
+    public Map<String, Object> snapshot(int top) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("endpoints", endpoints.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, EndpointCost> entry) -> entry.getValue().allocated.sum())
+                        .reversed())
+                .limit(top)
+                .collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue().describe()),
+                        Map::putAll));
+        List<RequestCost> requests;
+        synchronized (heaviest) {
+            requests = new ArrayList<>(heaviest);
+        }
+        requests.sort(Comparator.comparingLong(RequestCost::allocatedBytes).reversed());
+        result.put("heaviestRequests", requests);
+        return result;
+    }
+
+    /**
+     * Reinicia los acumuladores (las distribuciones de Micrometer no se ven afectadas).
+     */
+    public void reset() {
+        endpoints.clear();
+        synchronized (heaviest) {
+            heaviest.clear();
+        }
+    }
+
+    /**
+     * Coste de una petición individual.
+     *
+     * @param endpoint método y patrón del endpoint
+     * @param uri URI concreta
+     * @param status código de estado
+     * @param allocatedBytes bytes asignados
+     * @param cpuNanos tiempo de CPU
+     * @param timestamp instante de finalización
+     */
+    public record RequestCost(String endpoint, String uri, int status, long allocatedBytes, long cpuNanos,
+                              Instant timestamp) {
+    }
+
+    /**
+     * Acumuladores de un endpoint y sus distribuciones en Micrometer.
+     */
+    private final class EndpointCost {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder allocated = new LongAdder();
+        private final LongAdder cpu = new LongAdder();
+        private final LongAccumulator maxAllocated = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxCpu = new LongAccumulator(Math::max, 0);
+        private final DistributionSummary allocatedSummary;
+        private final DistributionSummary cpuSummary;
+
+        private EndpointCost(String method, String endpoint) {
+            this.allocatedSummary = DistributionSummary.builder("http.server.requests.allocated")
+                    .description("Bytes allocated by the request thread")
+                    .baseUnit("bytes")
+                    .tags("method", method, "uri", endpoint)
+                    .publishPercentiles(0.5, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.cpuSummary = DistributionSummary.builder("http.server.requests.cpu")
+                    .description("CPU time consumed by the request thread")
+                    .baseUnit("nanoseconds")
+                    .tags("method", method, "uri", endpoint)
+                    .publishPercentiles(0.5, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private void record(long allocatedBytes, long cpuNanos) {
+            count.increment();
+            if (allocatedBytes >= 0) {
+                allocated.add(allocatedBytes);
+                maxAllocated.accumulate(allocatedBytes);
+                allocatedSummary.record(allocatedBytes);
+            }
+            if (cpuNanos >= 0) {
+                cpu.add(cpuNanos);
+                maxCpu.accumulate(cpuNanos);
+                cpuSummary.record(cpuNanos);
+            }
+        }
+
+        private Map<String, Object> describe() {
+            long requests = count.sum();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", requests);
+            values.put("totalAllocatedBytes", allocated.sum());
+            values.put("meanAllocatedBytes", requests == 0 ? 0 : allocated.sum() / requests);
+            for (ValueAtPercentile percentile : allocatedSummary.takeSnapshot().percentileValues()) {
+                values.put("p" + Math.round(percentile.percentile() * 100) + "AllocatedBytes", (long) percentile.value());
+            }
+            values.put("maxAllocatedBytes", maxAllocated.get());
+            values.put("totalCpuMs", cpu.sum() / 1_000_000.0);
+            values.put("meanCpuMs", requests == 0 ? 0.0 : cpu.sum() / 1_000_000.0 / requests);
+            for (ValueAtPercentile percentile : cpuSummary.takeSnapshot().percentileValues()) {
+                values.put("p" + Math.round(percentile.percentile() * 100) + "CpuMs", percentile.value() / 1_000_000.0);
+            }
+            values.put("maxCpuMs", maxCpu.get() / 1_000_000.0);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.common.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de la ejecución de un método de las implementaciones de servicio.
+ */
+@Name("com.example.ServiceMethod")
+@Label("Service Method")
+@Category({"Microservices", "Service"})
+@StackTrace(false)
+public class ServiceMethodEvent extends jdk.jfr.Event {
+
+    @Label("Service Class")
+    String serviceClass;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,31 @@
+package com.example.common.diagnostics;
+
+import java.util.Map;
+
+/**
+ * Span finalizado, en un formato independiente de OpenTelemetry para exponerlo en JSON
+ * e intercambiarlo entre servicios.
+ *
+ * @param traceId ID de la traza (32 caracteres hexadecimales)
+ * @param spanId ID del span
+ * @param parentSpanId ID del span padre, o null si es raíz en este servicio
+ * @param service nombre del servicio que lo registró
+ * @param name nombre del span
+ * @param kind tipo (SERVER, CLIENT, INTERNAL...)
+ * @param startEpochNanos inicio en nanosegundos desde epoch
+ * @param endEpochNanos fin en nanosegundos desde epoch
+ * @param error si terminó con error
+ * @param attributes atributos del span
+ */
+public record TraceSpan(String traceId, String spanId, String parentSpanId, String service, String name, String kind,
+                        long startEpochNanos, long endEpochNanos, boolean error, Map<String, String> attributes) {
+
+    /**
+     * Duración del span en milisegundos.
+     *
+     * @return la duración
+     */
+    public double durationMs() {
+        return (endEpochNanos - startEpochNanos) / 1_000_000.0;
+    }
+}
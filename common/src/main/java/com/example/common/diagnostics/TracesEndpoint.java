@@ -0,0 +1,52 @@
+package com.example.common.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/traces} con las trazas registradas por este servicio:
+ * la lista de las más recientes y los spans de una traza concreta ({@code /actuator/traces/{traceId}}).
+ */
+@Component
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private final InMemorySpanStore spanStore;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param spanStore almacén local de spans
+     */
+    public TracesEndpoint(InMemorySpanStore spanStore) {
+        this.spanStore = spanStore;
+    }
+
+    /**
+     * Lista las trazas más recientes.
+     *
+     * @param limit número máximo de trazas (por defecto 50)
+     * @return resumen de cada traza
+     */
+    @ReadOperation
+    public List<Map<String, Object>> recentTraces(@Nullable Integer limit) {
+        return spanStore.getRecentTraces(limit != null ? limit : 50);
+    }
+
+    /**
+     * Obtiene los spans de una traza registrados por este servicio.
+     *
+     * @param traceId el ID de la traza
+     * @return los spans ordenados por inicio
+     */
+    @ReadOperation
+    public List<TraceSpan> trace(@Selector String traceId) {
+        return spanStore.getTrace(traceId);
+    }
+}
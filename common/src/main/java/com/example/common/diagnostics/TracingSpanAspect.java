@@ -0,0 +1,72 @@
+package com.example.common.diagnostics;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspecto que abre un span hijo por cada método de controlador y de servicio de los servicios
+ * ({@code com.example.*.controller}, {@code com.example.*.service.impl}), dentro del span de
+ * servidor HTTP que crea Spring Boot para la petición.
+ *
+ * Solo se crean spans cuando ya hay una traza en curso, para no generar trazas raíz
+ * desde hilos de fondo. Cada servicio puede trazar otras fases propias (llamadas Feign,
+ * repositorios) con {@link #trace(ProceedingJoinPoint, String, String)}.
+ */
+@Aspect
+@Component
+public class TracingSpanAspect {
+
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param tracerProvider proveedor del tracer (ausente si las trazas están desactivadas)
+     */
+    public TracingSpanAspect(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Around("within(com.example..controller.*Controller)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("within(com.example..service.impl.*ServiceImpl)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    /**
+     * Ejecuta el método interceptado dentro de un span hijo {@code owner.método}.
+     *
+     * @param joinPoint el método interceptado
+     * @param component la fase, en la etiqueta {@code component} del span
+     * @param owner el nombre con el que se identifica al dueño del método
+     * @return el resultado del método
+     * @throws Throwable la excepción del método, registrada en el span
+     */
+    public Object trace(ProceedingJoinPoint joinPoint, String component, String owner) throws Throwable {
+        Tracer tracer = tracerProvider.getIfAvailable();
+        if (tracer == null || tracer.currentSpan() == null) {
+            return joinPoint.proceed();
+        }
+        Span span = tracer.nextSpan()
+                .name(owner + "." + joinPoint.getSignature().getName())
+                .tag("component", component)
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.common.diagnostics;
+
+import com.example.common.diagnostics.HotKeyTracker.HotKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para HotKeyTracker.
+ *
+ * Verifica que las claves frecuentes aparezcan en el top con estimaciones que no
+ * subestiman, y que el decaimiento deje de favorecer las claves que ya no se piden.
+ */
+class HotKeyTrackerTest {
+
+    /**
+     * Con una distribución sesgada, las claves calientes encabezan el top en orden.
+     */
+    @Test
+    void top_shouldReturnHeavyHittersInOrder() {
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 10, 0);
+        for (long key = 1; key <= 5000; key++) {
+            tracker.record(key);
+        }
+        for (int i = 0; i < 1000; i++) {
+            tracker.record(42);
+            if (i % 2 == 0) {
+                tracker.record(7);
+            }
+        }
+
+        List<HotKey> top = tracker.top(2);
+
+        assertEquals(42, top.get(0).key());
+        assertEquals(7, top.get(1).key());
+        assertTrue(top.get(0).estimatedCount() >= 1001);
+        assertTrue(tracker.estimate(7) >= 501);
+    }
+
+    /**
+     * Tras varios intervalos de decaimiento, una clave nueva desplaza a la que dejó de pedirse.
+     */
+    @Test
+    void record_shouldDecayOldKeys() throws InterruptedException {
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        for (int i = 0; i < 1000; i++) {
+            tracker.record(1);
+        }
+        Thread.sleep(200);
+        for (int i = 0; i < 100; i++) {
+            tracker.record(2);
+        }
+
+        assertEquals(2, tracker.top(1).get(0).key());
+        assertTrue(tracker.estimate(1) < 100);
+    }
+}
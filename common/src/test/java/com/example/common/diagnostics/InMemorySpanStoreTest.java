@@ -0,0 +1,76 @@
+package com.example.common.diagnostics;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para InMemorySpanStore.
+ *
+ * Registra el almacén como procesador de un proveedor de trazas de OpenTelemetry y verifica
+ * la agrupación de spans por traza y el descarte de las trazas más antiguas.
+ */
+class InMemorySpanStoreTest {
+
+    private final InMemorySpanStore store = new InMemorySpanStore(2);
+    private final SdkTracerProvider provider = SdkTracerProvider.builder().addSpanProcessor(store).build();
+    private final Tracer tracer = provider.get("test");
+
+    @AfterEach
+    void tearDown() {
+        provider.close();
+    }
+
+    /**
+     * Los spans de una traza se devuelven juntos, ordenados por inicio y enlazados con su padre.
+     */
+    @Test
+    void getTrace_shouldGroupSpansOfTrace() {
+        Span root = tracer.spanBuilder("root").setStartTimestamp(1_000, TimeUnit.NANOSECONDS).startSpan();
+        Span child = tracer.spanBuilder("child").setParent(Context.current().with(root))
+                .setStartTimestamp(2_000, TimeUnit.NANOSECONDS).startSpan();
+        child.end();
+        root.end();
+
+        List<TraceSpan> spans = store.getTrace(root.getSpanContext().getTraceId());
+
+        assertEquals(List.of("root", "child"), spans.stream().map(TraceSpan::name).toList());
+        assertNull(spans.get(0).parentSpanId());
+        assertEquals(spans.get(0).spanId(), spans.get(1).parentSpanId());
+    }
+
+    /**
+     * Al superar la capacidad se descarta la traza más antigua; el resumen va de la más reciente a la más antigua.
+     */
+    @Test
+    void onEnd_shouldEvictOldestTraceBeyondCapacity() {
+        String first = endRootSpan("first");
+        String second = endRootSpan("second");
+        String third = endRootSpan("third");
+
+        assertTrue(store.getTrace(first).isEmpty());
+        assertEquals(1, store.getTrace(second).size());
+        assertEquals(List.of(third, second),
+                store.getRecentTraces(10).stream().map(summary -> summary.get("traceId")).toList());
+        Map<String, Object> latest = store.getRecentTraces(1).get(0);
+        assertEquals("third", latest.get("root"));
+        assertEquals(1, latest.get("spans"));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private String endRootSpan(String name) {
+        Span span = tracer.spanBuilder(name).setNoParent().startSpan();
+        span.end();
+        return span.getSpanContext().getTraceId();
+    }
+}
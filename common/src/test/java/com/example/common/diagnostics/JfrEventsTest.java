@@ -0,0 +1,152 @@
+package com.example.common.diagnostics;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests de los eventos JFR de JfrRequestFilter y JfrServiceMethodAspect.
+ *
+ * Cada test hace una grabación JFR corta en esta JVM alrededor de una petición que pasa por el
+ * filtro y llama a un método de servicio a través del aspecto, y lee los eventos del fichero.
+ */
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final JfrRequestFilter filter = new JfrRequestFilter("business-service");
+    private final JfrServiceMethodAspect aspect = new JfrServiceMethodAspect();
+
+    /**
+     * Una petición correcta emite un HttpRequest con el patrón del endpoint y, dentro de su intervalo
+     * y en el mismo hilo, un ServiceMethod con la clase y el método de servicio.
+     */
+    @Test
+    void request_shouldEmitRequestAndNestedServiceMethodEvents() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(false);
+        List<RecordedEvent> events = record(() -> perform(joinPoint, 200));
+
+        RecordedEvent request = single(events, "com.example.HttpRequest");
+        assertEquals("business-service", request.getString("service"));
+        assertEquals("GET", request.getString("method"));
+        assertEquals("/api/products/{id}", request.getString("endpoint"));
+        assertEquals(200, request.getInt("status"));
+
+        RecordedEvent service = single(events, "com.example.ServiceMethod");
+        assertEquals("ProductServiceImpl", service.getString("serviceClass"));
+        assertEquals("getProductById", service.getString("method"));
+        assertFalse(service.getBoolean("failed"));
+        assertEquals(request.getThread().getJavaThreadId(), service.getThread().getJavaThreadId());
+        assertFalse(service.getStartTime().isBefore(request.getStartTime()));
+        assertFalse(service.getEndTime().isAfter(request.getEndTime()));
+    }
+
+    /**
+     * Un método de servicio que lanza una excepción se marca como fallido y la petición lleva su estado.
+     */
+    @Test
+    void request_whenServiceFails_shouldMarkServiceMethodFailed() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(true);
+        List<RecordedEvent> events = record(() -> perform(joinPoint, 500));
+
+        assertEquals(500, single(events, "com.example.HttpRequest").getInt("status"));
+        assertTrue(single(events, "com.example.ServiceMethod").getBoolean("failed"));
+    }
+
+    /**
+     * Sin grabación en curso no se emite nada y la petición se atiende igual.
+     */
+    @Test
+    void request_withoutRecording_shouldStillServeRequest() throws Throwable {
+        MockHttpServletResponse response = perform(joinPoint(false), 200);
+
+        assertEquals(200, response.getStatus());
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HttpRequestEvent.class);
+            recording.enable(ServiceMethodEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    /**
+     * GET /api/products/1 a través del filtro; el servlet resuelve el patrón como lo haría
+     * Spring MVC y llama al método de servicio a través del aspecto.
+     */
+    private MockHttpServletResponse perform(ProceedingJoinPoint joinPoint, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/products/{id}");
+                try {
+                    aspect.record(joinPoint);
+                } catch (Throwable e) {
+                    // El GlobalExceptionHandler respondería con el estado de error
+                }
+                res.setStatus(status);
+            }
+        });
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static ProceedingJoinPoint joinPoint(boolean fails) throws Throwable {
+        Signature signature = mock(Signature.class);
+        when(signature.getDeclaringType()).thenReturn(ProductServiceImpl.class);
+        when(signature.getName()).thenReturn("getProductById");
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        if (fails) {
+            when(joinPoint.proceed()).thenThrow(new IllegalStateException("Data service unavailable"));
+        } else {
+            when(joinPoint.proceed()).thenReturn("product");
+        }
+        return joinPoint;
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String type) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(type))
+                .toList();
+        assertEquals(1, matching.size(), type);
+        return matching.get(0);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /** Clase de servicio cuyo nombre registra el evento. */
+    private static final class ProductServiceImpl {
+    }
+}
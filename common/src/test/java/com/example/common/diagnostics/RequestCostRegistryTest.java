@@ -0,0 +1,54 @@
+package com.example.common.diagnostics;
+
+import com.example.common.diagnostics.RequestCostRegistry.RequestCost;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para RequestCostRegistry.
+ *
+ * Verifica que se conserven solo las peticiones más costosas y que el top se pueda desactivar.
+ */
+class RequestCostRegistryTest {
+
+    /**
+     * Se conservan las N peticiones con más bytes asignados, de mayor a menor.
+     */
+    @Test
+    void snapshot_shouldKeepHeaviestRequests() {
+        RequestCostRegistry registry = new RequestCostRegistry(new SimpleMeterRegistry(), 2);
+        registry.record("GET", "/data/products", "/data/products", 200, 100, 10);
+        registry.record("GET", "/data/products", "/data/products", 200, 300, 10);
+        registry.record("GET", "/data/products/{id}", "/data/products/1", 200, 200, 10);
+
+        List<RequestCost> heaviest = heaviestRequests(registry.snapshot(10));
+
+        assertEquals(List.of(300L, 200L), heaviest.stream().map(RequestCost::allocatedBytes).toList());
+    }
+
+    /**
+     * Con request-cost.top-requests=0 se siguen acumulando los endpoints sin conservar peticiones.
+     */
+    @Test
+    void record_withTopRequestsDisabled_shouldOnlyAggregateEndpoints() {
+        RequestCostRegistry registry = new RequestCostRegistry(new SimpleMeterRegistry(), 0);
+
+        assertDoesNotThrow(() -> registry.record("GET", "/data/products", "/data/products", 200, 100, 10));
+
+        Map<String, Object> snapshot = registry.snapshot(10);
+        assertTrue(heaviestRequests(snapshot).isEmpty());
+        assertTrue(((Map<?, ?>) snapshot.get("endpoints")).containsKey("GET /data/products"));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    @SuppressWarnings("unchecked")
+    private static List<RequestCost> heaviestRequests(Map<String, Object> snapshot) {
+        return (List<RequestCost>) snapshot.get("heaviestRequests");
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.dataservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Filtro que descomprime los cuerpos de petición enviados con {@code Content-Encoding: gzip}.
+ *
+ * Tomcat comprime las respuestas ({@code server.compression.*}) pero no descomprime las
+ * peticiones; el business-service comprime los cuerpos grandes, así que los controladores
+ * deben recibirlos ya descomprimidos.
+ *
+ * El cuerpo se descomprime antes de pasar la petición, sin superar {@code gzip.request.max-inflated-bytes}:
+ * un cuerpo que descomprimido excede el límite se rechaza con 413 y uno que no es gzip válido con 400,
+ * de modo que unos pocos KB comprimidos no pueden inflarse hasta agotar la memoria.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private final long maxInflatedBytes;
+
+    /**
+     * Constructor con la configuración del filtro.
+     *
+     * @param maxInflatedBytes tamaño máximo del cuerpo descomprimido
+     */
+    public GzipRequestFilter(@Value("${gzip.request.max-inflated-bytes:10485760}") long maxInflatedBytes) {
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body;
+        try {
+            body = inflate(request.getInputStream());
+        } catch (ZipException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Malformed gzip request body");
+            return;
+        }
+        if (body == null) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "Decompressed request body exceeds " + maxInflatedBytes + " bytes");
+            return;
+        }
+        filterChain.doFilter(new GzipRequestWrapper(request, body), response);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Descomprime el cuerpo leyendo como mucho un byte más que el límite.
+     *
+     * @param compressed el cuerpo comprimido
+     * @return el cuerpo descomprimido, o null si supera el límite
+     * @throws ZipException si el cuerpo no es gzip válido
+     */
+    private byte[] inflate(InputStream compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(compressed)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxInflatedBytes) {
+                    return null;
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Petición cuyo cuerpo es el ya descomprimido; oculta {@code Content-Encoding} y la longitud
+     * original, que ya no corresponden al cuerpo.
+     */
+    private static final class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+        private ServletInputStream inputStream;
+
+        GzipRequestWrapper(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            if (inputStream == null) {
+                inputStream = new GzipServletInputStream(new ByteArrayInputStream(body));
+            }
+            return inputStream;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHidden(name))
+                    .toList());
+        }
+
+        private static boolean isHidden(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static final class GzipServletInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private boolean finished;
+
+        GzipServletInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            finished = value == -1;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            finished = read == -1;
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Asynchronous reads are not supported for gzip request bodies");
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.dataservice.config;
+
+import com.example.dataservice.service.impl.InventoryQuantityWriteQueue;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Clase de configuración de métricas Micrometer.
+ *
+ * Habilita {@code @Timed} en controladores y servicios (métricas {@code app.controller} y
+ * {@code app.service}, con etiquetas {@code class} y {@code method}) y publica el estado de la
+ * cola de escritura asíncrona de inventario. Las métricas de JVM, GC, hilos, Tomcat y
+ * {@code http.server.requests} las registra Actuator automáticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspecto que mide los métodos de las clases anotadas con {@code @Timed}.
+     *
+     * @param registry el registro de métricas
+     * @return el aspecto de temporización
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Gauges y contadores de la cola de escritura asíncrona de cantidades de inventario.
+     *
+     * @param writeQueue la cola de escritura
+     * @return el binder que registra las métricas {@code inventory.write.queue.*}
+     */
+    @Bean
+    public MeterBinder inventoryWriteQueueMetrics(InventoryQuantityWriteQueue writeQueue) {
+        return registry -> {
+            Gauge.builder("inventory.write.queue.pending", writeQueue, queue -> queue.getStats().getPending())
+                    .description("Distinct inventory ids waiting to be flushed")
+                    .register(registry);
+            Gauge.builder("inventory.write.queue.capacity", writeQueue, queue -> queue.getStats().getCapacity())
+                    .register(registry);
+            Gauge.builder("inventory.write.queue.oldest.pending.age", writeQueue,
+                            queue -> queue.getStats().getOldestPendingAgeMs())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("inventory.write.queue.last.batch.lag", writeQueue,
+                            queue -> queue.getStats().getLastBatchLagMs())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            FunctionCounter.builder("inventory.write.queue.enqueued", writeQueue, queue -> queue.getStats().getEnqueued())
+                    .register(registry);
+            FunctionCounter.builder("inventory.write.queue.coalesced", writeQueue, queue -> queue.getStats().getCoalesced())
+                    .register(registry);
+            FunctionCounter.builder("inventory.write.queue.rejected", writeQueue, queue -> queue.getStats().getRejected())
+                    .register(registry);
+            FunctionCounter.builder("inventory.write.queue.flushed.rows", writeQueue,
+                            queue -> queue.getStats().getFlushedRows())
+                    .register(registry);
+            FunctionCounter.builder("inventory.write.queue.failed.rows", writeQueue,
+                            queue -> queue.getStats().getFailedRows())
+                    .register(registry);
+        };
+    }
+}
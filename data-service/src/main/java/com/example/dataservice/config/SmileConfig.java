@@ -0,0 +1,31 @@
+package com.example.dataservice.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Clase de configuración del formato binario Smile ({@code application/x-jackson-smile}).
+ *
+ * Los endpoints responden en Smile cuando la cabecera {@code Accept} lo pide (el business-service
+ * lo hace para ahorrarse el análisis de JSON en los listados grandes) y aceptan cuerpos en Smile.
+ * JSON sigue siendo el formato por defecto: el conversor de Smile va detrás del de JSON.
+ */
+@Configuration
+public class SmileConfig {
+
+    /**
+     * Crea el conversor de Smile con la misma configuración de Jackson que el de JSON (fechas,
+     * módulos, propiedades {@code spring.jackson.*}); sustituye al que Spring MVC registraría
+     * por defecto con un ObjectMapper sin esa configuración.
+     *
+     * @param builder el constructor de ObjectMapper configurado por Spring Boot
+     * @return el conversor de mensajes Smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -1,19 +1,24 @@
 package com.example.dataservice.controller;
 
 import com.example.dataservice.entity.Category;
+import com.example.dataservice.idempotency.Idempotent;
 import com.example.dataservice.service.CategoryService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de categorías.
  */
 @RestController
+@Timed(value = "app.controller", histogram = true)
 @RequestMapping("/data/categories")
 public class CategoryController {
 
@@ -84,14 +89,22 @@ public class CategoryController {
 
     /**
      * POST /data/categories : Crea una nueva categoría.
+     * Con la cabecera {@code Idempotency-Key}, un reintento con la misma clave devuelve
+     * la respuesta original en lugar de volver a crear el recurso. Con la cabecera
+     * {@code X-Assigned-Id} (data-service particionado) la categoría se crea con ese ID, el mismo
+     * en todos los shards; sin ella, un ID del cuerpo se ignora y lo genera la base de datos.
      *
      * @param category la categoría a crear
+     * @param assignedId el ID asignado por el enrutador de shards, si lo hay
      * @return ResponseEntity con estado 201 (Created) y la nueva categoría en el cuerpo,
      *         o con estado 400 (Bad Request) si los datos de la categoría son inválidos,
      *         o con estado 409 (Conflict) si ya existe una categoría con el mismo nombre
      */
+    @Idempotent
     @PostMapping
-    public ResponseEntity<Category> createCategory(@Valid @RequestBody Category category) {
+    public ResponseEntity<Category> createCategory(@Valid @RequestBody Category category,
+                                                   @RequestHeader(value = "X-Assigned-Id", required = false) Long assignedId) {
+        category.setId(assignedId);
         Category newCategory = categoryService.createCategory(category);
         return new ResponseEntity<>(newCategory, HttpStatus.CREATED);
     }
@@ -114,6 +127,23 @@ public class CategoryController {
         return new ResponseEntity<>(updatedCategory, HttpStatus.OK);
     }
 
+    /**
+     * PATCH /data/categories/{id} : Aplica un JSON Merge Patch (RFC 7396) a una categoría.
+     * Solo se actualizan las columnas de los campos presentes en el cuerpo.
+     *
+     * @param id el ID de la categoría a modificar
+     * @param patch los campos a modificar; null elimina el valor
+     * @return ResponseEntity con estado 200 (OK) y la categoría actualizada en el cuerpo,
+     *         o con estado 400 (Bad Request) si algún campo es inválido o desconocido,
+     *         o con estado 404 (Not Found) si la categoría no se encuentra,
+     *         o con estado 409 (Conflict) si el nuevo nombre entra en conflicto con una categoría existente
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Category> patchCategory(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Category patchedCategory = categoryService.patchCategory(id, patch);
+        return new ResponseEntity<>(patchedCategory, HttpStatus.OK);
+    }
+
     // ==================== Métodos DELETE ====================
 
     /**
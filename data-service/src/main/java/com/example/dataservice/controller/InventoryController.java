@@ -1,19 +1,26 @@
 package com.example.dataservice.controller;
 
+import com.example.dataservice.dto.InventoryUpsertRequest;
+import com.example.dataservice.dto.WriteQueueStats;
 import com.example.dataservice.entity.Inventory;
+import com.example.dataservice.idempotency.Idempotent;
 import com.example.dataservice.service.InventoryService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de registros de inventario.
  */
 @RestController
+@Timed(value = "app.controller", histogram = true)
 @RequestMapping("/data/inventory")
 public class InventoryController {
 
@@ -153,18 +160,38 @@ public class InventoryController {
         return new ResponseEntity<>(inventoryItems, HttpStatus.OK);
     }
 
+    /**
+     * GET /data/inventory/quantity-queue/stats : Obtiene las estadísticas de la cola de escritura
+     * asíncrona de cantidades.
+     *
+     * @return ResponseEntity con estado 200 (OK) y las estadísticas de la cola (pendientes, retraso, volcados) en el cuerpo
+     */
+    @GetMapping("/quantity-queue/stats")
+    public ResponseEntity<WriteQueueStats> getQuantityWriteQueueStats() {
+        WriteQueueStats stats = inventoryService.getQuantityWriteQueueStats();
+        return new ResponseEntity<>(stats, HttpStatus.OK);
+    }
+
     // ==================== Métodos POST ====================
 
     /**
      * POST /data/inventory : Crea un nuevo registro de inventario.
+     * Con la cabecera {@code Idempotency-Key}, un reintento con la misma clave devuelve
+     * la respuesta original en lugar de volver a crear el recurso. Con la cabecera
+     * {@code X-Assigned-Id} (data-service particionado) el registro se crea con ese ID;
+     * sin ella, un ID del cuerpo se ignora y lo genera la base de datos.
      *
      * @param inventory el registro de inventario a crear
+     * @param assignedId el ID asignado por el enrutador de shards, si lo hay
      * @return ResponseEntity con estado 201 (Created) y el nuevo registro de inventario en el cuerpo,
      *         o con estado 400 (Bad Request) si los datos del inventario son inválidos,
      *         o con estado 404 (Not Found) si el producto referenciado no se encuentra
      */
+    @Idempotent
     @PostMapping
-    public ResponseEntity<Inventory> createInventoryItem(@Valid @RequestBody Inventory inventory) {
+    public ResponseEntity<Inventory> createInventoryItem(@Valid @RequestBody Inventory inventory,
+                                                         @RequestHeader(value = "X-Assigned-Id", required = false) Long assignedId) {
+        inventory.setId(assignedId);
         Inventory newInventory = inventoryService.createInventoryItem(inventory);
         return new ResponseEntity<>(newInventory, HttpStatus.CREATED);
     }
@@ -186,21 +213,80 @@ public class InventoryController {
         return new ResponseEntity<>(updatedInventory, HttpStatus.OK);
     }
 
+    /**
+     * PATCH /data/inventory/{id} : Aplica un JSON Merge Patch (RFC 7396) a un registro de inventario.
+     * Solo se actualizan las columnas de los campos presentes en el cuerpo.
+     *
+     * @param id el ID del registro de inventario a modificar
+     * @param patch los campos a modificar (product, quantity, location)
+     * @return ResponseEntity con estado 200 (OK) y el registro de inventario actualizado en el cuerpo,
+     *         o con estado 400 (Bad Request) si algún campo es inválido o desconocido,
+     *         o con estado 404 (Not Found) si el registro de inventario o el producto referenciado no se encuentran,
+     *         o con estado 409 (Conflict) si ya existe inventario para el producto en esa ubicación
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Inventory> patchInventoryItem(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Inventory patchedInventory = inventoryService.patchInventoryItem(id, patch);
+        return new ResponseEntity<>(patchedInventory, HttpStatus.OK);
+    }
+
     /**
      * PATCH /data/inventory/{id}/quantity/{quantity} : Actualiza la cantidad de un registro de inventario.
      *
+     * Con {@code async=true} la cantidad se encola para su escritura por lotes y se responde
+     * sin esperar a la base de datos.
+     *
      * @param id el ID del registro de inventario a actualizar
      * @param quantity la nueva cantidad
+     * @param async si la escritura se encola en lugar de ejecutarse de inmediato
      * @return ResponseEntity con estado 200 (OK) y el registro de inventario actualizado en el cuerpo,
+     *         o con estado 202 (Accepted) y sin cuerpo si la escritura se ha encolado,
      *         o con estado 400 (Bad Request) si la cantidad es inválida,
-     *         o con estado 404 (Not Found) si el registro de inventario no se encuentra
+     *         o con estado 404 (Not Found) si el registro de inventario no se encuentra (solo en modo síncrono),
+     *         o con estado 429 (Too Many Requests) si la cola de escritura está llena
      */
     @PatchMapping("/{id}/quantity/{quantity}")
-    public ResponseEntity<Inventory> updateInventoryQuantity(@PathVariable Long id, @PathVariable Integer quantity) {
+    public ResponseEntity<Inventory> updateInventoryQuantity(@PathVariable Long id, @PathVariable Integer quantity,
+                                                             @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            inventoryService.enqueueInventoryQuantity(id, quantity);
+            return new ResponseEntity<>(HttpStatus.ACCEPTED);
+        }
         Inventory updatedInventory = inventoryService.updateInventoryQuantity(id, quantity);
         return new ResponseEntity<>(updatedInventory, HttpStatus.OK);
     }
 
+    /**
+     * PUT /data/inventory/product/{productId}/location/{location} : Inserta o actualiza el registro de inventario
+     * de un producto en una ubicación con una única sentencia de upsert.
+     *
+     * @param productId el ID del producto
+     * @param location la ubicación
+     * @param quantity la nueva cantidad
+     * @return ResponseEntity con estado 200 (OK) y el registro de inventario resultante en el cuerpo,
+     *         o con estado 400 (Bad Request) si la cantidad es inválida,
+     *         o con estado 404 (Not Found) si el producto no se encuentra
+     */
+    @PutMapping("/product/{productId}/location/{location}")
+    public ResponseEntity<Inventory> upsertInventoryItem(
+            @PathVariable Long productId, @PathVariable String location, @RequestParam Integer quantity) {
+        Inventory inventory = inventoryService.upsertInventoryItem(productId, location, quantity);
+        return new ResponseEntity<>(inventory, HttpStatus.OK);
+    }
+
+    /**
+     * PUT /data/inventory/batch : Inserta o actualiza un lote de registros de inventario por producto y ubicación.
+     *
+     * @param requests los registros a insertar o actualizar
+     * @return ResponseEntity con estado 204 (No Content),
+     *         o con estado 400 (Bad Request) si algún registro es inválido o referencia un producto inexistente
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<Void> upsertInventoryItems(@RequestBody List<InventoryUpsertRequest> requests) {
+        inventoryService.upsertInventoryItems(requests);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     // ==================== Métodos DELETE ====================
 
     /**
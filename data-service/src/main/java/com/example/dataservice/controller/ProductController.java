@@ -1,20 +1,26 @@
 package com.example.dataservice.controller;
 
+import com.example.dataservice.dto.BulkUpdateResult;
 import com.example.dataservice.entity.Product;
+import com.example.dataservice.idempotency.Idempotent;
 import com.example.dataservice.service.ProductService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de productos.
  */
 @RestController
+@Timed(value = "app.controller", histogram = true)
 @RequestMapping("/data/products")
 public class ProductController {
 
@@ -135,14 +141,22 @@ public class ProductController {
 
     /**
      * POST /data/products : Crea un nuevo producto.
+     * Con la cabecera {@code Idempotency-Key}, un reintento con la misma clave devuelve
+     * la respuesta original en lugar de volver a crear el recurso. Con la cabecera
+     * {@code X-Assigned-Id} (data-service particionado) el producto se crea con ese ID;
+     * sin ella, un ID del cuerpo se ignora y lo genera la base de datos.
      *
      * @param product el producto a crear
+     * @param assignedId el ID asignado por el enrutador de shards, si lo hay
      * @return ResponseEntity con estado 201 (Created) y el nuevo producto en el cuerpo,
      *         o con estado 400 (Bad Request) si los datos del producto son inválidos,
      *         o con estado 404 (Not Found) si la categoría referenciada no se encuentra
      */
+    @Idempotent
     @PostMapping
-    public ResponseEntity<Product> createProduct(@Valid @RequestBody Product product) {
+    public ResponseEntity<Product> createProduct(@Valid @RequestBody Product product,
+                                                 @RequestHeader(value = "X-Assigned-Id", required = false) Long assignedId) {
+        product.setId(assignedId);
         Product newProduct = productService.createProduct(product);
         return new ResponseEntity<>(newProduct, HttpStatus.CREATED);
     }
@@ -164,6 +178,22 @@ public class ProductController {
         return new ResponseEntity<>(updatedProduct, HttpStatus.OK);
     }
 
+    /**
+     * PATCH /data/products/{id} : Aplica un JSON Merge Patch (RFC 7396) a un producto.
+     * Solo se actualizan las columnas de los campos presentes en el cuerpo.
+     *
+     * @param id el ID del producto a modificar
+     * @param patch los campos a modificar; null elimina el valor
+     * @return ResponseEntity con estado 200 (OK) y el producto actualizado en el cuerpo,
+     *         o con estado 400 (Bad Request) si algún campo es inválido o desconocido,
+     *         o con estado 404 (Not Found) si el producto o la categoría referenciada no se encuentran
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Product> patchProduct(@PathVariable Long id, @RequestBody Map<String, Object> patch) {
+        Product patchedProduct = productService.patchProduct(id, patch);
+        return new ResponseEntity<>(patchedProduct, HttpStatus.OK);
+    }
+
     /**
      * PUT /data/products/{productId}/category/{categoryId} : Asigna una categoría a un producto.
      *
@@ -179,6 +209,42 @@ public class ProductController {
         return new ResponseEntity<>(product, HttpStatus.OK);
     }
 
+    /**
+     * PUT /data/products/category/{categoryId}/price : Ajusta el precio de todos los productos de una categoría
+     * con una única sentencia UPDATE.
+     *
+     * @param categoryId el ID de la categoría
+     * @param percentage el porcentaje de ajuste (opcional, excluyente con amount)
+     * @param amount el importe fijo a sumar (opcional, excluyente con percentage)
+     * @return ResponseEntity con estado 200 (OK) y el número de productos actualizados en el cuerpo,
+     *         o con estado 400 (Bad Request) si el ajuste es inválido,
+     *         o con estado 404 (Not Found) si la categoría no se encuentra
+     */
+    @PutMapping("/category/{categoryId}/price")
+    public ResponseEntity<BulkUpdateResult> adjustPricesByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) BigDecimal percentage,
+            @RequestParam(required = false) BigDecimal amount) {
+        int updated = productService.adjustPricesByCategory(categoryId, percentage, amount);
+        return new ResponseEntity<>(new BulkUpdateResult(updated), HttpStatus.OK);
+    }
+
+    /**
+     * PUT /data/products/category/{sourceCategoryId}/move/{targetCategoryId} : Mueve todos los productos
+     * de una categoría a otra con una única sentencia UPDATE.
+     *
+     * @param sourceCategoryId el ID de la categoría de origen
+     * @param targetCategoryId el ID de la categoría de destino
+     * @return ResponseEntity con estado 200 (OK) y el número de productos actualizados en el cuerpo,
+     *         o con estado 404 (Not Found) si alguna de las categorías no se encuentra
+     */
+    @PutMapping("/category/{sourceCategoryId}/move/{targetCategoryId}")
+    public ResponseEntity<BulkUpdateResult> moveProductsToCategory(
+            @PathVariable Long sourceCategoryId, @PathVariable Long targetCategoryId) {
+        int updated = productService.moveProductsToCategory(sourceCategoryId, targetCategoryId);
+        return new ResponseEntity<>(new BulkUpdateResult(updated), HttpStatus.OK);
+    }
+
     // ==================== Métodos DELETE ====================
 
     /**
@@ -206,4 +272,18 @@ public class ProductController {
         Product product = productService.removeCategoryFromProduct(productId);
         return new ResponseEntity<>(product, HttpStatus.OK);
     }
+
+    /**
+     * DELETE /data/products/category/{categoryId}/assignments : Remueve la categoría de todos los productos
+     * que la tienen asignada con una única sentencia UPDATE.
+     *
+     * @param categoryId el ID de la categoría
+     * @return ResponseEntity con estado 200 (OK) y el número de productos actualizados en el cuerpo,
+     *         o con estado 404 (Not Found) si la categoría no se encuentra
+     */
+    @DeleteMapping("/category/{categoryId}/assignments")
+    public ResponseEntity<BulkUpdateResult> removeCategoryFromProducts(@PathVariable Long categoryId) {
+        int updated = productService.removeCategoryFromProducts(categoryId);
+        return new ResponseEntity<>(new BulkUpdateResult(updated), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.dataservice.deadline;
+
+import com.example.common.deadline.Deadline;
+import com.example.common.deadline.DeadlineMetrics;
+import com.example.dataservice.exception.DeadlineExceededException;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspecto que evita ejecutar métodos de servicio cuando el plazo de la petición ya venció:
+ * el llamante ya no espera la respuesta, así que el trabajo solo consumiría base de datos.
+ */
+@Aspect
+@Component
+public class DeadlineAspect {
+
+    private final DeadlineMetrics metrics;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param metrics contador de plazos vencidos
+     */
+    public DeadlineAspect(DeadlineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Before("within(com.example.dataservice.service.impl.*ServiceImpl)")
+    public void checkDeadline(JoinPoint joinPoint) {
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            metrics.expired("service");
+            throw new DeadlineExceededException("Request deadline expired before "
+                    + joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.dataservice.deadline;
+
+import com.example.common.deadline.Deadline;
+import com.example.common.deadline.DeadlineMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro que adopta el plazo que el business-service envía en la cabecera {@link Deadline#HEADER}.
+ *
+ * Una petición que llega con el plazo vencido se responde con 504 sin procesarla. Durante la
+ * petición, los métodos de servicio no se ejecutan si el plazo venció ({@link DeadlineAspect})
+ * y cada sentencia SQL recibe como timeout el tiempo restante. Las peticiones sin cabecera no
+ * tienen plazo.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineMetrics metrics;
+    private final boolean enabled;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param metrics contador de plazos vencidos
+     * @param enabled si se respetan los plazos recibidos
+     */
+    public DeadlineFilter(DeadlineMetrics metrics, @Value("${deadline.enabled:true}") boolean enabled) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getHeader(Deadline.HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long remaining;
+        try {
+            remaining = Long.parseLong(request.getHeader(Deadline.HEADER).trim());
+        } catch (NumberFormatException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (remaining <= 0) {
+            metrics.expired("arrival");
+            response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Request deadline expired before processing");
+            return;
+        }
+        Deadline deadline = Deadline.afterMillis(remaining);
+        Deadline previous = Deadline.set(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.set(previous);
+            if (deadline.isExpired()) {
+                metrics.expired("request");
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.dataservice.diagnostics;
+
+import com.example.common.diagnostics.HotKeyRegistry;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspecto que alimenta el {@link HotKeyRegistry} con las lecturas por ID de productos,
+ * categorías e inventario por producto. Se cuentan todas las peticiones, existan o no.
+ */
+@Aspect
+@Component
+public class HotKeyAspect {
+
+    private final HotKeyRegistry hotKeyRegistry;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param hotKeyRegistry registro de claves frecuentes
+     */
+    public HotKeyAspect(HotKeyRegistry hotKeyRegistry) {
+        this.hotKeyRegistry = hotKeyRegistry;
+    }
+
+    @Before("execution(* com.example.dataservice.service.impl.ProductServiceImpl.getProductById(Long)) && args(id)")
+    public void recordProduct(Long id) {
+        hotKeyRegistry.record("product", id);
+    }
+
+    @Before("execution(* com.example.dataservice.service.impl.CategoryServiceImpl.getCategoryById(Long)) && args(id)")
+    public void recordCategory(Long id) {
+        hotKeyRegistry.record("category", id);
+    }
+
+    @Before("execution(* com.example.dataservice.service.impl.InventoryServiceImpl.findInventoryItemsByProductId(Long)) && args(productId)")
+    public void recordInventoryByProduct(Long productId) {
+        hotKeyRegistry.record("inventory-by-product", productId);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.dataservice.diagnostics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Estadísticas de Hibernate que, además de los contadores globales, atribuyen cada evento
+ * a la llamada a repositorio en curso en el hilo ({@link RepositoryCallCounters}).
+ *
+ * Se registra con {@code hibernate.stats.factory} apuntando a {@link Factory}.
+ */
+public class RepositoryAwareStatistics extends StatisticsImpl {
+
+    /**
+     * Factoría usada por Hibernate para crear las estadísticas de la SessionFactory.
+     */
+    public static class Factory implements StatisticsFactory {
+
+        @Override
+        public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+            return new RepositoryAwareStatistics(sessionFactory);
+        }
+    }
+
+    public RepositoryAwareStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.statements++;
+        }
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.queries++;
+        }
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.entityLoads++;
+        }
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.entityFetches++;
+        }
+    }
+
+    @Override
+    public void loadCollection(String role) {
+        super.loadCollection(role);
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.collectionLoads++;
+        }
+    }
+
+    @Override
+    public void entityCacheHit(NavigableRole entityName, String regionName) {
+        super.entityCacheHit(entityName, regionName);
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.secondLevelCacheHits++;
+        }
+    }
+
+    @Override
+    public void entityCacheMiss(NavigableRole entityName, String regionName) {
+        super.entityCacheMiss(entityName, regionName);
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.secondLevelCacheMisses++;
+        }
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        RepositoryCallCounters counters = RepositoryCallCounters.current();
+        if (counters != null) {
+            counters.flushes++;
+        }
+    }
+}
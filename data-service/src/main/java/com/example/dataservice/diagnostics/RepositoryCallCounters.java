@@ -0,0 +1,50 @@
+package com.example.dataservice.diagnostics;
+
+/**
+ * Contadores de Hibernate de la llamada a repositorio en curso en el hilo actual.
+ *
+ * {@link RepositoryStatisticsAspect} instala una instancia al entrar en un método de repositorio
+ * y {@link RepositoryAwareStatistics} la incrementa a la vez que las estadísticas globales,
+ * de modo que cada llamada obtiene sus propios valores aunque haya peticiones concurrentes.
+ */
+final class RepositoryCallCounters {
+
+    private static final ThreadLocal<RepositoryCallCounters> CURRENT = new ThreadLocal<>();
+
+    long statements;
+    long queries;
+    long entityLoads;
+    long entityFetches;
+    long collectionLoads;
+    long secondLevelCacheHits;
+    long secondLevelCacheMisses;
+    long flushes;
+
+    static RepositoryCallCounters current() {
+        return CURRENT.get();
+    }
+
+    static void setCurrent(RepositoryCallCounters counters) {
+        if (counters == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counters);
+        }
+    }
+
+    /**
+     * Suma los contadores de una llamada anidada a los de la llamada que la contiene.
+     *
+     * @param nested contadores de la llamada anidada
+     */
+    void add(RepositoryCallCounters nested) {
+        statements += nested.statements;
+        queries += nested.queries;
+        entityLoads += nested.entityLoads;
+        entityFetches += nested.entityFetches;
+        collectionLoads += nested.collectionLoads;
+        secondLevelCacheHits += nested.secondLevelCacheHits;
+        secondLevelCacheMisses += nested.secondLevelCacheMisses;
+        flushes += nested.flushes;
+    }
+}
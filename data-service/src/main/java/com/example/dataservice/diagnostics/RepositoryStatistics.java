@@ -0,0 +1,93 @@
+package com.example.dataservice.diagnostics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula por método de repositorio las llamadas, el tiempo y los eventos de Hibernate
+ * (sentencias, consultas, cargas de entidades y colecciones, caché de segundo nivel y flushes).
+ */
+@Component
+public class RepositoryStatistics {
+
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+
+    void record(String method, RepositoryCallCounters counters, long elapsedNanos, boolean failed) {
+        MethodStats stats = methods.computeIfAbsent(method, key -> new MethodStats());
+        stats.calls.increment();
+        if (failed) {
+            stats.failures.increment();
+        }
+        stats.timeNanos.add(elapsedNanos);
+        stats.statements.add(counters.statements);
+        stats.queries.add(counters.queries);
+        stats.entityLoads.add(counters.entityLoads);
+        stats.entityFetches.add(counters.entityFetches);
+        stats.collectionLoads.add(counters.collectionLoads);
+        stats.secondLevelCacheHits.add(counters.secondLevelCacheHits);
+        stats.secondLevelCacheMisses.add(counters.secondLevelCacheMisses);
+        stats.flushes.add(counters.flushes);
+    }
+
+    /**
+     * Obtiene una instantánea por método, ordenada por tiempo total descendente.
+     *
+     * @return los contadores de cada método de repositorio
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        methods.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, MethodStats> entry) -> entry.getValue().timeNanos.sum())
+                        .reversed())
+                .forEach(entry -> snapshot.put(entry.getKey(), entry.getValue().describe()));
+        return snapshot;
+    }
+
+    /**
+     * Reinicia los contadores de todos los métodos.
+     */
+    public void reset() {
+        methods.clear();
+    }
+
+    /**
+     * Acumuladores de un método de repositorio.
+     */
+    private static final class MethodStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeNanos = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder entityLoads = new LongAdder();
+        private final LongAdder entityFetches = new LongAdder();
+        private final LongAdder collectionLoads = new LongAdder();
+        private final LongAdder secondLevelCacheHits = new LongAdder();
+        private final LongAdder secondLevelCacheMisses = new LongAdder();
+        private final LongAdder flushes = new LongAdder();
+
+        private Map<String, Object> describe() {
+            long callCount = calls.sum();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("calls", callCount);
+            values.put("failures", failures.sum());
+            values.put("totalTimeMs", timeNanos.sum() / 1_000_000.0);
+            values.put("meanTimeMs", callCount == 0 ? 0.0 : timeNanos.sum() / 1_000_000.0 / callCount);
+            values.put("statements", statements.sum());
+            values.put("statementsPerCall", callCount == 0 ? 0.0 : (double) statements.sum() / callCount);
+            values.put("queries", queries.sum());
+            values.put("entityLoads", entityLoads.sum());
+            values.put("entityFetches", entityFetches.sum());
+            values.put("collectionLoads", collectionLoads.sum());
+            values.put("secondLevelCacheHits", secondLevelCacheHits.sum());
+            values.put("secondLevelCacheMisses", secondLevelCacheMisses.sum());
+            values.put("flushes", flushes.sum());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.dataservice.diagnostics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Aspecto que atribuye las estadísticas de Hibernate a cada método de repositorio.
+ *
+ * Las llamadas anidadas (p. ej. un fragmento personalizado que usa otro repositorio) se
+ * registran por separado y además se suman a la llamada que las contiene.
+ */
+@Aspect
+@Component
+public class RepositoryStatisticsAspect {
+
+    private final RepositoryStatistics repositoryStatistics;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param repositoryStatistics acumulador de estadísticas por método
+     */
+    public RepositoryStatisticsAspect(RepositoryStatistics repositoryStatistics) {
+        this.repositoryStatistics = repositoryStatistics;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || execution(* com.example.dataservice.repository..*.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallCounters outer = RepositoryCallCounters.current();
+        RepositoryCallCounters counters = new RepositoryCallCounters();
+        RepositoryCallCounters.setCurrent(counters);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RepositoryCallCounters.setCurrent(outer);
+            if (outer != null) {
+                outer.add(counters);
+            }
+            String key = repositoryName(joinPoint.getTarget()) + "." + joinPoint.getSignature().getName();
+            repositoryStatistics.record(key, counters, elapsed, failed);
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Nombre del repositorio: la interfaz de la aplicación en los proxies de Spring Data,
+     * o la clase en los repositorios implementados a mano.
+     */
+    static String repositoryName(Object target) {
+        Class<?> type = target.getClass();
+        if (Proxy.isProxyClass(type)) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getPackageName().startsWith("com.example.dataservice")) {
+                    return candidate.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(type).getSimpleName();
+    }
+}
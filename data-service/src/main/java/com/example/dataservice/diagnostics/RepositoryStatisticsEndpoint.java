@@ -0,0 +1,79 @@
+package com.example.dataservice.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/repositorystats} con las estadísticas de Hibernate
+ * globales y por método de repositorio. Un DELETE reinicia ambas.
+ */
+@Component
+@Endpoint(id = "repositorystats")
+public class RepositoryStatisticsEndpoint {
+
+    private final RepositoryStatistics repositoryStatistics;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param repositoryStatistics estadísticas por método de repositorio
+     * @param entityManagerFactory factoría JPA de la que se obtienen las estadísticas globales
+     */
+    public RepositoryStatisticsEndpoint(RepositoryStatistics repositoryStatistics,
+                                        EntityManagerFactory entityManagerFactory) {
+        this.repositoryStatistics = repositoryStatistics;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Obtiene las estadísticas globales y por método.
+     *
+     * @return las estadísticas
+     */
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Statistics statistics = hibernateStatistics();
+        Map<String, Object> global = new LinkedHashMap<>();
+        global.put("enabled", statistics.isStatisticsEnabled());
+        global.put("statements", statistics.getPrepareStatementCount());
+        global.put("queries", statistics.getQueryExecutionCount());
+        global.put("slowestQueryMs", statistics.getQueryExecutionMaxTime());
+        global.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        global.put("entityLoads", statistics.getEntityLoadCount());
+        global.put("entityFetches", statistics.getEntityFetchCount());
+        global.put("collectionLoads", statistics.getCollectionLoadCount());
+        global.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        global.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        global.put("flushes", statistics.getFlushCount());
+        global.put("transactions", statistics.getTransactionCount());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("global", global);
+        result.put("repositories", repositoryStatistics.snapshot());
+        return result;
+    }
+
+    /**
+     * Reinicia las estadísticas globales y por método.
+     */
+    @DeleteOperation
+    public void reset() {
+        hibernateStatistics().clear();
+        repositoryStatistics.reset();
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private Statistics hibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.dataservice.diagnostics;
+
+import com.example.common.diagnostics.TracingSpanAspect;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspecto que abre un span hijo por cada método de repositorio (fase JPA), debajo de los spans
+ * de controlador y de servicio que crea el {@link TracingSpanAspect} compartido.
+ *
+ * Solo se crean spans cuando ya hay una traza en curso, por lo que el hilo escritor de la
+ * cola de inventario y el seeder no generan trazas. Las sentencias SQL se trazan en
+ * {@link TracingDataSourcePostProcessor}.
+ */
+@Aspect
+@Component
+public class RepositoryTracingSpanAspect {
+
+    private final TracingSpanAspect tracingSpanAspect;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param tracingSpanAspect el aspecto compartido que abre los spans
+     */
+    public RepositoryTracingSpanAspect(TracingSpanAspect tracingSpanAspect) {
+        this.tracingSpanAspect = tracingSpanAspect;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || execution(* com.example.dataservice.repository..*.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return tracingSpanAspect.trace(joinPoint, "jpa", RepositoryStatisticsAspect.repositoryName(joinPoint.getTarget()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.dataservice.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de la ejecución de una sentencia JDBC (consultas de Hibernate y de JdbcTemplate).
+ * La duración es la de la llamada {@code execute*}, sin la lectura de filas.
+ */
+@Name("com.example.SqlStatement")
+@Label("SQL Statement")
+@Category({"Microservices", "JDBC"})
+@StackTrace(false)
+public class SqlStatementEvent extends jdk.jfr.Event {
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Batch Size")
+    @Description("Statements in the JDBC batch, or 0 for a single execution")
+    int batchSize;
+}
@@ -0,0 +1,73 @@
+package com.example.dataservice.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/sqltrace} para consultar y cambiar en caliente
+ * el registro de sentencias SQL.
+ *
+ * Ejemplo: {@code curl -X POST -H 'Content-Type: application/json'
+ * -d '{"sampleRate": 0.01, "slowThresholdMs": 50}' localhost:8081/actuator/sqltrace}
+ */
+@Component
+@Endpoint(id = "sqltrace")
+public class SqlTraceEndpoint {
+
+    private final SqlTraceSettings settings;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param settings configuración del registro SQL
+     */
+    public SqlTraceEndpoint(SqlTraceSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Obtiene la configuración actual y los contadores de sentencias.
+     *
+     * @return la configuración y los contadores
+     */
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("enabled", settings.isEnabled());
+        values.put("slowThresholdMs", settings.getSlowThresholdMs());
+        values.put("sampleRate", settings.getSampleRate());
+        values.put("statements", settings.getStatements());
+        values.put("slowStatements", settings.getSlowStatements());
+        values.put("sampledStatements", settings.getSampledStatements());
+        return values;
+    }
+
+    /**
+     * Cambia la configuración; los valores omitidos se mantienen.
+     *
+     * @param enabled si se miden las sentencias
+     * @param slowThresholdMs nuevo umbral de sentencia lenta
+     * @param sampleRate nueva fracción de sentencias trazadas (0 a 1)
+     * @return la configuración resultante
+     */
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Long slowThresholdMs,
+                                      @Nullable Double sampleRate) {
+        if (enabled != null) {
+            settings.setEnabled(enabled);
+        }
+        if (slowThresholdMs != null) {
+            settings.setSlowThresholdMs(slowThresholdMs);
+        }
+        if (sampleRate != null) {
+            settings.setSampleRate(sampleRate);
+        }
+        return settings();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.dataservice.diagnostics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Configuración modificable en caliente del registro de sentencias SQL.
+ *
+ * Los valores iniciales se leen de {@code sql.trace.*} y pueden cambiarse en ejecución
+ * mediante el endpoint de Actuator {@code /actuator/sqltrace}.
+ */
+@Component
+public class SqlTraceSettings {
+
+    private volatile boolean enabled;
+    private volatile long slowThresholdNanos;
+    private volatile double sampleRate;
+    private final int maxBindLength;
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder slowStatements = new LongAdder();
+    private final LongAdder sampledStatements = new LongAdder();
+
+    /**
+     * Constructor con los valores iniciales de configuración.
+     *
+     * @param enabled si se miden las sentencias
+     * @param slowThresholdMs umbral a partir del cual una sentencia se registra como lenta
+     * @param sampleRate fracción de sentencias registradas en la traza muestreada (0 a 1)
+     * @param maxBindLength longitud máxima de cada parámetro en el resumen de parámetros
+     */
+    public SqlTraceSettings(@Value("${sql.trace.enabled:true}") boolean enabled,
+                            @Value("${sql.trace.slow-threshold-ms:200}") long slowThresholdMs,
+                            @Value("${sql.trace.sample-rate:0.0}") double sampleRate,
+                            @Value("${sql.trace.max-bind-length:32}") int maxBindLength) {
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+        this.sampleRate = sampleRate;
+        this.maxBindLength = maxBindLength;
+    }
+
+    /**
+     * Decide si una sentencia ya ejecutada debe registrarse en la traza muestreada.
+     *
+     * @return true con probabilidad {@code sampleRate}
+     */
+    boolean sample() {
+        double rate = sampleRate;
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    void recordStatement(boolean slow, boolean sampled) {
+        statements.increment();
+        if (slow) {
+            slowStatements.increment();
+        }
+        if (sampled) {
+            sampledStatements.increment();
+        }
+    }
+
+    // ==================== Getters y Setters ====================
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdNanos / 1_000_000;
+    }
+
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+    }
+
+    long getSlowThresholdNanos() {
+        return slowThresholdNanos;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+    }
+
+    public int getMaxBindLength() {
+        return maxBindLength;
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getSlowStatements() {
+        return slowStatements.sum();
+    }
+
+    public long getSampledStatements() {
+        return sampledStatements.sum();
+    }
+}
@@ -0,0 +1,362 @@
+package com.example.dataservice.diagnostics;
+
+import com.example.common.deadline.Deadline;
+import com.example.common.deadline.DeadlineMetrics;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jdk.jfr.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Envuelve el {@link DataSource} del servicio para medir cada sentencia SQL ejecutada,
+ * tanto las de Hibernate como las de JdbcTemplate.
+ *
+ * <ul>
+ *   <li>Sentencias por encima de {@code sql.trace.slow-threshold-ms}: se registran en WARN en el
+ *       logger {@code com.example.dataservice.sql.slow} con el tiempo y un resumen de parámetros.</li>
+ *   <li>Una fracción {@code sql.trace.sample-rate} del resto: se registra en INFO en el logger
+ *       {@code com.example.dataservice.sql.trace}.</li>
+ * </ul>
+ *
+ * Sustituye a {@code spring.jpa.show-sql}, que imprimía todas las sentencias de forma síncrona
+ * y sin tiempos. El tiempo medido es el de la llamada {@code execute*} (sin la lectura de filas).
+ * Con una grabación JFR activa se emite además un {@link SqlStatementEvent} por ejecución y,
+ * si la sentencia se ejecuta dentro de una traza, un span {@code jdbc <operación>} hijo del
+ * span en curso (normalmente el del método de repositorio).
+ *
+ * Si la petición tiene plazo ({@link Deadline}), cada ejecución recibe como timeout de consulta
+ * el tiempo restante (redondeado a segundos, la resolución de JDBC) y, si ya venció, no se
+ * ejecuta y se lanza {@link SQLTimeoutException}.
+ */
+@Component
+public class TracingDataSourcePostProcessor implements BeanPostProcessor, SmartInitializingSingleton {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("com.example.dataservice.sql.slow");
+    private static final Logger traceLog = LoggerFactory.getLogger("com.example.dataservice.sql.trace");
+
+    /** Parámetros que se conservan por sentencia para el resumen. */
+    private static final int MAX_BINDS = 20;
+
+    private static final EventType SQL_EVENT = EventType.getEventType(SqlStatementEvent.class);
+
+    /** Longitud máxima del SQL guardado como atributo del span. */
+    private static final int MAX_SPAN_SQL_LENGTH = 500;
+
+    private final ObjectProvider<SqlTraceSettings> settingsProvider;
+    private final ObjectProvider<Tracer> tracerProvider;
+    private final ObjectProvider<DeadlineMetrics> deadlineMetricsProvider;
+
+    /** Configuración y tracer resueltos una sola vez al terminar el arranque (no en cada sentencia). */
+    private volatile boolean resolved;
+    private volatile SqlTraceSettings resolvedSettings;
+    private volatile Tracer resolvedTracer;
+
+    /**
+     * Constructor con inyección de dependencias. La configuración y el tracer se resuelven de forma
+     * diferida porque los BeanPostProcessor se crean antes que el resto de beans.
+     *
+     * @param settingsProvider proveedor de la configuración del registro SQL
+     * @param tracerProvider proveedor del tracer (ausente si las trazas están desactivadas)
+     * @param deadlineMetricsProvider proveedor del contador de plazos vencidos
+     */
+    public TracingDataSourcePostProcessor(ObjectProvider<SqlTraceSettings> settingsProvider,
+                                          ObjectProvider<Tracer> tracerProvider,
+                                          ObjectProvider<DeadlineMetrics> deadlineMetricsProvider) {
+        this.settingsProvider = settingsProvider;
+        this.tracerProvider = tracerProvider;
+        this.deadlineMetricsProvider = deadlineMetricsProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+            return new TracingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        resolvedSettings = settingsProvider.getIfAvailable();
+        resolvedTracer = tracerProvider.getIfAvailable();
+        resolved = true;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Configuración del registro SQL. Durante el arranque (inicialización del esquema, seeders)
+     * se consulta al proveedor en cada llamada, porque el bean puede no existir todavía.
+     */
+    private SqlTraceSettings settings() {
+        return resolved ? resolvedSettings : settingsProvider.getIfAvailable();
+    }
+
+    /**
+     * Tracer, o null si las trazas están desactivadas. Mismo criterio que {@link #settings()}.
+     */
+    private Tracer tracer() {
+        return resolved ? resolvedTracer : tracerProvider.getIfAvailable();
+    }
+
+    /**
+     * Invoca el método sobre el objeto real; {@code equals} y {@code hashCode} se resuelven
+     * sobre el proxy para conservar la identidad que esperan el pool y Hibernate.
+     */
+    private static Object invokeTarget(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && (args == null || args.length == 0)) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // ==================== Clases internas ====================
+
+    /**
+     * DataSource que devuelve conexiones instrumentadas.
+     */
+    private final class TracingDataSource extends DelegatingDataSource {
+
+        private TracingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+
+        private Connection wrapConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+        }
+    }
+
+    /**
+     * Intercepta la creación de sentencias para devolverlas instrumentadas.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(proxy, target, method, args);
+            String name = method.getName();
+            if (name.equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return wrapStatement(statement, PreparedStatement.class, (String) args[0]);
+            }
+            if (name.equals("prepareCall") && result instanceof CallableStatement statement) {
+                return wrapStatement(statement, CallableStatement.class, (String) args[0]);
+            }
+            if (name.equals("createStatement") && result instanceof Statement statement) {
+                return wrapStatement(statement, Statement.class, null);
+            }
+            return result;
+        }
+
+        private Object wrapStatement(Statement statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    /**
+     * Mide las llamadas {@code execute*} y conserva los parámetros de la sentencia preparada.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final List<Object> binds = new ArrayList<>();
+        private int batchSize;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Deadline deadline = method.getName().startsWith("execute") ? Deadline.current() : null;
+            if (deadline == null) {
+                return invokeTraced(proxy, method, args);
+            }
+            long remaining = deadline.remainingMillis();
+            if (remaining <= 0) {
+                deadlineExpired();
+                throw new SQLTimeoutException("Request deadline expired before executing the statement");
+            }
+            int previousTimeout = target.getQueryTimeout();
+            int timeout = (int) Math.min(Integer.MAX_VALUE, (remaining + 999) / 1000);
+            if (previousTimeout == 0 || timeout < previousTimeout) {
+                target.setQueryTimeout(timeout);
+            }
+            try {
+                return invokeTraced(proxy, method, args);
+            } catch (SQLTimeoutException e) {
+                deadlineExpired();
+                throw e;
+            } finally {
+                target.setQueryTimeout(previousTimeout);
+            }
+        }
+
+        private Object invokeTraced(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            SqlTraceSettings settings = settings();
+            boolean tracing = settings != null && settings.isEnabled();
+            Tracer tracer = tracer();
+            boolean traced = tracer != null && tracer.currentSpan() != null;
+            if (!tracing && !traced && !SQL_EVENT.isEnabled()) {
+                return invokeTarget(proxy, target, method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                if (tracing) {
+                    recordBind(index, name.equals("setNull") ? null : args[1]);
+                }
+                return invokeTarget(proxy, target, method, args);
+            }
+            if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(proxy, target, method, args);
+            }
+
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : "<batch>";
+            Span span = traced ? startSpan(tracer, sql) : null;
+            SqlStatementEvent event = new SqlStatementEvent();
+            event.begin();
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(proxy, target, method, args);
+            } catch (Throwable e) {
+                if (span != null) {
+                    span.error(e);
+                }
+                throw e;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (span != null) {
+                    if (batchSize > 0) {
+                        span.tag("db.batch.size", batchSize);
+                    }
+                    span.end();
+                }
+                event.end();
+                if (event.shouldCommit()) {
+                    event.sql = sql;
+                    event.batchSize = batchSize;
+                    event.commit();
+                }
+                if (tracing) {
+                    log(settings, sql, elapsed);
+                }
+                if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void deadlineExpired() {
+            DeadlineMetrics metrics = deadlineMetricsProvider.getIfAvailable();
+            if (metrics != null) {
+                metrics.expired("query");
+            }
+        }
+
+        private Span startSpan(Tracer tracer, String sql) {
+            String statement = sql.strip();
+            int space = statement.indexOf(' ');
+            String operation = (space > 0 ? statement.substring(0, space) : statement).toUpperCase();
+            return tracer.nextSpan()
+                    .name("jdbc " + operation)
+                    .tag("component", "jdbc")
+                    .tag("db.statement", sql.length() > MAX_SPAN_SQL_LENGTH ? sql.substring(0, MAX_SPAN_SQL_LENGTH) + "..." : sql)
+                    .start();
+        }
+
+        private void log(SqlTraceSettings settings, String sql, long elapsed) {
+            boolean slow = elapsed >= settings.getSlowThresholdNanos();
+            boolean sampled = !slow && settings.sample();
+            settings.recordStatement(slow, sampled);
+            if (slow) {
+                slowLog.warn("Slow SQL ({} ms{}): {} | binds {}", elapsed / 1_000_000, batchSuffix(),
+                        sql, bindSummary(settings.getMaxBindLength()));
+            } else if (sampled && traceLog.isInfoEnabled()) {
+                traceLog.info("SQL ({} us{}): {} | binds {}", elapsed / 1_000, batchSuffix(),
+                        sql, bindSummary(settings.getMaxBindLength()));
+            }
+        }
+
+        private void recordBind(int index, Object value) {
+            if (index > MAX_BINDS) {
+                return;
+            }
+            while (binds.size() < index) {
+                binds.add(null);
+            }
+            binds.set(index - 1, value);
+        }
+
+        private String batchSuffix() {
+            return batchSize > 0 ? ", batch of " + batchSize : "";
+        }
+
+        /**
+         * Resume los parámetros conocidos: cadenas truncadas y valores binarios por su tamaño.
+         */
+        private String bindSummary(int maxLength) {
+            StringBuilder summary = new StringBuilder("[");
+            for (int i = 0; i < binds.size(); i++) {
+                if (i > 0) {
+                    summary.append(", ");
+                }
+                Object value = binds.get(i);
+                String text = value instanceof byte[] bytes ? "<" + bytes.length + " bytes>" : String.valueOf(value);
+                summary.append(text.length() > maxLength ? text.substring(0, maxLength) + "..." : text);
+            }
+            return summary.append(']').toString();
+        }
+    }
+}
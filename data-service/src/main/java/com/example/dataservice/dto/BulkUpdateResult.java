@@ -0,0 +1,43 @@
+package com.example.dataservice.dto;
+
+/**
+ * Resultado de una operación masiva ejecutada como una única sentencia UPDATE.
+ */
+public class BulkUpdateResult {
+
+    private int updated;
+
+    /**
+     * Constructor por defecto sin argumentos.
+     */
+    public BulkUpdateResult() {
+    }
+
+    /**
+     * Constructor con el número de filas afectadas.
+     *
+     * @param updated número de registros modificados
+     */
+    public BulkUpdateResult(int updated) {
+        this.updated = updated;
+    }
+
+    // ==================== Getters y Setters ====================
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    // ==================== Métodos heredados ====================
+
+    @Override
+    public String toString() {
+        return "BulkUpdateResult{" +
+                "updated=" + updated +
+                '}';
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.dataservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Objeto de transferencia de datos para la inserción o actualización (upsert)
+ * de un registro de inventario identificado por producto y ubicación.
+ */
+public class InventoryUpsertRequest {
+
+    @NotNull(message = "Product ID is required")
+    private Long productId;
+
+    @NotBlank(message = "Location is required")
+    private String location;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Quantity cannot be negative")
+    private Integer quantity;
+
+    /**
+     * Constructor por defecto sin argumentos.
+     */
+    public InventoryUpsertRequest() {
+    }
+
+    /**
+     * Constructor con todos los campos.
+     *
+     * @param productId el ID del producto
+     * @param location la ubicación del inventario
+     * @param quantity la cantidad en stock
+     */
+    public InventoryUpsertRequest(Long productId, String location, Integer quantity) {
+        this.productId = productId;
+        this.location = location;
+        this.quantity = quantity;
+    }
+
+    // ==================== Getters y Setters ====================
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // ==================== Métodos heredados ====================
+
+    @Override
+    public String toString() {
+        return "InventoryUpsertRequest{" +
+                "productId=" + productId +
+                ", location='" + location + '\'' +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
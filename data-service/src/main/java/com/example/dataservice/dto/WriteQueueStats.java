@@ -0,0 +1,152 @@
+package com.example.dataservice.dto;
+
+/**
+ * Instantánea del estado de la cola de escritura asíncrona de cantidades de inventario.
+ */
+public class WriteQueueStats {
+
+    private int pending;
+    private int capacity;
+    private long oldestPendingAgeMs;
+    private long lastBatchLagMs;
+    private long enqueued;
+    private long coalesced;
+    private long rejected;
+    private long superseded;
+    private long flushedBatches;
+    private long flushedRows;
+    private long missingRows;
+    private long failedRows;
+
+    /**
+     * Constructor por defecto sin argumentos.
+     */
+    public WriteQueueStats() {
+    }
+
+    // ==================== Getters y Setters ====================
+
+    public int getPending() {
+        return pending;
+    }
+
+    public void setPending(int pending) {
+        this.pending = pending;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Edad de la escritura pendiente más antigua (retraso actual de la cola).
+     */
+    public long getOldestPendingAgeMs() {
+        return oldestPendingAgeMs;
+    }
+
+    public void setOldestPendingAgeMs(long oldestPendingAgeMs) {
+        this.oldestPendingAgeMs = oldestPendingAgeMs;
+    }
+
+    /**
+     * Tiempo entre el primer encolado y la confirmación del último lote escrito.
+     */
+    public long getLastBatchLagMs() {
+        return lastBatchLagMs;
+    }
+
+    public void setLastBatchLagMs(long lastBatchLagMs) {
+        this.lastBatchLagMs = lastBatchLagMs;
+    }
+
+    public long getEnqueued() {
+        return enqueued;
+    }
+
+    public void setEnqueued(long enqueued) {
+        this.enqueued = enqueued;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    /**
+     * Escrituras pendientes descartadas por una escritura síncrona posterior del mismo ID.
+     */
+    public long getSuperseded() {
+        return superseded;
+    }
+
+    public void setSuperseded(long superseded) {
+        this.superseded = superseded;
+    }
+
+    public long getFlushedBatches() {
+        return flushedBatches;
+    }
+
+    public void setFlushedBatches(long flushedBatches) {
+        this.flushedBatches = flushedBatches;
+    }
+
+    public long getFlushedRows() {
+        return flushedRows;
+    }
+
+    public void setFlushedRows(long flushedRows) {
+        this.flushedRows = flushedRows;
+    }
+
+    public long getMissingRows() {
+        return missingRows;
+    }
+
+    public void setMissingRows(long missingRows) {
+        this.missingRows = missingRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    // ==================== Métodos heredados ====================
+
+    @Override
+    public String toString() {
+        return "WriteQueueStats{" +
+                "pending=" + pending +
+                ", capacity=" + capacity +
+                ", oldestPendingAgeMs=" + oldestPendingAgeMs +
+                ", lastBatchLagMs=" + lastBatchLagMs +
+                ", enqueued=" + enqueued +
+                ", coalesced=" + coalesced +
+                ", rejected=" + rejected +
+                ", flushedBatches=" + flushedBatches +
+                ", flushedRows=" + flushedRows +
+                ", missingRows=" + missingRows +
+                ", failedRows=" + failedRows +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.dataservice.exception;
+
+/**
+ * Exception thrown when work is skipped because the caller's deadline has already expired.
+ */
+public class DeadlineExceededException extends DataServiceException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.dataservice.exception;
+
+/**
+ * Exception thrown when a request reuses an idempotency key whose original request is still
+ * in progress.
+ */
+public class IdempotencyConflictException extends DataServiceException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
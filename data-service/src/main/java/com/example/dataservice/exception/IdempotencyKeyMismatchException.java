@@ -0,0 +1,11 @@
+package com.example.dataservice.exception;
+
+/**
+ * Exception thrown when an idempotency key is reused with a different request body.
+ */
+public class IdempotencyKeyMismatchException extends DataServiceException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
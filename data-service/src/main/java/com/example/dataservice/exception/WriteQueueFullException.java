@@ -0,0 +1,19 @@
+package com.example.dataservice.exception;
+
+/**
+ * Exception thrown when an asynchronous write queue has reached its capacity
+ * and cannot accept new entries.
+ */
+public class WriteQueueFullException extends DataServiceException {
+
+    private final int capacity;
+
+    public WriteQueueFullException(String queueName, int capacity) {
+        super(String.format("%s is full (capacity: %d), retry later", queueName, capacity));
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
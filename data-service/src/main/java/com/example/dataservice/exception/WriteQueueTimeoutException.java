@@ -0,0 +1,12 @@
+package com.example.dataservice.exception;
+
+/**
+ * Exception thrown when a synchronous write gave up waiting for an asynchronous
+ * write queue to commit the batch that holds the same row.
+ */
+public class WriteQueueTimeoutException extends DataServiceException {
+
+    public WriteQueueTimeoutException(String queueName, long timeoutMs) {
+        super(String.format("%s did not commit the pending batch within %d ms, retry later", queueName, timeoutMs));
+    }
+}
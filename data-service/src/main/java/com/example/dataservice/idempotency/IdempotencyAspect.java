@@ -0,0 +1,154 @@
+package com.example.dataservice.idempotency;
+
+import com.example.dataservice.exception.IdempotencyConflictException;
+import com.example.dataservice.exception.IdempotencyKeyMismatchException;
+import com.example.dataservice.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Aspecto que hace idempotentes los endpoints marcados con {@link Idempotent} cuando la
+ * petición lleva la cabecera {@code Idempotency-Key}:
+ *
+ * <ul>
+ *   <li>La primera petición con una clave se ejecuta y su respuesta correcta se guarda en el
+ *       {@link IdempotencyStore}.</li>
+ *   <li>Una repetición con la misma clave y el mismo cuerpo devuelve la respuesta guardada,
+ *       con la cabecera {@code Idempotent-Replayed: true}, sin volver a insertar.</li>
+ *   <li>Si la original sigue en curso responde 409; si el cuerpo es distinto, 422.</li>
+ *   <li>Si la original falla, la clave se libera y un reintento vuelve a ejecutarse.</li>
+ * </ul>
+ *
+ * Las claves se separan por endpoint. Métrica {@code idempotency.requests} por endpoint y
+ * resultado ({@code executed}, {@code replayed}, {@code in_progress}, {@code mismatch}).
+ */
+@Aspect
+@Component
+public class IdempotencyAspect {
+
+    /** Cabecera con la clave de idempotencia elegida por el cliente. */
+    public static final String HEADER = "Idempotency-Key";
+
+    /** Cabecera que marca una respuesta repetida desde el almacén. */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyAspect.class);
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param store el almacén de claves
+     * @param objectMapper para guardar y repetir las respuestas
+     * @param registry el registro de métricas
+     * @param enabled si se atiende la cabecera
+     */
+    public IdempotencyAspect(IdempotencyStore store, ObjectMapper objectMapper, MeterRegistry registry,
+                             @Value("${idempotency.enabled:true}") boolean enabled) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        this.enabled = enabled;
+    }
+
+    @Around("@annotation(com.example.dataservice.idempotency.Idempotent)")
+    public Object idempotent(ProceedingJoinPoint joinPoint) throws Throwable {
+        String idempotencyKey = currentIdempotencyKey();
+        if (!enabled || idempotencyKey == null) {
+            return joinPoint.proceed();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key must not exceed " + MAX_KEY_LENGTH + " characters");
+        }
+        String endpoint = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        String key = endpoint + ":" + idempotencyKey;
+        String fingerprint = fingerprint(joinPoint.getArgs());
+
+        if (!store.reserve(key, fingerprint)) {
+            return replay(endpoint, key, fingerprint);
+        }
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            store.release(key);
+            throw e;
+        }
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().is2xxSuccessful()) {
+            store.complete(key, response.getStatusCode().value(), objectMapper.writeValueAsString(response.getBody()));
+        } else {
+            store.release(key);
+        }
+        count(endpoint, "executed");
+        return result;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private Object replay(String endpoint, String key, String fingerprint) throws Exception {
+        Optional<IdempotencyRecord> stored = store.find(key);
+        if (stored.isEmpty() || stored.get().inProgress()) {
+            count(endpoint, "in_progress");
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still in progress");
+        }
+        IdempotencyRecord record = stored.get();
+        if (!record.fingerprint().equals(fingerprint)) {
+            count(endpoint, "mismatch");
+            throw new IdempotencyKeyMismatchException("Idempotency-Key was already used with a different request body");
+        }
+        count(endpoint, "replayed");
+        log.debug("Replaying stored response for {}", key);
+        return ResponseEntity.status(record.status())
+                .header(REPLAYED_HEADER, "true")
+                .body(record.body() != null ? objectMapper.readTree(record.body()) : null);
+    }
+
+    private String fingerprint(Object[] args) throws Exception {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object arg : args) {
+                digest.update(objectMapper.writeValueAsBytes(arg));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String currentIdempotencyKey() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        String key = attributes.getRequest().getHeader(HEADER);
+        return key == null || key.isBlank() ? null : key.strip();
+    }
+
+    private void count(String endpoint, String outcome) {
+        Counter.builder("idempotency.requests")
+                .tags("endpoint", endpoint, "outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.dataservice.idempotency;
+
+/**
+ * Estado de una clave de idempotencia: en curso (sin respuesta aún) o completada con el
+ * código y el cuerpo JSON de la respuesta.
+ *
+ * @param key la clave (incluye el endpoint)
+ * @param fingerprint hash del cuerpo de la petición original
+ * @param status código HTTP de la respuesta, o 0 mientras la petición está en curso
+ * @param body cuerpo de la respuesta en JSON, o null
+ * @param createdAtMillis momento en que se registró la clave
+ */
+public record IdempotencyRecord(String key, String fingerprint, int status, String body, long createdAtMillis) {
+
+    /**
+     * Indica si la petición original aún no ha terminado.
+     *
+     * @return true si está en curso
+     */
+    public boolean inProgress() {
+        return status == 0;
+    }
+}
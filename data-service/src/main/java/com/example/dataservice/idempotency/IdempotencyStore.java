@@ -0,0 +1,42 @@
+package com.example.dataservice.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Almacén de claves de idempotencia recientes y sus respuestas.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Busca una clave no caducada.
+     *
+     * @param key la clave
+     * @return su estado, si existe
+     */
+    Optional<IdempotencyRecord> find(String key);
+
+    /**
+     * Registra una clave como en curso si no existe ya.
+     *
+     * @param key la clave
+     * @param fingerprint hash del cuerpo de la petición
+     * @return true si se ha registrado; false si otra petición la registró antes
+     */
+    boolean reserve(String key, String fingerprint);
+
+    /**
+     * Guarda la respuesta de una clave en curso.
+     *
+     * @param key la clave
+     * @param status código HTTP de la respuesta
+     * @param body cuerpo de la respuesta en JSON
+     */
+    void complete(String key, int status, String body);
+
+    /**
+     * Elimina una clave cuya petición falló, para que un reintento vuelva a ejecutarla.
+     *
+     * @param key la clave
+     */
+    void release(String key);
+}
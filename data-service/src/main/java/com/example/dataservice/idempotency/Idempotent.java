@@ -0,0 +1,17 @@
+package com.example.dataservice.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un endpoint de creación que admite la cabecera {@code Idempotency-Key}: una petición
+ * repetida con la misma clave devuelve la respuesta guardada en lugar de volver a ejecutarse.
+ *
+ * @see IdempotencyAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,96 @@
+package com.example.dataservice.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Almacén de claves de idempotencia en memoria, acotado en número de claves (se descartan las
+ * más antiguas) y en antigüedad. Se pierde al reiniciar y no se comparte entre instancias.
+ * Una clave en curso más antigua que el timeout de reserva se considera abandonada y se puede
+ * volver a reservar.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long inProgressTimeoutMillis;
+    private final LinkedHashMap<String, IdempotencyRecord> records = new LinkedHashMap<>();
+
+    /**
+     * Constructor con la configuración del almacén.
+     *
+     * @param maxEntries máximo de claves conservadas
+     * @param ttlSeconds antigüedad máxima de una clave
+     * @param inProgressTimeoutSeconds antigüedad a partir de la cual una clave en curso se da por abandonada
+     *                                 (acotada al TTL)
+     */
+    public InMemoryIdempotencyStore(@Value("${idempotency.max-entries:10000}") int maxEntries,
+                                    @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                    @Value("${idempotency.in-progress-timeout-seconds:60}") long inProgressTimeoutSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.inProgressTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.min(inProgressTimeoutSeconds, ttlSeconds));
+    }
+
+    @Override
+    public synchronized Optional<IdempotencyRecord> find(String key) {
+        evictExpired();
+        IdempotencyRecord record = records.get(key);
+        return record == null || isAbandoned(record) ? Optional.empty() : Optional.of(record);
+    }
+
+    @Override
+    public synchronized boolean reserve(String key, String fingerprint) {
+        evictExpired();
+        IdempotencyRecord existing = records.get(key);
+        if (existing != null && !isAbandoned(existing)) {
+            return false;
+        }
+        // Se quita antes de volver a insertarla para que el orden siga siendo el de creación
+        records.remove(key);
+        records.put(key, new IdempotencyRecord(key, fingerprint, 0, null, System.currentTimeMillis()));
+        while (records.size() > maxEntries) {
+            records.pollFirstEntry();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String key, int status, String body) {
+        IdempotencyRecord record = records.get(key);
+        if (record != null) {
+            records.put(key, new IdempotencyRecord(key, record.fingerprint(), status, body, record.createdAtMillis()));
+        }
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        records.remove(key);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private boolean isAbandoned(IdempotencyRecord record) {
+        return record.inProgress() && record.createdAtMillis() < System.currentTimeMillis() - inProgressTimeoutMillis;
+    }
+
+    /**
+     * Las claves se insertan en orden de creación, así que las caducadas están al principio.
+     */
+    private void evictExpired() {
+        long oldest = System.currentTimeMillis() - ttlMillis;
+        Iterator<Map.Entry<String, IdempotencyRecord>> it = records.entrySet().iterator();
+        while (it.hasNext() && it.next().getValue().createdAtMillis() < oldest) {
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.dataservice.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Almacén de claves de idempotencia en la tabla {@code idempotency_keys} de la base de datos
+ * del servicio: sobrevive a reinicios y lo comparten las instancias que usan la misma base de
+ * datos. La clave primaria garantiza que solo una petición reserve cada clave. La tabla la crean
+ * los scripts data-*.sql de cada base de datos.
+ *
+ * Una clave en curso más antigua que el timeout de reserva (p. ej. de un proceso que terminó
+ * durante la petición) se considera abandonada y se puede volver a reservar. Las claves caducadas
+ * se borran cada {@value #CLEANUP_EVERY} reservas.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final int CLEANUP_EVERY = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMillis;
+    private final long inProgressTimeoutMillis;
+    private final AtomicLong reservations = new AtomicLong();
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcTemplate acceso JDBC a la base de datos del servicio
+     * @param ttlSeconds antigüedad máxima de una clave
+     * @param inProgressTimeoutSeconds antigüedad a partir de la cual una clave en curso se da por abandonada
+     *                                 (acotada al TTL)
+     */
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                @Value("${idempotency.in-progress-timeout-seconds:60}") long inProgressTimeoutSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.inProgressTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.min(inProgressTimeoutSeconds, ttlSeconds));
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        long now = System.currentTimeMillis();
+        List<IdempotencyRecord> records = jdbcTemplate.query(
+                "SELECT idem_key, fingerprint, status, body, created_at FROM idempotency_keys "
+                        + "WHERE idem_key = ? AND created_at >= ? AND (status <> 0 OR created_at >= ?)",
+                (rs, rowNum) -> new IdempotencyRecord(rs.getString(1), rs.getString(2), rs.getInt(3),
+                        rs.getString(4), rs.getLong(5)),
+                key, now - ttlMillis, now - inProgressTimeoutMillis);
+        return records.stream().findFirst();
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint) {
+        long now = System.currentTimeMillis();
+        if (reservations.incrementAndGet() % CLEANUP_EVERY == 0) {
+            jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ?", now - ttlMillis);
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (idem_key, fingerprint, status, body, created_at) "
+                    + "VALUES (?, ?, 0, NULL, ?)", key, fingerprint, now);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Una clave caducada que aún no se ha borrado, o en curso y abandonada, se puede reutilizar
+            int reclaimed = jdbcTemplate.update("UPDATE idempotency_keys SET fingerprint = ?, status = 0, body = NULL, "
+                    + "created_at = ? WHERE idem_key = ? AND (created_at < ? OR (status = 0 AND created_at < ?))",
+                    fingerprint, now, key, now - ttlMillis, now - inProgressTimeoutMillis);
+            return reclaimed == 1;
+        }
+    }
+
+    @Override
+    public void complete(String key, int status, String body) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET status = ?, body = ? WHERE idem_key = ?", status, body, key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idem_key = ? AND status = 0", key);
+    }
+}
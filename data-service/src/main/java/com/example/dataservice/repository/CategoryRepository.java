@@ -2,6 +2,9 @@ package com.example.dataservice.repository;
 
 import com.example.dataservice.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -46,4 +49,28 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @return lista de categorías que coinciden con el patrón de descripción
      */
     List<Category> findByDescriptionContainingIgnoreCase(String description);
-}
\ No newline at end of file
+    
+    /**
+     * Elimina una categoría con una única sentencia DELETE, sin cargar previamente la entidad.
+     *
+     * @param id el ID de la categoría
+     * @return número de filas eliminadas (0 si la categoría no existe)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Category c WHERE c.id = :id")
+    int deleteDirectlyById(@Param("id") Long id);
+    
+    /**
+     * Inserta una categoría con un ID dado en lugar del generado por la base de datos,
+     * para que las réplicas de un data-service particionado compartan el ID.
+     *
+     * @param id el ID de la categoría
+     * @param name el nombre
+     * @param description la descripción
+     * @return número de filas insertadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO categories (id, name, description) VALUES (:id, :name, :description)",
+            nativeQuery = true)
+    int insertWithId(@Param("id") Long id, @Param("name") String name, @Param("description") String description);
+}
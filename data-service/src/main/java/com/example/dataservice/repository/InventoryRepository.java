@@ -2,19 +2,23 @@ package com.example.dataservice.repository;
 
 import com.example.dataservice.entity.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Interfaz de repositorio para la entidad Inventory.
  * Extiende JpaRepository proporcionando operaciones CRUD básicas y permite
  * definir consultas personalizadas para buscar registros de inventario por diferentes criterios.
+ * Incluye el fragmento {@link InventoryRepositoryCustom} para el upsert por producto y ubicación.
  */
 @Repository
-public interface InventoryRepository extends JpaRepository<Inventory, Long> {
+public interface InventoryRepository extends JpaRepository<Inventory, Long>, InventoryRepositoryCustom {
     
     /**
      * Busca registros de inventario por ID de producto.
@@ -24,6 +28,37 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      */
     List<Inventory> findByProductId(Long productId);
     
+    /**
+     * Busca el registro de inventario de un producto en una ubicación concreta.
+     * La combinación (producto, ubicación) es única.
+     *
+     * @param productId el ID del producto
+     * @param location la ubicación
+     * @return un Optional que contiene el registro de inventario si se encuentra
+     */
+    Optional<Inventory> findByProductIdAndLocation(Long productId, String location);
+    
+    /**
+     * Obtiene solo el ID del registro de inventario de un producto en una ubicación, sin cargar
+     * la entidad en el contexto de persistencia.
+     *
+     * @param productId el ID del producto
+     * @param location la ubicación
+     * @return un Optional con el ID si el registro existe
+     */
+    @Query("SELECT i.id FROM Inventory i WHERE i.product.id = :productId AND i.location = :location")
+    Optional<Long> findIdByProductIdAndLocation(@Param("productId") Long productId, @Param("location") String location);
+    
+    /**
+     * Obtiene el ID, el producto y la ubicación de los registros de inventario de varios productos
+     * con una única consulta, sin cargar las entidades.
+     *
+     * @param productIds los IDs de producto
+     * @return filas {@code [id, productId, location]}
+     */
+    @Query("SELECT i.id, i.product.id, i.location FROM Inventory i WHERE i.product.id IN :productIds")
+    List<Object[]> findIdsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+    
     /**
      * Busca registros de inventario por ubicación (sin distinguir mayúsculas/minúsculas).
      *
@@ -85,4 +120,53 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      * @return lista de registros de inventario con la cantidad especificada
      */
     List<Inventory> findByQuantityEquals(Integer quantity);
-}
\ No newline at end of file
+    
+    /**
+     * Elimina un registro de inventario con una única sentencia DELETE, sin cargar previamente la entidad.
+     *
+     * @param id el ID del registro de inventario
+     * @return número de filas eliminadas (0 si el registro no existe)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Inventory i WHERE i.id = :id")
+    int deleteDirectlyById(@Param("id") Long id);
+    
+    /**
+     * Elimina todos los registros de inventario de un producto con una única sentencia DELETE.
+     *
+     * @param productId el ID del producto
+     * @return número de filas eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Inventory i WHERE i.product.id = :productId")
+    int deleteDirectlyByProductId(@Param("productId") Long productId);
+    
+    /**
+     * Elimina todos los registros de inventario de los productos de una categoría con una única
+     * sentencia DELETE.
+     *
+     * @param categoryId el ID de la categoría
+     * @return número de filas eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Inventory i WHERE i.product.id IN (SELECT p.id FROM Product p WHERE p.category.id = :categoryId)")
+    int deleteDirectlyByCategoryId(@Param("categoryId") Long categoryId);
+    
+    /**
+     * Inserta un registro de inventario con un ID dado en lugar del generado por la base de datos
+     * (IDs asignados por el enrutador de un data-service particionado).
+     *
+     * @param id el ID del registro
+     * @param productId el ID del producto
+     * @param quantity la cantidad
+     * @param location la ubicación
+     * @return número de filas insertadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO inventories (id, product_id, quantity, location) " +
+            "VALUES (:id, :productId, :quantity, :location)", nativeQuery = true)
+    int insertWithId(@Param("id") Long id,
+                     @Param("productId") Long productId,
+                     @Param("quantity") Integer quantity,
+                     @Param("location") String location);
+}
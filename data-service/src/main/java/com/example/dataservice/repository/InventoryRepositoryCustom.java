@@ -0,0 +1,42 @@
+package com.example.dataservice.repository;
+
+import com.example.dataservice.dto.InventoryUpsertRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fragmento de repositorio con operaciones de escritura de inventario que no pueden
+ * expresarse como consultas derivadas de Spring Data.
+ */
+public interface InventoryRepositoryCustom {
+
+    /**
+     * Inserta o actualiza la cantidad del registro de inventario identificado por
+     * producto y ubicación mediante una única sentencia SQL (MERGE / ON CONFLICT / ON DUPLICATE KEY).
+     *
+     * @param productId el ID del producto
+     * @param location la ubicación
+     * @param quantity la nueva cantidad
+     * @return número de filas afectadas según el driver JDBC
+     */
+    int upsertByProductAndLocation(Long productId, String location, Integer quantity);
+
+    /**
+     * Inserta o actualiza un lote de registros de inventario por producto y ubicación
+     * en un único batch JDBC.
+     *
+     * @param requests los registros a insertar o actualizar
+     * @return número de registros procesados
+     */
+    int upsertAllByProductAndLocation(List<InventoryUpsertRequest> requests);
+
+    /**
+     * Actualiza la cantidad absoluta de varios registros de inventario por ID
+     * en un único batch JDBC.
+     *
+     * @param quantities mapa de ID de inventario a nueva cantidad
+     * @return número de filas actualizadas (los IDs inexistentes no cuentan)
+     */
+    int updateQuantitiesInBatch(Map<Long, Integer> quantities);
+}
@@ -0,0 +1,141 @@
+package com.example.dataservice.repository;
+
+import com.example.dataservice.dto.InventoryUpsertRequest;
+import com.example.dataservice.entity.Inventory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación del fragmento {@link InventoryRepositoryCustom}.
+ * Genera la sentencia de upsert nativa del motor de base de datos en uso
+ * (H2, MySQL, MariaDB o PostgreSQL) y la ejecuta con JdbcTemplate.
+ */
+public class InventoryRepositoryCustomImpl implements InventoryRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile String upsertSql;
+    private volatile String updateQuantitySql;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcTemplate plantilla JDBC que comparte la transacción JPA en curso
+     */
+    public InventoryRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int upsertByProductAndLocation(Long productId, String location, Integer quantity) {
+        return jdbcTemplate.update(getUpsertSql(), productId, location, quantity);
+    }
+
+    @Override
+    public int upsertAllByProductAndLocation(List<InventoryUpsertRequest> requests) {
+        if (requests.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(getUpsertSql(), requests, requests.size(), (ps, request) -> {
+            ps.setLong(1, request.getProductId());
+            ps.setString(2, request.getLocation());
+            ps.setInt(3, request.getQuantity());
+        });
+        return requests.size();
+    }
+
+    @Override
+    public int updateQuantitiesInBatch(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+        String sql = updateQuantitySql;
+        if (sql == null) {
+            sql = "UPDATE " + resolveTableName() + " SET quantity = ? WHERE id = ?";
+            updateQuantitySql = sql;
+        }
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(quantities.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Algunos drivers no informan filas por sentencia en modo batch
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Obtiene (y cachea) la sentencia de upsert para el motor de base de datos actual.
+     *
+     * @return la sentencia SQL con parámetros (product_id, location, quantity)
+     */
+    private String getUpsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String databaseName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = buildUpsertSql(databaseName, resolveTableName());
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * Construye la sentencia de upsert según el motor de base de datos.
+     *
+     * @param databaseName el nombre del producto de base de datos informado por el driver
+     * @param table la tabla mapeada por la entidad Inventory
+     * @return la sentencia SQL de upsert
+     */
+    private String buildUpsertSql(String databaseName, String table) {
+        String name = databaseName == null ? "" : databaseName.toLowerCase();
+        if (name.contains("mariadb")) {
+            // MariaDB no admite el alias de fila de MySQL 8.0.19+; VALUES() sigue siendo válido
+            return "INSERT INTO " + table + " (product_id, location, quantity) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE quantity = VALUES(quantity)";
+        }
+        if (name.contains("mysql")) {
+            return "INSERT INTO " + table + " (product_id, location, quantity) VALUES (?, ?, ?) AS new_row "
+                    + "ON DUPLICATE KEY UPDATE quantity = new_row.quantity";
+        }
+        if (name.contains("postgresql")) {
+            return "INSERT INTO " + table + " (product_id, location, quantity) VALUES (?, ?, ?) "
+                    + "ON CONFLICT (product_id, location) DO UPDATE SET quantity = EXCLUDED.quantity";
+        }
+        // H2 (perfil dev y tests)
+        return "MERGE INTO " + table + " (product_id, location, quantity) KEY (product_id, location) VALUES (?, ?, ?)";
+    }
+
+    /**
+     * Resuelve el nombre de la tabla de Inventory a partir del metamodelo de Hibernate,
+     * de modo que la sentencia nativa siga el mapeo de la entidad.
+     *
+     * @return el nombre de la tabla
+     */
+    private String resolveTableName() {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Inventory.class);
+        return persister.getTableName();
+    }
+}
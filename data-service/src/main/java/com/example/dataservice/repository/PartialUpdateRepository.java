@@ -0,0 +1,55 @@
+package com.example.dataservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+
+/**
+ * Repositorio para actualizaciones parciales (JSON Merge Patch).
+ * Construye un UPDATE que solo asigna los atributos indicados, de modo que la sentencia
+ * toca únicamente las columnas modificadas y no requiere cargar la entidad.
+ */
+@Repository
+public class PartialUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Actualiza los atributos indicados de una entidad identificada por su ID.
+     * Los valores null se escriben como NULL en la columna.
+     *
+     * @param entityClass la clase de la entidad
+     * @param id el ID de la entidad
+     * @param values mapa de nombre de atributo a nuevo valor (no vacío)
+     * @param <T> el tipo de la entidad
+     * @return número de filas afectadas (0 si la entidad no existe)
+     */
+    public <T> int updateAttributes(Class<T> entityClass, Long id, Map<String, Object> values) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+        Root<T> root = update.from(entityClass);
+
+        values.forEach((attribute, value) -> {
+            Path<Object> path = root.get(attribute);
+            if (value == null) {
+                update.set(path, cb.nullLiteral(path.getJavaType()));
+            } else {
+                update.set(path, value);
+            }
+        });
+        update.where(cb.equal(root.get("id"), id));
+
+        // Igual que @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
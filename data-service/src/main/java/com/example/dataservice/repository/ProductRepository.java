@@ -1,7 +1,9 @@
 package com.example.dataservice.repository;
 
+import com.example.dataservice.entity.Category;
 import com.example.dataservice.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -67,4 +69,139 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     @Query("SELECT p FROM Product p JOIN p.category c WHERE LOWER(c.name) = LOWER(:categoryName)")
     List<Product> findByCategoryName(@Param("categoryName") String categoryName);
-}
\ No newline at end of file
+    
+    // ==================== Operaciones masivas ====================
+    // Las sentencias UPDATE masivas no pasan por el contexto de persistencia: se vacía antes
+    // (flushAutomatically) y se limpia después (clearAutomatically) para no devolver entidades obsoletas.
+    // Hibernate invalida además la región de caché de segundo nivel de Product al ejecutarlas.
+    
+    /**
+     * Multiplica el precio de todos los productos de una categoría por el factor indicado,
+     * redondeando a dos decimales.
+     *
+     * @param categoryId el ID de la categoría
+     * @param factor el factor multiplicador (por ejemplo 1.10 para un aumento del 10%)
+     * @return número de productos actualizados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.price = ROUND(p.price * :factor, 2) WHERE p.category.id = :categoryId")
+    int multiplyPriceByCategoryId(@Param("categoryId") Long categoryId, @Param("factor") BigDecimal factor);
+    
+    /**
+     * Suma un importe fijo (positivo o negativo) al precio de todos los productos de una categoría.
+     *
+     * @param categoryId el ID de la categoría
+     * @param amount el importe a sumar
+     * @return número de productos actualizados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.price = p.price + :amount WHERE p.category.id = :categoryId")
+    int addToPriceByCategoryId(@Param("categoryId") Long categoryId, @Param("amount") BigDecimal amount);
+    
+    /**
+     * Cuenta los productos de una categoría cuyo precio dejaría de ser positivo al sumarle el importe dado.
+     *
+     * @param categoryId el ID de la categoría
+     * @param amount el importe a sumar
+     * @return número de productos que quedarían con precio menor o igual a cero
+     */
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId AND p.price + :amount <= 0")
+    long countByCategoryIdWithNonPositivePriceAfterAdding(@Param("categoryId") Long categoryId,
+                                                          @Param("amount") BigDecimal amount);
+    
+    /**
+     * Cuenta los productos de una categoría cuyo precio, multiplicado por el factor dado y redondeado
+     * a dos decimales como en {@link #multiplyPriceByCategoryId}, dejaría de ser positivo.
+     *
+     * @param categoryId el ID de la categoría
+     * @param factor el factor multiplicador
+     * @return número de productos que quedarían con precio menor o igual a cero
+     */
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId AND ROUND(p.price * :factor, 2) <= 0")
+    long countByCategoryIdWithNonPositivePriceAfterMultiplying(@Param("categoryId") Long categoryId,
+                                                               @Param("factor") BigDecimal factor);
+    
+    /**
+     * Mueve todos los productos de una categoría a otra.
+     *
+     * @param sourceCategoryId el ID de la categoría de origen
+     * @param target la categoría de destino
+     * @return número de productos actualizados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.category = :target WHERE p.category.id = :sourceCategoryId")
+    int reassignCategory(@Param("sourceCategoryId") Long sourceCategoryId, @Param("target") Category target);
+    
+    /**
+     * Remueve la categoría de todos los productos que la tienen asignada.
+     *
+     * @param categoryId el ID de la categoría
+     * @return número de productos actualizados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.category = null WHERE p.category.id = :categoryId")
+    int clearCategory(@Param("categoryId") Long categoryId);
+    
+    // ==================== Escrituras directas ====================
+    
+    /**
+     * Inserta un producto con un ID dado en lugar del generado por la base de datos
+     * (IDs asignados por el enrutador de un data-service particionado).
+     *
+     * @param id el ID del producto
+     * @param name el nombre
+     * @param description la descripción
+     * @param price el precio
+     * @param categoryId el ID de la categoría, o null para dejarlo sin categoría
+     * @return número de filas insertadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO products (id, name, description, price, category_id) " +
+            "VALUES (:id, :name, :description, :price, :categoryId)", nativeQuery = true)
+    int insertWithId(@Param("id") Long id,
+                     @Param("name") String name,
+                     @Param("description") String description,
+                     @Param("price") BigDecimal price,
+                     @Param("categoryId") Long categoryId);
+    
+    /**
+     * Actualiza todos los campos editables de un producto con una única sentencia UPDATE,
+     * sin cargar previamente la entidad.
+     *
+     * @param id el ID del producto
+     * @param name el nuevo nombre
+     * @param description la nueva descripción
+     * @param price el nuevo precio
+     * @param category la nueva categoría (referencia), o null para dejarlo sin categoría
+     * @return número de filas afectadas (0 si el producto no existe)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.name = :name, p.description = :description, p.price = :price, " +
+            "p.category = :category WHERE p.id = :id")
+    int updateDirectlyById(@Param("id") Long id,
+                           @Param("name") String name,
+                           @Param("description") String description,
+                           @Param("price") BigDecimal price,
+                           @Param("category") Category category);
+    
+    /**
+     * Elimina un producto con una única sentencia DELETE, sin cargar previamente la entidad.
+     *
+     * @param id el ID del producto
+     * @return número de filas eliminadas (0 si el producto no existe)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Product p WHERE p.id = :id")
+    int deleteDirectlyById(@Param("id") Long id);
+    
+    /**
+     * Elimina todos los productos de una categoría con una única sentencia DELETE.
+     * Su inventario debe eliminarse antes.
+     *
+     * @param categoryId el ID de la categoría
+     * @return número de filas eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Product p WHERE p.category.id = :categoryId")
+    int deleteDirectlyByCategoryId(@Param("categoryId") Long categoryId);
+}
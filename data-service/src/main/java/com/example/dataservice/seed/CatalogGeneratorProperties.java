@@ -0,0 +1,133 @@
+package com.example.dataservice.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Parámetros del generador de catálogo sintético (prefijo {@code catalog.generator}).
+ *
+ * Las cardinalidades se expresan en número de filas; el sesgo es el exponente aplicado a una
+ * variable uniforme para elegir categoría y ubicación (1 = uniforme, 3 = la mayoría de filas
+ * en los primeros IDs).
+ */
+@ConfigurationProperties(prefix = "catalog.generator")
+public class CatalogGeneratorProperties {
+
+    private int products = 1_000_000;
+    private int categories = 0;
+    private int locations = 50;
+    private int maxLocationsPerProduct = 3;
+    private double categorySkew = 3.0;
+    private double locationSkew = 2.0;
+    private double uncategorizedRatio = 0.02;
+    private double outOfStockRatio = 0.05;
+    private long seed = 42;
+    private int batchSize = 1_000;
+
+    /**
+     * Número de categorías efectivo: si no se configura, una por cada 100 productos (mínimo 10).
+     *
+     * @return el número de categorías a generar
+     */
+    public int effectiveCategories() {
+        return categories > 0 ? categories : Math.max(10, products / 100);
+    }
+
+    // ==================== Getters y Setters ====================
+
+    public int getProducts() {
+        return products;
+    }
+
+    public void setProducts(int products) {
+        this.products = products;
+    }
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public void setCategories(int categories) {
+        this.categories = categories;
+    }
+
+    public int getLocations() {
+        return locations;
+    }
+
+    public void setLocations(int locations) {
+        this.locations = locations;
+    }
+
+    public int getMaxLocationsPerProduct() {
+        return maxLocationsPerProduct;
+    }
+
+    public void setMaxLocationsPerProduct(int maxLocationsPerProduct) {
+        this.maxLocationsPerProduct = maxLocationsPerProduct;
+    }
+
+    public double getCategorySkew() {
+        return categorySkew;
+    }
+
+    public void setCategorySkew(double categorySkew) {
+        this.categorySkew = categorySkew;
+    }
+
+    public double getLocationSkew() {
+        return locationSkew;
+    }
+
+    public void setLocationSkew(double locationSkew) {
+        this.locationSkew = locationSkew;
+    }
+
+    public double getUncategorizedRatio() {
+        return uncategorizedRatio;
+    }
+
+    public void setUncategorizedRatio(double uncategorizedRatio) {
+        this.uncategorizedRatio = uncategorizedRatio;
+    }
+
+    public double getOutOfStockRatio() {
+        return outOfStockRatio;
+    }
+
+    public void setOutOfStockRatio(double outOfStockRatio) {
+        this.outOfStockRatio = outOfStockRatio;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    // ==================== Métodos heredados ====================
+
+    @Override
+    public String toString() {
+        return "CatalogGeneratorProperties{" +
+                "products=" + products +
+                ", categories=" + effectiveCategories() +
+                ", locations=" + locations +
+                ", maxLocationsPerProduct=" + maxLocationsPerProduct +
+                ", categorySkew=" + categorySkew +
+                ", locationSkew=" + locationSkew +
+                ", uncategorizedRatio=" + uncategorizedRatio +
+                ", outOfStockRatio=" + outOfStockRatio +
+                ", seed=" + seed +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.dataservice.seed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Destino de filas del {@link SyntheticCatalogGenerator} que las inserta en una tabla
+ * mediante batches JDBC de tamaño fijo. Tras generar hay que llamar a {@link #flush()}
+ * para enviar el último lote incompleto.
+ */
+public class JdbcBatchRowSink implements SyntheticCatalogGenerator.RowSink {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+    private final int batchSize;
+    private final List<Object[]> rows;
+
+    /**
+     * Crea el destino para una tabla.
+     *
+     * @param jdbcTemplate plantilla JDBC sobre la base de destino
+     * @param table la tabla de destino
+     * @param columns las columnas, en el orden de las filas generadas (p. ej. {@code PRODUCT_COLUMNS})
+     * @param batchSize número de filas por batch JDBC
+     */
+    public JdbcBatchRowSink(JdbcTemplate jdbcTemplate, String table, String columns, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = "INSERT INTO " + table + " (" + columns + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.split(",").length, "?")) + ")";
+        this.batchSize = batchSize;
+        this.rows = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void accept(Object[] row) {
+        rows.add(row);
+        if (rows.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Envía las filas acumuladas.
+     */
+    public void flush() {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
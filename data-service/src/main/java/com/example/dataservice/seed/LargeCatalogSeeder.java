@@ -0,0 +1,189 @@
+package com.example.dataservice.seed;
+
+import com.example.dataservice.entity.Category;
+import com.example.dataservice.entity.Inventory;
+import com.example.dataservice.entity.Product;
+import com.example.dataservice.seed.SyntheticCatalogGenerator.GeneratedCounts;
+import com.example.dataservice.seed.SyntheticCatalogGenerator.IdOffsets;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Carga un catálogo sintético de gran tamaño al arrancar con el perfil {@code large-catalog}.
+ *
+ * Se ejecuta después del seed del perfil (data-*.sql) y añade las filas generadas a
+ * continuación de los IDs existentes. Sobre H2 genera ficheros CSV temporales y los
+ * importa con {@code INSERT ... SELECT FROM CSVREAD}, que es varias veces más rápido que
+ * insertar fila a fila; en MySQL y PostgreSQL usa batches JDBC de {@code batchSize} filas.
+ * Al terminar reinicia las secuencias de identidad para que los INSERT posteriores
+ * no colisionen con los IDs cargados.
+ *
+ * Uso: {@code --spring.profiles.active=dev,large-catalog --catalog.generator.products=2000000}
+ */
+@Component
+@Profile("large-catalog")
+@Order(0)
+@EnableConfigurationProperties(CatalogGeneratorProperties.class)
+public class LargeCatalogSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LargeCatalogSeeder.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogGeneratorProperties properties;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcTemplate plantilla JDBC sobre el datasource del servicio
+     * @param entityManagerFactory factoría JPA, usada para resolver los nombres de tabla mapeados
+     * @param properties configuración del generador
+     */
+    public LargeCatalogSeeder(JdbcTemplate jdbcTemplate,
+                              EntityManagerFactory entityManagerFactory,
+                              CatalogGeneratorProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        String categoryTable = resolveTableName(Category.class);
+        String productTable = resolveTableName(Product.class);
+        String inventoryTable = resolveTableName(Inventory.class);
+        IdOffsets offsets = new IdOffsets(maxId(categoryTable), maxId(productTable), maxId(inventoryTable));
+
+        log.info("Loading synthetic catalog {} after ids {}", properties, offsets);
+        long start = System.nanoTime();
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties);
+        GeneratedCounts counts = isH2()
+                ? loadWithCsvRead(generator, offsets, categoryTable, productTable, inventoryTable)
+                : loadWithBatches(generator, offsets, categoryTable, productTable, inventoryTable);
+
+        restartIdentity(categoryTable, offsets.categories() + counts.categories());
+        restartIdentity(productTable, offsets.products() + counts.products());
+        restartIdentity(inventoryTable, offsets.inventory() + counts.inventory());
+        log.info("Loaded {} categories, {} products and {} inventory rows in {} ms",
+                counts.categories(), counts.products(), counts.inventory(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Genera los CSV en un directorio temporal y los importa con CSVREAD de H2.
+     */
+    private GeneratedCounts loadWithCsvRead(SyntheticCatalogGenerator generator, IdOffsets offsets,
+                                            String categoryTable, String productTable,
+                                            String inventoryTable) throws IOException {
+        Path directory = Files.createTempDirectory("large-catalog");
+        try {
+            long start = System.nanoTime();
+            GeneratedCounts counts = generator.writeCsv(directory, offsets);
+            log.info("Generated CSV files in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            importCsv(categoryTable, SyntheticCatalogGenerator.CATEGORY_COLUMNS, directory.resolve("categories.csv"));
+            importCsv(productTable, SyntheticCatalogGenerator.PRODUCT_COLUMNS, directory.resolve("products.csv"));
+            importCsv(inventoryTable, SyntheticCatalogGenerator.INVENTORY_COLUMNS, directory.resolve("inventory.csv"));
+            return counts;
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Importa un CSV con cabecera; los campos vacíos se leen como NULL.
+     */
+    private void importCsv(String table, String columns, Path file) {
+        long start = System.nanoTime();
+        int rows = jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") SELECT * FROM CSVREAD('"
+                + file.toAbsolutePath().toString().replace("'", "''") + "', NULL, 'charset=UTF-8')");
+        log.info("Imported {} rows into {} in {} ms", rows, table,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Inserta las filas generadas mediante batches JDBC de {@code batchSize} filas.
+     */
+    private GeneratedCounts loadWithBatches(SyntheticCatalogGenerator generator, IdOffsets offsets,
+                                            String categoryTable, String productTable, String inventoryTable) {
+        JdbcBatchRowSink categories = new JdbcBatchRowSink(jdbcTemplate, categoryTable,
+                SyntheticCatalogGenerator.CATEGORY_COLUMNS, properties.getBatchSize());
+        JdbcBatchRowSink products = new JdbcBatchRowSink(jdbcTemplate, productTable,
+                SyntheticCatalogGenerator.PRODUCT_COLUMNS, properties.getBatchSize());
+        JdbcBatchRowSink inventory = new JdbcBatchRowSink(jdbcTemplate, inventoryTable,
+                SyntheticCatalogGenerator.INVENTORY_COLUMNS, properties.getBatchSize());
+        GeneratedCounts counts = generator.generate(offsets, categories, products, inventory);
+        categories.flush();
+        products.flush();
+        inventory.flush();
+        return counts;
+    }
+
+    /**
+     * Ajusta la secuencia de identidad de la tabla para que continúe tras el último ID cargado.
+     */
+    private void restartIdentity(String table, long lastId) {
+        String databaseName = databaseName();
+        if (databaseName.contains("postgresql")) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), ?)",
+                    Long.class, lastId);
+        } else if (databaseName.contains("mysql") || databaseName.contains("mariadb")) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + (lastId + 1));
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    private boolean isH2() {
+        return databaseName().contains("h2");
+    }
+
+    private String databaseName() {
+        String name = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return name == null ? "" : name.toLowerCase();
+    }
+
+    /**
+     * Resuelve el nombre de la tabla de una entidad a partir del metamodelo de Hibernate.
+     */
+    private String resolveTableName(Class<?> entityClass) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        return persister.getTableName();
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.dataservice.seed;
+
+import com.example.dataservice.seed.SyntheticCatalogGenerator.GeneratedCounts;
+import com.example.dataservice.seed.SyntheticCatalogGenerator.IdOffsets;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Línea de comandos del generador de catálogo sintético: escribe categories.csv,
+ * products.csv e inventory.csv en un directorio, sin arrancar Spring.
+ *
+ * Los CSV pueden importarse después con {@code CSVREAD} (H2), {@code COPY} (PostgreSQL)
+ * o {@code LOAD DATA INFILE} (MySQL). Ejemplo:
+ * <pre>
+ * ./mvnw -pl data-service compile exec:java -Dexec.mainClass=com.example.dataservice.seed.SyntheticCatalogCli \
+ *     -Dexec.args="--products=5000000 --output=target/catalog"
+ * </pre>
+ *
+ * Opciones (todas {@code --clave=valor}): products, categories, locations,
+ * max-locations-per-product, category-skew, location-skew, uncategorized-ratio,
+ * out-of-stock-ratio, seed, id-offset (ID máximo existente en las tres tablas) y output.
+ */
+public final class SyntheticCatalogCli {
+
+    private SyntheticCatalogCli() {
+    }
+
+    /**
+     * Punto de entrada.
+     *
+     * @param args opciones {@code --clave=valor}
+     */
+    public static void main(String[] args) {
+        CatalogGeneratorProperties properties = new CatalogGeneratorProperties();
+        Path output = Path.of("target", "catalog");
+        long idOffset = 0;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "products" -> properties.setProducts(Integer.parseInt(value));
+                case "categories" -> properties.setCategories(Integer.parseInt(value));
+                case "locations" -> properties.setLocations(Integer.parseInt(value));
+                case "max-locations-per-product" -> properties.setMaxLocationsPerProduct(Integer.parseInt(value));
+                case "category-skew" -> properties.setCategorySkew(Double.parseDouble(value));
+                case "location-skew" -> properties.setLocationSkew(Double.parseDouble(value));
+                case "uncategorized-ratio" -> properties.setUncategorizedRatio(Double.parseDouble(value));
+                case "out-of-stock-ratio" -> properties.setOutOfStockRatio(Double.parseDouble(value));
+                case "seed" -> properties.setSeed(Long.parseLong(value));
+                case "id-offset" -> idOffset = Long.parseLong(value);
+                case "output" -> output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+        }
+
+        long start = System.nanoTime();
+        GeneratedCounts counts = new SyntheticCatalogGenerator(properties)
+                .writeCsv(output, new IdOffsets(idOffset, idOffset, idOffset));
+        System.out.printf("Wrote %d categories, %d products and %d inventory rows to %s in %d ms%n",
+                counts.categories(), counts.products(), counts.inventory(), output.toAbsolutePath(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
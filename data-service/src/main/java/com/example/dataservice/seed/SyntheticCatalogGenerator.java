@@ -0,0 +1,238 @@
+package com.example.dataservice.seed;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Generador determinista de un catálogo sintético (categorías, productos e inventario).
+ *
+ * Las filas se emiten en streaming hacia un {@link RowSink}, de modo que pueden generarse
+ * millones sin mantenerlas en memoria. Con la misma configuración y semilla siempre se
+ * obtienen las mismas filas. Los IDs empiezan tras los desplazamientos indicados para poder
+ * añadir el catálogo a una base que ya contiene datos (p. ej. el seed del perfil dev).
+ */
+public class SyntheticCatalogGenerator {
+
+    /** Palabras de los nombres de producto; cada una aparece en ~1/16 de los productos. */
+    public static final String[] NAME_WORDS = {
+            "Phone", "Laptop", "Shirt", "Jeans", "Novel", "Blender", "Lamp", "Chair",
+            "Camera", "Watch", "Guitar", "Kettle", "Jacket", "Tablet", "Speaker", "Desk"
+    };
+
+    /**
+     * Destino de las filas generadas, en el orden de columnas de cada tabla.
+     */
+    @FunctionalInterface
+    public interface RowSink {
+
+        /**
+         * Recibe una fila.
+         *
+         * @param row los valores de la fila
+         */
+        void accept(Object[] row);
+    }
+
+    /**
+     * IDs máximos ya existentes en cada tabla; las filas generadas empiezan a continuación.
+     *
+     * @param categories ID máximo de categorías
+     * @param products ID máximo de productos
+     * @param inventory ID máximo de inventario
+     */
+    public record IdOffsets(long categories, long products, long inventory) {
+
+        public static final IdOffsets NONE = new IdOffsets(0, 0, 0);
+    }
+
+    /**
+     * Número de filas generadas por tabla.
+     *
+     * @param categories categorías generadas
+     * @param products productos generados
+     * @param inventory registros de inventario generados
+     */
+    public record GeneratedCounts(long categories, long products, long inventory) {
+    }
+
+    /** Columnas de categorías, en el orden de las filas. */
+    public static final String CATEGORY_COLUMNS = "id, name, description";
+    /** Columnas de productos, en el orden de las filas. */
+    public static final String PRODUCT_COLUMNS = "id, name, description, price, category_id";
+    /** Columnas de inventario, en el orden de las filas. */
+    public static final String INVENTORY_COLUMNS = "id, product_id, quantity, location";
+
+    private final CatalogGeneratorProperties properties;
+
+    /**
+     * Crea el generador.
+     *
+     * @param properties cardinalidades, sesgos y semilla
+     */
+    public SyntheticCatalogGenerator(CatalogGeneratorProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Nombre de la categoría generada con el índice indicado (1 es la más poblada).
+     *
+     * @param index índice de la categoría dentro del catálogo generado, desde 1
+     * @return el nombre de la categoría
+     */
+    public static String categoryName(long index) {
+        return "Synthetic Category " + index;
+    }
+
+    /**
+     * Nombre de la ubicación con el índice indicado (1 es la más poblada).
+     *
+     * @param index índice de la ubicación, desde 1
+     * @return el nombre de la ubicación
+     */
+    public static String locationName(int index) {
+        return "Warehouse " + index;
+    }
+
+    /**
+     * Genera todas las filas.
+     *
+     * @param offsets IDs existentes tras los que empezar
+     * @param categories destino de las categorías
+     * @param products destino de los productos
+     * @param inventory destino del inventario
+     * @return el número de filas generadas por tabla
+     */
+    public GeneratedCounts generate(IdOffsets offsets, RowSink categories, RowSink products, RowSink inventory) {
+        int categoryCount = properties.effectiveCategories();
+        for (long index = 1; index <= categoryCount; index++) {
+            categories.accept(new Object[]{offsets.categories() + index, categoryName(index),
+                    "Synthetic category number " + index});
+        }
+
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        for (long index = 1; index <= properties.getProducts(); index++) {
+            String word = NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+            // Precio log-uniforme entre 1 y 5000
+            BigDecimal price = BigDecimal.valueOf(Math.exp(random.nextDouble(0, Math.log(5000))))
+                    .setScale(2, RoundingMode.HALF_UP);
+            Long categoryId = random.nextDouble() < properties.getUncategorizedRatio()
+                    ? null
+                    : offsets.categories() + skewed(random, categoryCount, properties.getCategorySkew());
+            products.accept(new Object[]{offsets.products() + index, word + " " + index,
+                    "Synthetic " + word.toLowerCase() + " number " + index, price, categoryId});
+        }
+
+        // El inventario usa su propia secuencia aleatoria para no alterar los productos al cambiar sus parámetros
+        SplittableRandom inventoryRandom = new SplittableRandom(properties.getSeed() + 1);
+        int maxLocations = Math.min(properties.getMaxLocationsPerProduct(), properties.getLocations());
+        int[] chosen = new int[maxLocations];
+        long inventoryId = offsets.inventory();
+        for (long index = 1; index <= properties.getProducts(); index++) {
+            int locations = 1 + inventoryRandom.nextInt(maxLocations);
+            for (int slot = 0; slot < locations; slot++) {
+                chosen[slot] = distinctLocation(inventoryRandom, chosen, slot);
+                int quantity = inventoryRandom.nextDouble() < properties.getOutOfStockRatio()
+                        ? 0
+                        : inventoryRandom.nextInt(1, 1000);
+                inventory.accept(new Object[]{++inventoryId, offsets.products() + index, quantity,
+                        locationName(chosen[slot])});
+            }
+        }
+
+        return new GeneratedCounts(categoryCount, properties.getProducts(), inventoryId - offsets.inventory());
+    }
+
+    /**
+     * Genera el catálogo como tres ficheros CSV con cabecera (categories.csv, products.csv,
+     * inventory.csv), aptos para {@code CSVREAD} de H2 o {@code COPY} de PostgreSQL.
+     *
+     * @param directory directorio de salida (se crea si no existe)
+     * @param offsets IDs existentes tras los que empezar
+     * @return el número de filas generadas por tabla
+     */
+    public GeneratedCounts writeCsv(Path directory, IdOffsets offsets) {
+        try {
+            Files.createDirectories(directory);
+            try (CsvWriter categories = new CsvWriter(directory.resolve("categories.csv"), CATEGORY_COLUMNS);
+                 CsvWriter products = new CsvWriter(directory.resolve("products.csv"), PRODUCT_COLUMNS);
+                 CsvWriter inventory = new CsvWriter(directory.resolve("inventory.csv"), INVENTORY_COLUMNS)) {
+                return generate(offsets, categories, products, inventory);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write synthetic catalog to " + directory, e);
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Valor en [1, max] con sesgo hacia los valores bajos según el exponente indicado.
+     */
+    private static long skewed(SplittableRandom random, int max, double skew) {
+        return 1 + (long) (max * Math.pow(random.nextDouble(), skew));
+    }
+
+    /**
+     * Elige una ubicación sesgada distinta de las ya elegidas para el mismo producto,
+     * respetando la restricción única (producto, ubicación).
+     */
+    private int distinctLocation(SplittableRandom random, int[] chosen, int count) {
+        while (true) {
+            int candidate = (int) skewed(random, properties.getLocations(), properties.getLocationSkew());
+            boolean duplicate = false;
+            for (int i = 0; i < count; i++) {
+                if (chosen[i] == candidate) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Escritor CSV mínimo: los valores generados no contienen comas ni comillas,
+     * los nulos se escriben como campo vacío.
+     */
+    private static final class CsvWriter implements RowSink, AutoCloseable {
+
+        private final BufferedWriter writer;
+
+        private CsvWriter(Path file, String columns) throws IOException {
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write(columns.replace(" ", ""));
+            writer.newLine();
+        }
+
+        @Override
+        public void accept(Object[] row) {
+            try {
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    if (row[i] != null) {
+                        writer.write(row[i].toString());
+                    }
+                }
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
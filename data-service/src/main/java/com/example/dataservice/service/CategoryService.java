@@ -3,6 +3,7 @@ package com.example.dataservice.service;
 import com.example.dataservice.entity.Category;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,6 +47,7 @@ public interface CategoryService {
     
     /**
      * Crea una nueva categoría.
+     * Si la categoría trae ID (asignado por el enrutador de shards), se inserta con ese ID.
      *
      * @param category la categoría a crear
      * @return la categoría creada
@@ -66,6 +68,19 @@ public interface CategoryService {
      */
     Category updateCategory(Long id, Category categoryDetails);
     
+    /**
+     * Aplica un documento JSON Merge Patch a una categoría: solo se modifican los campos presentes
+     * y el UPDATE resultante incluye únicamente esas columnas.
+     *
+     * @param id el ID de la categoría
+     * @param patch los campos a modificar (name, description); null elimina el valor
+     * @return la categoría actualizada
+     * @throws com.example.dataservice.exception.ResourceNotFoundException si la categoría no se encuentra
+     * @throws com.example.dataservice.exception.DuplicateResourceException si el nuevo nombre entra en conflicto con una categoría existente
+     * @throws com.example.dataservice.exception.ValidationException si algún campo es inválido o desconocido
+     */
+    Category patchCategory(Long id, Map<String, Object> patch);
+    
     /**
      * Elimina una categoría por su ID.
      *
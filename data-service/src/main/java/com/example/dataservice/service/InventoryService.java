@@ -1,8 +1,11 @@
 package com.example.dataservice.service;
 
+import com.example.dataservice.dto.InventoryUpsertRequest;
+import com.example.dataservice.dto.WriteQueueStats;
 import com.example.dataservice.entity.Inventory;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interfaz de servicio para la gestión de registros de inventario.
@@ -92,6 +95,7 @@ public interface InventoryService {
     
     /**
      * Crea un nuevo registro de inventario.
+     * Si el registro trae ID (asignado por el enrutador de shards), se inserta con ese ID.
      *
      * @param inventory el registro de inventario a crear
      * @return el registro de inventario creado
@@ -122,6 +126,62 @@ public interface InventoryService {
      */
     Inventory updateInventoryQuantity(Long id, Integer quantity);
     
+    /**
+     * Encola la cantidad absoluta de un registro de inventario para su escritura asíncrona.
+     * Las actualizaciones pendientes del mismo ID se agrupan (gana la última) y se vuelcan
+     * en batches JDBC; la existencia del registro no se comprueba al encolar.
+     *
+     * @param id el ID del registro de inventario
+     * @param quantity la nueva cantidad
+     * @throws com.example.dataservice.exception.ValidationException si la cantidad es inválida
+     * @throws com.example.dataservice.exception.WriteQueueFullException si la cola de escritura está llena
+     */
+    void enqueueInventoryQuantity(Long id, Integer quantity);
+    
+    /**
+     * Obtiene las estadísticas de la cola de escritura asíncrona de cantidades.
+     *
+     * @return las estadísticas actuales, incluido el retraso de escritura
+     */
+    WriteQueueStats getQuantityWriteQueueStats();
+    
+    /**
+     * Aplica un documento JSON Merge Patch a un registro de inventario: solo se modifican los campos
+     * presentes y el UPDATE resultante incluye únicamente esas columnas.
+     *
+     * @param id el ID del registro de inventario
+     * @param patch los campos a modificar (product, quantity, location)
+     * @return el registro de inventario actualizado
+     * @throws com.example.dataservice.exception.ResourceNotFoundException si el registro o el producto referenciado no se encuentran
+     * @throws com.example.dataservice.exception.DuplicateResourceException si ya existe inventario para el producto en esa ubicación
+     * @throws com.example.dataservice.exception.ValidationException si algún campo es inválido o desconocido
+     */
+    Inventory patchInventoryItem(Long id, Map<String, Object> patch);
+    
+    /**
+     * Inserta o actualiza el registro de inventario de un producto en una ubicación
+     * mediante una única sentencia de upsert.
+     *
+     * @param productId el ID del producto
+     * @param location la ubicación
+     * @param quantity la nueva cantidad
+     * @return el registro de inventario resultante
+     * @throws com.example.dataservice.exception.ResourceNotFoundException si el producto no se encuentra
+     * @throws com.example.dataservice.exception.ValidationException si la ubicación o la cantidad son inválidas
+     */
+    Inventory upsertInventoryItem(Long productId, String location, Integer quantity);
+    
+    /**
+     * Inserta o actualiza un lote de registros de inventario por producto y ubicación
+     * en un único batch JDBC.
+     *
+     * @param requests los registros a insertar o actualizar
+     * @return número de registros procesados
+     * @throws com.example.dataservice.exception.ValidationException si algún registro es inválido
+     *         o referencia un producto inexistente
+     */
+    int upsertInventoryItems(List<InventoryUpsertRequest> requests);
+    
     /**
      * Elimina un registro de inventario por su ID.
      *
@@ -4,6 +4,7 @@ import com.example.dataservice.entity.Product;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interfaz de servicio para la gestión de productos.
@@ -78,6 +79,7 @@ public interface ProductService {
     
     /**
      * Crea un nuevo producto.
+     * Si el producto trae ID (asignado por el enrutador de shards), se inserta con ese ID.
      *
      * @param product el producto a crear
      * @return el producto creado
@@ -97,6 +99,18 @@ public interface ProductService {
      */
     Product updateProduct(Long id, Product productDetails);
     
+    /**
+     * Aplica un documento JSON Merge Patch a un producto: solo se modifican los campos presentes
+     * y el UPDATE resultante incluye únicamente esas columnas.
+     *
+     * @param id el ID del producto
+     * @param patch los campos a modificar (name, description, price, category); null elimina el valor
+     * @return el producto actualizado
+     * @throws com.example.dataservice.exception.ResourceNotFoundException si el producto o la categoría referenciada no se encuentran
+     * @throws com.example.dataservice.exception.ValidationException si algún campo es inválido o desconocido
+     */
+    Product patchProduct(Long id, Map<String, Object> patch);
+    
     /**
      * Elimina un producto por su ID.
      *
@@ -131,4 +145,36 @@ public interface ProductService {
      * @throws com.example.dataservice.exception.ResourceNotFoundException si el producto no se encuentra
      */
     Product removeCategoryFromProduct(Long productId);
+    
+    /**
+     * Ajusta el precio de todos los productos de una categoría con una única sentencia UPDATE.
+     * Debe indicarse exactamente uno de los dos ajustes: porcentual o absoluto.
+     *
+     * @param categoryId el ID de la categoría
+     * @param percentage el porcentaje de ajuste (por ejemplo 10 o -5), o null
+     * @param amount el importe fijo a sumar (positivo o negativo), o null
+     * @return número de productos actualizados
+     * @throws com.example.dataservice.exception.ResourceNotFoundException si la categoría no se encuentra
+     * @throws com.example.dataservice.exception.ValidationException si el ajuste es inválido o dejaría precios no positivos
+     */
+    int adjustPricesByCategory(Long categoryId, BigDecimal percentage, BigDecimal amount);
+    
+    /**
+     * Mueve todos los productos de una categoría a otra con una única sentencia UPDATE.
+     *
+     * @param sourceCategoryId el ID de la categoría de origen
+     * @param targetCategoryId el ID de la categoría de destino
+     * @return número de productos actualizados
+     * @throws com.example.dataservice.exception.ResourceNotFoundException si alguna de las categorías no se encuentra
+     */
+    int moveProductsToCategory(Long sourceCategoryId, Long targetCategoryId);
+    
+    /**
+     * Remueve la categoría de todos los productos que la tienen asignada con una única sentencia UPDATE.
+     *
+     * @param categoryId el ID de la categoría
+     * @return número de productos actualizados
+     * @throws com.example.dataservice.exception.ResourceNotFoundException si la categoría no se encuentra
+     */
+    int removeCategoryFromProducts(Long categoryId);
 }
@@ -5,12 +5,19 @@ import com.example.dataservice.exception.DuplicateResourceException;
 import com.example.dataservice.exception.ResourceNotFoundException;
 import com.example.dataservice.exception.ValidationException;
 import com.example.dataservice.repository.CategoryRepository;
+import com.example.dataservice.repository.InventoryRepository;
+import com.example.dataservice.repository.PartialUpdateRepository;
+import com.example.dataservice.repository.ProductRepository;
 import com.example.dataservice.service.CategoryService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,18 +25,33 @@ import java.util.Optional;
  * Proporciona la lógica de negocio para la gestión de categorías.
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class CategoryServiceImpl implements CategoryService {
 
+    /** Restricción de unicidad (sin distinguir mayúsculas/minúsculas) del nombre, definida en data-*.sql. */
+    private static final String UNIQUE_NAME_CONSTRAINT = "uk_category_name";
+
     private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final InventoryRepository inventoryRepository;
+    private final PartialUpdateRepository partialUpdateRepository;
 
     /**
      * Constructor con inyección de dependencias.
      *
      * @param categoryRepository repositorio de categorías
+     * @param productRepository repositorio de productos
+     * @param inventoryRepository repositorio de inventario
+     * @param partialUpdateRepository repositorio de actualizaciones parciales
      */
     @Autowired
-    public CategoryServiceImpl(CategoryRepository categoryRepository) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, ProductRepository productRepository,
+                               InventoryRepository inventoryRepository,
+                               PartialUpdateRepository partialUpdateRepository) {
         this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.partialUpdateRepository = partialUpdateRepository;
     }
 
     // ==================== Métodos de Lectura/Consulta ====================
@@ -73,11 +95,21 @@ public class CategoryServiceImpl implements CategoryService {
     public Category createCategory(Category category) {
         validateCategory(category);
         
-        if (categoryRepository.existsByNameIgnoreCase(category.getName())) {
-            throw new DuplicateResourceException("Category", "name", category.getName());
+        // La unicidad del nombre la garantiza la restricción uk_category_name: se inserta directamente
+        // y la violación se traduce a 409 en lugar de consultar antes si el nombre existe
+        try {
+            if (category.getId() != null) {
+                // ID asignado por el enrutador de shards: el mismo en todas las réplicas
+                categoryRepository.insertWithId(category.getId(), category.getName(), category.getDescription());
+                return categoryRepository.findById(category.getId()).orElseThrow();
+            }
+            return categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isUniqueViolation(e, UNIQUE_NAME_CONSTRAINT)) {
+                throw new DuplicateResourceException("Category", "name", category.getName());
+            }
+            throw e;
         }
-        
-        return categoryRepository.save(category);
     }
 
     @Override
@@ -99,14 +131,69 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryRepository.save(category);
     }
 
+    @Override
+    @Transactional
+    public Category patchCategory(Long id, Map<String, Object> patch) {
+        ValidationException validationException = new ValidationException("Category patch validation failed");
+        Map<String, Object> changes = new LinkedHashMap<>();
+        
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            Object value = entry.getValue();
+            switch (entry.getKey()) {
+                case "id" -> {
+                    // El ID lo determina la URL; se ignora en el cuerpo
+                }
+                case "name" -> {
+                    if (MergePatchSupport.isNonBlankString(value)) {
+                        changes.put("name", value);
+                    } else {
+                        validationException.addError("name", "Category name is required");
+                    }
+                }
+                case "description" -> {
+                    if (value == null || value instanceof String) {
+                        changes.put("description", value);
+                    } else {
+                        validationException.addError("description", "Category description must be a string");
+                    }
+                }
+                default -> validationException.addError(entry.getKey(), "Unknown or read-only field");
+            }
+        }
+        
+        if (validationException.hasErrors()) {
+            throw validationException;
+        }
+        
+        if (!changes.isEmpty()) {
+            int updated;
+            try {
+                updated = partialUpdateRepository.updateAttributes(Category.class, id, changes);
+            } catch (DataIntegrityViolationException e) {
+                if (ConstraintViolations.isUniqueViolation(e, UNIQUE_NAME_CONSTRAINT)) {
+                    throw new DuplicateResourceException("Category", "name", changes.get("name"));
+                }
+                throw e;
+            }
+            if (updated == 0) {
+                throw new ResourceNotFoundException("Category", "id", id);
+            }
+        }
+        
+        return getCategoryById(id);
+    }
+
     @Override
     @Transactional
     public void deleteCategory(Long id) {
-        if (!categoryRepository.existsById(id)) {
+        // Los productos de la categoría y su inventario se eliminan con ella (equivalente a la
+        // cascada de la entidad), sin cargarlos
+        inventoryRepository.deleteDirectlyByCategoryId(id);
+        productRepository.deleteDirectlyByCategoryId(id);
+        
+        if (categoryRepository.deleteDirectlyById(id) == 0) {
             throw new ResourceNotFoundException("Category", "id", id);
         }
-        
-        categoryRepository.deleteById(id);
     }
 
     // ==================== Métodos Privados ====================
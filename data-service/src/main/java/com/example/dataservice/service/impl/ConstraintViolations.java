@@ -0,0 +1,79 @@
+package com.example.dataservice.service.impl;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * Utilidades para identificar qué restricción de base de datos provocó una
+ * {@link DataIntegrityViolationException}, de modo que cada servicio traduzca a 404 o 409
+ * solo la violación que espera y relance cualquier otra.
+ * Se basa en el SQLState estándar (H2, PostgreSQL) y en los códigos de error de MySQL/MariaDB,
+ * que informan todas las violaciones de integridad con el SQLState genérico 23000.
+ */
+final class ConstraintViolations {
+
+    private static final String UNIQUE_STATE = "23505";
+    private static final String FOREIGN_KEY_STATE = "23503";
+    private static final String H2_PARENT_MISSING_STATE = "23506";
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+    private static final int MYSQL_PARENT_MISSING = 1452;
+    private static final int MYSQL_CHILD_EXISTS = 1451;
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Indica si la violación se debe a una clave foránea (fila referenciada inexistente o con dependientes).
+     *
+     * @param exception la excepción traducida por Spring
+     * @return true si la causa es una violación de clave foránea
+     */
+    static boolean isForeignKeyViolation(DataIntegrityViolationException exception) {
+        SQLException sqlException = findSqlException(exception);
+        if (sqlException == null) {
+            return false;
+        }
+        String sqlState = sqlException.getSQLState();
+        int errorCode = sqlException.getErrorCode();
+        return FOREIGN_KEY_STATE.equals(sqlState) || H2_PARENT_MISSING_STATE.equals(sqlState)
+                || errorCode == MYSQL_PARENT_MISSING || errorCode == MYSQL_CHILD_EXISTS;
+    }
+
+    /**
+     * Indica si la violación se debe a la restricción de unicidad con el nombre dado.
+     * El nombre se busca en el mensaje del driver sin distinguir mayúsculas/minúsculas
+     * (H2 lo informa en mayúsculas y con el sufijo del índice).
+     *
+     * @param exception la excepción traducida por Spring
+     * @param constraintName el nombre de la restricción definido en los scripts data-*.sql
+     * @return true si la causa es una violación de esa restricción de unicidad
+     */
+    static boolean isUniqueViolation(DataIntegrityViolationException exception, String constraintName) {
+        SQLException sqlException = findSqlException(exception);
+        if (sqlException == null) {
+            return false;
+        }
+        boolean unique = UNIQUE_STATE.equals(sqlException.getSQLState())
+                || sqlException.getErrorCode() == MYSQL_DUPLICATE_KEY;
+        String message = sqlException.getMessage();
+        return unique && message != null && message.toLowerCase().contains(constraintName.toLowerCase());
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Busca la SQLException original en la cadena de causas.
+     *
+     * @param exception la excepción traducida por Spring
+     * @return la SQLException, o null si la causa no proviene del driver JDBC
+     */
+    private static SQLException findSqlException(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.dataservice.service.impl;
+
+import com.example.dataservice.dto.WriteQueueStats;
+import com.example.dataservice.exception.DataServiceException;
+import com.example.dataservice.exception.WriteQueueFullException;
+import com.example.dataservice.exception.WriteQueueTimeoutException;
+import com.example.dataservice.repository.InventoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cola acotada de escritura asíncrona para cantidades absolutas de inventario.
+ *
+ * Las actualizaciones se agrupan por ID de inventario (gana la última escritura) y un
+ * único hilo escritor las vuelca en batches JDBC, al alcanzar el tamaño de lote o al
+ * vencer el intervalo de volcado. Cuando la cola está llena se rechazan los IDs nuevos
+ * con {@link WriteQueueFullException}; las actualizaciones de IDs ya pendientes siempre
+ * se aceptan porque no ocupan espacio adicional.
+ *
+ * La existencia del ID no se comprueba al encolar: las filas inexistentes se contabilizan
+ * como {@code missingRows} en el volcado. Un lote que falla se descarta y se contabiliza
+ * como {@code failedRows}.
+ *
+ * Las escrituras síncronas de cantidad llaman antes a {@link #supersede(Long)}: se descarta el
+ * valor pendiente del ID y, si está en el lote que se está volcando, se espera a su confirmación,
+ * de modo que un valor asíncrono más antiguo nunca sobrescriba al síncrono. La espera está acotada
+ * ({@code supersede-timeout-ms}): quien llama ya tiene una conexión del pool abierta en su transacción
+ * y el hilo escritor necesita otra para confirmar el lote, así que una espera sin límite podría agotar
+ * el pool y bloquear ambos lados.
+ */
+@Component
+public class InventoryQuantityWriteQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryQuantityWriteQueue.class);
+
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long supersedeTimeoutMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReady = lock.newCondition();
+    private final Condition batchFlushed = lock.newCondition();
+    private final LinkedHashMap<Long, PendingWrite> pending = new LinkedHashMap<>();
+    private Map<Long, PendingWrite> inFlight = Map.of();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong missingRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private volatile long lastBatchLagMs;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param inventoryRepository repositorio de inventario
+     * @param transactionTemplate plantilla para confirmar cada lote en una única transacción
+     * @param capacity número máximo de IDs distintos pendientes
+     * @param batchSize número máximo de filas por batch JDBC
+     * @param flushIntervalMs espera máxima antes de volcar un lote incompleto
+     * @param supersedeTimeoutMs espera máxima de una escritura síncrona al lote en curso de su ID
+     */
+    public InventoryQuantityWriteQueue(InventoryRepository inventoryRepository,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${inventory.write-queue.capacity:10000}") int capacity,
+                                       @Value("${inventory.write-queue.batch-size:500}") int batchSize,
+                                       @Value("${inventory.write-queue.flush-interval-ms:50}") long flushIntervalMs,
+                                       @Value("${inventory.write-queue.supersede-timeout-ms:2000}") long supersedeTimeoutMs) {
+        this.inventoryRepository = inventoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.supersedeTimeoutMs = supersedeTimeoutMs;
+    }
+
+    /**
+     * Encola la cantidad absoluta de un registro de inventario, reemplazando
+     * cualquier valor pendiente para el mismo ID.
+     *
+     * @param id el ID del registro de inventario
+     * @param quantity la nueva cantidad
+     * @throws WriteQueueFullException si la cola está llena y el ID no estaba pendiente
+     */
+    public void enqueue(Long id, int quantity) {
+        lock.lock();
+        try {
+            if (!running) {
+                throw new DataServiceException("Inventory quantity write queue is not running");
+            }
+            PendingWrite current = pending.get(id);
+            if (current != null) {
+                // Conserva la posición y la marca de tiempo original para medir el retraso real
+                pending.put(id, new PendingWrite(quantity, current.enqueuedAtNanos()));
+                coalesced.incrementAndGet();
+            } else {
+                if (pending.size() >= capacity) {
+                    rejected.incrementAndGet();
+                    throw new WriteQueueFullException("Inventory quantity write queue", capacity);
+                }
+                pending.put(id, new PendingWrite(quantity, System.nanoTime()));
+                if (pending.size() >= batchSize) {
+                    batchReady.signal();
+                }
+            }
+            enqueued.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Descarta la escritura pendiente de un ID antes de una escritura síncrona de su cantidad.
+     * Si el ID está en el lote que el hilo escritor está volcando, espera a que ese lote se confirme
+     * para que la escritura síncrona quede después.
+     *
+     * @param id el ID del registro de inventario
+     * @throws WriteQueueTimeoutException si el lote no se confirma dentro de {@code supersede-timeout-ms}
+     */
+    public void supersede(Long id) {
+        lock.lock();
+        try {
+            if (pending.remove(id) != null) {
+                superseded.incrementAndGet();
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(supersedeTimeoutMs);
+            while (inFlight.containsKey(id)) {
+                if (remainingNanos <= 0) {
+                    throw new WriteQueueTimeoutException("Inventory quantity write queue", supersedeTimeoutMs);
+                }
+                remainingNanos = batchFlushed.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataServiceException("Interrupted while waiting for inventory quantity flush");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene una instantánea de los contadores y del retraso de la cola.
+     *
+     * @return las estadísticas actuales
+     */
+    public WriteQueueStats getStats() {
+        WriteQueueStats stats = new WriteQueueStats();
+        lock.lock();
+        try {
+            stats.setPending(pending.size());
+            if (!pending.isEmpty()) {
+                long oldest = pending.values().iterator().next().enqueuedAtNanos();
+                stats.setOldestPendingAgeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest));
+            }
+        } finally {
+            lock.unlock();
+        }
+        stats.setCapacity(capacity);
+        stats.setLastBatchLagMs(lastBatchLagMs);
+        stats.setEnqueued(enqueued.get());
+        stats.setCoalesced(coalesced.get());
+        stats.setRejected(rejected.get());
+        stats.setSuperseded(superseded.get());
+        stats.setFlushedBatches(flushedBatches.get());
+        stats.setFlushedRows(flushedRows.get());
+        stats.setMissingRows(missingRows.get());
+        stats.setFailedRows(failedRows.get());
+        return stats;
+    }
+
+    // ==================== Ciclo de vida ====================
+
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+        writer = new Thread(this::runWriter, "inventory-quantity-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Detiene la aceptación de escrituras y espera a que el hilo escritor vuelque lo pendiente.
+     */
+    @Override
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            batchReady.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ==================== Métodos Privados ====================
+
+    /**
+     * Bucle del hilo escritor: vuelca lotes mientras la cola esté activa y,
+     * al detenerse, termina de volcar las escrituras pendientes.
+     */
+    private void runWriter() {
+        while (true) {
+            Map<Long, PendingWrite> batch = takeBatch();
+            if (batch == null) {
+                return;
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    flush(batch);
+                } finally {
+                    releaseInFlight();
+                }
+            }
+        }
+    }
+
+    /**
+     * Espera hasta tener un lote completo o hasta que venza el intervalo de volcado,
+     * y extrae como máximo {@code batchSize} escrituras en orden de llegada.
+     *
+     * @return el lote extraído (posiblemente vacío), o null si la cola está detenida y vacía
+     */
+    private Map<Long, PendingWrite> takeBatch() {
+        lock.lock();
+        try {
+            if (running && pending.size() < batchSize) {
+                batchReady.await(flushIntervalMs, TimeUnit.MILLISECONDS);
+            }
+            if (!running && pending.isEmpty()) {
+                return null;
+            }
+            Map<Long, PendingWrite> batch = new LinkedHashMap<>();
+            Iterator<Map.Entry<Long, PendingWrite>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                Map.Entry<Long, PendingWrite> entry = iterator.next();
+                batch.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+            inFlight = batch;
+            return batch;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marca el lote en curso como confirmado y despierta a las escrituras síncronas que lo esperan.
+     */
+    private void releaseInFlight() {
+        lock.lock();
+        try {
+            inFlight = Map.of();
+            batchFlushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Escribe un lote en una única transacción mediante un batch JDBC.
+     *
+     * @param batch las escrituras a volcar
+     */
+    private void flush(Map<Long, PendingWrite> batch) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<Long, PendingWrite> entry : batch.entrySet()) {
+            quantities.put(entry.getKey(), entry.getValue().quantity());
+            oldest = Math.min(oldest, entry.getValue().enqueuedAtNanos());
+        }
+        try {
+            Integer updated = transactionTemplate.execute(status -> inventoryRepository.updateQuantitiesInBatch(quantities));
+            int updatedRows = updated == null ? 0 : updated;
+            flushedBatches.incrementAndGet();
+            flushedRows.addAndGet(updatedRows);
+            missingRows.addAndGet(Math.max(quantities.size() - updatedRows, 0));
+        } catch (RuntimeException e) {
+            failedRows.addAndGet(quantities.size());
+            log.error("Failed to flush {} inventory quantity updates", quantities.size(), e);
+        }
+        lastBatchLagMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest);
+    }
+
+    /**
+     * Escritura pendiente: la última cantidad recibida y el instante del primer encolado.
+     */
+    private record PendingWrite(int quantity, long enqueuedAtNanos) {
+    }
+}
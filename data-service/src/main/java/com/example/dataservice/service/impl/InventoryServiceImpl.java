@@ -1,37 +1,63 @@
 package com.example.dataservice.service.impl;
 
+import com.example.dataservice.dto.InventoryUpsertRequest;
+import com.example.dataservice.dto.WriteQueueStats;
 import com.example.dataservice.entity.Inventory;
 import com.example.dataservice.entity.Product;
+import com.example.dataservice.exception.DuplicateResourceException;
 import com.example.dataservice.exception.ResourceNotFoundException;
 import com.example.dataservice.exception.ValidationException;
 import com.example.dataservice.repository.InventoryRepository;
+import com.example.dataservice.repository.PartialUpdateRepository;
+import com.example.dataservice.repository.ProductRepository;
 import com.example.dataservice.service.InventoryService;
 import com.example.dataservice.service.ProductService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementación de la interfaz InventoryService.
  * Proporciona la lógica de negocio para la gestión de inventario.
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class InventoryServiceImpl implements InventoryService {
 
+    /** Restricción de unicidad (producto, ubicación), definida en data-*.sql. */
+    private static final String PRODUCT_LOCATION_CONSTRAINT = "uk_inventory_product_location";
+
     private final InventoryRepository inventoryRepository;
+    private final ProductRepository productRepository;
+    private final PartialUpdateRepository partialUpdateRepository;
+    private final InventoryQuantityWriteQueue quantityWriteQueue;
     private final ProductService productService;
 
     /**
      * Constructor con inyección de dependencias.
      *
      * @param inventoryRepository repositorio de inventario
+     * @param productRepository repositorio de productos (referencias sin carga)
+     * @param partialUpdateRepository repositorio de actualizaciones parciales
+     * @param quantityWriteQueue cola de escritura asíncrona de cantidades
      * @param productService servicio de productos
      */
     @Autowired
-    public InventoryServiceImpl(InventoryRepository inventoryRepository, ProductService productService) {
+    public InventoryServiceImpl(InventoryRepository inventoryRepository, ProductRepository productRepository,
+                                PartialUpdateRepository partialUpdateRepository,
+                                InventoryQuantityWriteQueue quantityWriteQueue, ProductService productService) {
         this.inventoryRepository = inventoryRepository;
+        this.productRepository = productRepository;
+        this.partialUpdateRepository = partialUpdateRepository;
+        this.quantityWriteQueue = quantityWriteQueue;
         this.productService = productService;
     }
 
@@ -113,6 +139,12 @@ public class InventoryServiceImpl implements InventoryService {
                     .addError("product", "Product is required");
         }
         
+        if (inventory.getId() != null) {
+            // ID asignado por el enrutador de shards: se inserta con él en lugar del autoincremental
+            inventoryRepository.insertWithId(inventory.getId(), inventory.getProduct().getId(),
+                    inventory.getQuantity(), inventory.getLocation());
+            return inventoryRepository.findById(inventory.getId()).orElseThrow();
+        }
         return inventoryRepository.save(inventory);
     }
 
@@ -122,6 +154,7 @@ public class InventoryServiceImpl implements InventoryService {
         Inventory inventory = getInventoryItemById(id);
         
         validateInventory(inventoryDetails);
+        quantityWriteQueue.supersede(id);
         
         // Verificar que el producto existe si se está cambiando
         if (inventoryDetails.getProduct() != null && inventoryDetails.getProduct().getId() != null) {
@@ -147,23 +180,194 @@ public class InventoryServiceImpl implements InventoryService {
                     .addError("quantity", "Quantity cannot be negative");
         }
         
+        // Un valor asíncrono pendiente y más antiguo no debe sobrescribir esta escritura
+        quantityWriteQueue.supersede(id);
+        
         inventory.setQuantity(quantity);
         
         return inventoryRepository.save(inventory);
     }
 
+    @Override
+    public void enqueueInventoryQuantity(Long id, Integer quantity) {
+        if (quantity == null || quantity < 0) {
+            throw new ValidationException("Invalid quantity")
+                    .addError("quantity", "Quantity cannot be negative");
+        }
+        
+        quantityWriteQueue.enqueue(id, quantity);
+    }
+
+    @Override
+    public WriteQueueStats getQuantityWriteQueueStats() {
+        return quantityWriteQueue.getStats();
+    }
+
+    @Override
+    @Transactional
+    public Inventory patchInventoryItem(Long id, Map<String, Object> patch) {
+        ValidationException validationException = new ValidationException("Inventory patch validation failed");
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Long productId = null;
+        
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            Object value = entry.getValue();
+            switch (entry.getKey()) {
+                case "id" -> {
+                    // El ID lo determina la URL; se ignora en el cuerpo
+                }
+                case "quantity" -> {
+                    Integer quantity = MergePatchSupport.toInteger(value);
+                    if (quantity == null) {
+                        validationException.addError("quantity", "Quantity is required");
+                    } else if (quantity < 0) {
+                        validationException.addError("quantity", "Quantity cannot be negative");
+                    } else {
+                        changes.put("quantity", quantity);
+                    }
+                }
+                case "location" -> {
+                    if (MergePatchSupport.isNonBlankString(value)) {
+                        changes.put("location", value);
+                    } else {
+                        validationException.addError("location", "Location is required");
+                    }
+                }
+                case "product" -> {
+                    productId = MergePatchSupport.toReferenceId(value);
+                    if (productId == null) {
+                        validationException.addError("product", "Product must be an object with an id");
+                    } else {
+                        // Referencia sin SELECT: la clave foránea valida la existencia
+                        changes.put("product", productRepository.getReferenceById(productId));
+                    }
+                }
+                default -> validationException.addError(entry.getKey(), "Unknown or read-only field");
+            }
+        }
+        
+        if (validationException.hasErrors()) {
+            throw validationException;
+        }
+        
+        if (changes.containsKey("quantity")) {
+            quantityWriteQueue.supersede(id);
+        }
+        
+        if (!changes.isEmpty()) {
+            int updated;
+            try {
+                updated = partialUpdateRepository.updateAttributes(Inventory.class, id, changes);
+            } catch (DataIntegrityViolationException e) {
+                if (productId != null && ConstraintViolations.isForeignKeyViolation(e)) {
+                    throw new ResourceNotFoundException("Product", "id", productId);
+                }
+                if (ConstraintViolations.isUniqueViolation(e, PRODUCT_LOCATION_CONSTRAINT)) {
+                    throw duplicateProductLocation(productId, (String) changes.get("location"));
+                }
+                throw e;
+            }
+            if (updated == 0) {
+                throw new ResourceNotFoundException("Inventory", "id", id);
+            }
+        }
+        
+        return getInventoryItemById(id);
+    }
+
+    @Override
+    @Transactional
+    public Inventory upsertInventoryItem(Long productId, String location, Integer quantity) {
+        validateUpsert(new InventoryUpsertRequest(productId, location, quantity));
+        // Si el registro ya existe, un valor asíncrono pendiente no debe sobrescribir el upsert
+        inventoryRepository.findIdByProductIdAndLocation(productId, location).ifPresent(quantityWriteQueue::supersede);
+        
+        try {
+            inventoryRepository.upsertByProductAndLocation(productId, location, quantity);
+        } catch (DataIntegrityViolationException e) {
+            // Solo la clave foránea del producto significa 404; cualquier otra violación se relanza
+            if (ConstraintViolations.isForeignKeyViolation(e)) {
+                throw new ResourceNotFoundException("Product", "id", productId);
+            }
+            throw e;
+        }
+        
+        return inventoryRepository.findByProductIdAndLocation(productId, location)
+                .orElseThrow(() -> new ResourceNotFoundException("Inventory", "product/location", productId + "/" + location));
+    }
+
+    @Override
+    @Transactional
+    public int upsertInventoryItems(List<InventoryUpsertRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return 0;
+        }
+        
+        for (InventoryUpsertRequest request : requests) {
+            validateUpsert(request);
+        }
+        supersedeExisting(requests);
+        
+        try {
+            return inventoryRepository.upsertAllByProductAndLocation(requests);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isForeignKeyViolation(e)) {
+                throw new ValidationException("Inventory batch rejected")
+                        .addError("productId", "One or more products do not exist");
+            }
+            throw e;
+        }
+    }
+
     @Override
     @Transactional
     public void deleteInventoryItem(Long id) {
-        if (!inventoryRepository.existsById(id)) {
+        quantityWriteQueue.supersede(id);
+        if (inventoryRepository.deleteDirectlyById(id) == 0) {
             throw new ResourceNotFoundException("Inventory", "id", id);
         }
-        
-        inventoryRepository.deleteById(id);
     }
 
     // ==================== Métodos Privados ====================
 
+    /**
+     * Descarta las cantidades asíncronas pendientes de los registros existentes que un upsert por
+     * lotes va a sobrescribir. Los IDs se resuelven con una consulta por lote de productos.
+     *
+     * @param requests los registros del upsert, ya validados
+     */
+    private void supersedeExisting(List<InventoryUpsertRequest> requests) {
+        Set<String> keys = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (InventoryUpsertRequest request : requests) {
+            keys.add(request.getProductId() + "/" + request.getLocation());
+            productIds.add(request.getProductId());
+        }
+        for (Object[] row : inventoryRepository.findIdsByProductIdIn(productIds)) {
+            if (keys.contains(row[1] + "/" + row[2])) {
+                quantityWriteQueue.supersede((Long) row[0]);
+            }
+        }
+    }
+
+    /**
+     * Construye el error de duplicado de un patch con los campos de la clave (producto, ubicación)
+     * que el patch cambió; el campo no modificado es el del propio registro y no se vuelve a consultar.
+     *
+     * @param productId el ID de producto del patch, o null si no lo cambia
+     * @param location la ubicación del patch, o null si no la cambia
+     * @return la excepción de recurso duplicado
+     */
+    private DuplicateResourceException duplicateProductLocation(Long productId, String location) {
+        if (productId != null && location != null) {
+            return new DuplicateResourceException("Inventory", "product/location", productId + "/" + location);
+        }
+        if (productId != null) {
+            return new DuplicateResourceException("Inventory", "product", productId);
+        }
+        return new DuplicateResourceException("Inventory", "location", location);
+    }
+
     /**
      * Valida los datos de un registro de inventario.
      *
@@ -187,4 +391,36 @@ public class InventoryServiceImpl implements InventoryService {
             throw validationException;
         }
     }
+
+    /**
+     * Valida los datos de un upsert de inventario.
+     *
+     * @param request el registro a validar
+     * @throws ValidationException si los datos del registro son inválidos
+     */
+    private void validateUpsert(InventoryUpsertRequest request) {
+        ValidationException validationException = new ValidationException("Inventory upsert validation failed");
+        
+        if (request == null) {
+            throw validationException.addError("request", "Inventory upsert item is required");
+        }
+        
+        if (request.getProductId() == null) {
+            validationException.addError("productId", "Product ID is required");
+        }
+        
+        if (request.getQuantity() == null) {
+            validationException.addError("quantity", "Quantity is required");
+        } else if (request.getQuantity() < 0) {
+            validationException.addError("quantity", "Quantity cannot be negative");
+        }
+        
+        if (request.getLocation() == null || request.getLocation().trim().isEmpty()) {
+            validationException.addError("location", "Location is required");
+        }
+        
+        if (validationException.hasErrors()) {
+            throw validationException;
+        }
+    }
 }
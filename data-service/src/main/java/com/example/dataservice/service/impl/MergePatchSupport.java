@@ -0,0 +1,70 @@
+package com.example.dataservice.service.impl;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Utilidades para interpretar los valores de un documento JSON Merge Patch (RFC 7396)
+ * ya deserializado por Jackson como {@code Map<String, Object>}.
+ */
+final class MergePatchSupport {
+
+    private MergePatchSupport() {
+    }
+
+    /**
+     * Convierte un valor numérico o textual a BigDecimal.
+     *
+     * @param value el valor del patch
+     * @return el BigDecimal, o null si el valor es null o no es convertible
+     */
+    static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof Number || value instanceof String) {
+            try {
+                return new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Convierte un valor numérico entero a Integer.
+     *
+     * @param value el valor del patch
+     * @return el Integer, o null si el valor es null o no es un entero
+     */
+    static Integer toInteger(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            return ((Number) value).intValue();
+        }
+        return null;
+    }
+
+    /**
+     * Extrae el ID de una referencia anidada del tipo {@code {"id": 3}}.
+     *
+     * @param value el valor del patch
+     * @return el ID, o null si el valor no es una referencia con ID numérico
+     */
+    static Long toReferenceId(Object value) {
+        if (value instanceof Map<?, ?> map && map.get("id") instanceof Number id) {
+            return id.longValue();
+        }
+        return null;
+    }
+
+    /**
+     * Indica si el valor es una cadena con contenido.
+     *
+     * @param value el valor del patch
+     * @return true si es una cadena no vacía
+     */
+    static boolean isNonBlankString(Object value) {
+        return value instanceof String text && !text.trim().isEmpty();
+    }
+}
@@ -4,35 +4,55 @@ import com.example.dataservice.entity.Category;
 import com.example.dataservice.entity.Product;
 import com.example.dataservice.exception.ResourceNotFoundException;
 import com.example.dataservice.exception.ValidationException;
+import com.example.dataservice.repository.CategoryRepository;
+import com.example.dataservice.repository.InventoryRepository;
+import com.example.dataservice.repository.PartialUpdateRepository;
 import com.example.dataservice.repository.ProductRepository;
 import com.example.dataservice.service.CategoryService;
 import com.example.dataservice.service.ProductService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementación de la interfaz ProductService.
  * Proporciona la lógica de negocio para la gestión de productos.
  */
 @Service
+@Timed(value = "app.service", histogram = true)
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final InventoryRepository inventoryRepository;
+    private final PartialUpdateRepository partialUpdateRepository;
     private final CategoryService categoryService;
 
     /**
      * Constructor con inyección de dependencias.
      *
      * @param productRepository repositorio de productos
+     * @param categoryRepository repositorio de categorías (referencias sin carga)
+     * @param inventoryRepository repositorio de inventario (borrado de dependientes)
+     * @param partialUpdateRepository repositorio de actualizaciones parciales
      * @param categoryService servicio de categorías
      */
     @Autowired
-    public ProductServiceImpl(ProductRepository productRepository, CategoryService categoryService) {
+    public ProductServiceImpl(ProductRepository productRepository, CategoryRepository categoryRepository,
+                              InventoryRepository inventoryRepository, PartialUpdateRepository partialUpdateRepository,
+                              CategoryService categoryService) {
         this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.partialUpdateRepository = partialUpdateRepository;
         this.categoryService = categoryService;
     }
 
@@ -101,29 +121,117 @@ public class ProductServiceImpl implements ProductService {
             product.setCategory(category);
         }
         
+        if (product.getId() != null) {
+            // ID asignado por el enrutador de shards: se inserta con él en lugar del autoincremental
+            productRepository.insertWithId(product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), product.getCategory() != null ? product.getCategory().getId() : null);
+            return productRepository.findById(product.getId()).orElseThrow();
+        }
         return productRepository.save(product);
     }
 
     @Override
     @Transactional
     public Product updateProduct(Long id, Product productDetails) {
-        Product product = getProductById(id);
-        
         validateProduct(productDetails);
         
-        product.setName(productDetails.getName());
-        product.setDescription(productDetails.getDescription());
-        product.setPrice(productDetails.getPrice());
+        // La categoría se pasa como referencia (sin SELECT); si no existe, la clave foránea rechaza el UPDATE
+        Long categoryId = productDetails.getCategory() != null ? productDetails.getCategory().getId() : null;
+        Category category = categoryId != null ? categoryRepository.getReferenceById(categoryId) : null;
         
-        // Si se especifica una categoría, verificar que existe
-        if (productDetails.getCategory() != null && productDetails.getCategory().getId() != null) {
-            Category category = categoryService.getCategoryById(productDetails.getCategory().getId());
-            product.setCategory(category);
-        } else {
-            product.setCategory(null);
+        int updated;
+        try {
+            updated = productRepository.updateDirectlyById(id, productDetails.getName(),
+                    productDetails.getDescription(), productDetails.getPrice(), category);
+        } catch (DataIntegrityViolationException e) {
+            if (categoryId != null && ConstraintViolations.isForeignKeyViolation(e)) {
+                throw new ResourceNotFoundException("Category", "id", categoryId);
+            }
+            throw e;
         }
         
-        return productRepository.save(product);
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Product", "id", id);
+        }
+        
+        return getProductById(id);
+    }
+
+    @Override
+    @Transactional
+    public Product patchProduct(Long id, Map<String, Object> patch) {
+        ValidationException validationException = new ValidationException("Product patch validation failed");
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Long categoryId = null;
+        
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            Object value = entry.getValue();
+            switch (entry.getKey()) {
+                case "id" -> {
+                    // El ID lo determina la URL; se ignora en el cuerpo
+                }
+                case "name" -> {
+                    if (MergePatchSupport.isNonBlankString(value)) {
+                        changes.put("name", value);
+                    } else {
+                        validationException.addError("name", "Product name is required");
+                    }
+                }
+                case "description" -> {
+                    if (value == null || value instanceof String) {
+                        changes.put("description", value);
+                    } else {
+                        validationException.addError("description", "Product description must be a string");
+                    }
+                }
+                case "price" -> {
+                    BigDecimal price = MergePatchSupport.toBigDecimal(value);
+                    if (price == null) {
+                        validationException.addError("price", "Product price is required");
+                    } else if (price.compareTo(BigDecimal.ZERO) <= 0) {
+                        validationException.addError("price", "Product price must be positive");
+                    } else {
+                        changes.put("price", price);
+                    }
+                }
+                case "category" -> {
+                    if (value == null) {
+                        changes.put("category", null);
+                    } else {
+                        categoryId = MergePatchSupport.toReferenceId(value);
+                        if (categoryId == null) {
+                            validationException.addError("category", "Category must be null or an object with an id");
+                        } else {
+                            // Referencia sin SELECT: la clave foránea valida la existencia
+                            changes.put("category", categoryRepository.getReferenceById(categoryId));
+                        }
+                    }
+                }
+                default -> validationException.addError(entry.getKey(), "Unknown or read-only field");
+            }
+        }
+        
+        if (validationException.hasErrors()) {
+            throw validationException;
+        }
+        
+        if (!changes.isEmpty()) {
+            int updated;
+            try {
+                updated = partialUpdateRepository.updateAttributes(Product.class, id, changes);
+            } catch (DataIntegrityViolationException e) {
+                // La única clave foránea de products es la de la categoría
+                if (categoryId != null && ConstraintViolations.isForeignKeyViolation(e)) {
+                    throw new ResourceNotFoundException("Category", "id", categoryId);
+                }
+                throw e;
+            }
+            if (updated == 0) {
+                throw new ResourceNotFoundException("Product", "id", id);
+            }
+        }
+        
+        return getProductById(id);
     }
 
     @Override
@@ -150,11 +258,67 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public void deleteProduct(Long id) {
-        if (!productRepository.existsById(id)) {
+        // El inventario del producto se elimina con él (equivalente a la cascada de la entidad)
+        inventoryRepository.deleteDirectlyByProductId(id);
+        
+        if (productRepository.deleteDirectlyById(id) == 0) {
             throw new ResourceNotFoundException("Product", "id", id);
         }
+    }
+
+    @Override
+    @Transactional
+    public int adjustPricesByCategory(Long categoryId, BigDecimal percentage, BigDecimal amount) {
+        if ((percentage == null) == (amount == null)) {
+            throw new ValidationException("Invalid price adjustment")
+                    .addError("adjustment", "Exactly one of percentage or amount is required");
+        }
+        if (!categoryService.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
         
-        productRepository.deleteById(id);
+        if (percentage != null) {
+            if (percentage.compareTo(BigDecimal.valueOf(-100)) <= 0) {
+                throw new ValidationException("Invalid price adjustment")
+                        .addError("percentage", "Percentage must be greater than -100");
+            }
+            BigDecimal factor = BigDecimal.ONE.add(percentage.divide(BigDecimal.valueOf(100), MathContext.DECIMAL64));
+            // El redondeo a dos decimales puede dejar precios pequeños en 0.00 aunque el factor sea positivo
+            if (percentage.signum() < 0 && productRepository.countByCategoryIdWithNonPositivePriceAfterMultiplying(categoryId, factor) > 0) {
+                throw new ValidationException("Invalid price adjustment")
+                        .addError("percentage", "Adjustment would leave products with a non-positive price");
+            }
+            return productRepository.multiplyPriceByCategoryId(categoryId, factor);
+        }
+        
+        if (amount.signum() < 0 && productRepository.countByCategoryIdWithNonPositivePriceAfterAdding(categoryId, amount) > 0) {
+            throw new ValidationException("Invalid price adjustment")
+                    .addError("amount", "Adjustment would leave products with a non-positive price");
+        }
+        return productRepository.addToPriceByCategoryId(categoryId, amount);
+    }
+
+    @Override
+    @Transactional
+    public int moveProductsToCategory(Long sourceCategoryId, Long targetCategoryId) {
+        if (!categoryService.existsById(sourceCategoryId)) {
+            throw new ResourceNotFoundException("Category", "id", sourceCategoryId);
+        }
+        Category target = categoryService.getCategoryById(targetCategoryId);
+        
+        if (sourceCategoryId.equals(targetCategoryId)) {
+            return 0;
+        }
+        return productRepository.reassignCategory(sourceCategoryId, target);
+    }
+
+    @Override
+    @Transactional
+    public int removeCategoryFromProducts(Long categoryId) {
+        if (!categoryService.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
+        return productRepository.clearCategory(categoryId);
     }
 
     // ==================== Métodos Privados ====================
@@ -23,4 +23,20 @@ INSERT INTO inventories (id, product_id, quantity, location) VALUES
 (3, 3, 100, 'Warehouse B'),
 (4, 4, 75, 'Warehouse B'),
 (5, 5, 50, 'Warehouse C'),
-(6, 6, 30, 'Warehouse C');
\ No newline at end of file
+(6, 6, 30, 'Warehouse C');
+
+-- Unique (product, location) so inventory can be upserted without knowing its id
+ALTER TABLE inventories ADD CONSTRAINT uk_inventory_product_location UNIQUE (product_id, location);
+
+-- Case-insensitive unique category name: createCategory inserts directly and maps the violation to 409
+ALTER TABLE categories ADD COLUMN name_key VARCHAR(255) GENERATED ALWAYS AS (LOWER(name));
+ALTER TABLE categories ADD CONSTRAINT uk_category_name UNIQUE (name_key);
+
+-- Idempotency keys for idempotency.store=jdbc (not a JPA entity, so it is kept across restarts)
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idem_key VARCHAR(255) PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    status INT NOT NULL,
+    body TEXT,
+    created_at BIGINT NOT NULL
+);
\ No newline at end of file
@@ -25,7 +25,22 @@ INSERT INTO inventory (id, product_id, quantity, location, stock_minimum, last_u
 (5, 5, 50, 'Warehouse C', 10, NOW()),
 (6, 6, 30, 'Warehouse C', 5, NOW());
 
+-- Unique (product, location) so inventory can be upserted without knowing its id
+ALTER TABLE inventory ADD CONSTRAINT uk_inventory_product_location UNIQUE (product_id, location);
+
+-- Case-insensitive unique category name: createCategory inserts directly and maps the violation to 409
+CREATE UNIQUE INDEX uk_category_name ON categories ((LOWER(name)));
+
 -- Reset auto-increment counters
 ALTER TABLE categories AUTO_INCREMENT = 5;
 ALTER TABLE products AUTO_INCREMENT = 7;
-ALTER TABLE inventory AUTO_INCREMENT = 7;
\ No newline at end of file
+ALTER TABLE inventory AUTO_INCREMENT = 7;
+
+-- Idempotency keys for idempotency.store=jdbc (not a JPA entity, so it is kept across restarts)
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idem_key VARCHAR(255) PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    status INT NOT NULL,
+    body TEXT,
+    created_at BIGINT NOT NULL
+);
\ No newline at end of file
@@ -25,7 +25,22 @@ INSERT INTO inventory (id, product_id, quantity, location, stock_minimum, last_u
 (5, 5, 50, 'Warehouse C', 10, CURRENT_TIMESTAMP),
 (6, 6, 30, 'Warehouse C', 5, CURRENT_TIMESTAMP);
 
+-- Unique (product, location) so inventory can be upserted without knowing its id
+ALTER TABLE inventory ADD CONSTRAINT uk_inventory_product_location UNIQUE (product_id, location);
+
+-- Case-insensitive unique category name: createCategory inserts directly and maps the violation to 409
+CREATE UNIQUE INDEX uk_category_name ON categories (LOWER(name));
+
 -- Reset sequences
 SELECT setval('categories_id_seq', 5, false);
 SELECT setval('products_id_seq', 7, false);
-SELECT setval('inventory_id_seq', 7, false);
\ No newline at end of file
+SELECT setval('inventory_id_seq', 7, false);
+
+-- Idempotency keys for idempotency.store=jdbc (not a JPA entity, so it is kept across restarts)
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idem_key VARCHAR(255) PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    status INT NOT NULL,
+    body TEXT,
+    created_at BIGINT NOT NULL
+);
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.example.dataservice.config;
+
+import com.example.dataservice.controller.ProductController;
+import com.example.dataservice.entity.Product;
+import com.example.dataservice.exception.GlobalExceptionHandler;
+import com.example.dataservice.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests unitarios para GzipRequestFilter.
+ *
+ * Envía altas de producto comprimidas a través del filtro y del ProductController real,
+ * con el servicio simulado.
+ */
+class GzipRequestFilterTest {
+
+    private static final long MAX_INFLATED_BYTES = 4096;
+    private static final String BODY = "{\"name\":\"Gzip Widget\",\"description\":\"Sent compressed\",\"price\":19.99}";
+
+    private final ProductService productService = mock(ProductService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ProductController(productService))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addFilters(new GzipRequestFilter(MAX_INFLATED_BYTES))
+            .build();
+
+    /**
+     * Un POST con Content-Encoding: gzip llega descomprimido al controlador.
+     */
+    @Test
+    void createProduct_gzipEncoded_shouldReachControllerDecompressed() throws Exception {
+        when(productService.createProduct(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/data/products").header("Content-Encoding", "gzip")
+                        .contentType(MediaType.APPLICATION_JSON).content(gzip(BODY)))
+                .andExpect(status().isCreated());
+
+        ArgumentCaptor<Product> product = ArgumentCaptor.forClass(Product.class);
+        verify(productService).createProduct(product.capture());
+        assertEquals("Gzip Widget", product.getValue().getName());
+        assertEquals(0, new BigDecimal("19.99").compareTo(product.getValue().getPrice()));
+    }
+
+    /**
+     * Un cuerpo que descomprimido supera el límite se rechaza con 413 sin llegar al controlador,
+     * aunque comprimido ocupe muy poco.
+     */
+    @Test
+    void createProduct_inflatedBeyondLimit_shouldReturnPayloadTooLarge() throws Exception {
+        String huge = BODY.replace("Sent compressed", " ".repeat((int) MAX_INFLATED_BYTES));
+        byte[] compressed = gzip(huge);
+        assertTrue(compressed.length < MAX_INFLATED_BYTES / 10);
+
+        mockMvc.perform(post("/data/products").header("Content-Encoding", "gzip")
+                        .contentType(MediaType.APPLICATION_JSON).content(compressed))
+                .andExpect(status().isPayloadTooLarge());
+
+        verifyNoInteractions(productService);
+    }
+
+    /**
+     * Un cuerpo que dice ser gzip pero no lo es se rechaza con 400.
+     */
+    @Test
+    void createProduct_malformedGzip_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/data/products").header("Content-Encoding", "gzip")
+                        .contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(productService);
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.dataservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración para las métricas de Micrometer.
+ *
+ * Verifica que las peticiones queden registradas en los timers por método expuestos
+ * en /actuator/metrics.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test para las métricas por método de controlador y de servicio.
+     * Verifica que una petición quede registrada en los timers app.controller y app.service.
+     */
+    @Test
+    void getProductById_shouldRecordControllerAndServiceTimers() throws Exception {
+        mockMvc.perform(get("/data/products/1"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/app.controller").param("tag", "method:getProductById"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value", hasItem(greaterThanOrEqualTo(1.0))));
+        // TimedAspect etiqueta class con el nombre cualificado; se filtra por método como en el controlador
+        mockMvc.perform(get("/actuator/metrics/app.service").param("tag", "method:getProductById"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value", hasItem(greaterThanOrEqualTo(1.0))));
+    }
+}
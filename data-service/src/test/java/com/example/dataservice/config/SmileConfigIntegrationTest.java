@@ -0,0 +1,50 @@
+package com.example.dataservice.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración para la negociación del formato Smile.
+ *
+ * Verifica que los endpoints respondan en Smile cuando la cabecera Accept lo pide
+ * y en JSON por defecto.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class SmileConfigIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test para la negociación del formato binario Smile.
+     * Verifica que se responda en Smile cuando se pide y en JSON por defecto.
+     */
+    @Test
+    void getProductById_shouldNegotiateSmile() throws Exception {
+        byte[] smile = mockMvc.perform(get("/data/products/1").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode product = new ObjectMapper(new SmileFactory()).readTree(smile);
+        assertEquals(1, product.get("id").asInt());
+        assertEquals("Smartphone", product.get("name").asText());
+
+        mockMvc.perform(get("/data/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+}
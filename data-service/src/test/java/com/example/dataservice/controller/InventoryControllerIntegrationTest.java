@@ -0,0 +1,167 @@
+package com.example.dataservice.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests de integración para InventoryController.
+ *
+ * Prueba el upsert de inventario por producto y ubicación y la escritura asíncrona de cantidades
+ * utilizando MockMvc
+ * y datos de prueba cargados mediante el perfil 'dev' con H2 en memoria.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class InventoryControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // --------------------------------------------------------------------------
+    // Tests de upsert por producto y ubicación
+    // --------------------------------------------------------------------------
+
+    /**
+     * Test para el upsert de un registro inexistente seguido de su actualización.
+     * Verifica que la segunda llamada actualice el mismo registro en lugar de duplicarlo.
+     */
+    @Test
+    void upsertInventoryItem_shouldInsertThenUpdateSameRow() throws Exception {
+        mockMvc.perform(put("/data/inventory/product/2/location/Warehouse Z").param("quantity", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", notNullValue()))
+                .andExpect(jsonPath("$.quantity", is(7)))
+                .andExpect(jsonPath("$.location", is("Warehouse Z")));
+
+        mockMvc.perform(put("/data/inventory/product/2/location/Warehouse Z").param("quantity", "11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity", is(11)));
+
+        mockMvc.perform(get("/data/inventory/product/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.location == 'Warehouse Z')]", hasSize(1)));
+    }
+
+    /**
+     * Test para el upsert de un producto inexistente.
+     * Verifica que se retorne 404 en lugar de un error de integridad.
+     */
+    @Test
+    void upsertInventoryItem_shouldReturnNotFoundForUnknownProduct() throws Exception {
+        mockMvc.perform(put("/data/inventory/product/9999/location/Warehouse A").param("quantity", "1"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Test para el upsert por lotes.
+     * Verifica que un lote mixto (actualización e inserción) se aplique en una sola llamada.
+     */
+    @Test
+    void upsertInventoryItems_shouldApplyBatch() throws Exception {
+        String body = "[" +
+                "{\"productId\": 3, \"location\": \"Warehouse B\", \"quantity\": 90}," +
+                "{\"productId\": 3, \"location\": \"Warehouse Y\", \"quantity\": 5}" +
+                "]";
+
+        mockMvc.perform(put("/data/inventory/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/data/inventory/product/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.location == 'Warehouse B')].quantity", contains(90)))
+                .andExpect(jsonPath("$[?(@.location == 'Warehouse Y')].quantity", contains(5)));
+    }
+
+    // --------------------------------------------------------------------------
+    // Tests de escritura asíncrona de cantidades
+    // --------------------------------------------------------------------------
+
+    /**
+     * Test para la actualización asíncrona de cantidad.
+     * Verifica que las escrituras se acepten con 202, que se agrupen por ID (gana la última)
+     * y que el valor final llegue a la base de datos tras el volcado.
+     */
+    @Test
+    void updateInventoryQuantityAsync_shouldCoalesceAndFlush() throws Exception {
+        mockMvc.perform(patch("/data/inventory/4/quantity/11").param("async", "true"))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(patch("/data/inventory/4/quantity/12").param("async", "true"))
+                .andExpect(status().isAccepted());
+
+        String body = "";
+        for (int attempt = 0; attempt < 50 && !body.contains("\"quantity\":12"); attempt++) {
+            Thread.sleep(50);
+            body = mockMvc.perform(get("/data/inventory/4")).andReturn().getResponse().getContentAsString();
+        }
+
+        mockMvc.perform(get("/data/inventory/4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity", is(12)));
+        mockMvc.perform(get("/data/inventory/quantity-queue/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity", is(10000)))
+                .andExpect(jsonPath("$.flushedBatches", greaterThanOrEqualTo(1)));
+    }
+
+    /**
+     * Test para un upsert sobre un registro con una cantidad asíncrona aún en cola.
+     * Verifica que el volcado posterior no sobrescriba la cantidad del upsert.
+     */
+    @Test
+    void upsertInventoryItem_shouldSupersedeQueuedQuantity() throws Exception {
+        mockMvc.perform(patch("/data/inventory/5/quantity/1").param("async", "true"))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(put("/data/inventory/product/5/location/Warehouse C").param("quantity", "44"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(5)))
+                .andExpect(jsonPath("$.quantity", is(44)));
+
+        // Margen de varios intervalos de volcado para que un valor no descartado llegara a escribirse
+        Thread.sleep(300);
+
+        mockMvc.perform(get("/data/inventory/5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity", is(44)));
+    }
+
+    /**
+     * Test para un upsert por lotes sobre un registro con una cantidad asíncrona aún en cola.
+     * Verifica que el volcado posterior no sobrescriba la cantidad del lote.
+     */
+    @Test
+    void upsertInventoryItems_shouldSupersedeQueuedQuantity() throws Exception {
+        mockMvc.perform(patch("/data/inventory/6/quantity/1").param("async", "true"))
+                .andExpect(status().isAccepted());
+        String body = "[{\"productId\": 6, \"location\": \"Warehouse C\", \"quantity\": 33}]";
+        mockMvc.perform(put("/data/inventory/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNoContent());
+
+        Thread.sleep(300);
+
+        mockMvc.perform(get("/data/inventory/6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity", is(33)));
+    }
+
+    /**
+     * Test para la actualización asíncrona con cantidad negativa.
+     * Verifica que la validación se aplique antes de encolar.
+     */
+    @Test
+    void updateInventoryQuantityAsync_shouldRejectNegativeQuantity() throws Exception {
+        mockMvc.perform(patch("/data/inventory/4/quantity/-1").param("async", "true"))
+                .andExpect(status().isBadRequest());
+    }
+}
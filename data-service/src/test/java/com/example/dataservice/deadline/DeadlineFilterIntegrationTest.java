@@ -0,0 +1,42 @@
+package com.example.dataservice.deadline;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración para DeadlineFilter.
+ *
+ * Verifica que el data-service respete el plazo que le propaga el business-service
+ * en la cabecera X-Deadline-Remaining-Ms.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class DeadlineFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test para el plazo propagado por el business-service.
+     * Verifica que una petición con plazo vencido se rechace con 504 y una con tiempo suficiente se atienda.
+     */
+    @Test
+    void getProductById_shouldHonourPropagatedDeadline() throws Exception {
+        mockMvc.perform(get("/data/products/1").header("X-Deadline-Remaining-Ms", "0"))
+                .andExpect(status().isGatewayTimeout());
+
+        mockMvc.perform(get("/data/products/1").header("X-Deadline-Remaining-Ms", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.dataservice.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración para las estadísticas por método de repositorio.
+ *
+ * Verifica que las sentencias de Hibernate se atribuyan al repositorio que las lanza
+ * en /actuator/repositorystats.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class RepositoryStatisticsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test para las estadísticas de Hibernate por método de repositorio.
+     * Verifica que la carga de un producto se atribuya a ProductRepository.findById con sus sentencias.
+     */
+    @Test
+    void getProductById_shouldRecordRepositoryStatistics() throws Exception {
+        mockMvc.perform(get("/data/products/2"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/repositorystats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.global.enabled", is(true)))
+                .andExpect(jsonPath("$.repositories['ProductRepository.findById'].calls", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.repositories['ProductRepository.findById'].statements", greaterThanOrEqualTo(1)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.dataservice.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración para el coste por petición.
+ *
+ * Verifica que RequestCostFilter acumule las peticiones bajo su patrón de endpoint
+ * en /actuator/requestcost.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class RequestCostIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test para el coste por petición.
+     * Verifica que la petición quede acumulada bajo su patrón de endpoint con bytes asignados.
+     */
+    @Test
+    void getAllProducts_shouldRecordRequestCost() throws Exception {
+        mockMvc.perform(get("/data/products"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/requestcost"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.endpoints['GET /data/products'].requests", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.endpoints['GET /data/products'].totalAllocatedBytes", notNullValue()))
+                .andExpect(jsonPath("$.heaviestRequests", not(empty())));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.dataservice.idempotency;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de integración para las claves de idempotencia.
+ *
+ * Verifica que un alta repetida con la misma Idempotency-Key devuelva la respuesta original
+ * y que reutilizar la clave con otro cuerpo se rechace.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class IdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test para el reintento de un alta con la misma clave de idempotencia.
+     * Verifica que se repita la respuesta original (mismo ID) y que otra petición con la misma clave se rechace.
+     */
+    @Test
+    void createProduct_withIdempotencyKey_shouldReplayOriginalResponse() throws Exception {
+        String body = "{\"name\":\"Idempotent Widget\",\"description\":\"Created once\",\"price\":19.99}";
+        String created = mockMvc.perform(post("/data/products").header("Idempotency-Key", "create-widget-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString();
+        int id = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(post("/data/products").header("Idempotency-Key", "create-widget-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id", is(id)));
+
+        mockMvc.perform(post("/data/products").header("Idempotency-Key", "create-widget-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(body.replace("19.99", "29.99")))
+                .andExpect(status().isUnprocessableEntity());
+    }
+}
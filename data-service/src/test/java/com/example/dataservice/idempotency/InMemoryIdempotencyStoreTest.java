@@ -0,0 +1,54 @@
+package com.example.dataservice.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para InMemoryIdempotencyStore.
+ *
+ * Verifica que una clave en curso bloquee los reintentos solo hasta el timeout de reserva,
+ * y que una clave completada se conserve durante todo el TTL.
+ */
+class InMemoryIdempotencyStoreTest {
+
+    /**
+     * Mientras la clave está en curso y dentro del timeout, otra reserva falla.
+     */
+    @Test
+    void reserve_whileInProgress_shouldFail() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, 86400, 60);
+
+        assertTrue(store.reserve("key-1", "fp"));
+
+        assertFalse(store.reserve("key-1", "fp"));
+        assertTrue(store.find("key-1").orElseThrow().inProgress());
+    }
+
+    /**
+     * Una clave en curso más antigua que el timeout (proceso caído) se puede volver a reservar.
+     */
+    @Test
+    void reserve_abandonedInProgressKey_shouldReclaim() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, 86400, 0);
+        assertTrue(store.reserve("key-1", "fp"));
+        Thread.sleep(5);
+
+        assertTrue(store.find("key-1").isEmpty());
+        assertTrue(store.reserve("key-1", "fp"));
+    }
+
+    /**
+     * El timeout de reserva no afecta a las claves completadas: se repiten durante el TTL.
+     */
+    @Test
+    void find_completedKey_shouldOutliveInProgressTimeout() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, 86400, 0);
+        assertTrue(store.reserve("key-1", "fp"));
+        store.complete("key-1", 201, "{\"id\":1}");
+        Thread.sleep(5);
+
+        assertEquals(201, store.find("key-1").orElseThrow().status());
+        assertFalse(store.reserve("key-1", "fp"));
+    }
+}
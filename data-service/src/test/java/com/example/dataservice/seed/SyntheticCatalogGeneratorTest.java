@@ -0,0 +1,79 @@
+package com.example.dataservice.seed;
+
+import com.example.dataservice.seed.SyntheticCatalogGenerator.GeneratedCounts;
+import com.example.dataservice.seed.SyntheticCatalogGenerator.IdOffsets;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para SyntheticCatalogGenerator.
+ *
+ * Verifica el determinismo por semilla, los desplazamientos de IDs y que el inventario
+ * respete la restricción única (producto, ubicación).
+ */
+class SyntheticCatalogGeneratorTest {
+
+    /**
+     * La misma configuración genera exactamente las mismas filas.
+     */
+    @Test
+    void generate_shouldBeDeterministicForSameSeed() {
+        List<String> first = generateProducts(properties());
+        List<String> second = generateProducts(properties());
+
+        assertEquals(first, second);
+    }
+
+    /**
+     * Los IDs empiezan tras los desplazamientos y el inventario no repite (producto, ubicación).
+     */
+    @Test
+    void generate_shouldApplyOffsetsAndKeepProductLocationUnique() {
+        List<Object[]> categories = new ArrayList<>();
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> inventory = new ArrayList<>();
+
+        GeneratedCounts counts = new SyntheticCatalogGenerator(properties())
+                .generate(new IdOffsets(4, 6, 6), categories::add, products::add, inventory::add);
+
+        assertEquals(10, counts.categories());
+        assertEquals(500, counts.products());
+        assertEquals(inventory.size(), counts.inventory());
+        assertEquals(5L, categories.get(0)[0]);
+        assertEquals(7L, products.get(0)[0]);
+        assertEquals(7L, inventory.get(0)[0]);
+
+        Set<String> keys = new HashSet<>();
+        for (Object[] row : inventory) {
+            assertTrue(keys.add(row[1] + "|" + row[3]), "Duplicate product/location: " + row[1] + "/" + row[3]);
+        }
+        for (Object[] row : products) {
+            assertTrue(row[4] == null || ((Long) row[4] >= 5 && (Long) row[4] <= 14));
+        }
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private static CatalogGeneratorProperties properties() {
+        CatalogGeneratorProperties properties = new CatalogGeneratorProperties();
+        properties.setProducts(500);
+        properties.setLocations(5);
+        properties.setMaxLocationsPerProduct(4);
+        return properties;
+    }
+
+    private static List<String> generateProducts(CatalogGeneratorProperties properties) {
+        List<String> rows = new ArrayList<>();
+        new SyntheticCatalogGenerator(properties).generate(IdOffsets.NONE, row -> { },
+                row -> rows.add(String.join(",", String.valueOf(row[0]), (String) row[1], String.valueOf(row[3]),
+                        String.valueOf(row[4]))),
+                row -> { });
+        return rows;
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.dataservice.service;
+
+import com.example.dataservice.entity.Category;
+import com.example.dataservice.entity.Inventory;
+import com.example.dataservice.entity.Product;
+import com.example.dataservice.exception.DuplicateResourceException;
+import com.example.dataservice.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de cantidad de sentencias SQL para las rutas de escritura del data-service.
+ *
+ * Cada operación de escritura debe ejecutarse con DML directo, sin SELECT previos
+ * de existencia o de carga. Se cuentan las sentencias preparadas por Hibernate
+ * sobre los datos del perfil 'dev' (H2 en memoria); cada test hace rollback.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+@Transactional
+class WritePathQueryCountTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    // --------------------------------------------------------------------------
+    // Tests de borrado
+    // --------------------------------------------------------------------------
+
+    /**
+     * Borrar un registro de inventario ejecuta un único DELETE.
+     */
+    @Test
+    void deleteInventoryItem_shouldIssueSingleStatement() {
+        inventoryService.deleteInventoryItem(6L);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Borrar un registro inexistente ejecuta el mismo DELETE y retorna 404 por filas afectadas.
+     */
+    @Test
+    void deleteInventoryItem_missing_shouldThrowAfterSingleStatement() {
+        assertThrows(ResourceNotFoundException.class, () -> inventoryService.deleteInventoryItem(9999L));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Borrar un producto ejecuta el DELETE de su inventario y el DELETE del producto.
+     */
+    @Test
+    void deleteProduct_shouldIssueDependentAndProductDeletes() {
+        productService.deleteProduct(6L);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Borrar una categoría ejecuta el DELETE del inventario de sus productos, el de sus productos
+     * y el de la categoría, sin cargar nada.
+     */
+    @Test
+    void deleteCategory_shouldIssueDependentAndCategoryDeletes() {
+        categoryService.deleteCategory(4L);
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertThrows(ResourceNotFoundException.class, () -> productService.getProductById(6L));
+    }
+
+    // --------------------------------------------------------------------------
+    // Tests de creación y actualización
+    // --------------------------------------------------------------------------
+
+    /**
+     * Crear una categoría ejecuta un único INSERT, sin comprobar antes el nombre.
+     */
+    @Test
+    void createCategory_shouldIssueSingleInsert() {
+        Category category = new Category();
+        category.setName("Garden");
+        category.setDescription("Outdoor and garden");
+
+        categoryService.createCategory(category);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Crear una categoría con un nombre existente (sin distinguir mayúsculas) se rechaza
+     * por la restricción única y se traduce a DuplicateResourceException.
+     */
+    @Test
+    void createCategory_duplicateName_shouldMapConstraintViolation() {
+        Category category = new Category();
+        category.setName("electronics");
+
+        assertThrows(DuplicateResourceException.class, () -> categoryService.createCategory(category));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Actualizar un producto ejecuta el UPDATE directo y la lectura del resultado.
+     */
+    @Test
+    void updateProduct_shouldIssueUpdateAndReadBack() {
+        Category category = categoryService.getCategoryById(1L);
+        statistics.clear();
+
+        Product details = new Product();
+        details.setName("Smartphone X");
+        details.setDescription("Updated");
+        details.setPrice(new BigDecimal("749.99"));
+        details.setCategory(category);
+
+        Product updated = productService.updateProduct(1L, details);
+
+        assertEquals("Smartphone X", updated.getName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Un patch parcial ejecuta un UPDATE solo de las columnas presentes y la lectura del resultado,
+     * sin cargar antes el producto ni la categoría.
+     */
+    @Test
+    void patchProduct_shouldIssueUpdateAndReadBack() {
+        Product patched = productService.patchProduct(2L, Map.of("price", 899.5, "category", Map.of("id", 1)));
+
+        assertEquals(0, new BigDecimal("899.5").compareTo(patched.getPrice()));
+        assertEquals(1L, patched.getCategory().getId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Un patch de inventario que cambia el producto pasa una referencia (sin SELECT del producto):
+     * solo se ejecutan el UPDATE y la lectura del resultado.
+     */
+    @Test
+    void patchInventoryItem_shouldReferenceProductWithoutLoadingIt() {
+        Inventory patched = inventoryService.patchInventoryItem(3L, Map.of("product", Map.of("id", 5)));
+
+        assertEquals(5L, patched.getProduct().getId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Un patch que choca con otro registro del mismo producto y ubicación informa esos valores.
+     */
+    @Test
+    void patchInventoryItem_duplicateProductLocation_shouldReportKey() {
+        DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
+                () -> inventoryService.patchInventoryItem(2L, Map.of("product", Map.of("id", 1), "location", "Warehouse A")));
+
+        assertEquals("product/location", exception.getFieldName());
+        assertEquals("1/Warehouse A", exception.getFieldValue());
+    }
+
+    /**
+     * Un patch con un producto inexistente se rechaza por la clave foránea y se traduce a 404.
+     */
+    @Test
+    void patchInventoryItem_unknownProduct_shouldMapForeignKeyViolation() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> inventoryService.patchInventoryItem(3L, Map.of("product", Map.of("id", 9999))));
+    }
+}
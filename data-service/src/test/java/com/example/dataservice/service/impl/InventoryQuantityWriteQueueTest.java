@@ -0,0 +1,165 @@
+package com.example.dataservice.service.impl;
+
+import com.example.dataservice.controller.InventoryController;
+import com.example.dataservice.exception.GlobalExceptionHandler;
+import com.example.dataservice.exception.WriteQueueFullException;
+import com.example.dataservice.exception.WriteQueueTimeoutException;
+import com.example.dataservice.repository.InventoryRepository;
+import com.example.dataservice.service.InventoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests unitarios para InventoryQuantityWriteQueue.
+ *
+ * Verifica que una escritura síncrona descarte o espere (con límite) el valor asíncrono del
+ * mismo ID, y que la cola llena se traduzca a 429 con Retry-After.
+ */
+class InventoryQuantityWriteQueueTest {
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    private InventoryQuantityWriteQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null && queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    /**
+     * Una escritura síncrona descarta el valor pendiente: al detener la cola no se vuelca nada.
+     */
+    @Test
+    void supersede_shouldDropPendingWrite() {
+        queue = startQueue(10, 100, 60_000);
+        queue.enqueue(4L, 11);
+
+        queue.supersede(4L);
+        queue.stop();
+
+        verify(inventoryRepository, never()).updateQuantitiesInBatch(anyMap());
+        assertEquals(1, queue.getStats().getSuperseded());
+        assertEquals(0, queue.getStats().getPending());
+    }
+
+    /**
+     * Si el ID está en el lote que se está volcando, la escritura síncrona espera a su confirmación.
+     */
+    @Test
+    void supersede_shouldWaitForInFlightBatch() throws Exception {
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(inventoryRepository.updateQuantitiesInBatch(anyMap())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        queue = startQueue(10, 1, 60_000);
+        queue.enqueue(4L, 11);
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> syncWrite = CompletableFuture.runAsync(() -> queue.supersede(4L));
+        Thread.sleep(100);
+        assertFalse(syncWrite.isDone());
+
+        release.countDown();
+        syncWrite.get(5, TimeUnit.SECONDS);
+        verify(inventoryRepository).updateQuantitiesInBatch(Map.of(4L, 11));
+    }
+
+    /**
+     * Si el lote en curso no se confirma a tiempo, la escritura síncrona deja de esperar y falla
+     * en lugar de retener su conexión indefinidamente.
+     */
+    @Test
+    void supersede_shouldGiveUpWhenInFlightBatchIsStuck() throws Exception {
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(inventoryRepository.updateQuantitiesInBatch(anyMap())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        queue = startQueue(10, 1, 60_000, 100);
+        queue.enqueue(4L, 11);
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+
+        try {
+            assertThrows(WriteQueueTimeoutException.class, () -> queue.supersede(4L));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Con la cola llena se rechazan IDs nuevos, pero un ID pendiente se sigue agrupando.
+     */
+    @Test
+    void enqueue_shouldRejectNewIdsWhenFull() {
+        queue = startQueue(1, 100, 60_000);
+        queue.enqueue(1L, 5);
+
+        assertThrows(WriteQueueFullException.class, () -> queue.enqueue(2L, 5));
+        queue.enqueue(1L, 6);
+
+        assertEquals(1, queue.getStats().getRejected());
+        assertEquals(1, queue.getStats().getCoalesced());
+    }
+
+    /**
+     * La cola llena responde 429 con Retry-After para que el cliente espere antes de reintentar.
+     */
+    @Test
+    void updateInventoryQuantityAsync_whenQueueFull_shouldReturnTooManyRequests() throws Exception {
+        queue = startQueue(1, 100, 60_000);
+        InventoryService inventoryService = mock(InventoryService.class);
+        doAnswer(invocation -> {
+            queue.enqueue(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(inventoryService).enqueueInventoryQuantity(anyLong(), anyInt());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new InventoryController(inventoryService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(patch("/data/inventory/1/quantity/5").param("async", "true"))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(patch("/data/inventory/2/quantity/5").param("async", "true"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    // ==================== Métodos Privados ====================
+
+    private InventoryQuantityWriteQueue startQueue(int capacity, int batchSize, long flushIntervalMs) {
+        return startQueue(capacity, batchSize, flushIntervalMs, 5_000);
+    }
+
+    private InventoryQuantityWriteQueue startQueue(int capacity, int batchSize, long flushIntervalMs,
+                                                   long supersedeTimeoutMs) {
+        InventoryQuantityWriteQueue writeQueue = new InventoryQuantityWriteQueue(inventoryRepository, transactionTemplate,
+                capacity, batchSize, flushIntervalMs, supersedeTimeoutMs);
+        writeQueue.start();
+        return writeQueue;
+    }
+}